@@ -0,0 +1,87 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jnfp.benchmarks;
+
+import com.io7m.junreachable.UnreachableCodeException;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.profile.LinuxPerfNormProfiler;
+import org.openjdk.jmh.profile.ProfilerException;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * <p>The main benchmark entry point.</p>
+ *
+ * <p>All benchmarks are executed with the {@code gc} profiler and, where
+ * {@code perf} is available, the {@code perfnorm} profiler. Results are
+ * written in JSON format to {@code jnfp-benchmarks.json} unless another
+ * file is specified with the standard JMH {@code -rff} option. Any other
+ * JMH command-line options are also accepted.</p>
+ */
+
+public final class NFPBenchmarks
+{
+  private NFPBenchmarks()
+  {
+    throw new UnreachableCodeException();
+  }
+
+  /**
+   * Run the benchmarks.
+   *
+   * @param args The JMH command-line arguments
+   *
+   * @throws Exception On errors
+   */
+
+  public static void main(
+    final String[] args)
+    throws Exception
+  {
+    final CommandLineOptions commandLine = new CommandLineOptions(args);
+
+    final ChainedOptionsBuilder options =
+      new OptionsBuilder()
+        .parent(commandLine)
+        .addProfiler(GCProfiler.class)
+        .resultFormat(ResultFormatType.JSON);
+
+    if (commandLine.getIncludes().isEmpty()) {
+      options.include(NFPBenchmarks.class.getPackageName() + ".*");
+    }
+    if (commandLine.getResult().hasValue()) {
+      options.result(commandLine.getResult().get());
+    } else {
+      options.result("jnfp-benchmarks.json");
+    }
+
+    try {
+      new LinuxPerfNormProfiler("");
+      options.addProfiler(LinuxPerfNormProfiler.class);
+    } catch (final ProfilerException e) {
+      System.err.println(
+        "The JMH profiler '-prof perfnorm' is unavailable and will not be"
+        + " used: " + e.getMessage());
+    }
+
+    new Runner(options.build()).run();
+  }
+}
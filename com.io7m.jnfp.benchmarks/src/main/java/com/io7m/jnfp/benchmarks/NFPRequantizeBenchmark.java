@@ -0,0 +1,122 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jnfp.benchmarks;
+
+import com.io7m.jnfp.core.NFPRequantize;
+import com.io7m.jnfp.core.NFPUnsignedDoubleLong;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for {@link NFPRequantize}.
+ */
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NFPRequantizeBenchmark
+{
+  private static final int SIZE = 4096;
+  private static final int RUN = 16;
+
+  @Param({"16:8", "10:16", "8:16"})
+  private String widths;
+
+  private int sourceBits;
+  private int targetBits;
+  private int[] fs;
+  private int[] ks;
+
+  /**
+   * Construct a benchmark.
+   */
+
+  public NFPRequantizeBenchmark()
+  {
+
+  }
+
+  /**
+   * Generate input values.
+   */
+
+  @Setup
+  public void setup()
+  {
+    final String[] parts = this.widths.split(":");
+    this.sourceBits = Integer.parseInt(parts[0]);
+    this.targetBits = Integer.parseInt(parts[1]);
+
+    final Random random = new Random(0x5eedL);
+    this.fs = new int[SIZE];
+    this.ks = new int[SIZE];
+    for (int i = 0; i < SIZE; ++i) {
+      this.fs[i] = random.nextInt(1 << this.sourceBits);
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(SIZE)
+  public int[] requantize()
+  {
+    NFPRequantize.unsigned(
+      this.fs, 0, this.ks, 0, SIZE, this.sourceBits, this.targetBits);
+    return this.ks;
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(SIZE)
+  public int[] requantizeShortRuns()
+  {
+    for (int i = 0; i < SIZE; i += RUN) {
+      NFPRequantize.unsigned(
+        this.fs, i, this.ks, i, RUN, this.sourceBits, this.targetBits);
+    }
+    return this.ks;
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(SIZE)
+  public int[] throughDouble()
+  {
+    for (int i = 0; i < SIZE; ++i) {
+      final double x =
+        NFPUnsignedDoubleLong.fromUnsignedNormalized(
+          this.fs[i], this.sourceBits);
+      this.ks[i] =
+        (int) NFPUnsignedDoubleLong.toUnsignedNormalized(x, this.targetBits);
+    }
+    return this.ks;
+  }
+}
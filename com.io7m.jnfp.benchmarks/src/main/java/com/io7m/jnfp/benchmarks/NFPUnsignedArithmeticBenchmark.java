@@ -0,0 +1,136 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jnfp.benchmarks;
+
+import com.io7m.jnfp.core.NFPUnsignedArithmetic;
+import com.io7m.jnfp.core.NFPUnsignedFloatInt;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for {@link NFPUnsignedArithmetic}.
+ */
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NFPUnsignedArithmeticBenchmark
+{
+  private static final int SIZE = 4096;
+
+  @Param({"8", "16"})
+  private int bits;
+
+  private int[] xs;
+  private int[] ys;
+  private int[] ts;
+  private int[] ks;
+
+  /**
+   * Construct a benchmark.
+   */
+
+  public NFPUnsignedArithmeticBenchmark()
+  {
+
+  }
+
+  /**
+   * Generate input values.
+   */
+
+  @Setup
+  public void setup()
+  {
+    final Random random = new Random(0x5eedL);
+    this.xs = new int[SIZE];
+    this.ys = new int[SIZE];
+    this.ts = new int[SIZE];
+    this.ks = new int[SIZE];
+    for (int i = 0; i < SIZE; ++i) {
+      this.xs[i] = random.nextInt(1 << this.bits);
+      this.ys[i] = random.nextInt(1 << this.bits);
+      this.ts[i] = random.nextInt(1 << this.bits);
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(SIZE)
+  public int[] multiply()
+  {
+    NFPUnsignedArithmetic.multiply(
+      this.xs, 0, this.ys, 0, this.ks, 0, SIZE, this.bits);
+    return this.ks;
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(SIZE)
+  public int[] multiplyThroughFloat()
+  {
+    for (int i = 0; i < SIZE; ++i) {
+      final float x =
+        NFPUnsignedFloatInt.fromUnsignedNormalized(this.xs[i], this.bits);
+      final float y =
+        NFPUnsignedFloatInt.fromUnsignedNormalized(this.ys[i], this.bits);
+      this.ks[i] = NFPUnsignedFloatInt.toUnsignedNormalized(x * y, this.bits);
+    }
+    return this.ks;
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(SIZE)
+  public int[] lerp()
+  {
+    NFPUnsignedArithmetic.lerp(
+      this.xs, 0, this.ys, 0, this.ts, 0, this.ks, 0, SIZE, this.bits);
+    return this.ks;
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(SIZE)
+  public int[] lerpThroughFloat()
+  {
+    for (int i = 0; i < SIZE; ++i) {
+      final float x =
+        NFPUnsignedFloatInt.fromUnsignedNormalized(this.xs[i], this.bits);
+      final float y =
+        NFPUnsignedFloatInt.fromUnsignedNormalized(this.ys[i], this.bits);
+      final float t =
+        NFPUnsignedFloatInt.fromUnsignedNormalized(this.ts[i], this.bits);
+      this.ks[i] =
+        NFPUnsignedFloatInt.toUnsignedNormalized(x + ((y - x) * t), this.bits);
+    }
+    return this.ks;
+  }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jnfp.benchmarks;
+
+import com.io7m.jnfp.core.NFPUnsignedDoubleInt;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for {@link NFPUnsignedDoubleInt}.
+ */
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NFPUnsignedDoubleIntBenchmark
+{
+  private static final int SIZE = 4096;
+
+  @Param({"8", "10", "16", "24", "32"})
+  private int bits;
+
+  private double[] xs;
+  private int[] ks;
+  private double[] ys;
+  private int index;
+
+  /**
+   * Construct a benchmark.
+   */
+
+  public NFPUnsignedDoubleIntBenchmark()
+  {
+
+  }
+
+  /**
+   * Generate input values.
+   */
+
+  @Setup
+  public void setup()
+  {
+    final Random random = new Random(0x5eedL);
+    this.xs = new double[SIZE];
+    this.ks = new int[SIZE];
+    this.ys = new double[SIZE];
+    for (int i = 0; i < SIZE; ++i) {
+      this.xs[i] = random.nextDouble();
+    }
+    NFPUnsignedDoubleInt.toUnsignedNormalized(
+      this.xs, 0, this.ks, 0, SIZE, this.bits);
+  }
+
+  private int next()
+  {
+    this.index = (this.index + 1) & (SIZE - 1);
+    return this.index;
+  }
+
+  @Benchmark
+  public double fromUnsignedNormalized()
+  {
+    final int index = this.next();
+    return NFPUnsignedDoubleInt.fromUnsignedNormalized(
+      this.ks[index], this.bits);
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(SIZE)
+  public double[] fromUnsignedNormalizedBulk()
+  {
+    NFPUnsignedDoubleInt.fromUnsignedNormalized(
+      this.ks, 0, this.ys, 0, SIZE, this.bits);
+    return this.ys;
+  }
+
+  @Benchmark
+  public int toUnsignedNormalized()
+  {
+    final int index = this.next();
+    return NFPUnsignedDoubleInt.toUnsignedNormalized(
+      this.xs[index], this.bits);
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(SIZE)
+  public int[] toUnsignedNormalizedBulk()
+  {
+    NFPUnsignedDoubleInt.toUnsignedNormalized(
+      this.xs, 0, this.ks, 0, SIZE, this.bits);
+    return this.ks;
+  }
+}
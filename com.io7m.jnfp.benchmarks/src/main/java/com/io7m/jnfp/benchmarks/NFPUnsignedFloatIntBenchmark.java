@@ -0,0 +1,233 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jnfp.benchmarks;
+
+import com.io7m.jnfp.core.NFPUnsignedFloatInt;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for {@link NFPUnsignedFloatInt}.
+ */
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NFPUnsignedFloatIntBenchmark
+{
+  private static final int SIZE = 4096;
+  private static final int BYTE_BITS = 8;
+  private static final int SHORT_BITS = 16;
+
+  @Param({"8", "10", "16", "24", "32"})
+  private int bits;
+
+  private float[] xs;
+  private int[] ks;
+  private float[] ys;
+  private byte[] bytes;
+  private short[] shorts;
+  private char[] chars;
+  private int index;
+
+  /**
+   * Construct a benchmark.
+   */
+
+  public NFPUnsignedFloatIntBenchmark()
+  {
+
+  }
+
+  /**
+   * Generate input values.
+   */
+
+  @Setup
+  public void setup()
+  {
+    final Random random = new Random(0x5eedL);
+    this.xs = new float[SIZE];
+    this.ks = new int[SIZE];
+    this.ys = new float[SIZE];
+    for (int i = 0; i < SIZE; ++i) {
+      this.xs[i] = random.nextFloat();
+    }
+    NFPUnsignedFloatInt.toUnsignedNormalized(
+      this.xs, 0, this.ks, 0, SIZE, this.bits);
+
+    this.bytes = new byte[SIZE];
+    this.shorts = new short[SIZE];
+    this.chars = new char[SIZE];
+    NFPUnsignedFloatInt.toUnsignedNormalized(
+      this.xs, 0, this.bytes, 0, SIZE, BYTE_BITS);
+    NFPUnsignedFloatInt.toUnsignedNormalized(
+      this.xs, 0, this.shorts, 0, SIZE, SHORT_BITS);
+    NFPUnsignedFloatInt.toUnsignedNormalized(
+      this.xs, 0, this.chars, 0, SIZE, SHORT_BITS);
+  }
+
+  private int next()
+  {
+    this.index = (this.index + 1) & (SIZE - 1);
+    return this.index;
+  }
+
+  @Benchmark
+  public float fromUnsignedNormalized()
+  {
+    final int index = this.next();
+    return NFPUnsignedFloatInt.fromUnsignedNormalized(
+      this.ks[index], this.bits);
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(SIZE)
+  public float[] fromUnsignedNormalizedBulk()
+  {
+    NFPUnsignedFloatInt.fromUnsignedNormalized(
+      this.ks, 0, this.ys, 0, SIZE, this.bits);
+    return this.ys;
+  }
+
+  @Benchmark
+  public int toUnsignedNormalized()
+  {
+    final int index = this.next();
+    return NFPUnsignedFloatInt.toUnsignedNormalized(
+      this.xs[index], this.bits);
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(SIZE)
+  public int[] toUnsignedNormalizedBulk()
+  {
+    NFPUnsignedFloatInt.toUnsignedNormalized(
+      this.xs, 0, this.ks, 0, SIZE, this.bits);
+    return this.ks;
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(SIZE)
+  public float[] fromUnsignedNormalizedBytes()
+  {
+    NFPUnsignedFloatInt.fromUnsignedNormalized(
+      this.bytes, 0, this.ys, 0, SIZE, BYTE_BITS);
+    return this.ys;
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(SIZE)
+  public float[] fromUnsignedNormalizedShorts()
+  {
+    NFPUnsignedFloatInt.fromUnsignedNormalized(
+      this.shorts, 0, this.ys, 0, SIZE, SHORT_BITS);
+    return this.ys;
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(SIZE)
+  public float[] fromUnsignedNormalizedChars()
+  {
+    NFPUnsignedFloatInt.fromUnsignedNormalized(
+      this.chars, 0, this.ys, 0, SIZE, SHORT_BITS);
+    return this.ys;
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(SIZE)
+  public byte[] toUnsignedNormalizedBytes()
+  {
+    NFPUnsignedFloatInt.toUnsignedNormalized(
+      this.xs, 0, this.bytes, 0, SIZE, BYTE_BITS);
+    return this.bytes;
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(SIZE)
+  public short[] toUnsignedNormalizedShorts()
+  {
+    NFPUnsignedFloatInt.toUnsignedNormalized(
+      this.xs, 0, this.shorts, 0, SIZE, SHORT_BITS);
+    return this.shorts;
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(SIZE)
+  public char[] toUnsignedNormalizedChars()
+  {
+    NFPUnsignedFloatInt.toUnsignedNormalized(
+      this.xs, 0, this.chars, 0, SIZE, SHORT_BITS);
+    return this.chars;
+  }
+  @Benchmark
+  @OperationsPerInvocation(SIZE)
+  public byte[] toUnsignedNormalized8Bulk()
+  {
+    NFPUnsignedFloatInt.toUnsignedNormalized8(
+      this.xs, 0, this.bytes, 0, SIZE);
+    return this.bytes;
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(SIZE)
+  public byte[] toUnsignedNormalized8Scalar()
+  {
+    for (int i = 0; i < SIZE; ++i) {
+      this.bytes[i] = (byte) NFPUnsignedFloatInt.toUnsignedNormalized(
+        this.xs[i], BYTE_BITS);
+    }
+    return this.bytes;
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(SIZE)
+  public short[] toUnsignedNormalized16Bulk()
+  {
+    NFPUnsignedFloatInt.toUnsignedNormalized16(
+      this.xs, 0, this.shorts, 0, SIZE);
+    return this.shorts;
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(SIZE)
+  public short[] toUnsignedNormalized16Scalar()
+  {
+    for (int i = 0; i < SIZE; ++i) {
+      this.shorts[i] = (short) NFPUnsignedFloatInt.toUnsignedNormalized(
+        this.xs[i], SHORT_BITS);
+    }
+    return this.shorts;
+  }
+}
@@ -0,0 +1,394 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jnfp.core;
+
+import com.io7m.junreachable.UnreachableCodeException;
+
+import java.util.Objects;
+
+/**
+ * <p>Conversion of normalized fixed-point values to and from floating point
+ * values, fused with a per-component affine transform.</p>
+ *
+ * <p>Values are treated as interleaved vectors of {@code n} components,
+ * where {@code n} is the length of the {@code offset} and {@code scale}
+ * arrays. Decoding component {@code i} of a vector produces:</p>
+ *
+ * <pre>
+ * x = offset[i] + (y * scale[i])
+ * </pre>
+ *
+ * <p>... where {@code y} is the normalized value produced by
+ * {@link NFPUnsignedFloatInt} or {@link NFPSignedFloatInt}. Encoding
+ * performs the inverse, normalizing {@code (x - offset[i]) / scale[i]}
+ * before conversion to fixed-point. For values quantized relative to a
+ * bounding box, {@code offset} holds the minimum and {@code scale} holds
+ * the extent {@code max - min} of each component.</p>
+ *
+ * <p>The results are identical to those produced by converting the values
+ * with the corresponding {@link NFPUnsignedFloatInt} or
+ * {@link NFPSignedFloatInt} bulk function, and then applying the transform
+ * in a separate pass, but require neither the temporary array nor the
+ * second pass.</p>
+ */
+
+public final class NFPAffineFloatInt
+{
+  private NFPAffineFloatInt()
+  {
+    throw new UnreachableCodeException();
+  }
+
+  private static int components(
+    final float[] offset,
+    final float[] scale)
+  {
+    Objects.requireNonNull(offset, "offset");
+    Objects.requireNonNull(scale, "scale");
+    if (offset.length == 0 || offset.length != scale.length) {
+      throw new IllegalArgumentException(
+        String.format(
+          "Offset length %d and scale length %d must be equal and non-zero",
+          Integer.valueOf(offset.length),
+          Integer.valueOf(scale.length)));
+    }
+    return offset.length;
+  }
+
+  private static void decode(
+    final NFPCodec codec,
+    final int[] source,
+    final int sourceOffset,
+    final float[] target,
+    final int targetOffset,
+    final int count,
+    final float[] offset,
+    final float[] scale)
+  {
+    codec.checkFloat();
+
+    final int n = components(offset, scale);
+    final int values = Math.multiplyExact(count, n);
+    Objects.checkFromIndexSize(sourceOffset, values, source.length);
+    Objects.checkFromIndexSize(targetOffset, values, target.length);
+
+    for (int vector = 0; vector < count; ++vector) {
+      final int base = vector * n;
+      for (int c = 0; c < n; ++c) {
+        final float y = codec.decodeFloat(source[sourceOffset + base + c]);
+        target[targetOffset + base + c] = offset[c] + (y * scale[c]);
+      }
+    }
+  }
+
+  private static void encode(
+    final NFPCodec codec,
+    final float[] source,
+    final int sourceOffset,
+    final int[] target,
+    final int targetOffset,
+    final int count,
+    final float[] offset,
+    final float[] scale)
+  {
+    codec.checkFloat();
+
+    final int n = components(offset, scale);
+    final int values = Math.multiplyExact(count, n);
+    Objects.checkFromIndexSize(sourceOffset, values, source.length);
+    Objects.checkFromIndexSize(targetOffset, values, target.length);
+
+    for (int vector = 0; vector < count; ++vector) {
+      final int base = vector * n;
+      for (int c = 0; c < n; ++c) {
+        final float x = source[sourceOffset + base + c];
+        target[targetOffset + base + c] =
+          codec.encodeFloat((x - offset[c]) / scale[c]);
+      }
+    }
+  }
+
+  /**
+   * Convert {@code count} vectors of unsigned values from {@code source},
+   * starting at {@code sourceOffset}, to floating point format, applying the
+   * affine transform given by {@code offset} and {@code scale} and writing the
+   * results to {@code target} starting at {@code targetOffset}. The results are
+   * identical to those of
+   * {@link NFPUnsignedFloatInt#fromUnsignedNormalized(int[], int, float[], int, int, int)}
+   * followed by the transform.
+   *
+   * @param source       The source values
+   * @param sourceOffset The index of the first source value
+   * @param target       The target array
+   * @param targetOffset The index of the first target value
+   * @param count        The number of vectors to convert
+   * @param b            A value in the range {@code [2, 32]}
+   * @param offset       The offset of each component
+   * @param scale        The scale of each component
+   *
+   * @throws IllegalArgumentException  If {@code offset} and {@code scale}
+   *                                   are empty or differ in length, or
+   *                                   {@code b} is out of range
+   * @throws IndexOutOfBoundsException If either range is out of bounds
+   */
+
+  public static void fromUnsignedNormalized(
+    final int[] source,
+    final int sourceOffset,
+    final float[] target,
+    final int targetOffset,
+    final int count,
+    final int b,
+    final float[] offset,
+    final float[] scale)
+  {
+    decode(
+      NFPCodec.of(NFPRepresentation.UNSIGNED, b),
+      source,
+      sourceOffset,
+      target,
+      targetOffset,
+      count,
+      offset,
+      scale);
+  }
+
+  /**
+   * Convert {@code count} vectors of values from {@code source}, starting at
+   * {@code sourceOffset}, to unsigned fixed-point format, first applying the
+   * inverse of the affine transform given by {@code offset} and {@code scale},
+   * and writing the results to {@code target} starting at {@code targetOffset}.
+   * The results are identical to those of the inverse transform followed by
+   * {@link NFPUnsignedFloatInt#toUnsignedNormalized(float[], int, int[], int, int, int)}.
+   *
+   * @param source       The source values
+   * @param sourceOffset The index of the first source value
+   * @param target       The target array
+   * @param targetOffset The index of the first target value
+   * @param count        The number of vectors to convert
+   * @param b            A value in the range {@code [2, 32]}
+   * @param offset       The offset of each component
+   * @param scale        The scale of each component
+   *
+   * @throws IllegalArgumentException  If {@code offset} and {@code scale}
+   *                                   are empty or differ in length, or
+   *                                   {@code b} is out of range
+   * @throws IndexOutOfBoundsException If either range is out of bounds
+   */
+
+  public static void toUnsignedNormalized(
+    final float[] source,
+    final int sourceOffset,
+    final int[] target,
+    final int targetOffset,
+    final int count,
+    final int b,
+    final float[] offset,
+    final float[] scale)
+  {
+    encode(
+      NFPCodec.of(NFPRepresentation.UNSIGNED, b),
+      source,
+      sourceOffset,
+      target,
+      targetOffset,
+      count,
+      offset,
+      scale);
+  }
+
+  /**
+   * Convert {@code count} vectors of signed {@code with-zero} values from
+   * {@code source}, starting at {@code sourceOffset}, to floating point format,
+   * applying the affine transform given by {@code offset} and {@code scale} and
+   * writing the results to {@code target} starting at {@code targetOffset}. The
+   * results are identical to those of
+   * {@link NFPSignedFloatInt#fromSignedNormalizedWithZero(int[], int, float[], int, int, int)}
+   * followed by the transform.
+   *
+   * @param source       The source values
+   * @param sourceOffset The index of the first source value
+   * @param target       The target array
+   * @param targetOffset The index of the first target value
+   * @param count        The number of vectors to convert
+   * @param b            A value in the range {@code [2, 32]}
+   * @param offset       The offset of each component
+   * @param scale        The scale of each component
+   *
+   * @throws IllegalArgumentException  If {@code offset} and {@code scale}
+   *                                   are empty or differ in length, or
+   *                                   {@code b} is out of range
+   * @throws IndexOutOfBoundsException If either range is out of bounds
+   */
+
+  public static void fromSignedNormalizedWithZero(
+    final int[] source,
+    final int sourceOffset,
+    final float[] target,
+    final int targetOffset,
+    final int count,
+    final int b,
+    final float[] offset,
+    final float[] scale)
+  {
+    decode(
+      NFPCodec.of(NFPRepresentation.SIGNED_WITH_ZERO, b),
+      source,
+      sourceOffset,
+      target,
+      targetOffset,
+      count,
+      offset,
+      scale);
+  }
+
+  /**
+   * Convert {@code count} vectors of values from {@code source}, starting at
+   * {@code sourceOffset}, to signed {@code with-zero} fixed-point format, first
+   * applying the inverse of the affine transform given by {@code offset} and
+   * {@code scale}, and writing the results to {@code target} starting at
+   * {@code targetOffset}. The results are identical to those of the inverse
+   * transform followed by
+   * {@link NFPSignedFloatInt#toSignedNormalizedWithZero(float[], int, int[], int, int, int)}.
+   *
+   * @param source       The source values
+   * @param sourceOffset The index of the first source value
+   * @param target       The target array
+   * @param targetOffset The index of the first target value
+   * @param count        The number of vectors to convert
+   * @param b            A value in the range {@code [2, 32]}
+   * @param offset       The offset of each component
+   * @param scale        The scale of each component
+   *
+   * @throws IllegalArgumentException  If {@code offset} and {@code scale}
+   *                                   are empty or differ in length, or
+   *                                   {@code b} is out of range
+   * @throws IndexOutOfBoundsException If either range is out of bounds
+   */
+
+  public static void toSignedNormalizedWithZero(
+    final float[] source,
+    final int sourceOffset,
+    final int[] target,
+    final int targetOffset,
+    final int count,
+    final int b,
+    final float[] offset,
+    final float[] scale)
+  {
+    encode(
+      NFPCodec.of(NFPRepresentation.SIGNED_WITH_ZERO, b),
+      source,
+      sourceOffset,
+      target,
+      targetOffset,
+      count,
+      offset,
+      scale);
+  }
+
+  /**
+   * Convert {@code count} vectors of signed {@code without-zero} values from
+   * {@code source}, starting at {@code sourceOffset}, to floating point format,
+   * applying the affine transform given by {@code offset} and {@code scale} and
+   * writing the results to {@code target} starting at {@code targetOffset}. The
+   * results are identical to those of
+   * {@link NFPSignedFloatInt#fromSignedNormalizedWithoutZero(int[], int, float[], int, int, int)}
+   * followed by the transform.
+   *
+   * @param source       The source values
+   * @param sourceOffset The index of the first source value
+   * @param target       The target array
+   * @param targetOffset The index of the first target value
+   * @param count        The number of vectors to convert
+   * @param b            A value in the range {@code [2, 32]}
+   * @param offset       The offset of each component
+   * @param scale        The scale of each component
+   *
+   * @throws IllegalArgumentException  If {@code offset} and {@code scale}
+   *                                   are empty or differ in length, or
+   *                                   {@code b} is out of range
+   * @throws IndexOutOfBoundsException If either range is out of bounds
+   */
+
+  public static void fromSignedNormalizedWithoutZero(
+    final int[] source,
+    final int sourceOffset,
+    final float[] target,
+    final int targetOffset,
+    final int count,
+    final int b,
+    final float[] offset,
+    final float[] scale)
+  {
+    decode(
+      NFPCodec.of(NFPRepresentation.SIGNED_WITHOUT_ZERO, b),
+      source,
+      sourceOffset,
+      target,
+      targetOffset,
+      count,
+      offset,
+      scale);
+  }
+
+  /**
+   * Convert {@code count} vectors of values from {@code source}, starting at
+   * {@code sourceOffset}, to signed {@code without-zero} fixed-point format,
+   * first applying the inverse of the affine transform given by {@code offset}
+   * and {@code scale}, and writing the results to {@code target} starting at
+   * {@code targetOffset}. The results are identical to those of the inverse
+   * transform followed by
+   * {@link NFPSignedFloatInt#toSignedNormalizedWithoutZero(float[], int, int[], int, int, int)}.
+   *
+   * @param source       The source values
+   * @param sourceOffset The index of the first source value
+   * @param target       The target array
+   * @param targetOffset The index of the first target value
+   * @param count        The number of vectors to convert
+   * @param b            A value in the range {@code [2, 32]}
+   * @param offset       The offset of each component
+   * @param scale        The scale of each component
+   *
+   * @throws IllegalArgumentException  If {@code offset} and {@code scale}
+   *                                   are empty or differ in length, or
+   *                                   {@code b} is out of range
+   * @throws IndexOutOfBoundsException If either range is out of bounds
+   */
+
+  public static void toSignedNormalizedWithoutZero(
+    final float[] source,
+    final int sourceOffset,
+    final int[] target,
+    final int targetOffset,
+    final int count,
+    final int b,
+    final float[] offset,
+    final float[] scale)
+  {
+    encode(
+      NFPCodec.of(NFPRepresentation.SIGNED_WITHOUT_ZERO, b),
+      source,
+      sourceOffset,
+      target,
+      targetOffset,
+      count,
+      offset,
+      scale);
+  }
+}
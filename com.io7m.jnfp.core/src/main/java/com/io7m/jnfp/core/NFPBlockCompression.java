@@ -0,0 +1,862 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jnfp.core;
+
+import com.io7m.junreachable.UnreachableCodeException;
+
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * <p>Encoding and decoding of images in the {@code BC4} and {@code BC5}
+ * block compressed formats.</p>
+ *
+ * <p>An image is divided into blocks of {@code 4x4} texels. Each channel of
+ * a block is stored as two 8-bit endpoints followed by sixteen 3-bit
+ * indices, for a total of {@link #BLOCK_CHANNEL_BYTES} bytes per channel.
+ * {@code BC4} images have one channel, and {@code BC5} images have two
+ * channels, with the data for the second channel of each block immediately
+ * following the data for the first. Blocks are stored in row-major order.
+ * Images whose dimensions are not multiples of four are padded by repeating
+ * the texels at the right and bottom edges.</p>
+ *
+ * <p>In the <i>unsigned</i> variants, endpoints are 8-bit unsigned
+ * normalized values as converted by
+ * {@link NFPUnsignedFloatInt#toUnsignedNormalized(float, int)}. In the
+ * <i>signed</i> variants, endpoints are 8-bit signed normalized values in
+ * the {@code with-zero} representation as converted by
+ * {@link NFPSignedFloatInt#toSignedNormalizedWithZero(float, int)}. The
+ * encoder picks endpoints that bracket the values in each block and then
+ * picks, for each texel, the palette entry nearest to the texel.</p>
+ *
+ * <p>Block rows are encoded and decoded in parallel on a
+ * {@link ForkJoinPool}, as with {@link NFPParallel}. The results do not
+ * depend on the pool.</p>
+ */
+
+public final class NFPBlockCompression
+{
+  /**
+   * The number of bytes occupied by a single channel of a single block.
+   */
+
+  public static final int BLOCK_CHANNEL_BYTES = 8;
+
+  /*
+   * The number of bytes occupied by the sixteen float texels of a single
+   * channel of a single block, used with BLOCK_CHANNEL_BYTES to estimate the
+   * memory traffic of a block row when sizing parallel tasks.
+   */
+
+  private static final int BLOCK_CHANNEL_FLOAT_BYTES = 16 * Float.BYTES;
+
+  private NFPBlockCompression()
+  {
+    throw new UnreachableCodeException();
+  }
+
+  private static int blocks(
+    final int size)
+  {
+    return (size + 3) / 4;
+  }
+
+  private static void checkSize(
+    final int width,
+    final int height)
+  {
+    if (width <= 0 || height <= 0) {
+      throw new IllegalArgumentException(
+        String.format("Image size %dx%d must be positive", width, height));
+    }
+  }
+
+  /**
+   * @param width    The image width
+   * @param height   The image height
+   * @param channels The number of channels ({@code 1} for {@code BC4},
+   *                 {@code 2} for {@code BC5})
+   *
+   * @return The size in bytes of the compressed image
+   *
+   * @throws IllegalArgumentException If the image size is not positive, or
+   *                                  the number of channels is out of range
+   */
+
+  public static int compressedSize(
+    final int width,
+    final int height,
+    final int channels)
+  {
+    checkSize(width, height);
+    if (channels < 1 || channels > 2) {
+      throw new IllegalArgumentException(
+        String.format("Channels %d must be in the range [1, 2]", channels));
+    }
+    return Math.multiplyExact(
+      Math.multiplyExact(blocks(width), blocks(height)),
+      BLOCK_CHANNEL_BYTES * channels);
+  }
+
+  private static float endpoint(
+    final int k,
+    final boolean signed)
+  {
+    if (signed) {
+      return NFPSignedFloatInt.fromSignedNormalizedWithZero(k, 8);
+    }
+    return NFPUnsignedFloatInt.fromUnsignedNormalized(k, 8);
+  }
+
+  private static int quantize(
+    final float x,
+    final boolean signed)
+  {
+    if (signed) {
+      return NFPSignedFloatInt.toSignedNormalizedWithZero(x, 8);
+    }
+    return NFPUnsignedFloatInt.toUnsignedNormalized(x, 8);
+  }
+
+  private static void palette(
+    final int r0,
+    final int r1,
+    final boolean signed,
+    final float[] palette)
+  {
+    final float e0 = endpoint(r0, signed);
+    final float e1 = endpoint(r1, signed);
+    palette[0] = e0;
+    palette[1] = e1;
+    if (r0 > r1) {
+      for (int index = 2; index < 8; ++index) {
+        palette[index] =
+          (((8 - index) * e0) + ((index - 1) * e1)) / 7.0f;
+      }
+    } else {
+      for (int index = 2; index < 6; ++index) {
+        palette[index] =
+          (((6 - index) * e0) + ((index - 1) * e1)) / 5.0f;
+      }
+      palette[6] = signed ? -1.0f : 0.0f;
+      palette[7] = 1.0f;
+    }
+  }
+
+  private static void gather(
+    final float[] source,
+    final int sourceOffset,
+    final int width,
+    final int height,
+    final int channels,
+    final int channel,
+    final int blockX,
+    final int blockY,
+    final float[] texels)
+  {
+    for (int y = 0; y < 4; ++y) {
+      final int ty = Math.min((blockY * 4) + y, height - 1);
+      for (int x = 0; x < 4; ++x) {
+        final int tx = Math.min((blockX * 4) + x, width - 1);
+        final int s = sourceOffset + (((ty * width) + tx) * channels);
+        texels[(y * 4) + x] = source[s + channel];
+      }
+    }
+  }
+
+  private static void scatter(
+    final float[] texels,
+    final int width,
+    final int height,
+    final int channels,
+    final int channel,
+    final int blockX,
+    final int blockY,
+    final float[] target,
+    final int targetOffset)
+  {
+    final int ey = Math.min(4, height - (blockY * 4));
+    final int ex = Math.min(4, width - (blockX * 4));
+    for (int y = 0; y < ey; ++y) {
+      final int ty = (blockY * 4) + y;
+      for (int x = 0; x < ex; ++x) {
+        final int tx = (blockX * 4) + x;
+        final int t = targetOffset + (((ty * width) + tx) * channels);
+        target[t + channel] = texels[(y * 4) + x];
+      }
+    }
+  }
+
+  private static int nearest(
+    final float[] entries,
+    final float v)
+  {
+    int nearest = 0;
+    float distance = Math.abs(v - entries[0]);
+    for (int index = 1; index < 8; ++index) {
+      final float d = Math.abs(v - entries[index]);
+      if (d < distance) {
+        distance = d;
+        nearest = index;
+      }
+    }
+    return nearest;
+  }
+
+  private static void encodeBlock(
+    final float[] texels,
+    final float[] entries,
+    final boolean signed,
+    final byte[] target,
+    final int targetOffset)
+  {
+    final float low = signed ? -1.0f : 0.0f;
+    float minimum = 1.0f;
+    float maximum = low;
+    for (int texel = 0; texel < 16; ++texel) {
+      final float v = Math.min(1.0f, Math.max(low, texels[texel]));
+      texels[texel] = v;
+      minimum = Math.min(minimum, v);
+      maximum = Math.max(maximum, v);
+    }
+
+    int r0 = quantize(maximum, signed);
+    if (endpoint(r0, signed) < maximum) {
+      ++r0;
+    }
+    int r1 = quantize(minimum, signed);
+    if (endpoint(r1, signed) > minimum) {
+      --r1;
+    }
+
+    long indices = 0L;
+    if (r0 > r1) {
+      palette(r0, r1, signed, entries);
+      for (int texel = 0; texel < 16; ++texel) {
+        indices += (long) nearest(entries, texels[texel]) << (texel * 3);
+      }
+    } else {
+      r1 = r0;
+    }
+
+    target[targetOffset] = (byte) r0;
+    target[targetOffset + 1] = (byte) r1;
+    for (int index = 0; index < 6; ++index) {
+      target[targetOffset + 2 + index] = (byte) (indices >>> (index * 8));
+    }
+  }
+
+  private static void decodeBlock(
+    final byte[] source,
+    final int sourceOffset,
+    final float[] entries,
+    final boolean signed,
+    final float[] texels)
+  {
+    final int mask = signed ? -1 : 0xff;
+    final int r0 = source[sourceOffset] & mask;
+    final int r1 = source[sourceOffset + 1] & mask;
+    palette(r0, r1, signed, entries);
+
+    long indices = 0L;
+    for (int index = 0; index < 6; ++index) {
+      indices += (source[sourceOffset + 2 + index] & 0xffL) << (index * 8);
+    }
+    for (int texel = 0; texel < 16; ++texel) {
+      texels[texel] = entries[(int) (indices >>> (texel * 3)) & 7];
+    }
+  }
+
+  private static void encode(
+    final ForkJoinPool pool,
+    final float[] source,
+    final int sourceOffset,
+    final int width,
+    final int height,
+    final int channels,
+    final boolean signed,
+    final byte[] target,
+    final int targetOffset)
+  {
+    Objects.requireNonNull(pool, "pool");
+    final int size = compressedSize(width, height, channels);
+    Objects.checkFromIndexSize(
+      sourceOffset,
+      Math.multiplyExact(Math.multiplyExact(width, height), channels),
+      source.length);
+    Objects.checkFromIndexSize(targetOffset, size, target.length);
+
+    final int blocksX = blocks(width);
+    final int rowBytes =
+      blocksX * channels * (BLOCK_CHANNEL_BYTES + BLOCK_CHANNEL_FLOAT_BYTES);
+    NFPParallel.run(
+      pool,
+      (offset, count) -> {
+        final float[] texels = new float[16];
+        final float[] entries = new float[8];
+        for (int by = offset; by < offset + count; ++by) {
+          for (int bx = 0; bx < blocksX; ++bx) {
+            final int block = (by * blocksX) + bx;
+            for (int c = 0; c < channels; ++c) {
+              final int t =
+                targetOffset + (((block * channels) + c) * BLOCK_CHANNEL_BYTES);
+              gather(
+                source, sourceOffset, width, height, channels, c, bx, by,
+                texels);
+              encodeBlock(texels, entries, signed, target, t);
+            }
+          }
+        }
+      },
+      blocks(height),
+      rowBytes);
+  }
+
+  private static void decode(
+    final ForkJoinPool pool,
+    final byte[] source,
+    final int sourceOffset,
+    final int width,
+    final int height,
+    final int channels,
+    final boolean signed,
+    final float[] target,
+    final int targetOffset)
+  {
+    Objects.requireNonNull(pool, "pool");
+    final int size = compressedSize(width, height, channels);
+    Objects.checkFromIndexSize(sourceOffset, size, source.length);
+    Objects.checkFromIndexSize(
+      targetOffset,
+      Math.multiplyExact(Math.multiplyExact(width, height), channels),
+      target.length);
+
+    final int blocksX = blocks(width);
+    final int rowBytes =
+      blocksX * channels * (BLOCK_CHANNEL_BYTES + BLOCK_CHANNEL_FLOAT_BYTES);
+    NFPParallel.run(
+      pool,
+      (offset, count) -> {
+        final float[] texels = new float[16];
+        final float[] entries = new float[8];
+        for (int by = offset; by < offset + count; ++by) {
+          for (int bx = 0; bx < blocksX; ++bx) {
+            final int block = (by * blocksX) + bx;
+            for (int c = 0; c < channels; ++c) {
+              final int s =
+                sourceOffset + (((block * channels) + c) * BLOCK_CHANNEL_BYTES);
+              decodeBlock(source, s, entries, signed, texels);
+              scatter(
+                texels, width, height, channels, c, bx, by,
+                target, targetOffset);
+            }
+          }
+        }
+      },
+      blocks(height),
+      rowBytes);
+  }
+
+  /**
+   * Encode the single-channel image {@code source}, starting at
+   * {@code sourceOffset}, to {@code BC4} format with unsigned endpoints,
+   * writing the compressed blocks to {@code target} starting at
+   * {@code targetOffset}. Values outside the range {@code [0, 1]} are clamped.
+   *
+   * @param pool         The pool that will execute the conversion
+   * @param source       The source texels
+   * @param sourceOffset The index of the first source value
+   * @param width        The image width
+   * @param height       The image height
+   * @param target       The target array
+   * @param targetOffset The index of the first target byte
+   *
+   * @throws IllegalArgumentException  If the image size is not positive
+   * @throws IndexOutOfBoundsException If either range is out of bounds
+   */
+
+  public static void encodeBC4Unsigned(
+    final ForkJoinPool pool,
+    final float[] source,
+    final int sourceOffset,
+    final int width,
+    final int height,
+    final byte[] target,
+    final int targetOffset)
+  {
+    encode(
+      pool, source, sourceOffset, width, height, 1, false,
+      target, targetOffset);
+  }
+
+  /**
+   * Encode an image as with
+   * {@link #encodeBC4Unsigned(ForkJoinPool, float[], int, int, int, byte[], int)},
+   * using the {@link ForkJoinPool#commonPool() common pool}.
+   *
+   * @param source       The source texels
+   * @param sourceOffset The index of the first source value
+   * @param width        The image width
+   * @param height       The image height
+   * @param target       The target array
+   * @param targetOffset The index of the first target byte
+   *
+   * @throws IllegalArgumentException  If the image size is not positive
+   * @throws IndexOutOfBoundsException If either range is out of bounds
+   */
+
+  public static void encodeBC4Unsigned(
+    final float[] source,
+    final int sourceOffset,
+    final int width,
+    final int height,
+    final byte[] target,
+    final int targetOffset)
+  {
+    encodeBC4Unsigned(
+      ForkJoinPool.commonPool(),
+      source, sourceOffset, width, height, target, targetOffset);
+  }
+
+  /**
+   * Decode the {@code BC4} image {@code source} with unsigned endpoints,
+   * starting at {@code sourceOffset}, writing the texels to {@code target}
+   * starting at {@code targetOffset}.
+   *
+   * @param pool         The pool that will execute the conversion
+   * @param source       The compressed blocks
+   * @param sourceOffset The index of the first source byte
+   * @param width        The image width
+   * @param height       The image height
+   * @param target       The target array
+   * @param targetOffset The index of the first target value
+   *
+   * @throws IllegalArgumentException  If the image size is not positive
+   * @throws IndexOutOfBoundsException If either range is out of bounds
+   */
+
+  public static void decodeBC4Unsigned(
+    final ForkJoinPool pool,
+    final byte[] source,
+    final int sourceOffset,
+    final int width,
+    final int height,
+    final float[] target,
+    final int targetOffset)
+  {
+    decode(
+      pool, source, sourceOffset, width, height, 1, false,
+      target, targetOffset);
+  }
+
+  /**
+   * Decode an image as with
+   * {@link #decodeBC4Unsigned(ForkJoinPool, byte[], int, int, int, float[], int)},
+   * using the {@link ForkJoinPool#commonPool() common pool}.
+   *
+   * @param source       The compressed blocks
+   * @param sourceOffset The index of the first source byte
+   * @param width        The image width
+   * @param height       The image height
+   * @param target       The target array
+   * @param targetOffset The index of the first target value
+   *
+   * @throws IllegalArgumentException  If the image size is not positive
+   * @throws IndexOutOfBoundsException If either range is out of bounds
+   */
+
+  public static void decodeBC4Unsigned(
+    final byte[] source,
+    final int sourceOffset,
+    final int width,
+    final int height,
+    final float[] target,
+    final int targetOffset)
+  {
+    decodeBC4Unsigned(
+      ForkJoinPool.commonPool(),
+      source, sourceOffset, width, height, target, targetOffset);
+  }
+
+  /**
+   * Encode the single-channel image {@code source}, starting at
+   * {@code sourceOffset}, to {@code BC4} format with signed {@code with-zero}
+   * endpoints, writing the compressed blocks to {@code target} starting at
+   * {@code targetOffset}. Values outside the range {@code [-1, 1]} are clamped.
+   *
+   * @param pool         The pool that will execute the conversion
+   * @param source       The source texels
+   * @param sourceOffset The index of the first source value
+   * @param width        The image width
+   * @param height       The image height
+   * @param target       The target array
+   * @param targetOffset The index of the first target byte
+   *
+   * @throws IllegalArgumentException  If the image size is not positive
+   * @throws IndexOutOfBoundsException If either range is out of bounds
+   */
+
+  public static void encodeBC4Signed(
+    final ForkJoinPool pool,
+    final float[] source,
+    final int sourceOffset,
+    final int width,
+    final int height,
+    final byte[] target,
+    final int targetOffset)
+  {
+    encode(
+      pool, source, sourceOffset, width, height, 1, true,
+      target, targetOffset);
+  }
+
+  /**
+   * Encode an image as with
+   * {@link #encodeBC4Signed(ForkJoinPool, float[], int, int, int, byte[], int)},
+   * using the {@link ForkJoinPool#commonPool() common pool}.
+   *
+   * @param source       The source texels
+   * @param sourceOffset The index of the first source value
+   * @param width        The image width
+   * @param height       The image height
+   * @param target       The target array
+   * @param targetOffset The index of the first target byte
+   *
+   * @throws IllegalArgumentException  If the image size is not positive
+   * @throws IndexOutOfBoundsException If either range is out of bounds
+   */
+
+  public static void encodeBC4Signed(
+    final float[] source,
+    final int sourceOffset,
+    final int width,
+    final int height,
+    final byte[] target,
+    final int targetOffset)
+  {
+    encodeBC4Signed(
+      ForkJoinPool.commonPool(),
+      source, sourceOffset, width, height, target, targetOffset);
+  }
+
+  /**
+   * Decode the {@code BC4} image {@code source} with signed {@code with-zero}
+   * endpoints, starting at {@code sourceOffset}, writing the texels to
+   * {@code target} starting at {@code targetOffset}.
+   *
+   * @param pool         The pool that will execute the conversion
+   * @param source       The compressed blocks
+   * @param sourceOffset The index of the first source byte
+   * @param width        The image width
+   * @param height       The image height
+   * @param target       The target array
+   * @param targetOffset The index of the first target value
+   *
+   * @throws IllegalArgumentException  If the image size is not positive
+   * @throws IndexOutOfBoundsException If either range is out of bounds
+   */
+
+  public static void decodeBC4Signed(
+    final ForkJoinPool pool,
+    final byte[] source,
+    final int sourceOffset,
+    final int width,
+    final int height,
+    final float[] target,
+    final int targetOffset)
+  {
+    decode(
+      pool, source, sourceOffset, width, height, 1, true,
+      target, targetOffset);
+  }
+
+  /**
+   * Decode an image as with
+   * {@link #decodeBC4Signed(ForkJoinPool, byte[], int, int, int, float[], int)},
+   * using the {@link ForkJoinPool#commonPool() common pool}.
+   *
+   * @param source       The compressed blocks
+   * @param sourceOffset The index of the first source byte
+   * @param width        The image width
+   * @param height       The image height
+   * @param target       The target array
+   * @param targetOffset The index of the first target value
+   *
+   * @throws IllegalArgumentException  If the image size is not positive
+   * @throws IndexOutOfBoundsException If either range is out of bounds
+   */
+
+  public static void decodeBC4Signed(
+    final byte[] source,
+    final int sourceOffset,
+    final int width,
+    final int height,
+    final float[] target,
+    final int targetOffset)
+  {
+    decodeBC4Signed(
+      ForkJoinPool.commonPool(),
+      source, sourceOffset, width, height, target, targetOffset);
+  }
+
+  /**
+   * Encode the two-channel image {@code source}, starting at
+   * {@code sourceOffset}, to {@code BC5} format with unsigned endpoints,
+   * writing the compressed blocks to {@code target} starting at
+   * {@code targetOffset}. Texels are stored as interleaved pairs of values.
+   * Values outside the range {@code [0, 1]} are clamped.
+   *
+   * @param pool         The pool that will execute the conversion
+   * @param source       The source texels
+   * @param sourceOffset The index of the first source value
+   * @param width        The image width
+   * @param height       The image height
+   * @param target       The target array
+   * @param targetOffset The index of the first target byte
+   *
+   * @throws IllegalArgumentException  If the image size is not positive
+   * @throws IndexOutOfBoundsException If either range is out of bounds
+   */
+
+  public static void encodeBC5Unsigned(
+    final ForkJoinPool pool,
+    final float[] source,
+    final int sourceOffset,
+    final int width,
+    final int height,
+    final byte[] target,
+    final int targetOffset)
+  {
+    encode(
+      pool, source, sourceOffset, width, height, 2, false,
+      target, targetOffset);
+  }
+
+  /**
+   * Encode an image as with
+   * {@link #encodeBC5Unsigned(ForkJoinPool, float[], int, int, int, byte[], int)},
+   * using the {@link ForkJoinPool#commonPool() common pool}.
+   *
+   * @param source       The source texels
+   * @param sourceOffset The index of the first source value
+   * @param width        The image width
+   * @param height       The image height
+   * @param target       The target array
+   * @param targetOffset The index of the first target byte
+   *
+   * @throws IllegalArgumentException  If the image size is not positive
+   * @throws IndexOutOfBoundsException If either range is out of bounds
+   */
+
+  public static void encodeBC5Unsigned(
+    final float[] source,
+    final int sourceOffset,
+    final int width,
+    final int height,
+    final byte[] target,
+    final int targetOffset)
+  {
+    encodeBC5Unsigned(
+      ForkJoinPool.commonPool(),
+      source, sourceOffset, width, height, target, targetOffset);
+  }
+
+  /**
+   * Decode the {@code BC5} image {@code source} with unsigned endpoints,
+   * starting at {@code sourceOffset}, writing the texels to {@code target}
+   * starting at {@code targetOffset}. Texels are stored as interleaved pairs of
+   * values.
+   *
+   * @param pool         The pool that will execute the conversion
+   * @param source       The compressed blocks
+   * @param sourceOffset The index of the first source byte
+   * @param width        The image width
+   * @param height       The image height
+   * @param target       The target array
+   * @param targetOffset The index of the first target value
+   *
+   * @throws IllegalArgumentException  If the image size is not positive
+   * @throws IndexOutOfBoundsException If either range is out of bounds
+   */
+
+  public static void decodeBC5Unsigned(
+    final ForkJoinPool pool,
+    final byte[] source,
+    final int sourceOffset,
+    final int width,
+    final int height,
+    final float[] target,
+    final int targetOffset)
+  {
+    decode(
+      pool, source, sourceOffset, width, height, 2, false,
+      target, targetOffset);
+  }
+
+  /**
+   * Decode an image as with
+   * {@link #decodeBC5Unsigned(ForkJoinPool, byte[], int, int, int, float[], int)},
+   * using the {@link ForkJoinPool#commonPool() common pool}.
+   *
+   * @param source       The compressed blocks
+   * @param sourceOffset The index of the first source byte
+   * @param width        The image width
+   * @param height       The image height
+   * @param target       The target array
+   * @param targetOffset The index of the first target value
+   *
+   * @throws IllegalArgumentException  If the image size is not positive
+   * @throws IndexOutOfBoundsException If either range is out of bounds
+   */
+
+  public static void decodeBC5Unsigned(
+    final byte[] source,
+    final int sourceOffset,
+    final int width,
+    final int height,
+    final float[] target,
+    final int targetOffset)
+  {
+    decodeBC5Unsigned(
+      ForkJoinPool.commonPool(),
+      source, sourceOffset, width, height, target, targetOffset);
+  }
+
+  /**
+   * Encode the two-channel image {@code source}, starting at
+   * {@code sourceOffset}, to {@code BC5} format with signed {@code with-zero}
+   * endpoints, writing the compressed blocks to {@code target} starting at
+   * {@code targetOffset}. Texels are stored as interleaved pairs of values.
+   * Values outside the range {@code [-1, 1]} are clamped.
+   *
+   * @param pool         The pool that will execute the conversion
+   * @param source       The source texels
+   * @param sourceOffset The index of the first source value
+   * @param width        The image width
+   * @param height       The image height
+   * @param target       The target array
+   * @param targetOffset The index of the first target byte
+   *
+   * @throws IllegalArgumentException  If the image size is not positive
+   * @throws IndexOutOfBoundsException If either range is out of bounds
+   */
+
+  public static void encodeBC5Signed(
+    final ForkJoinPool pool,
+    final float[] source,
+    final int sourceOffset,
+    final int width,
+    final int height,
+    final byte[] target,
+    final int targetOffset)
+  {
+    encode(
+      pool, source, sourceOffset, width, height, 2, true,
+      target, targetOffset);
+  }
+
+  /**
+   * Encode an image as with
+   * {@link #encodeBC5Signed(ForkJoinPool, float[], int, int, int, byte[], int)},
+   * using the {@link ForkJoinPool#commonPool() common pool}.
+   *
+   * @param source       The source texels
+   * @param sourceOffset The index of the first source value
+   * @param width        The image width
+   * @param height       The image height
+   * @param target       The target array
+   * @param targetOffset The index of the first target byte
+   *
+   * @throws IllegalArgumentException  If the image size is not positive
+   * @throws IndexOutOfBoundsException If either range is out of bounds
+   */
+
+  public static void encodeBC5Signed(
+    final float[] source,
+    final int sourceOffset,
+    final int width,
+    final int height,
+    final byte[] target,
+    final int targetOffset)
+  {
+    encodeBC5Signed(
+      ForkJoinPool.commonPool(),
+      source, sourceOffset, width, height, target, targetOffset);
+  }
+
+  /**
+   * Decode the {@code BC5} image {@code source} with signed {@code with-zero}
+   * endpoints, starting at {@code sourceOffset}, writing the texels to
+   * {@code target} starting at {@code targetOffset}. Texels are stored as
+   * interleaved pairs of values.
+   *
+   * @param pool         The pool that will execute the conversion
+   * @param source       The compressed blocks
+   * @param sourceOffset The index of the first source byte
+   * @param width        The image width
+   * @param height       The image height
+   * @param target       The target array
+   * @param targetOffset The index of the first target value
+   *
+   * @throws IllegalArgumentException  If the image size is not positive
+   * @throws IndexOutOfBoundsException If either range is out of bounds
+   */
+
+  public static void decodeBC5Signed(
+    final ForkJoinPool pool,
+    final byte[] source,
+    final int sourceOffset,
+    final int width,
+    final int height,
+    final float[] target,
+    final int targetOffset)
+  {
+    decode(
+      pool, source, sourceOffset, width, height, 2, true,
+      target, targetOffset);
+  }
+
+  /**
+   * Decode an image as with
+   * {@link #decodeBC5Signed(ForkJoinPool, byte[], int, int, int, float[], int)},
+   * using the {@link ForkJoinPool#commonPool() common pool}.
+   *
+   * @param source       The compressed blocks
+   * @param sourceOffset The index of the first source byte
+   * @param width        The image width
+   * @param height       The image height
+   * @param target       The target array
+   * @param targetOffset The index of the first target value
+   *
+   * @throws IllegalArgumentException  If the image size is not positive
+   * @throws IndexOutOfBoundsException If either range is out of bounds
+   */
+
+  public static void decodeBC5Signed(
+    final byte[] source,
+    final int sourceOffset,
+    final int width,
+    final int height,
+    final float[] target,
+    final int targetOffset)
+  {
+    decodeBC5Signed(
+      ForkJoinPool.commonPool(),
+      source, sourceOffset, width, height, target, targetOffset);
+  }
+}
@@ -0,0 +1,377 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jnfp.core;
+
+import com.io7m.junreachable.UnreachableCodeException;
+
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.FloatBuffer;
+import java.util.Objects;
+
+/**
+ * <p>Conversion of floating point values held in NIO buffers to and from
+ * normalized fixed-point values held in byte buffers.</p>
+ *
+ * <p>Each fixed-point value with {@code b} bits of precision occupies
+ * {@code (b + 7) / 8} bytes in the byte buffer, with no padding between
+ * values, and is stored in the byte order of the byte buffer. Signed values
+ * are stored in two's complement form and are sign-extended from {@code b}
+ * bits when read. Fixed-point values outside of the range of {@code b}
+ * bits are stored modulo {@code 2 ^ b}; note that for bit widths beyond the
+ * precision of the floating point type, such as {@code b = 25} for
+ * {@code float} values, the encoding of {@code 1.0} is such a value.</p>
+ *
+ * <p>The functions read and write buffers in place, and so may be used to
+ * stage values directly in direct or memory-mapped buffers without any
+ * intermediate arrays. As with the relative bulk operations in
+ * {@link java.nio}, the functions convert every remaining value in the
+ * floating point buffer, and advance the positions of both buffers past the
+ * values converted. If either buffer has too little remaining space, an
+ * exception is raised and neither buffer is modified.</p>
+ */
+
+public final class NFPBuffers
+{
+  private NFPBuffers()
+  {
+    throw new UnreachableCodeException();
+  }
+
+  /**
+   * @param codec A codec
+   *
+   * @return The number of bytes occupied by each value of {@code codec}
+   */
+
+  public static int byteWidth(
+    final NFPCodec codec)
+  {
+    return (codec.bits() + 7) / 8;
+  }
+
+  private static long byteCount(
+    final int count,
+    final int width)
+  {
+    return (long) count * (long) width;
+  }
+
+  private static void putBytes(
+    final ByteBuffer target,
+    final int offset,
+    final long value,
+    final int width,
+    final boolean bigEndian)
+  {
+    for (int index = 0; index < width; ++index) {
+      final int shift = bigEndian ? (width - 1 - index) * 8 : index * 8;
+      target.put(offset + index, (byte) (value >>> shift));
+    }
+  }
+
+  private static long getBytes(
+    final ByteBuffer source,
+    final int offset,
+    final int width,
+    final boolean bigEndian)
+  {
+    long value = 0L;
+    for (int index = 0; index < width; ++index) {
+      final int shift = bigEndian ? (width - 1 - index) * 8 : index * 8;
+      value |= ((long) source.get(offset + index) & 0xffL) << shift;
+    }
+    return value;
+  }
+
+  static long getRaw(
+    final ByteBuffer source,
+    final int offset,
+    final int width)
+  {
+    return switch (width) {
+      case 1 -> (long) source.get(offset);
+      case 2 -> (long) source.getShort(offset);
+      case 4 -> (long) source.getInt(offset);
+      case 8 -> source.getLong(offset);
+      default -> getBytes(
+        source, offset, width, source.order() == ByteOrder.BIG_ENDIAN);
+    };
+  }
+
+  static void putRaw(
+    final ByteBuffer target,
+    final int offset,
+    final int width,
+    final long value)
+  {
+    switch (width) {
+      case 1 -> target.put(offset, (byte) value);
+      case 2 -> target.putShort(offset, (short) value);
+      case 4 -> target.putInt(offset, (int) value);
+      case 8 -> target.putLong(offset, value);
+      default -> putBytes(
+        target, offset, value, width, target.order() == ByteOrder.BIG_ENDIAN);
+    }
+  }
+
+  /**
+   * Convert all remaining values in {@code source} to fixed-point format
+   * using {@code codec}, writing the results to {@code target}. The codec
+   * must have at most {@code 32} bits of precision, and the results are
+   * identical to those produced by {@link NFPCodec#encodeFloat(float)}.
+   *
+   * @param codec  The codec
+   * @param source The source values
+   * @param target The target buffer
+   *
+   * @throws IllegalArgumentException If the codec has more than {@code 32}
+   *                                  bits of precision
+   * @throws BufferOverflowException  If {@code target} has insufficient
+   *                                  remaining space
+   */
+
+  public static void encodeFloat(
+    final NFPCodec codec,
+    final FloatBuffer source,
+    final ByteBuffer target)
+  {
+    Objects.requireNonNull(codec, "codec");
+    Objects.requireNonNull(source, "source");
+    Objects.requireNonNull(target, "target");
+    codec.checkFloat();
+
+    final int width = byteWidth(codec);
+    final int count = source.remaining();
+    if (byteCount(count, width) > (long) target.remaining()) {
+      throw new BufferOverflowException();
+    }
+
+    final int sp = source.position();
+    final int tp = target.position();
+    switch (width) {
+      case 1 -> {
+        for (int index = 0; index < count; ++index) {
+          final int f = codec.encodeFloat(source.get(sp + index));
+          target.put(tp + index, (byte) f);
+        }
+      }
+      case 2 -> {
+        for (int index = 0; index < count; ++index) {
+          final int f = codec.encodeFloat(source.get(sp + index));
+          target.putShort(tp + (index * 2), (short) f);
+        }
+      }
+      case 4 -> {
+        for (int index = 0; index < count; ++index) {
+          final int f = codec.encodeFloat(source.get(sp + index));
+          target.putInt(tp + (index * 4), f);
+        }
+      }
+      default -> {
+        final boolean big = target.order() == ByteOrder.BIG_ENDIAN;
+        for (int index = 0; index < count; ++index) {
+          final int f = codec.encodeFloat(source.get(sp + index));
+          putBytes(target, tp + (index * width), (long) f, width, big);
+        }
+      }
+    }
+
+    source.position(sp + count);
+    target.position(tp + (count * width));
+  }
+
+  /**
+   * Convert all remaining values in {@code source} to fixed-point format
+   * using {@code codec}, writing the results to {@code target}. The results
+   * are identical to those produced by {@link NFPCodec#encode(double)}.
+   *
+   * @param codec  The codec
+   * @param source The source values
+   * @param target The target buffer
+   *
+   * @throws BufferOverflowException If {@code target} has insufficient
+   *                                 remaining space
+   */
+
+  public static void encode(
+    final NFPCodec codec,
+    final DoubleBuffer source,
+    final ByteBuffer target)
+  {
+    Objects.requireNonNull(codec, "codec");
+    Objects.requireNonNull(source, "source");
+    Objects.requireNonNull(target, "target");
+
+    final int width = byteWidth(codec);
+    final int count = source.remaining();
+    if (byteCount(count, width) > (long) target.remaining()) {
+      throw new BufferOverflowException();
+    }
+
+    final int sp = source.position();
+    final int tp = target.position();
+    switch (width) {
+      case 1 -> {
+        for (int index = 0; index < count; ++index) {
+          final long f = codec.encode(source.get(sp + index));
+          target.put(tp + index, (byte) f);
+        }
+      }
+      case 2 -> {
+        for (int index = 0; index < count; ++index) {
+          final long f = codec.encode(source.get(sp + index));
+          target.putShort(tp + (index * 2), (short) f);
+        }
+      }
+      case 4 -> {
+        for (int index = 0; index < count; ++index) {
+          final long f = codec.encode(source.get(sp + index));
+          target.putInt(tp + (index * 4), (int) f);
+        }
+      }
+      case 8 -> {
+        for (int index = 0; index < count; ++index) {
+          final long f = codec.encode(source.get(sp + index));
+          target.putLong(tp + (index * 8), f);
+        }
+      }
+      default -> {
+        final boolean big = target.order() == ByteOrder.BIG_ENDIAN;
+        for (int index = 0; index < count; ++index) {
+          final long f = codec.encode(source.get(sp + index));
+          putBytes(target, tp + (index * width), f, width, big);
+        }
+      }
+    }
+
+    source.position(sp + count);
+    target.position(tp + (count * width));
+  }
+
+  /**
+   * Read fixed-point values from {@code source} and convert them to floating
+   * point format using {@code codec}, filling all remaining space in
+   * {@code target}. The codec must have at most {@code 32} bits of
+   * precision, and the results are identical to those produced by
+   * {@link NFPCodec#decodeFloat(int)}.
+   *
+   * @param codec  The codec
+   * @param source The source buffer
+   * @param target The target values
+   *
+   * @throws IllegalArgumentException If the codec has more than {@code 32}
+   *                                  bits of precision
+   * @throws BufferUnderflowException If {@code source} has too few remaining
+   *                                  values
+   */
+
+  public static void decodeFloat(
+    final NFPCodec codec,
+    final ByteBuffer source,
+    final FloatBuffer target)
+  {
+    Objects.requireNonNull(codec, "codec");
+    Objects.requireNonNull(source, "source");
+    Objects.requireNonNull(target, "target");
+    codec.checkFloat();
+
+    final int width = byteWidth(codec);
+    final int count = target.remaining();
+    if (byteCount(count, width) > (long) source.remaining()) {
+      throw new BufferUnderflowException();
+    }
+
+    final int shift = 32 - codec.bits();
+    final boolean signed = codec.representation().isSigned();
+    final int sp = source.position();
+    final int tp = target.position();
+    final boolean big = source.order() == ByteOrder.BIG_ENDIAN;
+
+    for (int index = 0; index < count; ++index) {
+      final int offset = sp + (index * width);
+      final int raw = switch (width) {
+        case 1 -> source.get(offset);
+        case 2 -> source.getShort(offset);
+        case 4 -> source.getInt(offset);
+        default -> (int) getBytes(source, offset, width, big);
+      };
+      final int f = signed ? (raw << shift) >> shift : (raw << shift) >>> shift;
+      target.put(tp + index, codec.decodeFloat(f));
+    }
+
+    source.position(sp + (count * width));
+    target.position(tp + count);
+  }
+
+  /**
+   * Read fixed-point values from {@code source} and convert them to floating
+   * point format using {@code codec}, filling all remaining space in
+   * {@code target}. The results are identical to those produced by
+   * {@link NFPCodec#decode(long)}.
+   *
+   * @param codec  The codec
+   * @param source The source buffer
+   * @param target The target values
+   *
+   * @throws BufferUnderflowException If {@code source} has too few remaining
+   *                                  values
+   */
+
+  public static void decode(
+    final NFPCodec codec,
+    final ByteBuffer source,
+    final DoubleBuffer target)
+  {
+    Objects.requireNonNull(codec, "codec");
+    Objects.requireNonNull(source, "source");
+    Objects.requireNonNull(target, "target");
+
+    final int width = byteWidth(codec);
+    final int count = target.remaining();
+    if (byteCount(count, width) > (long) source.remaining()) {
+      throw new BufferUnderflowException();
+    }
+
+    final int shift = 64 - codec.bits();
+    final boolean signed = codec.representation().isSigned();
+    final int sp = source.position();
+    final int tp = target.position();
+    final boolean big = source.order() == ByteOrder.BIG_ENDIAN;
+
+    for (int index = 0; index < count; ++index) {
+      final int offset = sp + (index * width);
+      final long raw = switch (width) {
+        case 1 -> (long) source.get(offset);
+        case 2 -> (long) source.getShort(offset);
+        case 4 -> (long) source.getInt(offset);
+        case 8 -> source.getLong(offset);
+        default -> getBytes(source, offset, width, big);
+      };
+      final long f =
+        signed ? (raw << shift) >> shift : (raw << shift) >>> shift;
+      target.put(tp + index, codec.decode(f));
+    }
+
+    source.position(sp + (count * width));
+    target.position(tp + count);
+  }
+}
@@ -0,0 +1,490 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jnfp.core;
+
+import com.io7m.junsigned.core.UnsignedDouble;
+import com.io7m.junsigned.core.UnsignedFloat;
+
+import java.util.Objects;
+
+/**
+ * <p>A codec for normalized fixed-point values with a fixed representation
+ * and number of bits.</p>
+ *
+ * <p>A codec computes the scale factors for its bit width once, when it is
+ * created, rather than on every conversion. The {@code double}/{@code long}
+ * functions produce results identical to those of
+ * {@link NFPUnsignedDoubleLong} and {@link NFPSignedDoubleLong}, and the
+ * {@code float}/{@code int} functions produce results identical to those of
+ * {@link NFPUnsignedFloatInt} and {@link NFPSignedFloatInt}.</p>
+ *
+ * <p>Codecs are immutable and may be freely shared between threads. None
+ * of the conversion functions allocate.</p>
+ */
+
+public final class NFPCodec
+{
+  private static final NFPCodec[][] CODECS = makeCodecs();
+
+  private final NFPRepresentation representation;
+  private final int bits;
+  private final double scale;
+  private final float scaleFloat;
+  private final boolean floatCapable;
+
+  private NFPCodec(
+    final NFPRepresentation inRepresentation,
+    final int inBits)
+  {
+    this.representation = inRepresentation;
+    this.bits = inBits;
+    this.scale = switch (inRepresentation) {
+      case UNSIGNED, SIGNED_WITHOUT_ZERO -> NFPPowers.twoPow(inBits) - 1.0;
+      case SIGNED_WITH_ZERO -> NFPPowers.twoPow(inBits - 1) - 1.0;
+    };
+    this.scaleFloat = (float) this.scale;
+    this.floatCapable = inBits <= 32;
+  }
+
+  /**
+   * Check that this codec has at most {@code 32} bits of precision, as
+   * required by the {@code float}/{@code int} functions.
+   *
+   * @throws IllegalArgumentException If the codec has more than {@code 32}
+   *                                  bits of precision
+   */
+
+  void checkFloat()
+  {
+    if (!this.floatCapable) {
+      throw new IllegalArgumentException(
+        String.format("Bits %d must be in the range [2, 32]", this.bits));
+    }
+  }
+
+  private static NFPCodec[][] makeCodecs()
+  {
+    final NFPRepresentation[] representations = NFPRepresentation.values();
+    final NFPCodec[][] codecs = new NFPCodec[representations.length][];
+    for (final NFPRepresentation r : representations) {
+      final NFPCodec[] row = new NFPCodec[65];
+      for (int b = 2; b <= 64; ++b) {
+        row[b] = new NFPCodec(r, b);
+      }
+      codecs[r.ordinal()] = row;
+    }
+    return codecs;
+  }
+
+  /**
+   * Obtain a codec for the given representation and bit width. Codecs are
+   * shared, and so repeated calls with the same arguments return the same
+   * codec.
+   *
+   * @param representation The representation
+   * @param bits           The number of bits, in the range {@code [2, 64]}
+   *
+   * @return A codec
+   *
+   * @throws IllegalArgumentException If {@code bits} is out of range
+   */
+
+  public static NFPCodec of(
+    final NFPRepresentation representation,
+    final int bits)
+  {
+    Objects.requireNonNull(representation, "representation");
+    if (bits < 2 || bits > 64) {
+      throw new IllegalArgumentException(
+        String.format("Bits %d must be in the range [2, 64]", bits));
+    }
+    return CODECS[representation.ordinal()][bits];
+  }
+
+  /**
+   * @param bits The number of bits, in the range {@code [2, 64]}
+   *
+   * @return A codec for unsigned values
+   *
+   * @throws IllegalArgumentException If {@code bits} is out of range
+   */
+
+  public static NFPCodec unsigned(
+    final int bits)
+  {
+    return of(NFPRepresentation.UNSIGNED, bits);
+  }
+
+  /**
+   * @param bits The number of bits, in the range {@code [2, 64]}
+   *
+   * @return A codec for signed {@code with-zero} values
+   *
+   * @throws IllegalArgumentException If {@code bits} is out of range
+   */
+
+  public static NFPCodec signedWithZero(
+    final int bits)
+  {
+    return of(NFPRepresentation.SIGNED_WITH_ZERO, bits);
+  }
+
+  /**
+   * @param bits The number of bits, in the range {@code [2, 64]}
+   *
+   * @return A codec for signed {@code without-zero} values
+   *
+   * @throws IllegalArgumentException If {@code bits} is out of range
+   */
+
+  public static NFPCodec signedWithoutZero(
+    final int bits)
+  {
+    return of(NFPRepresentation.SIGNED_WITHOUT_ZERO, bits);
+  }
+
+  /**
+   * @return The representation of values
+   */
+
+  public NFPRepresentation representation()
+  {
+    return this.representation;
+  }
+
+  /**
+   * @return The number of bits of precision
+   */
+
+  public int bits()
+  {
+    return this.bits;
+  }
+
+  @Override
+  public boolean equals(
+    final Object other)
+  {
+    if (this == other) {
+      return true;
+    }
+    if (other == null || !Objects.equals(this.getClass(), other.getClass())) {
+      return false;
+    }
+    final NFPCodec codec = (NFPCodec) other;
+    return this.bits == codec.bits
+           && this.representation == codec.representation;
+  }
+
+  @Override
+  public int hashCode()
+  {
+    return Objects.hash(this.representation, Integer.valueOf(this.bits));
+  }
+
+  @Override
+  public String toString()
+  {
+    return String.format(
+      "[NFPCodec %s %d]", this.representation, Integer.valueOf(this.bits));
+  }
+
+  /**
+   * Convert {@code f} to floating point format.
+   *
+   * @param f A fixed-point value
+   *
+   * @return A floating point value
+   */
+
+  public double decode(
+    final long f)
+  {
+    return switch (this.representation) {
+      case UNSIGNED -> UnsignedDouble.fromUnsignedLong(f) / this.scale;
+      case SIGNED_WITH_ZERO -> Math.max(-1.0, (double) f / this.scale);
+      case SIGNED_WITHOUT_ZERO -> ((2.0 * (double) f) + 1.0) / this.scale;
+    };
+  }
+
+  /**
+   * Convert {@code x} to fixed-point format.
+   *
+   * @param x A floating point value
+   *
+   * @return A fixed-point value
+   */
+
+  public long encode(
+    final double x)
+  {
+    return switch (this.representation) {
+      case UNSIGNED -> UnsignedDouble.toUnsignedLong(x * this.scale);
+      case SIGNED_WITH_ZERO -> (long) (x * this.scale);
+      case SIGNED_WITHOUT_ZERO -> (long) (((x * this.scale) - 1.0) / 2.0);
+    };
+  }
+
+  /**
+   * Convert {@code f} to floating point format. The codec must have at most
+   * {@code 32} bits of precision.
+   *
+   * @param f A fixed-point value
+   *
+   * @return A floating point value
+   *
+   * @throws IllegalArgumentException If the codec has more than {@code 32}
+   *                                  bits of precision
+   */
+
+  public float decodeFloat(
+    final int f)
+  {
+    this.checkFloat();
+
+    final float s = this.scaleFloat;
+    return switch (this.representation) {
+      case UNSIGNED -> UnsignedFloat.fromUnsignedInt(f) / s;
+      case SIGNED_WITH_ZERO -> Math.max(-1.0f, (float) f / s);
+      case SIGNED_WITHOUT_ZERO -> ((2.0f * (float) f) + 1.0f) / s;
+    };
+  }
+
+  /**
+   * Convert {@code x} to fixed-point format. The codec must have at most
+   * {@code 32} bits of precision.
+   *
+   * @param x A floating point value
+   *
+   * @return A fixed-point value
+   *
+   * @throws IllegalArgumentException If the codec has more than {@code 32}
+   *                                  bits of precision
+   */
+
+  public int encodeFloat(
+    final float x)
+  {
+    this.checkFloat();
+
+    final float s = this.scaleFloat;
+    return switch (this.representation) {
+      case UNSIGNED -> UnsignedFloat.toUnsignedInt(x * s);
+      case SIGNED_WITH_ZERO -> (int) (x * s);
+      case SIGNED_WITHOUT_ZERO -> (int) (((x * s) - 1.0f) / 2.0f);
+    };
+  }
+
+  /**
+   * Convert {@code count} values from {@code source}, starting at
+   * {@code sourceOffset}, to floating point format, writing the results to
+   * {@code target} starting at {@code targetOffset}.
+   *
+   * @param source       The source values
+   * @param sourceOffset The index of the first source value
+   * @param target       The target array
+   * @param targetOffset The index of the first target value
+   * @param count        The number of values to convert
+   *
+   * @throws IndexOutOfBoundsException If either range is out of bounds
+   */
+
+  public void decode(
+    final long[] source,
+    final int sourceOffset,
+    final double[] target,
+    final int targetOffset,
+    final int count)
+  {
+    Objects.checkFromIndexSize(sourceOffset, count, source.length);
+    Objects.checkFromIndexSize(targetOffset, count, target.length);
+
+    final double s = this.scale;
+    switch (this.representation) {
+      case UNSIGNED -> {
+        for (int index = 0; index < count; ++index) {
+          final long f = source[sourceOffset + index];
+          target[targetOffset + index] = UnsignedDouble.fromUnsignedLong(f) / s;
+        }
+      }
+      case SIGNED_WITH_ZERO -> {
+        for (int index = 0; index < count; ++index) {
+          final double f = (double) source[sourceOffset + index];
+          target[targetOffset + index] = Math.max(-1.0, f / s);
+        }
+      }
+      case SIGNED_WITHOUT_ZERO -> {
+        for (int index = 0; index < count; ++index) {
+          final double f = (double) source[sourceOffset + index];
+          target[targetOffset + index] = ((2.0 * f) + 1.0) / s;
+        }
+      }
+    }
+  }
+
+  /**
+   * Convert {@code count} values from {@code source}, starting at
+   * {@code sourceOffset}, to fixed-point format, writing the results to
+   * {@code target} starting at {@code targetOffset}.
+   *
+   * @param source       The source values
+   * @param sourceOffset The index of the first source value
+   * @param target       The target array
+   * @param targetOffset The index of the first target value
+   * @param count        The number of values to convert
+   *
+   * @throws IndexOutOfBoundsException If either range is out of bounds
+   */
+
+  public void encode(
+    final double[] source,
+    final int sourceOffset,
+    final long[] target,
+    final int targetOffset,
+    final int count)
+  {
+    Objects.checkFromIndexSize(sourceOffset, count, source.length);
+    Objects.checkFromIndexSize(targetOffset, count, target.length);
+
+    final double s = this.scale;
+    switch (this.representation) {
+      case UNSIGNED -> {
+        for (int index = 0; index < count; ++index) {
+          final double x = source[sourceOffset + index];
+          target[targetOffset + index] = UnsignedDouble.toUnsignedLong(x * s);
+        }
+      }
+      case SIGNED_WITH_ZERO -> {
+        for (int index = 0; index < count; ++index) {
+          final double x = source[sourceOffset + index];
+          target[targetOffset + index] = (long) (x * s);
+        }
+      }
+      case SIGNED_WITHOUT_ZERO -> {
+        for (int index = 0; index < count; ++index) {
+          final double x = source[sourceOffset + index];
+          target[targetOffset + index] = (long) (((x * s) - 1.0) / 2.0);
+        }
+      }
+    }
+  }
+
+  /**
+   * Convert {@code count} values from {@code source}, starting at
+   * {@code sourceOffset}, to floating point format, writing the results to
+   * {@code target} starting at {@code targetOffset}. The codec must have at
+   * most {@code 32} bits of precision.
+   *
+   * @param source       The source values
+   * @param sourceOffset The index of the first source value
+   * @param target       The target array
+   * @param targetOffset The index of the first target value
+   * @param count        The number of values to convert
+   *
+   * @throws IllegalArgumentException  If the codec has more than
+   *                                   {@code 32} bits of precision
+   * @throws IndexOutOfBoundsException If either range is out of bounds
+   */
+
+  public void decodeFloat(
+    final int[] source,
+    final int sourceOffset,
+    final float[] target,
+    final int targetOffset,
+    final int count)
+  {
+    this.checkFloat();
+
+    Objects.checkFromIndexSize(sourceOffset, count, source.length);
+    Objects.checkFromIndexSize(targetOffset, count, target.length);
+
+    final float s = this.scaleFloat;
+    switch (this.representation) {
+      case UNSIGNED -> {
+        for (int index = 0; index < count; ++index) {
+          final int f = source[sourceOffset + index];
+          target[targetOffset + index] = UnsignedFloat.fromUnsignedInt(f) / s;
+        }
+      }
+      case SIGNED_WITH_ZERO -> {
+        for (int index = 0; index < count; ++index) {
+          final float f = (float) source[sourceOffset + index];
+          target[targetOffset + index] = Math.max(-1.0f, f / s);
+        }
+      }
+      case SIGNED_WITHOUT_ZERO -> {
+        for (int index = 0; index < count; ++index) {
+          final float f = (float) source[sourceOffset + index];
+          target[targetOffset + index] = ((2.0f * f) + 1.0f) / s;
+        }
+      }
+    }
+  }
+
+  /**
+   * Convert {@code count} values from {@code source}, starting at
+   * {@code sourceOffset}, to fixed-point format, writing the results to
+   * {@code target} starting at {@code targetOffset}. The codec must have at
+   * most {@code 32} bits of precision.
+   *
+   * @param source       The source values
+   * @param sourceOffset The index of the first source value
+   * @param target       The target array
+   * @param targetOffset The index of the first target value
+   * @param count        The number of values to convert
+   *
+   * @throws IllegalArgumentException  If the codec has more than
+   *                                   {@code 32} bits of precision
+   * @throws IndexOutOfBoundsException If either range is out of bounds
+   */
+
+  public void encodeFloat(
+    final float[] source,
+    final int sourceOffset,
+    final int[] target,
+    final int targetOffset,
+    final int count)
+  {
+    this.checkFloat();
+
+    Objects.checkFromIndexSize(sourceOffset, count, source.length);
+    Objects.checkFromIndexSize(targetOffset, count, target.length);
+
+    final float s = this.scaleFloat;
+    switch (this.representation) {
+      case UNSIGNED -> {
+        for (int index = 0; index < count; ++index) {
+          final float x = source[sourceOffset + index];
+          target[targetOffset + index] = UnsignedFloat.toUnsignedInt(x * s);
+        }
+      }
+      case SIGNED_WITH_ZERO -> {
+        for (int index = 0; index < count; ++index) {
+          final float x = source[sourceOffset + index];
+          target[targetOffset + index] = (int) (x * s);
+        }
+      }
+      case SIGNED_WITHOUT_ZERO -> {
+        for (int index = 0; index < count; ++index) {
+          final float x = source[sourceOffset + index];
+          target[targetOffset + index] = (int) (((x * s) - 1.0f) / 2.0f);
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,641 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jnfp.core;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Objects;
+
+/**
+ * <p>A column of normalized fixed-point values held in a byte buffer,
+ * typically a direct or memory-mapped buffer outside of the Java heap.</p>
+ *
+ * <p>A column consists of a {@link #HEADER_BYTES}-byte header followed
+ * immediately by the values. The header describes the column completely,
+ * so that a column can be reopened without any information other than its
+ * bytes:</p>
+ *
+ * <ul>
+ *   <li>Bytes {@code [0, 4)}: the ASCII characters {@code NFPC}.</li>
+ *   <li>Byte {@code 4}: the format version, {@link #VERSION}.</li>
+ *   <li>Byte {@code 5}: the {@link NFPRepresentation#ordinal() ordinal} of
+ *   the representation of the values.</li>
+ *   <li>Byte {@code 6}: the number of bits of precision {@code b} of the
+ *   values.</li>
+ *   <li>Byte {@code 7}: the number of bytes occupied by each value,
+ *   {@code (b + 7) / 8}.</li>
+ *   <li>Bytes {@code [8, 16)}: the number of values, as a little-endian
+ *   {@code long}.</li>
+ * </ul>
+ *
+ * <p>Values are stored as described in {@link NFPBuffers}, in little-endian
+ * byte order, and are converted to and from floating point format using
+ * the column's {@link NFPCodec}. Conversions therefore produce results
+ * identical to those of {@link NFPUnsignedDoubleLong} and
+ * {@link NFPSignedDoubleLong}. Values are read and written in place; no
+ * values are copied onto the heap except by the bulk functions, into arrays
+ * supplied by the caller.</p>
+ *
+ * <p>As columns are backed by {@link ByteBuffer} values, a column may
+ * occupy at most {@code 2 ^ 31 - 1} bytes including its header. Larger data
+ * sets are held as a series of columns tiled through a single file of any
+ * size: each column is created with
+ * {@link #createFile(FileChannel, long, NFPCodec, int)} or opened with
+ * {@link #openFile(FileChannel, long, FileChannel.MapMode)} at its own file
+ * position, only the bytes of that column are mapped, and the next column
+ * begins at that position plus {@link #byteSize(NFPCodec, int)}.</p>
+ *
+ * <p>Columns are not thread-safe, although concurrent reads of a column
+ * that is not being written are safe.</p>
+ */
+
+public final class NFPColumn
+{
+  /**
+   * The size of the column header in bytes.
+   */
+
+  public static final int HEADER_BYTES = 16;
+
+  /**
+   * The version of the column format written by this class.
+   */
+
+  public static final int VERSION = 1;
+
+  private static final byte[] MAGIC = {'N', 'F', 'P', 'C'};
+
+  private final ByteBuffer buffer;
+  private final NFPCodec codec;
+  private final int size;
+  private final int width;
+  private final int shift;
+  private final boolean signed;
+
+  private NFPColumn(
+    final ByteBuffer inBuffer,
+    final NFPCodec inCodec,
+    final int inSize)
+  {
+    this.buffer = inBuffer;
+    this.codec = inCodec;
+    this.size = inSize;
+    this.width = NFPBuffers.byteWidth(inCodec);
+    this.shift = 64 - inCodec.bits();
+    this.signed = inCodec.representation().isSigned();
+  }
+
+  /**
+   * @param codec The codec that defines the representation and precision of
+   *              values
+   * @param size  The number of values
+   *
+   * @return The number of bytes occupied by a column, including the header
+   */
+
+  public static long byteSize(
+    final NFPCodec codec,
+    final int size)
+  {
+    return HEADER_BYTES
+      + ((long) size * (long) NFPBuffers.byteWidth(codec));
+  }
+
+  private static ByteBuffer view(
+    final ByteBuffer buffer)
+  {
+    return buffer.slice().order(ByteOrder.LITTLE_ENDIAN);
+  }
+
+  private static void checkCapacity(
+    final ByteBuffer view,
+    final NFPCodec codec,
+    final int size)
+  {
+    final long required = byteSize(codec, size);
+    if (required > (long) view.capacity()) {
+      throw new IllegalArgumentException(
+        String.format(
+          "A column of %d values of %s requires %d bytes, but %d are available",
+          Integer.valueOf(size),
+          codec,
+          Long.valueOf(required),
+          Integer.valueOf(view.capacity())));
+    }
+  }
+
+  /**
+   * Create a new column of {@code size} values in the remaining space of
+   * {@code buffer}, writing a header at the buffer's position. Existing
+   * bytes in the value area are left as they are, and so the values of a
+   * column created in a new file or a newly allocated buffer are all zero.
+   * The column is not affected by subsequent changes to the position or
+   * limit of {@code buffer}.
+   *
+   * @param buffer The buffer
+   * @param codec  The codec that defines the representation and precision
+   *               of values
+   * @param size   The number of values
+   *
+   * @return A new column
+   *
+   * @throws IllegalArgumentException If {@code size} is negative, or the
+   *                                  buffer has too little remaining space
+   */
+
+  public static NFPColumn create(
+    final ByteBuffer buffer,
+    final NFPCodec codec,
+    final int size)
+  {
+    Objects.requireNonNull(buffer, "buffer");
+    Objects.requireNonNull(codec, "codec");
+    if (size < 0) {
+      throw new IllegalArgumentException(
+        String.format("Size %d must be non-negative", size));
+    }
+
+    final ByteBuffer view = view(buffer);
+    checkCapacity(view, codec, size);
+    view.put(0, MAGIC);
+    view.put(4, (byte) VERSION);
+    view.put(5, (byte) codec.representation().ordinal());
+    view.put(6, (byte) codec.bits());
+    view.put(7, (byte) NFPBuffers.byteWidth(codec));
+    view.putLong(8, size);
+    return new NFPColumn(view, codec, size);
+  }
+
+  /**
+   * Open an existing column at the position of {@code buffer}. The column
+   * is not affected by subsequent changes to the position or limit of
+   * {@code buffer}.
+   *
+   * @param buffer The buffer
+   *
+   * @return The column
+   *
+   * @throws IllegalArgumentException If the buffer does not contain a valid
+   *                                  column header, or is too small to hold
+   *                                  the values described by the header
+   */
+
+  public static NFPColumn open(
+    final ByteBuffer buffer)
+  {
+    Objects.requireNonNull(buffer, "buffer");
+
+    final ByteBuffer view = view(buffer);
+    if (view.capacity() < HEADER_BYTES) {
+      throw new IllegalArgumentException(
+        String.format(
+          "Buffer size %d is too small to contain a column header",
+          Integer.valueOf(view.capacity())));
+    }
+    for (int index = 0; index < MAGIC.length; ++index) {
+      if (view.get(index) != MAGIC[index]) {
+        throw new IllegalArgumentException(
+          String.format(
+            "Unrecognized column magic number at byte %d", index));
+      }
+    }
+
+    final int version = view.get(4) & 0xff;
+    if (version != VERSION) {
+      throw new IllegalArgumentException(
+        String.format("Unsupported column version %d", version));
+    }
+
+    final NFPRepresentation[] representations = NFPRepresentation.values();
+    final int representation = view.get(5) & 0xff;
+    if (representation >= representations.length) {
+      throw new IllegalArgumentException(
+        String.format("Unrecognized representation %d", representation));
+    }
+
+    final NFPCodec codec =
+      NFPCodec.of(representations[representation], view.get(6) & 0xff);
+    final int width = view.get(7) & 0xff;
+    if (width != NFPBuffers.byteWidth(codec)) {
+      throw new IllegalArgumentException(
+        String.format("Value width %d is inconsistent with %s", width, codec));
+    }
+
+    final long size = view.getLong(8);
+    if (size < 0L || size > Integer.MAX_VALUE) {
+      throw new IllegalArgumentException(
+        String.format("Unsupported column size %d", Long.valueOf(size)));
+    }
+
+    checkCapacity(view, codec, (int) size);
+    return new NFPColumn(view, codec, (int) size);
+  }
+
+  private static void checkPosition(
+    final long position)
+  {
+    if (position < 0L) {
+      throw new IllegalArgumentException(
+        String.format(
+          "File position %d must be non-negative", Long.valueOf(position)));
+    }
+  }
+
+  /**
+   * Create a new column of {@code size} values in the file open on
+   * {@code channel}, memory-mapping the file from its start, and extending
+   * the file if necessary. This is equivalent to
+   * {@link #createFile(FileChannel, long, NFPCodec, int)} at position
+   * {@code 0}.
+   *
+   * @param channel The file channel, open for reading and writing
+   * @param codec   The codec that defines the representation and precision
+   *                of values
+   * @param size    The number of values
+   *
+   * @return A new column
+   *
+   * @throws IOException              On I/O errors
+   * @throws IllegalArgumentException If {@code size} is negative, or the
+   *                                  column would require more than
+   *                                  {@code 2 ^ 31 - 1} bytes
+   * @see #create(ByteBuffer, NFPCodec, int)
+   */
+
+  public static NFPColumn createFile(
+    final FileChannel channel,
+    final NFPCodec codec,
+    final int size)
+    throws IOException
+  {
+    return createFile(channel, 0L, codec, size);
+  }
+
+  /**
+   * Create a new column of {@code size} values in the file open on
+   * {@code channel}, memory-mapping exactly the
+   * {@link #byteSize(NFPCodec, int)} bytes of the column starting at file
+   * position {@code position}, and extending the file if necessary. Bytes
+   * of the file outside of the column are not affected.
+   *
+   * @param channel  The file channel, open for reading and writing
+   * @param position The file position of the column header
+   * @param codec    The codec that defines the representation and precision
+   *                 of values
+   * @param size     The number of values
+   *
+   * @return A new column
+   *
+   * @throws IOException              On I/O errors
+   * @throws IllegalArgumentException If {@code position} or {@code size} is
+   *                                  negative, or the column would require
+   *                                  more than {@code 2 ^ 31 - 1} bytes
+   * @see #create(ByteBuffer, NFPCodec, int)
+   */
+
+  public static NFPColumn createFile(
+    final FileChannel channel,
+    final long position,
+    final NFPCodec codec,
+    final int size)
+    throws IOException
+  {
+    Objects.requireNonNull(channel, "channel");
+    Objects.requireNonNull(codec, "codec");
+    checkPosition(position);
+    if (size < 0) {
+      throw new IllegalArgumentException(
+        String.format("Size %d must be non-negative", size));
+    }
+
+    final long bytes = byteSize(codec, size);
+    if (bytes > Integer.MAX_VALUE) {
+      throw new IllegalArgumentException(
+        String.format(
+          "A column of %d values of %s is too large to map",
+          Integer.valueOf(size),
+          codec));
+    }
+    return create(
+      channel.map(FileChannel.MapMode.READ_WRITE, position, bytes),
+      codec,
+      size);
+  }
+
+  /**
+   * Open an existing column at the start of the file open on
+   * {@code channel}. This is equivalent to
+   * {@link #openFile(FileChannel, long, FileChannel.MapMode)} at position
+   * {@code 0}.
+   *
+   * @param channel The file channel
+   * @param mode    The mapping mode
+   *
+   * @return The column
+   *
+   * @throws IOException              On I/O errors
+   * @throws IllegalArgumentException If the file does not contain a valid
+   *                                  column, or the column occupies more
+   *                                  than {@code 2 ^ 31 - 1} bytes
+   * @see #open(ByteBuffer)
+   */
+
+  public static NFPColumn openFile(
+    final FileChannel channel,
+    final FileChannel.MapMode mode)
+    throws IOException
+  {
+    return openFile(channel, 0L, mode);
+  }
+
+  /**
+   * Open an existing column at file position {@code position} in the file
+   * open on {@code channel}. The header is read first, and then only the
+   * bytes of the column that it describes are memory-mapped, so the file
+   * may be larger than {@code 2 ^ 31 - 1} bytes and may hold other columns.
+   *
+   * @param channel  The file channel, open for reading
+   * @param position The file position of the column header
+   * @param mode     The mapping mode
+   *
+   * @return The column
+   *
+   * @throws IOException              On I/O errors
+   * @throws IllegalArgumentException If {@code position} is negative, the
+   *                                  file does not contain a valid column at
+   *                                  {@code position}, or the column
+   *                                  occupies more than
+   *                                  {@code 2 ^ 31 - 1} bytes
+   * @see #open(ByteBuffer)
+   */
+
+  public static NFPColumn openFile(
+    final FileChannel channel,
+    final long position,
+    final FileChannel.MapMode mode)
+    throws IOException
+  {
+    Objects.requireNonNull(channel, "channel");
+    Objects.requireNonNull(mode, "mode");
+    checkPosition(position);
+
+    final long available = Math.max(0L, channel.size() - position);
+    final long claimed = headerByteSize(channel, position);
+    if (claimed > Integer.MAX_VALUE) {
+      throw new IllegalArgumentException(
+        String.format(
+          "Column size %d is too large to map", Long.valueOf(claimed)));
+    }
+
+    final long bytes;
+    if (claimed < 0L) {
+      bytes = Math.min(available, Integer.MAX_VALUE);
+    } else {
+      bytes = Math.min(available, claimed);
+    }
+    return open(channel.map(mode, position, bytes));
+  }
+
+  /**
+   * Read the column header at {@code position} and return the number of
+   * bytes that it claims the column occupies, or {@code -1} if the header is
+   * incomplete or describes an impossible size. In the latter case,
+   * {@link #open(ByteBuffer)} reports the problem.
+   */
+
+  private static long headerByteSize(
+    final FileChannel channel,
+    final long position)
+    throws IOException
+  {
+    final ByteBuffer header =
+      ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+    while (header.hasRemaining()) {
+      if (channel.read(header, position + header.position()) < 0) {
+        return -1L;
+      }
+    }
+
+    final long size = header.getLong(8);
+    if (size < 0L || size > Integer.MAX_VALUE) {
+      return -1L;
+    }
+    return HEADER_BYTES + (size * (long) (header.get(7) & 0xff));
+  }
+
+  /**
+   * @return The codec that defines the representation and precision of
+   * values
+   */
+
+  public NFPCodec codec()
+  {
+    return this.codec;
+  }
+
+  /**
+   * @return The number of values in the column
+   */
+
+  public int size()
+  {
+    return this.size;
+  }
+
+  /**
+   * @return {@code true} if the underlying buffer is read-only
+   */
+
+  public boolean isReadOnly()
+  {
+    return this.buffer.isReadOnly();
+  }
+
+  /**
+   * Write any changes to the storage device, if the column is held in a
+   * memory-mapped file. Otherwise, do nothing.
+   *
+   * @see MappedByteBuffer#force()
+   */
+
+  public void force()
+  {
+    if (this.buffer instanceof final MappedByteBuffer mapped) {
+      mapped.force();
+    }
+  }
+
+  private long read(
+    final int index)
+  {
+    final int offset = HEADER_BYTES + (index * this.width);
+    final long raw = NFPBuffers.getRaw(this.buffer, offset, this.width);
+    final int s = this.shift;
+    return this.signed ? (raw << s) >> s : (raw << s) >>> s;
+  }
+
+  /**
+   * Retrieve the fixed-point value at {@code index}. Signed values are
+   * sign-extended; unsigned values are zero-extended.
+   *
+   * @param index The index
+   *
+   * @return The fixed-point value
+   *
+   * @throws IndexOutOfBoundsException If {@code index} is out of bounds
+   */
+
+  public long getRaw(
+    final int index)
+  {
+    Objects.checkIndex(index, this.size);
+    return this.read(index);
+  }
+
+  /**
+   * Set the fixed-point value at {@code index}. Only the low {@code b} bits
+   * of {@code value} are significant.
+   *
+   * @param index The index
+   * @param value The fixed-point value
+   *
+   * @throws IndexOutOfBoundsException             If {@code index} is out
+   *                                               of bounds
+   * @throws java.nio.ReadOnlyBufferException If the column is read-only
+   */
+
+  public void setRaw(
+    final int index,
+    final long value)
+  {
+    Objects.checkIndex(index, this.size);
+    NFPBuffers.putRaw(
+      this.buffer, HEADER_BYTES + (index * this.width), this.width, value);
+  }
+
+  /**
+   * Retrieve the value at {@code index} in floating point format.
+   *
+   * @param index The index
+   *
+   * @return The value at {@code index}
+   *
+   * @throws IndexOutOfBoundsException If {@code index} is out of bounds
+   * @see NFPCodec#decode(long)
+   */
+
+  public double get(
+    final int index)
+  {
+    return this.codec.decode(this.getRaw(index));
+  }
+
+  /**
+   * Convert {@code x} to fixed-point format and store it at {@code index}.
+   *
+   * @param index The index
+   * @param x     The value
+   *
+   * @throws IndexOutOfBoundsException        If {@code index} is out of
+   *                                          bounds
+   * @throws java.nio.ReadOnlyBufferException If the column is read-only
+   * @see NFPCodec#encode(double)
+   */
+
+  public void set(
+    final int index,
+    final double x)
+  {
+    this.setRaw(index, this.codec.encode(x));
+  }
+
+  /**
+   * Convert {@code count} values, starting at {@code index}, to floating
+   * point format, writing the results to {@code target} starting at
+   * {@code targetOffset}. The results are identical to those produced by
+   * calling {@link #get(int)} for each value.
+   *
+   * @param index        The index of the first value
+   * @param target       The target array
+   * @param targetOffset The index of the first target value
+   * @param count        The number of values to convert
+   *
+   * @throws IndexOutOfBoundsException If either range is out of bounds
+   */
+
+  public void decode(
+    final int index,
+    final double[] target,
+    final int targetOffset,
+    final int count)
+  {
+    Objects.checkFromIndexSize(index, count, this.size);
+    Objects.checkFromIndexSize(targetOffset, count, target.length);
+
+    final NFPCodec c = this.codec;
+    for (int offset = 0; offset < count; ++offset) {
+      target[targetOffset + offset] = c.decode(this.read(index + offset));
+    }
+  }
+
+  /**
+   * Convert {@code count} values from {@code source}, starting at
+   * {@code sourceOffset}, to fixed-point format, storing the results
+   * starting at {@code index}. The results are identical to those produced
+   * by calling {@link #set(int, double)} for each value.
+   *
+   * @param source       The source values
+   * @param sourceOffset The index of the first source value
+   * @param index        The index of the first value to store
+   * @param count        The number of values to convert
+   *
+   * @throws IndexOutOfBoundsException        If either range is out of
+   *                                          bounds
+   * @throws java.nio.ReadOnlyBufferException If the column is read-only
+   */
+
+  public void encode(
+    final double[] source,
+    final int sourceOffset,
+    final int index,
+    final int count)
+  {
+    Objects.checkFromIndexSize(sourceOffset, count, source.length);
+    Objects.checkFromIndexSize(index, count, this.size);
+
+    final NFPCodec c = this.codec;
+    final int w = this.width;
+    for (int offset = 0; offset < count; ++offset) {
+      NFPBuffers.putRaw(
+        this.buffer,
+        HEADER_BYTES + ((index + offset) * w),
+        w,
+        c.encode(source[sourceOffset + offset]));
+    }
+  }
+
+  @Override
+  public String toString()
+  {
+    return String.format(
+      "[NFPColumn %s %d]", this.codec, Integer.valueOf(this.size));
+  }
+}
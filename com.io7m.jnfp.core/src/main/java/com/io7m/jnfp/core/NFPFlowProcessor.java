@@ -0,0 +1,257 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jnfp.core;
+
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.function.Function;
+
+/**
+ * <p>A {@link Flow.Processor} that converts chunks of floating point values
+ * to chunks of normalized fixed-point values, or the reverse.</p>
+ *
+ * <p>A processor subscribes to an upstream publisher of chunks, converts
+ * each chunk using an {@link NFPCodec}, and publishes each converted chunk
+ * to its own subscribers in the manner of a {@link SubmissionPublisher},
+ * using the executor supplied on creation. Any executor may be used,
+ * including one that runs each task on a virtual thread. Each published
+ * chunk is a new array of the same length as the received chunk, and the
+ * values are identical to those produced by
+ * {@link NFPCodec#encodeFloat(float[], int, int[], int, int)} and
+ * {@link NFPCodec#decodeFloat(int[], int, float[], int, int)}.</p>
+ *
+ * <p>A processor requests one chunk at a time from upstream, and requests
+ * the next chunk only after the converted chunk has been accepted by every
+ * subscriber. If a subscriber's buffer of at most
+ * {@link #getMaxBufferCapacity()} chunks is full, the upstream thread
+ * delivering chunks blocks until space becomes available, and so demand is
+ * propagated upstream and memory use is bounded regardless of how quickly
+ * chunks arrive. Chunks received while the processor has no subscribers are
+ * converted and then discarded.</p>
+ *
+ * <p>Errors and completion signalled by the upstream publisher are passed
+ * on to subscribers. If converting a chunk fails, the upstream subscription
+ * is cancelled and the processor is closed exceptionally. Closing the
+ * processor cancels the upstream subscription when the next chunk is
+ * received.</p>
+ *
+ * @param <I> The type of received chunks
+ * @param <O> The type of published chunks
+ */
+
+public final class NFPFlowProcessor<I, O>
+  extends SubmissionPublisher<O>
+  implements Flow.Processor<I, O>
+{
+  private final Function<I, O> converter;
+  private volatile Flow.Subscription subscription;
+
+  private NFPFlowProcessor(
+    final Executor executor,
+    final int maxBufferCapacity,
+    final Function<I, O> inConverter)
+  {
+    super(executor, maxBufferCapacity);
+    this.converter = inConverter;
+  }
+
+  private static void checkCapacity(
+    final int maxBufferCapacity)
+  {
+    if (maxBufferCapacity < 1) {
+      throw new IllegalArgumentException(
+        String.format(
+          "Buffer capacity %d must be positive", maxBufferCapacity));
+    }
+  }
+
+  /**
+   * Create a processor that converts chunks of floating point values to
+   * fixed-point format using {@code codec}. The codec must have at most
+   * {@code 32} bits of precision.
+   *
+   * @param codec             The codec
+   * @param executor          The executor used to deliver chunks to
+   *                          subscribers
+   * @param maxBufferCapacity The maximum number of chunks buffered for each
+   *                          subscriber
+   *
+   * @return A new processor
+   *
+   * @throws IllegalArgumentException If the codec has more than {@code 32}
+   *                                  bits of precision, or
+   *                                  {@code maxBufferCapacity} is not
+   *                                  positive
+   */
+
+  public static NFPFlowProcessor<float[], int[]> encoder(
+    final NFPCodec codec,
+    final Executor executor,
+    final int maxBufferCapacity)
+  {
+    Objects.requireNonNull(codec, "codec");
+    Objects.requireNonNull(executor, "executor");
+    codec.checkFloat();
+    checkCapacity(maxBufferCapacity);
+
+    return new NFPFlowProcessor<>(executor, maxBufferCapacity, chunk -> {
+      final int[] result = new int[chunk.length];
+      codec.encodeFloat(chunk, 0, result, 0, chunk.length);
+      return result;
+    });
+  }
+
+  /**
+   * Create a processor that converts chunks of floating point values to
+   * fixed-point format using {@code codec}, buffering at most
+   * {@link Flow#defaultBufferSize()} chunks for each subscriber.
+   *
+   * @param codec    The codec
+   * @param executor The executor used to deliver chunks to subscribers
+   *
+   * @return A new processor
+   *
+   * @throws IllegalArgumentException If the codec has more than {@code 32}
+   *                                  bits of precision
+   * @see #encoder(NFPCodec, Executor, int)
+   */
+
+  public static NFPFlowProcessor<float[], int[]> encoder(
+    final NFPCodec codec,
+    final Executor executor)
+  {
+    return encoder(codec, executor, Flow.defaultBufferSize());
+  }
+
+  /**
+   * Create a processor that converts chunks of fixed-point values to
+   * floating point format using {@code codec}. The codec must have at most
+   * {@code 32} bits of precision.
+   *
+   * @param codec             The codec
+   * @param executor          The executor used to deliver chunks to
+   *                          subscribers
+   * @param maxBufferCapacity The maximum number of chunks buffered for each
+   *                          subscriber
+   *
+   * @return A new processor
+   *
+   * @throws IllegalArgumentException If the codec has more than {@code 32}
+   *                                  bits of precision, or
+   *                                  {@code maxBufferCapacity} is not
+   *                                  positive
+   */
+
+  public static NFPFlowProcessor<int[], float[]> decoder(
+    final NFPCodec codec,
+    final Executor executor,
+    final int maxBufferCapacity)
+  {
+    Objects.requireNonNull(codec, "codec");
+    Objects.requireNonNull(executor, "executor");
+    codec.checkFloat();
+    checkCapacity(maxBufferCapacity);
+
+    return new NFPFlowProcessor<>(executor, maxBufferCapacity, chunk -> {
+      final float[] result = new float[chunk.length];
+      codec.decodeFloat(chunk, 0, result, 0, chunk.length);
+      return result;
+    });
+  }
+
+  /**
+   * Create a processor that converts chunks of fixed-point values to
+   * floating point format using {@code codec}, buffering at most
+   * {@link Flow#defaultBufferSize()} chunks for each subscriber.
+   *
+   * @param codec    The codec
+   * @param executor The executor used to deliver chunks to subscribers
+   *
+   * @return A new processor
+   *
+   * @throws IllegalArgumentException If the codec has more than {@code 32}
+   *                                  bits of precision
+   * @see #decoder(NFPCodec, Executor, int)
+   */
+
+  public static NFPFlowProcessor<int[], float[]> decoder(
+    final NFPCodec codec,
+    final Executor executor)
+  {
+    return decoder(codec, executor, Flow.defaultBufferSize());
+  }
+
+  @Override
+  public void onSubscribe(
+    final Flow.Subscription newSubscription)
+  {
+    Objects.requireNonNull(newSubscription, "subscription");
+
+    if (this.subscription != null) {
+      newSubscription.cancel();
+      return;
+    }
+    this.subscription = newSubscription;
+    newSubscription.request(1L);
+  }
+
+  @Override
+  public void onNext(
+    final I item)
+  {
+    Objects.requireNonNull(item, "item");
+
+    final Flow.Subscription current = this.subscription;
+    if (this.isClosed()) {
+      current.cancel();
+      return;
+    }
+
+    final O result;
+    try {
+      result = this.converter.apply(item);
+    } catch (final RuntimeException e) {
+      current.cancel();
+      this.closeExceptionally(e);
+      return;
+    }
+
+    try {
+      this.submit(result);
+    } catch (final IllegalStateException e) {
+      current.cancel();
+      return;
+    }
+    current.request(1L);
+  }
+
+  @Override
+  public void onError(
+    final Throwable throwable)
+  {
+    this.closeExceptionally(throwable);
+  }
+
+  @Override
+  public void onComplete()
+  {
+    this.close();
+  }
+}
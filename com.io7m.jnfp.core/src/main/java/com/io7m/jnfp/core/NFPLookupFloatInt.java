@@ -0,0 +1,308 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jnfp.core;
+
+import com.io7m.junreachable.UnreachableCodeException;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * <p>Table-driven conversion of narrow normalized fixed-point values to
+ * floating point values.</p>
+ *
+ * <p>For values with at most {@code 16} bits of precision, every possible
+ * result can be held in a table of at most {@code 65536} entries. The
+ * functions in this class produce results identical to the functions in
+ * {@link NFPUnsignedFloatInt} and {@link NFPSignedFloatInt}, but perform a
+ * single array load per value instead of a conversion and a division.</p>
+ *
+ * <p>Tables are created lazily, the first time a given representation and
+ * bit width is used, and are then shared by all threads for the lifetime
+ * of the process.</p>
+ */
+
+public final class NFPLookupFloatInt
+{
+  private static final int MAXIMUM_BITS = 16;
+
+  private static final AtomicReferenceArray<float[]> UNSIGNED =
+    new AtomicReferenceArray<>(MAXIMUM_BITS + 1);
+  private static final AtomicReferenceArray<float[]> SIGNED_WITH_ZERO =
+    new AtomicReferenceArray<>(MAXIMUM_BITS + 1);
+  private static final AtomicReferenceArray<float[]> SIGNED_WITHOUT_ZERO =
+    new AtomicReferenceArray<>(MAXIMUM_BITS + 1);
+
+  private NFPLookupFloatInt()
+  {
+    throw new UnreachableCodeException();
+  }
+
+  private static float[] table(
+    final AtomicReferenceArray<float[]> tables,
+    final NFPRepresentation representation,
+    final int b)
+  {
+    if (b < 2 || b > MAXIMUM_BITS) {
+      throw new IllegalArgumentException(
+        String.format("Bits %d must be in the range [2, 16]", b));
+    }
+
+    final float[] existing = tables.get(b);
+    if (existing != null) {
+      return existing;
+    }
+
+    /*
+     * Tables are pure functions of the bit width, so if two threads race
+     * to create the same table, it does not matter whose table wins.
+     */
+
+    final float[] created = makeTable(representation, b);
+    if (tables.compareAndSet(b, null, created)) {
+      return created;
+    }
+    return tables.get(b);
+  }
+
+  private static float[] makeTable(
+    final NFPRepresentation representation,
+    final int b)
+  {
+    final int size = 1 << b;
+    final int first = representation.isSigned() ? -(size >> 1) : 0;
+    final int[] values = new int[size];
+    for (int index = 0; index < size; ++index) {
+      values[index] = first + index;
+    }
+
+    final float[] results = new float[size];
+    NFPCodec.of(representation, b).decodeFloat(values, 0, results, 0, size);
+    return results;
+  }
+
+  /**
+   * @param b A value in the range {@code [2, 16]}
+   *
+   * @return The shared table of unsigned values with {@code b} bits
+   */
+
+  static float[] unsignedTable(
+    final int b)
+  {
+    return table(UNSIGNED, NFPRepresentation.UNSIGNED, b);
+  }
+
+  private static void lookup(
+    final float[] table,
+    final int bias,
+    final int[] source,
+    final int sourceOffset,
+    final float[] target,
+    final int targetOffset,
+    final int count)
+  {
+    Objects.checkFromIndexSize(sourceOffset, count, source.length);
+    Objects.checkFromIndexSize(targetOffset, count, target.length);
+
+    for (int index = 0; index < count; ++index) {
+      target[targetOffset + index] =
+        table[source[sourceOffset + index] + bias];
+    }
+  }
+
+  /**
+   * Convert {@code f} to floating point format. {@code f} is assumed to be an
+   * unsigned fixed-point value with {@code b} bits of precision.
+   *
+   * @param f A value in the range {@code [0, (2 ^ b) - 1]}
+   * @param b A value in the range {@code [2, 16]}
+   *
+   * @return A floating point value in the range {@code [0, 1]}
+   *
+   * @throws IllegalArgumentException       If {@code b} is out of range
+   * @throws ArrayIndexOutOfBoundsException If {@code f} is out of range
+   * @see NFPUnsignedFloatInt#fromUnsignedNormalized(int, int)
+   */
+
+  public static float fromUnsignedNormalized(
+    final int f,
+    final int b)
+  {
+    return table(UNSIGNED, NFPRepresentation.UNSIGNED, b)[f];
+  }
+
+  /**
+   * Convert {@code f} to floating point format. {@code f} is assumed to be a
+   * signed fixed-point value with {@code b} bits of precision, using the
+   * {@code with-zero} representation described in {@link NFPSignedFloatInt}.
+   *
+   * @param f A value in the range {@code [-(2 ^ (b - 1)), (2 ^ (b -1)) - 1]}
+   * @param b A value in the range {@code [2, 16]}
+   *
+   * @return A floating point value in the range {@code [-1, 1]}
+   *
+   * @throws IllegalArgumentException       If {@code b} is out of range
+   * @throws ArrayIndexOutOfBoundsException If {@code f} is out of range
+   * @see NFPSignedFloatInt#fromSignedNormalizedWithZero(int, int)
+   */
+
+  public static float fromSignedNormalizedWithZero(
+    final int f,
+    final int b)
+  {
+    final float[] t =
+      table(SIGNED_WITH_ZERO, NFPRepresentation.SIGNED_WITH_ZERO, b);
+    return t[f + (1 << (b - 1))];
+  }
+
+  /**
+   * Convert {@code f} to floating point format. {@code f} is assumed to be a
+   * signed fixed-point value with {@code b} bits of precision, using the
+   * {@code without-zero} representation described in
+   * {@link NFPSignedFloatInt}.
+   *
+   * @param f A value in the range {@code [-(2 ^ (b - 1)), (2 ^ (b -1)) - 1]}
+   * @param b A value in the range {@code [2, 16]}
+   *
+   * @return A floating point value in the range {@code [-1, 1]}
+   *
+   * @throws IllegalArgumentException       If {@code b} is out of range
+   * @throws ArrayIndexOutOfBoundsException If {@code f} is out of range
+   * @see NFPSignedFloatInt#fromSignedNormalizedWithoutZero(int, int)
+   */
+
+  public static float fromSignedNormalizedWithoutZero(
+    final int f,
+    final int b)
+  {
+    final float[] t =
+      table(SIGNED_WITHOUT_ZERO, NFPRepresentation.SIGNED_WITHOUT_ZERO, b);
+    return t[f + (1 << (b - 1))];
+  }
+
+  /**
+   * Convert {@code count} unsigned values from {@code source}, starting at
+   * {@code sourceOffset}, to floating point format, writing the results to
+   * {@code target} starting at {@code targetOffset}.
+   *
+   * @param source       The source values
+   * @param sourceOffset The index of the first source value
+   * @param target       The target array
+   * @param targetOffset The index of the first target value
+   * @param count        The number of values to convert
+   * @param b            A value in the range {@code [2, 16]}
+   *
+   * @throws IllegalArgumentException  If {@code b} is out of range
+   * @throws IndexOutOfBoundsException If either range is out of bounds, or
+   *                                   any source value is out of range
+   * @see #fromUnsignedNormalized(int, int)
+   */
+
+  public static void fromUnsignedNormalized(
+    final int[] source,
+    final int sourceOffset,
+    final float[] target,
+    final int targetOffset,
+    final int count,
+    final int b)
+  {
+    lookup(
+      table(UNSIGNED, NFPRepresentation.UNSIGNED, b),
+      0,
+      source,
+      sourceOffset,
+      target,
+      targetOffset,
+      count);
+  }
+
+  /**
+   * Convert {@code count} signed {@code with-zero} values from
+   * {@code source}, starting at {@code sourceOffset}, to floating point
+   * format, writing the results to {@code target} starting at
+   * {@code targetOffset}.
+   *
+   * @param source       The source values
+   * @param sourceOffset The index of the first source value
+   * @param target       The target array
+   * @param targetOffset The index of the first target value
+   * @param count        The number of values to convert
+   * @param b            A value in the range {@code [2, 16]}
+   *
+   * @throws IllegalArgumentException  If {@code b} is out of range
+   * @throws IndexOutOfBoundsException If either range is out of bounds, or
+   *                                   any source value is out of range
+   * @see #fromSignedNormalizedWithZero(int, int)
+   */
+
+  public static void fromSignedNormalizedWithZero(
+    final int[] source,
+    final int sourceOffset,
+    final float[] target,
+    final int targetOffset,
+    final int count,
+    final int b)
+  {
+    lookup(
+      table(SIGNED_WITH_ZERO, NFPRepresentation.SIGNED_WITH_ZERO, b),
+      1 << (b - 1),
+      source,
+      sourceOffset,
+      target,
+      targetOffset,
+      count);
+  }
+
+  /**
+   * Convert {@code count} signed {@code without-zero} values from
+   * {@code source}, starting at {@code sourceOffset}, to floating point
+   * format, writing the results to {@code target} starting at
+   * {@code targetOffset}.
+   *
+   * @param source       The source values
+   * @param sourceOffset The index of the first source value
+   * @param target       The target array
+   * @param targetOffset The index of the first target value
+   * @param count        The number of values to convert
+   * @param b            A value in the range {@code [2, 16]}
+   *
+   * @throws IllegalArgumentException  If {@code b} is out of range
+   * @throws IndexOutOfBoundsException If either range is out of bounds, or
+   *                                   any source value is out of range
+   * @see #fromSignedNormalizedWithoutZero(int, int)
+   */
+
+  public static void fromSignedNormalizedWithoutZero(
+    final int[] source,
+    final int sourceOffset,
+    final float[] target,
+    final int targetOffset,
+    final int count,
+    final int b)
+  {
+    lookup(
+      table(SIGNED_WITHOUT_ZERO, NFPRepresentation.SIGNED_WITHOUT_ZERO, b),
+      1 << (b - 1),
+      source,
+      sourceOffset,
+      target,
+      targetOffset,
+      count);
+  }
+}
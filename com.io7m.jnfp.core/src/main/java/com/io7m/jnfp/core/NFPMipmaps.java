@@ -0,0 +1,635 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jnfp.core;
+
+import com.io7m.junreachable.UnreachableCodeException;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * <p>Generation of mipmaps directly from normalized fixed-point texels.</p>
+ *
+ * <p>Images are stored as arrays of {@code int} texels in row-major order,
+ * with {@code channels} interleaved values per texel, in any of the
+ * representations supported by {@link NFPCodec} with at most {@code 32}
+ * bits of precision. Each mipmap level is half the width and half the
+ * height of the level above it, rounded down, and never less than
+ * {@code 1}. Where a dimension is odd, the last column or row does not
+ * contribute to the {@link NFPMipmapFilter#BOX} filter.</p>
+ *
+ * <p>With the {@link NFPMipmapFilter#BOX} filter, each result is identical
+ * to that produced by decoding the contributing texels with
+ * {@link NFPCodec#decode(long)}, taking their mean in {@code double}
+ * arithmetic as {@code ((a + b) + (c + d)) / 4} (or {@code (a + b) / 2} in
+ * images of width or height {@code 1}), and encoding the mean with
+ * {@link NFPCodec#encode(double)}. The mean is computed in integer
+ * arithmetic, and the {@code double} procedure is only evaluated when the
+ * mean is a whole number.</p>
+ *
+ * <p>With the {@link NFPMipmapFilter#KAISER} filter, the weighted sum of
+ * the contributing texels is computed directly in the integer domain,
+ * clamped to the range of the representation, and rounded toward zero, as
+ * {@link NFPCodec#encode(double)} rounds the weighted sum of the decoded
+ * texels. Sums that differ from a whole number only by rounding error are
+ * taken to be that whole number. Texels outside the image are taken from
+ * the nearest edge.</p>
+ *
+ * <p>The rows of each level are generated in parallel on a
+ * {@link ForkJoinPool}, as with {@link NFPParallel}. The results do not
+ * depend on the pool.</p>
+ */
+
+public final class NFPMipmaps
+{
+  private static final double KAISER_BETA = 4.0;
+  private static final double KAISER_RADIUS = 2.0;
+  private static final double[] KAISER_WEIGHTS = kaiserWeights();
+  private static final int KAISER_FIRST = -3;
+  private static final double SNAP_TOLERANCE = 0x1.0p-40;
+
+  private NFPMipmaps()
+  {
+    throw new UnreachableCodeException();
+  }
+
+  private static final class Image
+  {
+    private final NFPCodec codec;
+    private final int channels;
+    private final int[] texels;
+    private final int offset;
+    private final int width;
+    private final int height;
+    private final long low;
+    private final long high;
+    private final boolean unsigned;
+
+    Image(
+      final NFPCodec inCodec,
+      final int inChannels,
+      final int[] inTexels,
+      final int inOffset,
+      final int inWidth,
+      final int inHeight)
+    {
+      this.codec = inCodec;
+      this.channels = inChannels;
+      this.texels = inTexels;
+      this.offset = inOffset;
+      this.width = inWidth;
+      this.height = inHeight;
+
+      final int b = inCodec.bits();
+      this.unsigned = inCodec.representation() == NFPRepresentation.UNSIGNED;
+      switch (inCodec.representation()) {
+        case UNSIGNED -> {
+          this.low = 0L;
+          this.high = (1L << b) - 1L;
+        }
+        case SIGNED_WITH_ZERO -> {
+          this.low = -((1L << (b - 1)) - 1L);
+          this.high = (1L << (b - 1)) - 1L;
+        }
+        default -> {
+          this.low = -(1L << (b - 1));
+          this.high = (1L << (b - 1)) - 1L;
+        }
+      }
+    }
+
+    NFPCodec codec()
+    {
+      return this.codec;
+    }
+
+    int channels()
+    {
+      return this.channels;
+    }
+
+    int width()
+    {
+      return this.width;
+    }
+
+    int height()
+    {
+      return this.height;
+    }
+
+    long low()
+    {
+      return this.low;
+    }
+
+    long high()
+    {
+      return this.high;
+    }
+
+    private int texel(
+      final int x,
+      final int y,
+      final int channel)
+    {
+      final int index = ((y * this.width) + x) * this.channels;
+      return this.texels[this.offset + index + channel];
+    }
+
+    private long clamp(
+      final int k)
+    {
+      if (this.unsigned) {
+        return Integer.toUnsignedLong(k);
+      }
+      return Math.max(this.low, k);
+    }
+
+    long value(
+      final int x,
+      final int y,
+      final int channel)
+    {
+      return this.clamp(this.texel(x, y, channel));
+    }
+
+    long value(
+      final int y,
+      final int index)
+    {
+      final int row = y * this.width * this.channels;
+      return this.clamp(this.texels[this.offset + row + index]);
+    }
+
+    double decoded(
+      final int x,
+      final int y,
+      final int channel)
+    {
+      final int k = this.texel(x, y, channel);
+      if (this.unsigned) {
+        return this.codec.decode(Integer.toUnsignedLong(k));
+      }
+      return this.codec.decode(k);
+    }
+  }
+
+  private static double besselI0(
+    final double x)
+  {
+    double sum = 1.0;
+    double term = 1.0;
+    for (int k = 1; k < 32; ++k) {
+      final double f = x / (2.0 * k);
+      term *= f * f;
+      sum += term;
+    }
+    return sum;
+  }
+
+  private static double[] kaiserWeights()
+  {
+    /*
+     * Source texel 2i + k, for k in [-3, 4], lies at a distance of
+     * (k - 0.5) / 2 output texels from the center of output texel i.
+     */
+
+    final double[] weights = new double[8];
+    double sum = 0.0;
+    for (int index = 0; index < weights.length; ++index) {
+      final double s = ((index + KAISER_FIRST) - 0.5) / 2.0;
+      final double r = s / KAISER_RADIUS;
+      final double window =
+        besselI0(KAISER_BETA * Math.sqrt(1.0 - (r * r)))
+          / besselI0(KAISER_BETA);
+      final double sinc = Math.sin(Math.PI * s) / (Math.PI * s);
+      weights[index] = sinc * window;
+      sum += weights[index];
+    }
+    for (int index = 0; index < weights.length; ++index) {
+      weights[index] /= sum;
+    }
+    return weights;
+  }
+
+  /**
+   * @param width  The width of the base level
+   * @param height The height of the base level
+   *
+   * @return The number of levels in a complete chain, including the base
+   * level
+   *
+   * @throws IllegalArgumentException If the image size is not positive
+   */
+
+  public static int levelCount(
+    final int width,
+    final int height)
+  {
+    checkSize(width, height);
+    return 32 - Integer.numberOfLeadingZeros(Math.max(width, height));
+  }
+
+  /**
+   * @param size  The width or height of the base level
+   * @param level The level
+   *
+   * @return The width or height of the given level
+   */
+
+  public static int levelSize(
+    final int size,
+    final int level)
+  {
+    return Math.max(1, size >> level);
+  }
+
+  private static void checkSize(
+    final int width,
+    final int height)
+  {
+    if (width <= 0 || height <= 0) {
+      throw new IllegalArgumentException(
+        String.format("Image size %dx%d must be positive", width, height));
+    }
+  }
+
+  private static void checkCodec(
+    final NFPCodec codec,
+    final int channels)
+  {
+    Objects.requireNonNull(codec, "codec");
+    codec.checkFloat();
+    if (channels < 1) {
+      throw new IllegalArgumentException(
+        String.format("Channels %d must be positive", channels));
+    }
+  }
+
+  private static int box(
+    final Image image,
+    final int x,
+    final int y,
+    final int channel)
+  {
+    final int x1 = image.width() == 1 ? x : x + 1;
+    final int y1 = image.height() == 1 ? y : y + 1;
+    final int n = (x1 - x + 1) * (y1 - y + 1);
+
+    final long sum;
+    if (n == 4) {
+      sum = image.value(x, y, channel)
+        + image.value(x1, y, channel)
+        + image.value(x, y1, channel)
+        + image.value(x1, y1, channel);
+    } else {
+      sum = image.value(x, y, channel) + image.value(x1, y1, channel);
+    }
+
+    if (sum % n != 0L) {
+      return (int) (sum / n);
+    }
+
+    final double mean;
+    if (n == 4) {
+      mean = ((image.decoded(x, y, channel) + image.decoded(x1, y, channel))
+        + (image.decoded(x, y1, channel) + image.decoded(x1, y1, channel)))
+        / 4.0;
+    } else if (n == 2) {
+      mean =
+        (image.decoded(x, y, channel) + image.decoded(x1, y1, channel)) / 2.0;
+    } else {
+      mean = image.decoded(x, y, channel);
+    }
+    return (int) image.codec().encode(mean);
+  }
+
+  private static void boxRows(
+    final Image image,
+    final int[] target,
+    final int targetOffset,
+    final int first,
+    final int count)
+  {
+    final int tw = levelSize(image.width(), 1);
+    final int channels = image.channels();
+    final int sx = image.width() == 1 ? 1 : 2;
+    final int sy = image.height() == 1 ? 1 : 2;
+
+    for (int y = first; y < first + count; ++y) {
+      for (int x = 0; x < tw; ++x) {
+        final int t = targetOffset + (((y * tw) + x) * channels);
+        for (int c = 0; c < channels; ++c) {
+          target[t + c] = box(image, x * sx, y * sy, c);
+        }
+      }
+    }
+  }
+
+  private static void kaiserVertical(
+    final Image image,
+    final int y,
+    final double[] row)
+  {
+    final int size = row.length;
+    if (image.height() == 1) {
+      for (int index = 0; index < size; ++index) {
+        row[index] = (double) image.value(0, index);
+      }
+      return;
+    }
+
+    Arrays.fill(row, 0.0);
+    for (int k = 0; k < KAISER_WEIGHTS.length; ++k) {
+      final double w = KAISER_WEIGHTS[k];
+      final int sy =
+        Math.min(image.height() - 1, Math.max(0, (2 * y) + k + KAISER_FIRST));
+      for (int index = 0; index < size; ++index) {
+        row[index] += w * (double) image.value(sy, index);
+      }
+    }
+  }
+
+  private static double kaiserHorizontal(
+    final Image image,
+    final double[] row,
+    final int x,
+    final int channel)
+  {
+    final int width = image.width();
+    if (width == 1) {
+      return row[channel];
+    }
+
+    double sum = 0.0;
+    for (int k = 0; k < KAISER_WEIGHTS.length; ++k) {
+      final int sx =
+        Math.min(width - 1, Math.max(0, (2 * x) + k + KAISER_FIRST));
+      sum += KAISER_WEIGHTS[k] * row[(sx * image.channels()) + channel];
+    }
+    return sum;
+  }
+
+  private static double snap(
+    final double x)
+  {
+    /*
+     * The weights sum to one only to within rounding error, so a sum that
+     * should be exactly a whole number may fall just short of it.
+     */
+
+    final double r = Math.rint(x);
+    if (Math.abs(x - r) <= Math.abs(x) * SNAP_TOLERANCE) {
+      return r;
+    }
+    return x;
+  }
+
+  private static void kaiserRows(
+    final Image image,
+    final int[] target,
+    final int targetOffset,
+    final int first,
+    final int count)
+  {
+    final int tw = levelSize(image.width(), 1);
+    final int channels = image.channels();
+    final double[] row = new double[image.width() * channels];
+    final double low = (double) image.low();
+    final double high = (double) image.high();
+
+    for (int y = first; y < first + count; ++y) {
+      kaiserVertical(image, y, row);
+      for (int x = 0; x < tw; ++x) {
+        final int t = targetOffset + (((y * tw) + x) * channels);
+        for (int c = 0; c < channels; ++c) {
+          final double sum = snap(kaiserHorizontal(image, row, x, c));
+          target[t + c] = (int) (long) Math.min(high, Math.max(low, sum));
+        }
+      }
+    }
+  }
+
+  /**
+   * Generate the level below the image {@code source}, starting at
+   * {@code sourceOffset}, writing the result to {@code target} starting at
+   * {@code targetOffset}. The result has width {@code levelSize(width, 1)}
+   * and height {@code levelSize(height, 1)}.
+   *
+   * @param pool         The pool that will execute the filter
+   * @param filter       The filter
+   * @param codec        The representation of the texels
+   * @param channels     The number of values per texel
+   * @param source       The source texels
+   * @param sourceOffset The index of the first source value
+   * @param width        The source width
+   * @param height       The source height
+   * @param target       The target array
+   * @param targetOffset The index of the first target value
+   *
+   * @throws IllegalArgumentException  If the image size or number of
+   *                                   channels is not positive, or the
+   *                                   codec has more than {@code 32} bits
+   * @throws IndexOutOfBoundsException If either range is out of bounds
+   */
+
+  public static void downsample(
+    final ForkJoinPool pool,
+    final NFPMipmapFilter filter,
+    final NFPCodec codec,
+    final int channels,
+    final int[] source,
+    final int sourceOffset,
+    final int width,
+    final int height,
+    final int[] target,
+    final int targetOffset)
+  {
+    Objects.requireNonNull(pool, "pool");
+    Objects.requireNonNull(filter, "filter");
+    checkCodec(codec, channels);
+    checkSize(width, height);
+
+    final int tw = levelSize(width, 1);
+    final int th = levelSize(height, 1);
+    Objects.checkFromIndexSize(
+      sourceOffset,
+      Math.multiplyExact(Math.multiplyExact(width, height), channels),
+      source.length);
+    Objects.checkFromIndexSize(
+      targetOffset, Math.multiplyExact(tw * th, channels), target.length);
+
+    final Image image =
+      new Image(codec, channels, source, sourceOffset, width, height);
+    final int rowBytes;
+    final NFPParallel.KernelType kernel;
+    switch (filter) {
+      case BOX -> {
+        rowBytes = width * channels * 4 * 2;
+        kernel = (first, count) ->
+          boxRows(image, target, targetOffset, first, count);
+      }
+      case KAISER -> {
+        rowBytes = width * channels * 4 * KAISER_WEIGHTS.length;
+        kernel = (first, count) ->
+          kaiserRows(image, target, targetOffset, first, count);
+      }
+      default -> throw new UnreachableCodeException();
+    }
+    NFPParallel.run(pool, kernel, th, rowBytes);
+  }
+
+  /**
+   * Generate the level below an image as with
+   * {@link #downsample(ForkJoinPool, NFPMipmapFilter, NFPCodec, int, int[], int, int, int, int[], int)},
+   * using the {@link ForkJoinPool#commonPool() common pool}.
+   *
+   * @param filter       The filter
+   * @param codec        The representation of the texels
+   * @param channels     The number of values per texel
+   * @param source       The source texels
+   * @param sourceOffset The index of the first source value
+   * @param width        The source width
+   * @param height       The source height
+   * @param target       The target array
+   * @param targetOffset The index of the first target value
+   *
+   * @throws IllegalArgumentException  If the image size or number of
+   *                                   channels is not positive, or the
+   *                                   codec has more than {@code 32} bits
+   * @throws IndexOutOfBoundsException If either range is out of bounds
+   */
+
+  public static void downsample(
+    final NFPMipmapFilter filter,
+    final NFPCodec codec,
+    final int channels,
+    final int[] source,
+    final int sourceOffset,
+    final int width,
+    final int height,
+    final int[] target,
+    final int targetOffset)
+  {
+    downsample(
+      ForkJoinPool.commonPool(),
+      filter,
+      codec,
+      channels,
+      source,
+      sourceOffset,
+      width,
+      height,
+      target,
+      targetOffset);
+  }
+
+  /**
+   * Generate a complete chain of mipmaps below the image {@code source}.
+   * Element {@code i} of the result holds level {@code i + 1}; the base
+   * level is not included. Each level is generated from the level above
+   * it.
+   *
+   * @param pool     The pool that will execute the filter
+   * @param filter   The filter
+   * @param codec    The representation of the texels
+   * @param channels The number of values per texel
+   * @param source   The source texels
+   * @param width    The source width
+   * @param height   The source height
+   *
+   * @return The generated levels
+   *
+   * @throws IllegalArgumentException  If the image size or number of
+   *                                   channels is not positive, or the
+   *                                   codec has more than {@code 32} bits
+   * @throws IndexOutOfBoundsException If the source is too small
+   */
+
+  public static int[][] generate(
+    final ForkJoinPool pool,
+    final NFPMipmapFilter filter,
+    final NFPCodec codec,
+    final int channels,
+    final int[] source,
+    final int width,
+    final int height)
+  {
+    final int[][] levels = new int[levelCount(width, height) - 1][];
+    int[] above = source;
+    for (int level = 1; level <= levels.length; ++level) {
+      final int w = levelSize(width, level);
+      final int h = levelSize(height, level);
+      final int[] below = new int[Math.multiplyExact(w * h, channels)];
+      downsample(
+        pool,
+        filter,
+        codec,
+        channels,
+        above,
+        0,
+        levelSize(width, level - 1),
+        levelSize(height, level - 1),
+        below,
+        0);
+      levels[level - 1] = below;
+      above = below;
+    }
+    return levels;
+  }
+
+  /**
+   * Generate a complete chain of mipmaps as with
+   * {@link #generate(ForkJoinPool, NFPMipmapFilter, NFPCodec, int, int[], int, int)},
+   * using the {@link ForkJoinPool#commonPool() common pool}.
+   *
+   * @param filter   The filter
+   * @param codec    The representation of the texels
+   * @param channels The number of values per texel
+   * @param source   The source texels
+   * @param width    The source width
+   * @param height   The source height
+   *
+   * @return The generated levels
+   *
+   * @throws IllegalArgumentException  If the image size or number of
+   *                                   channels is not positive, or the
+   *                                   codec has more than {@code 32} bits
+   * @throws IndexOutOfBoundsException If the source is too small
+   */
+
+  public static int[][] generate(
+    final NFPMipmapFilter filter,
+    final NFPCodec codec,
+    final int channels,
+    final int[] source,
+    final int width,
+    final int height)
+  {
+    return generate(
+      ForkJoinPool.commonPool(),
+      filter,
+      codec,
+      channels,
+      source,
+      width,
+      height);
+  }
+}
@@ -0,0 +1,241 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jnfp.core;
+
+import com.io7m.junreachable.UnreachableCodeException;
+
+import java.util.Objects;
+
+/**
+ * <p>Octahedral encoding of unit vectors into pairs of signed normalized
+ * fixed-point values.</p>
+ *
+ * <p>A unit vector {@code (x, y, z)} is projected onto the octahedron
+ * {@code |x| + |y| + |z| = 1}, and the lower half of the octahedron is
+ * folded over the upper half, yielding a point {@code (u, v)} in the square
+ * {@code [-1, 1] x [-1, 1]}. The components {@code u} and {@code v} are
+ * then converted to signed {@code with-zero} fixed-point values with
+ * {@code b} bits of precision, exactly as
+ * {@link NFPSignedFloatInt#toSignedNormalizedWithZero(float, int)} would
+ * convert them, and packed into a single {@code int} with {@code u} in the
+ * low {@code b} bits and {@code v} in the next {@code b} bits.</p>
+ *
+ * <p>Decoding converts {@code u} and {@code v} back with
+ * {@link NFPSignedFloatInt#fromSignedNormalizedWithZero(int, int)}, unfolds
+ * the octahedron, and normalizes the result.</p>
+ */
+
+public final class NFPOctahedral
+{
+  private NFPOctahedral()
+  {
+    throw new UnreachableCodeException();
+  }
+
+  private static NFPCodec codec(
+    final int b)
+  {
+    if (b < 2 || b > 16) {
+      throw new IllegalArgumentException(
+        String.format("Bits %d must be in the range [2, 16]", b));
+    }
+    return NFPCodec.signedWithZero(b);
+  }
+
+  private static float signNotZero(
+    final float x)
+  {
+    return x >= 0.0f ? 1.0f : -1.0f;
+  }
+
+  private static int encodeWith(
+    final NFPCodec codec,
+    final float x,
+    final float y,
+    final float z)
+  {
+    final float l1 = Math.abs(x) + Math.abs(y) + Math.abs(z);
+    float u = 0.0f;
+    float v = 0.0f;
+    if (l1 > 0.0f) {
+      u = x / l1;
+      v = y / l1;
+      if (z < 0.0f) {
+        final float fu = (1.0f - Math.abs(v)) * signNotZero(u);
+        final float fv = (1.0f - Math.abs(u)) * signNotZero(v);
+        u = fu;
+        v = fv;
+      }
+    }
+
+    final int b = codec.bits();
+    final int mask = (1 << b) - 1;
+    final int ku = codec.encodeFloat(u) & mask;
+    final int kv = codec.encodeFloat(v) & mask;
+    return ku + (kv << b);
+  }
+
+  private static void decodeWith(
+    final NFPCodec codec,
+    final int p,
+    final float[] target,
+    final int targetOffset)
+  {
+    final int b = codec.bits();
+    final int shift = 32 - b;
+    float u = codec.decodeFloat((p << shift) >> shift);
+    float v = codec.decodeFloat((p << (shift - b)) >> shift);
+    final float z = 1.0f - Math.abs(u) - Math.abs(v);
+    if (z < 0.0f) {
+      final float fu = (1.0f - Math.abs(v)) * signNotZero(u);
+      final float fv = (1.0f - Math.abs(u)) * signNotZero(v);
+      u = fu;
+      v = fv;
+    }
+
+    final float length = (float) Math.sqrt((u * u) + (v * v) + (z * z));
+    target[targetOffset] = u / length;
+    target[targetOffset + 1] = v / length;
+    target[targetOffset + 2] = z / length;
+  }
+
+  /**
+   * Encode the unit vector {@code (x, y, z)}. A zero vector is encoded as
+   * the vector {@code (0, 0, 1)}.
+   *
+   * @param x The x component
+   * @param y The y component
+   * @param z The z component
+   * @param b The precision of each encoded component, in the range
+   *          {@code [2, 16]}
+   *
+   * @return The packed encoded vector
+   *
+   * @throws IllegalArgumentException If {@code b} is out of range
+   */
+
+  public static int encode(
+    final float x,
+    final float y,
+    final float z,
+    final int b)
+  {
+    return encodeWith(codec(b), x, y, z);
+  }
+
+  /**
+   * Decode the packed vector {@code p}, writing the components {@code x, y,
+   * z} to {@code target} starting at {@code targetOffset}.
+   *
+   * @param p            The packed encoded vector
+   * @param b            The precision of each encoded component, in the
+   *                     range {@code [2, 16]}
+   * @param target       The target array
+   * @param targetOffset The index of the first target value
+   *
+   * @throws IllegalArgumentException  If {@code b} is out of range
+   * @throws IndexOutOfBoundsException If the target range is out of bounds
+   */
+
+  public static void decode(
+    final int p,
+    final int b,
+    final float[] target,
+    final int targetOffset)
+  {
+    Objects.checkFromIndexSize(targetOffset, 3, target.length);
+    decodeWith(codec(b), p, target, targetOffset);
+  }
+
+  /**
+   * Encode {@code count} unit vectors from {@code source}, starting at
+   * {@code sourceOffset}, writing the results to {@code target} starting at
+   * {@code targetOffset}. Each vector is read as three consecutive values
+   * {@code x, y, z}. The results are identical to those produced by calling
+   * {@link #encode(float, float, float, int)} for each vector.
+   *
+   * @param source       The source values
+   * @param sourceOffset The index of the first source value
+   * @param target       The target array
+   * @param targetOffset The index of the first target vector
+   * @param count        The number of vectors to encode
+   * @param b            The precision of each encoded component, in the
+   *                     range {@code [2, 16]}
+   *
+   * @throws IllegalArgumentException  If {@code b} is out of range
+   * @throws IndexOutOfBoundsException If either range is out of bounds
+   */
+
+  public static void encode(
+    final float[] source,
+    final int sourceOffset,
+    final int[] target,
+    final int targetOffset,
+    final int count,
+    final int b)
+  {
+    final NFPCodec codec = codec(b);
+    Objects.checkFromIndexSize(
+      sourceOffset, Math.multiplyExact(count, 3), source.length);
+    Objects.checkFromIndexSize(targetOffset, count, target.length);
+
+    for (int index = 0; index < count; ++index) {
+      final int s = sourceOffset + (index * 3);
+      target[targetOffset + index] =
+        encodeWith(codec, source[s], source[s + 1], source[s + 2]);
+    }
+  }
+
+  /**
+   * Decode {@code count} packed vectors from {@code source}, starting at
+   * {@code sourceOffset}, writing three values {@code x, y, z} per vector to
+   * {@code target} starting at {@code targetOffset}. The results are
+   * identical to those produced by calling
+   * {@link #decode(int, int, float[], int)} for each vector.
+   *
+   * @param source       The source vectors
+   * @param sourceOffset The index of the first source vector
+   * @param target       The target array
+   * @param targetOffset The index of the first target value
+   * @param count        The number of vectors to decode
+   * @param b            The precision of each encoded component, in the
+   *                     range {@code [2, 16]}
+   *
+   * @throws IllegalArgumentException  If {@code b} is out of range
+   * @throws IndexOutOfBoundsException If either range is out of bounds
+   */
+
+  public static void decode(
+    final int[] source,
+    final int sourceOffset,
+    final float[] target,
+    final int targetOffset,
+    final int count,
+    final int b)
+  {
+    final NFPCodec codec = codec(b);
+    Objects.checkFromIndexSize(sourceOffset, count, source.length);
+    Objects.checkFromIndexSize(
+      targetOffset, Math.multiplyExact(count, 3), target.length);
+
+    for (int index = 0; index < count; ++index) {
+      final int t = targetOffset + (index * 3);
+      decodeWith(codec, source[sourceOffset + index], target, t);
+    }
+  }
+}
@@ -0,0 +1,618 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jnfp.core;
+
+import com.io7m.junreachable.UnreachableCodeException;
+
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.FloatBuffer;
+import java.util.Objects;
+
+/**
+ * <p>Conversion of floating point color values to and from packed
+ * {@code 16} bit pixel formats.</p>
+ *
+ * <p>Each format packs three or four unsigned normalized channels of
+ * differing widths into a single {@code 16} bit word, with the first channel
+ * in the most significant bits, matching the corresponding OpenGL packed
+ * types. Each channel {@code x} with {@code w} bits is converted exactly as
+ * {@link NFPUnsignedFloatInt#toUnsignedNormalized(float, int)} and
+ * {@link NFPUnsignedFloatInt#fromUnsignedNormalized(int, int)} would convert
+ * it with {@code b = w}, and encoded channels are masked to {@code w} bits so
+ * that out-of-range values cannot corrupt neighbouring channels.</p>
+ *
+ * <p>Floating point values are interleaved, with three or four values per
+ * pixel. The {@link ByteBuffer} functions store each pixel as a
+ * {@code short} in the byte order of the buffer and, like the functions in
+ * {@link NFPBuffers}, convert every remaining value in the floating point
+ * buffer and advance the positions of both buffers.</p>
+ *
+ * <p>Note that, because conversion truncates, the single bit alpha channel
+ * of {@code RGBA5551} is only set for values of at least {@code 1.0}.</p>
+ */
+
+public final class NFPPacked16
+{
+  private static final float RGB565_R_SCALE = 31.0f;
+  private static final float RGB565_G_SCALE = 63.0f;
+  private static final float RGB565_B_SCALE = 31.0f;
+  private static final float RGBA4444_R_SCALE = 15.0f;
+  private static final float RGBA4444_G_SCALE = 15.0f;
+  private static final float RGBA4444_B_SCALE = 15.0f;
+  private static final float RGBA4444_A_SCALE = 15.0f;
+  private static final float RGBA5551_R_SCALE = 31.0f;
+  private static final float RGBA5551_G_SCALE = 31.0f;
+  private static final float RGBA5551_B_SCALE = 31.0f;
+  private static final float RGBA5551_A_SCALE = 1.0f;
+
+  private NFPPacked16()
+  {
+    throw new UnreachableCodeException();
+  }
+
+  private static int checkedPixels(
+    final int values,
+    final int channels)
+  {
+    if (values % channels != 0) {
+      throw new IllegalArgumentException(
+        String.format(
+          "Value count %d must be a multiple of %d", values, channels));
+    }
+    return values / channels;
+  }
+
+  private static short packRGB565(
+    final float r,
+    final float g,
+    final float b)
+  {
+    final int kr = ((int) (r * RGB565_R_SCALE) & 0x1f) << 11;
+    final int kg = ((int) (g * RGB565_G_SCALE) & 0x3f) << 5;
+    final int kb = (int) (b * RGB565_B_SCALE) & 0x1f;
+    return (short) (kr + kg + kb);
+  }
+
+  private static void unpackRGB565(
+    final int p,
+    final float[] target,
+    final int offset)
+  {
+    target[offset] = (float) ((p >>> 11) & 0x1f) / RGB565_R_SCALE;
+    target[offset + 1] = (float) ((p >>> 5) & 0x3f) / RGB565_G_SCALE;
+    target[offset + 2] = (float) (p & 0x1f) / RGB565_B_SCALE;
+  }
+
+  private static void unpackRGB565(
+    final int p,
+    final FloatBuffer target,
+    final int offset)
+  {
+    target.put(offset, (float) ((p >>> 11) & 0x1f) / RGB565_R_SCALE);
+    target.put(offset + 1, (float) ((p >>> 5) & 0x3f) / RGB565_G_SCALE);
+    target.put(offset + 2, (float) (p & 0x1f) / RGB565_B_SCALE);
+  }
+
+  /**
+   * Pack {@code count} pixels from {@code source}, starting at
+   * {@code sourceOffset}, into {@code RGB565} ({@code GL_UNSIGNED_SHORT_5_6_5})
+   * format, writing the results to {@code target} starting at
+   * {@code targetOffset}. Each pixel is read as 3 consecutive values
+   * {@code r, g, b}.
+   *
+   * @param source       The source values, in the range {@code [0, 1]}
+   * @param sourceOffset The index of the first source value
+   * @param target       The target array
+   * @param targetOffset The index of the first target pixel
+   * @param count        The number of pixels to convert
+   *
+   * @throws IndexOutOfBoundsException If either range is out of bounds
+   */
+
+  public static void encodeRGB565(
+    final float[] source,
+    final int sourceOffset,
+    final short[] target,
+    final int targetOffset,
+    final int count)
+  {
+    Objects.checkFromIndexSize(
+      sourceOffset, Math.multiplyExact(count, 3), source.length);
+    Objects.checkFromIndexSize(targetOffset, count, target.length);
+
+    for (int index = 0; index < count; ++index) {
+      final int s = sourceOffset + (index * 3);
+      target[targetOffset + index] = packRGB565(
+        source[s],
+        source[s + 1],
+        source[s + 2]);
+    }
+  }
+
+  /**
+   * Unpack {@code count} {@code RGB565} pixels from {@code source}, starting at
+   * {@code sourceOffset}, writing 3 values {@code r, g, b} per pixel to
+   * {@code target} starting at {@code targetOffset}.
+   *
+   * @param source       The source pixels
+   * @param sourceOffset The index of the first source pixel
+   * @param target       The target array
+   * @param targetOffset The index of the first target value
+   * @param count        The number of pixels to convert
+   *
+   * @throws IndexOutOfBoundsException If either range is out of bounds
+   */
+
+  public static void decodeRGB565(
+    final short[] source,
+    final int sourceOffset,
+    final float[] target,
+    final int targetOffset,
+    final int count)
+  {
+    Objects.checkFromIndexSize(sourceOffset, count, source.length);
+    Objects.checkFromIndexSize(
+      targetOffset, Math.multiplyExact(count, 3), target.length);
+
+    for (int index = 0; index < count; ++index) {
+      unpackRGB565(
+        source[sourceOffset + index], target, targetOffset + (index * 3));
+    }
+  }
+
+  /**
+   * Pack all remaining values in {@code source} into {@code RGB565}
+   * format, writing the results to {@code target}.
+   *
+   * @param source The source values, in the range {@code [0, 1]}
+   * @param target The target buffer
+   *
+   * @throws IllegalArgumentException If the number of remaining source values
+   *                                  is not a multiple of 3
+   * @throws BufferOverflowException  If {@code target} has insufficient
+   *                                  remaining space
+   * @see #encodeRGB565(float[], int, short[], int, int)
+   */
+
+  public static void encodeRGB565(
+    final FloatBuffer source,
+    final ByteBuffer target)
+  {
+    Objects.requireNonNull(source, "source");
+    Objects.requireNonNull(target, "target");
+
+    final int count = checkedPixels(source.remaining(), 3);
+    if ((long) count * 2L > (long) target.remaining()) {
+      throw new BufferOverflowException();
+    }
+
+    final int sp = source.position();
+    final int tp = target.position();
+    for (int index = 0; index < count; ++index) {
+      final int s = sp + (index * 3);
+      target.putShort(tp + (index * 2), packRGB565(
+        source.get(s),
+        source.get(s + 1),
+        source.get(s + 2)));
+    }
+
+    source.position(sp + (count * 3));
+    target.position(tp + (count * 2));
+  }
+
+  /**
+   * Unpack {@code RGB565} pixels from {@code source}, filling all
+   * remaining space in {@code target}.
+   *
+   * @param source The source buffer
+   * @param target The target values
+   *
+   * @throws IllegalArgumentException If the number of remaining target values
+   *                                  is not a multiple of 3
+   * @throws BufferUnderflowException If {@code source} has too few remaining
+   *                                  pixels
+   * @see #decodeRGB565(short[], int, float[], int, int)
+   */
+
+  public static void decodeRGB565(
+    final ByteBuffer source,
+    final FloatBuffer target)
+  {
+    Objects.requireNonNull(source, "source");
+    Objects.requireNonNull(target, "target");
+
+    final int count = checkedPixels(target.remaining(), 3);
+    if ((long) count * 2L > (long) source.remaining()) {
+      throw new BufferUnderflowException();
+    }
+
+    final int sp = source.position();
+    final int tp = target.position();
+    for (int index = 0; index < count; ++index) {
+      unpackRGB565(
+        source.getShort(sp + (index * 2)), target, tp + (index * 3));
+    }
+
+    source.position(sp + (count * 2));
+    target.position(tp + (count * 3));
+  }
+
+  private static short packRGBA4444(
+    final float r,
+    final float g,
+    final float b,
+    final float a)
+  {
+    final int kr = ((int) (r * RGBA4444_R_SCALE) & 0xf) << 12;
+    final int kg = ((int) (g * RGBA4444_G_SCALE) & 0xf) << 8;
+    final int kb = ((int) (b * RGBA4444_B_SCALE) & 0xf) << 4;
+    final int ka = (int) (a * RGBA4444_A_SCALE) & 0xf;
+    return (short) (kr + kg + kb + ka);
+  }
+
+  private static void unpackRGBA4444(
+    final int p,
+    final float[] target,
+    final int offset)
+  {
+    target[offset] = (float) ((p >>> 12) & 0xf) / RGBA4444_R_SCALE;
+    target[offset + 1] = (float) ((p >>> 8) & 0xf) / RGBA4444_G_SCALE;
+    target[offset + 2] = (float) ((p >>> 4) & 0xf) / RGBA4444_B_SCALE;
+    target[offset + 3] = (float) (p & 0xf) / RGBA4444_A_SCALE;
+  }
+
+  private static void unpackRGBA4444(
+    final int p,
+    final FloatBuffer target,
+    final int offset)
+  {
+    target.put(offset, (float) ((p >>> 12) & 0xf) / RGBA4444_R_SCALE);
+    target.put(offset + 1, (float) ((p >>> 8) & 0xf) / RGBA4444_G_SCALE);
+    target.put(offset + 2, (float) ((p >>> 4) & 0xf) / RGBA4444_B_SCALE);
+    target.put(offset + 3, (float) (p & 0xf) / RGBA4444_A_SCALE);
+  }
+
+  /**
+   * Pack {@code count} pixels from {@code source}, starting at
+   * {@code sourceOffset}, into {@code RGBA4444} ({@code
+   * GL_UNSIGNED_SHORT_4_4_4_4}) format, writing the results to {@code target}
+   * starting at {@code targetOffset}. Each pixel is read as 4 consecutive
+   * values {@code r, g, b, a}.
+   *
+   * @param source       The source values, in the range {@code [0, 1]}
+   * @param sourceOffset The index of the first source value
+   * @param target       The target array
+   * @param targetOffset The index of the first target pixel
+   * @param count        The number of pixels to convert
+   *
+   * @throws IndexOutOfBoundsException If either range is out of bounds
+   */
+
+  public static void encodeRGBA4444(
+    final float[] source,
+    final int sourceOffset,
+    final short[] target,
+    final int targetOffset,
+    final int count)
+  {
+    Objects.checkFromIndexSize(
+      sourceOffset, Math.multiplyExact(count, 4), source.length);
+    Objects.checkFromIndexSize(targetOffset, count, target.length);
+
+    for (int index = 0; index < count; ++index) {
+      final int s = sourceOffset + (index * 4);
+      target[targetOffset + index] = packRGBA4444(
+        source[s],
+        source[s + 1],
+        source[s + 2],
+        source[s + 3]);
+    }
+  }
+
+  /**
+   * Unpack {@code count} {@code RGBA4444} pixels from {@code source}, starting
+   * at {@code sourceOffset}, writing 4 values {@code r, g, b, a} per pixel to
+   * {@code target} starting at {@code targetOffset}.
+   *
+   * @param source       The source pixels
+   * @param sourceOffset The index of the first source pixel
+   * @param target       The target array
+   * @param targetOffset The index of the first target value
+   * @param count        The number of pixels to convert
+   *
+   * @throws IndexOutOfBoundsException If either range is out of bounds
+   */
+
+  public static void decodeRGBA4444(
+    final short[] source,
+    final int sourceOffset,
+    final float[] target,
+    final int targetOffset,
+    final int count)
+  {
+    Objects.checkFromIndexSize(sourceOffset, count, source.length);
+    Objects.checkFromIndexSize(
+      targetOffset, Math.multiplyExact(count, 4), target.length);
+
+    for (int index = 0; index < count; ++index) {
+      unpackRGBA4444(
+        source[sourceOffset + index], target, targetOffset + (index * 4));
+    }
+  }
+
+  /**
+   * Pack all remaining values in {@code source} into {@code RGBA4444}
+   * format, writing the results to {@code target}.
+   *
+   * @param source The source values, in the range {@code [0, 1]}
+   * @param target The target buffer
+   *
+   * @throws IllegalArgumentException If the number of remaining source values
+   *                                  is not a multiple of 4
+   * @throws BufferOverflowException  If {@code target} has insufficient
+   *                                  remaining space
+   * @see #encodeRGBA4444(float[], int, short[], int, int)
+   */
+
+  public static void encodeRGBA4444(
+    final FloatBuffer source,
+    final ByteBuffer target)
+  {
+    Objects.requireNonNull(source, "source");
+    Objects.requireNonNull(target, "target");
+
+    final int count = checkedPixels(source.remaining(), 4);
+    if ((long) count * 2L > (long) target.remaining()) {
+      throw new BufferOverflowException();
+    }
+
+    final int sp = source.position();
+    final int tp = target.position();
+    for (int index = 0; index < count; ++index) {
+      final int s = sp + (index * 4);
+      target.putShort(tp + (index * 2), packRGBA4444(
+        source.get(s),
+        source.get(s + 1),
+        source.get(s + 2),
+        source.get(s + 3)));
+    }
+
+    source.position(sp + (count * 4));
+    target.position(tp + (count * 2));
+  }
+
+  /**
+   * Unpack {@code RGBA4444} pixels from {@code source}, filling all
+   * remaining space in {@code target}.
+   *
+   * @param source The source buffer
+   * @param target The target values
+   *
+   * @throws IllegalArgumentException If the number of remaining target values
+   *                                  is not a multiple of 4
+   * @throws BufferUnderflowException If {@code source} has too few remaining
+   *                                  pixels
+   * @see #decodeRGBA4444(short[], int, float[], int, int)
+   */
+
+  public static void decodeRGBA4444(
+    final ByteBuffer source,
+    final FloatBuffer target)
+  {
+    Objects.requireNonNull(source, "source");
+    Objects.requireNonNull(target, "target");
+
+    final int count = checkedPixels(target.remaining(), 4);
+    if ((long) count * 2L > (long) source.remaining()) {
+      throw new BufferUnderflowException();
+    }
+
+    final int sp = source.position();
+    final int tp = target.position();
+    for (int index = 0; index < count; ++index) {
+      unpackRGBA4444(
+        source.getShort(sp + (index * 2)), target, tp + (index * 4));
+    }
+
+    source.position(sp + (count * 2));
+    target.position(tp + (count * 4));
+  }
+
+  private static short packRGBA5551(
+    final float r,
+    final float g,
+    final float b,
+    final float a)
+  {
+    final int kr = ((int) (r * RGBA5551_R_SCALE) & 0x1f) << 11;
+    final int kg = ((int) (g * RGBA5551_G_SCALE) & 0x1f) << 6;
+    final int kb = ((int) (b * RGBA5551_B_SCALE) & 0x1f) << 1;
+    final int ka = (int) (a * RGBA5551_A_SCALE) & 0x1;
+    return (short) (kr + kg + kb + ka);
+  }
+
+  private static void unpackRGBA5551(
+    final int p,
+    final float[] target,
+    final int offset)
+  {
+    target[offset] = (float) ((p >>> 11) & 0x1f) / RGBA5551_R_SCALE;
+    target[offset + 1] = (float) ((p >>> 6) & 0x1f) / RGBA5551_G_SCALE;
+    target[offset + 2] = (float) ((p >>> 1) & 0x1f) / RGBA5551_B_SCALE;
+    target[offset + 3] = (float) (p & 0x1) / RGBA5551_A_SCALE;
+  }
+
+  private static void unpackRGBA5551(
+    final int p,
+    final FloatBuffer target,
+    final int offset)
+  {
+    target.put(offset, (float) ((p >>> 11) & 0x1f) / RGBA5551_R_SCALE);
+    target.put(offset + 1, (float) ((p >>> 6) & 0x1f) / RGBA5551_G_SCALE);
+    target.put(offset + 2, (float) ((p >>> 1) & 0x1f) / RGBA5551_B_SCALE);
+    target.put(offset + 3, (float) (p & 0x1) / RGBA5551_A_SCALE);
+  }
+
+  /**
+   * Pack {@code count} pixels from {@code source}, starting at
+   * {@code sourceOffset}, into {@code RGBA5551} ({@code
+   * GL_UNSIGNED_SHORT_5_5_5_1}) format, writing the results to {@code target}
+   * starting at {@code targetOffset}. Each pixel is read as 4 consecutive
+   * values {@code r, g, b, a}.
+   *
+   * @param source       The source values, in the range {@code [0, 1]}
+   * @param sourceOffset The index of the first source value
+   * @param target       The target array
+   * @param targetOffset The index of the first target pixel
+   * @param count        The number of pixels to convert
+   *
+   * @throws IndexOutOfBoundsException If either range is out of bounds
+   */
+
+  public static void encodeRGBA5551(
+    final float[] source,
+    final int sourceOffset,
+    final short[] target,
+    final int targetOffset,
+    final int count)
+  {
+    Objects.checkFromIndexSize(
+      sourceOffset, Math.multiplyExact(count, 4), source.length);
+    Objects.checkFromIndexSize(targetOffset, count, target.length);
+
+    for (int index = 0; index < count; ++index) {
+      final int s = sourceOffset + (index * 4);
+      target[targetOffset + index] = packRGBA5551(
+        source[s],
+        source[s + 1],
+        source[s + 2],
+        source[s + 3]);
+    }
+  }
+
+  /**
+   * Unpack {@code count} {@code RGBA5551} pixels from {@code source}, starting
+   * at {@code sourceOffset}, writing 4 values {@code r, g, b, a} per pixel to
+   * {@code target} starting at {@code targetOffset}.
+   *
+   * @param source       The source pixels
+   * @param sourceOffset The index of the first source pixel
+   * @param target       The target array
+   * @param targetOffset The index of the first target value
+   * @param count        The number of pixels to convert
+   *
+   * @throws IndexOutOfBoundsException If either range is out of bounds
+   */
+
+  public static void decodeRGBA5551(
+    final short[] source,
+    final int sourceOffset,
+    final float[] target,
+    final int targetOffset,
+    final int count)
+  {
+    Objects.checkFromIndexSize(sourceOffset, count, source.length);
+    Objects.checkFromIndexSize(
+      targetOffset, Math.multiplyExact(count, 4), target.length);
+
+    for (int index = 0; index < count; ++index) {
+      unpackRGBA5551(
+        source[sourceOffset + index], target, targetOffset + (index * 4));
+    }
+  }
+
+  /**
+   * Pack all remaining values in {@code source} into {@code RGBA5551}
+   * format, writing the results to {@code target}.
+   *
+   * @param source The source values, in the range {@code [0, 1]}
+   * @param target The target buffer
+   *
+   * @throws IllegalArgumentException If the number of remaining source values
+   *                                  is not a multiple of 4
+   * @throws BufferOverflowException  If {@code target} has insufficient
+   *                                  remaining space
+   * @see #encodeRGBA5551(float[], int, short[], int, int)
+   */
+
+  public static void encodeRGBA5551(
+    final FloatBuffer source,
+    final ByteBuffer target)
+  {
+    Objects.requireNonNull(source, "source");
+    Objects.requireNonNull(target, "target");
+
+    final int count = checkedPixels(source.remaining(), 4);
+    if ((long) count * 2L > (long) target.remaining()) {
+      throw new BufferOverflowException();
+    }
+
+    final int sp = source.position();
+    final int tp = target.position();
+    for (int index = 0; index < count; ++index) {
+      final int s = sp + (index * 4);
+      target.putShort(tp + (index * 2), packRGBA5551(
+        source.get(s),
+        source.get(s + 1),
+        source.get(s + 2),
+        source.get(s + 3)));
+    }
+
+    source.position(sp + (count * 4));
+    target.position(tp + (count * 2));
+  }
+
+  /**
+   * Unpack {@code RGBA5551} pixels from {@code source}, filling all
+   * remaining space in {@code target}.
+   *
+   * @param source The source buffer
+   * @param target The target values
+   *
+   * @throws IllegalArgumentException If the number of remaining target values
+   *                                  is not a multiple of 4
+   * @throws BufferUnderflowException If {@code source} has too few remaining
+   *                                  pixels
+   * @see #decodeRGBA5551(short[], int, float[], int, int)
+   */
+
+  public static void decodeRGBA5551(
+    final ByteBuffer source,
+    final FloatBuffer target)
+  {
+    Objects.requireNonNull(source, "source");
+    Objects.requireNonNull(target, "target");
+
+    final int count = checkedPixels(target.remaining(), 4);
+    if ((long) count * 2L > (long) source.remaining()) {
+      throw new BufferUnderflowException();
+    }
+
+    final int sp = source.position();
+    final int tp = target.position();
+    for (int index = 0; index < count; ++index) {
+      unpackRGBA5551(
+        source.getShort(sp + (index * 2)), target, tp + (index * 4));
+    }
+
+    source.position(sp + (count * 2));
+    target.position(tp + (count * 4));
+  }
+}
@@ -0,0 +1,674 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jnfp.core;
+
+import com.io7m.junreachable.UnreachableCodeException;
+
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.FloatBuffer;
+import java.util.Objects;
+
+/**
+ * <p>Conversion of floating point vectors to and from the packed
+ * {@code 2_10_10_10_REV} vertex formats.</p>
+ *
+ * <p>Each vector {@code (x, y, z, w)} is packed into a single {@code 32} bit
+ * word, with {@code x} in bits {@code [0, 9]}, {@code y} in bits
+ * {@code [10, 19]}, {@code z} in bits {@code [20, 29]}, and {@code w} in bits
+ * {@code [30, 31]}, matching the OpenGL
+ * {@code GL_UNSIGNED_INT_2_10_10_10_REV} and {@code GL_INT_2_10_10_10_REV}
+ * types. Components are unsigned, or signed using either of the
+ * representations described in {@link NFPSignedFloatInt}. Each component
+ * is converted exactly as the corresponding {@link NFPUnsignedFloatInt} or
+ * {@link NFPSignedFloatInt} function would convert it with {@code b = 10} or
+ * {@code b = 2}, encoded components are masked to their widths, and signed
+ * components are sign-extended when decoded.</p>
+ *
+ * <p>Floating point values are interleaved, with four values per vector.
+ * The {@link ByteBuffer} functions store each vector as an {@code int} in
+ * the byte order of the buffer and, like the functions in
+ * {@link NFPBuffers}, convert every remaining value in the floating point
+ * buffer and advance the positions of both buffers.</p>
+ */
+
+public final class NFPPacked32
+{
+  private static final float UNSIGNED_SCALE_10 = 1023.0f;
+  private static final float UNSIGNED_SCALE_2 = 3.0f;
+  private static final float SIGNED_WITH_ZERO_SCALE_10 = 511.0f;
+  private static final float SIGNED_WITH_ZERO_SCALE_2 = 1.0f;
+  private static final float SIGNED_WITHOUT_ZERO_SCALE_10 = 1023.0f;
+  private static final float SIGNED_WITHOUT_ZERO_SCALE_2 = 3.0f;
+
+  private NFPPacked32()
+  {
+    throw new UnreachableCodeException();
+  }
+
+  private static int withoutZero(
+    final float x,
+    final float scale)
+  {
+    return (int) (((x * scale) - 1.0f) / 2.0f);
+  }
+
+  private static int checkedVectors(
+    final int values)
+  {
+    if (values % 4 != 0) {
+      throw new IllegalArgumentException(
+        String.format("Value count %d must be a multiple of 4", values));
+    }
+    return values / 4;
+  }
+
+  private static int packUnsigned(
+    final float x,
+    final float y,
+    final float z,
+    final float w)
+  {
+    final int kx = (int) (x * UNSIGNED_SCALE_10) & 0x3ff;
+    final int ky = ((int) (y * UNSIGNED_SCALE_10) & 0x3ff) << 10;
+    final int kz = ((int) (z * UNSIGNED_SCALE_10) & 0x3ff) << 20;
+    final int kw = ((int) (w * UNSIGNED_SCALE_2) & 0x3) << 30;
+    return kx + ky + kz + kw;
+  }
+
+  private static void unpackUnsigned(
+    final int p,
+    final float[] target,
+    final int offset)
+  {
+    final int fx = p & 0x3ff;
+    final int fy = (p >>> 10) & 0x3ff;
+    final int fz = (p >>> 20) & 0x3ff;
+    final int fw = p >>> 30;
+    target[offset] = (float) fx / UNSIGNED_SCALE_10;
+    target[offset + 1] = (float) fy / UNSIGNED_SCALE_10;
+    target[offset + 2] = (float) fz / UNSIGNED_SCALE_10;
+    target[offset + 3] = (float) fw / UNSIGNED_SCALE_2;
+  }
+
+  private static void unpackUnsigned(
+    final int p,
+    final FloatBuffer target,
+    final int offset)
+  {
+    final int fx = p & 0x3ff;
+    final int fy = (p >>> 10) & 0x3ff;
+    final int fz = (p >>> 20) & 0x3ff;
+    final int fw = p >>> 30;
+    target.put(offset, (float) fx / UNSIGNED_SCALE_10);
+    target.put(offset + 1, (float) fy / UNSIGNED_SCALE_10);
+    target.put(offset + 2, (float) fz / UNSIGNED_SCALE_10);
+    target.put(offset + 3, (float) fw / UNSIGNED_SCALE_2);
+  }
+
+  /**
+   * Pack {@code count} vectors from {@code source}, starting at
+   * {@code sourceOffset}, into unsigned {@code GL_UNSIGNED_INT_2_10_10_10_REV}
+   * format, writing the results to {@code target} starting at
+   * {@code targetOffset}. Each vector is read as four consecutive values
+   * {@code x, y, z, w}, and each component is converted as with
+   * {@link NFPUnsignedFloatInt#toUnsignedNormalized(float, int)}.
+   *
+   * @param source       The source values, in the range {@code [0, 1]}
+   * @param sourceOffset The index of the first source value
+   * @param target       The target array
+   * @param targetOffset The index of the first target vector
+   * @param count        The number of vectors to convert
+   *
+   * @throws IndexOutOfBoundsException If either range is out of bounds
+   */
+
+  public static void encodeUnsigned2101010Rev(
+    final float[] source,
+    final int sourceOffset,
+    final int[] target,
+    final int targetOffset,
+    final int count)
+  {
+    Objects.checkFromIndexSize(
+      sourceOffset, Math.multiplyExact(count, 4), source.length);
+    Objects.checkFromIndexSize(targetOffset, count, target.length);
+
+    for (int index = 0; index < count; ++index) {
+      final int s = sourceOffset + (index * 4);
+      target[targetOffset + index] = packUnsigned(
+        source[s],
+        source[s + 1],
+        source[s + 2],
+        source[s + 3]);
+    }
+  }
+
+  /**
+   * Unpack {@code count} unsigned {@code GL_UNSIGNED_INT_2_10_10_10_REV}
+   * vectors from {@code source}, starting at {@code sourceOffset}, writing four
+   * values {@code x, y, z, w} per vector to {@code target} starting at
+   * {@code targetOffset}. Each component is converted as with
+   * {@link NFPUnsignedFloatInt#fromUnsignedNormalized(int, int)}.
+   *
+   * @param source       The source vectors
+   * @param sourceOffset The index of the first source vector
+   * @param target       The target array
+   * @param targetOffset The index of the first target value
+   * @param count        The number of vectors to convert
+   *
+   * @throws IndexOutOfBoundsException If either range is out of bounds
+   */
+
+  public static void decodeUnsigned2101010Rev(
+    final int[] source,
+    final int sourceOffset,
+    final float[] target,
+    final int targetOffset,
+    final int count)
+  {
+    Objects.checkFromIndexSize(sourceOffset, count, source.length);
+    Objects.checkFromIndexSize(
+      targetOffset, Math.multiplyExact(count, 4), target.length);
+
+    for (int index = 0; index < count; ++index) {
+      unpackUnsigned(
+        source[sourceOffset + index], target, targetOffset + (index * 4));
+    }
+  }
+
+  /**
+   * Pack all remaining values in {@code source} into unsigned
+   * {@code GL_UNSIGNED_INT_2_10_10_10_REV} format, writing the results to
+   * {@code target}.
+   *
+   * @param source The source values, in the range {@code [0, 1]}
+   * @param target The target buffer
+   *
+   * @throws IllegalArgumentException If the number of remaining source values
+   *                                  is not a multiple of 4
+   * @throws BufferOverflowException  If {@code target} has insufficient
+   *                                  remaining space
+   * @see #encodeUnsigned2101010Rev(float[], int, int[], int, int)
+   */
+
+  public static void encodeUnsigned2101010Rev(
+    final FloatBuffer source,
+    final ByteBuffer target)
+  {
+    Objects.requireNonNull(source, "source");
+    Objects.requireNonNull(target, "target");
+
+    final int count = checkedVectors(source.remaining());
+    if ((long) count * 4L > (long) target.remaining()) {
+      throw new BufferOverflowException();
+    }
+
+    final int sp = source.position();
+    final int tp = target.position();
+    for (int index = 0; index < count; ++index) {
+      final int s = sp + (index * 4);
+      target.putInt(tp + (index * 4), packUnsigned(
+        source.get(s),
+        source.get(s + 1),
+        source.get(s + 2),
+        source.get(s + 3)));
+    }
+
+    source.position(sp + (count * 4));
+    target.position(tp + (count * 4));
+  }
+
+  /**
+   * Unpack unsigned {@code GL_UNSIGNED_INT_2_10_10_10_REV} vectors from
+   * {@code source}, filling all remaining space in {@code target}.
+   *
+   * @param source The source buffer
+   * @param target The target values
+   *
+   * @throws IllegalArgumentException If the number of remaining target values
+   *                                  is not a multiple of 4
+   * @throws BufferUnderflowException If {@code source} has too few remaining
+   *                                  vectors
+   * @see #decodeUnsigned2101010Rev(int[], int, float[], int, int)
+   */
+
+  public static void decodeUnsigned2101010Rev(
+    final ByteBuffer source,
+    final FloatBuffer target)
+  {
+    Objects.requireNonNull(source, "source");
+    Objects.requireNonNull(target, "target");
+
+    final int count = checkedVectors(target.remaining());
+    if ((long) count * 4L > (long) source.remaining()) {
+      throw new BufferUnderflowException();
+    }
+
+    final int sp = source.position();
+    final int tp = target.position();
+    for (int index = 0; index < count; ++index) {
+      unpackUnsigned(
+        source.getInt(sp + (index * 4)), target, tp + (index * 4));
+    }
+
+    source.position(sp + (count * 4));
+    target.position(tp + (count * 4));
+  }
+
+  private static int packSignedWithZero(
+    final float x,
+    final float y,
+    final float z,
+    final float w)
+  {
+    final int kx = (int) (x * SIGNED_WITH_ZERO_SCALE_10) & 0x3ff;
+    final int ky = ((int) (y * SIGNED_WITH_ZERO_SCALE_10) & 0x3ff) << 10;
+    final int kz = ((int) (z * SIGNED_WITH_ZERO_SCALE_10) & 0x3ff) << 20;
+    final int kw = ((int) (w * SIGNED_WITH_ZERO_SCALE_2) & 0x3) << 30;
+    return kx + ky + kz + kw;
+  }
+
+  private static void unpackSignedWithZero(
+    final int p,
+    final float[] target,
+    final int offset)
+  {
+    final int fx = (p << 22) >> 22;
+    final int fy = (p << 12) >> 22;
+    final int fz = (p << 2) >> 22;
+    final int fw = p >> 30;
+    target[offset] = Math.max(-1.0f, (float) fx / SIGNED_WITH_ZERO_SCALE_10);
+    target[offset + 1] = Math.max(
+      -1.0f, (float) fy / SIGNED_WITH_ZERO_SCALE_10);
+    target[offset + 2] = Math.max(
+      -1.0f, (float) fz / SIGNED_WITH_ZERO_SCALE_10);
+    target[offset + 3] = Math.max(-1.0f, (float) fw / SIGNED_WITH_ZERO_SCALE_2);
+  }
+
+  private static void unpackSignedWithZero(
+    final int p,
+    final FloatBuffer target,
+    final int offset)
+  {
+    final int fx = (p << 22) >> 22;
+    final int fy = (p << 12) >> 22;
+    final int fz = (p << 2) >> 22;
+    final int fw = p >> 30;
+    target.put(offset, Math.max(-1.0f, (float) fx / SIGNED_WITH_ZERO_SCALE_10));
+    target.put(
+      offset + 1, Math.max(-1.0f, (float) fy / SIGNED_WITH_ZERO_SCALE_10));
+    target.put(
+      offset + 2, Math.max(-1.0f, (float) fz / SIGNED_WITH_ZERO_SCALE_10));
+    target.put(
+      offset + 3, Math.max(-1.0f, (float) fw / SIGNED_WITH_ZERO_SCALE_2));
+  }
+
+  /**
+   * Pack {@code count} vectors from {@code source}, starting at
+   * {@code sourceOffset}, into signed {@code with-zero}
+   * {@code GL_INT_2_10_10_10_REV} format, writing the results to {@code target}
+   * starting at {@code targetOffset}. Each vector is read as four consecutive
+   * values {@code x, y, z, w}, and each component is converted as with
+   * {@link NFPSignedFloatInt#toSignedNormalizedWithZero(float, int)}.
+   *
+   * @param source       The source values, in the range {@code [-1, 1]}
+   * @param sourceOffset The index of the first source value
+   * @param target       The target array
+   * @param targetOffset The index of the first target vector
+   * @param count        The number of vectors to convert
+   *
+   * @throws IndexOutOfBoundsException If either range is out of bounds
+   */
+
+  public static void encodeSignedWithZero2101010Rev(
+    final float[] source,
+    final int sourceOffset,
+    final int[] target,
+    final int targetOffset,
+    final int count)
+  {
+    Objects.checkFromIndexSize(
+      sourceOffset, Math.multiplyExact(count, 4), source.length);
+    Objects.checkFromIndexSize(targetOffset, count, target.length);
+
+    for (int index = 0; index < count; ++index) {
+      final int s = sourceOffset + (index * 4);
+      target[targetOffset + index] = packSignedWithZero(
+        source[s],
+        source[s + 1],
+        source[s + 2],
+        source[s + 3]);
+    }
+  }
+
+  /**
+   * Unpack {@code count} signed {@code with-zero} {@code GL_INT_2_10_10_10_REV}
+   * vectors from {@code source}, starting at {@code sourceOffset}, writing four
+   * values {@code x, y, z, w} per vector to {@code target} starting at
+   * {@code targetOffset}. Each component is converted as with
+   * {@link NFPSignedFloatInt#fromSignedNormalizedWithZero(int, int)}.
+   *
+   * @param source       The source vectors
+   * @param sourceOffset The index of the first source vector
+   * @param target       The target array
+   * @param targetOffset The index of the first target value
+   * @param count        The number of vectors to convert
+   *
+   * @throws IndexOutOfBoundsException If either range is out of bounds
+   */
+
+  public static void decodeSignedWithZero2101010Rev(
+    final int[] source,
+    final int sourceOffset,
+    final float[] target,
+    final int targetOffset,
+    final int count)
+  {
+    Objects.checkFromIndexSize(sourceOffset, count, source.length);
+    Objects.checkFromIndexSize(
+      targetOffset, Math.multiplyExact(count, 4), target.length);
+
+    for (int index = 0; index < count; ++index) {
+      unpackSignedWithZero(
+        source[sourceOffset + index], target, targetOffset + (index * 4));
+    }
+  }
+
+  /**
+   * Pack all remaining values in {@code source} into signed {@code with-zero}
+   * {@code GL_INT_2_10_10_10_REV} format, writing the results to
+   * {@code target}.
+   *
+   * @param source The source values, in the range {@code [-1, 1]}
+   * @param target The target buffer
+   *
+   * @throws IllegalArgumentException If the number of remaining source values
+   *                                  is not a multiple of 4
+   * @throws BufferOverflowException  If {@code target} has insufficient
+   *                                  remaining space
+   * @see #encodeSignedWithZero2101010Rev(float[], int, int[], int, int)
+   */
+
+  public static void encodeSignedWithZero2101010Rev(
+    final FloatBuffer source,
+    final ByteBuffer target)
+  {
+    Objects.requireNonNull(source, "source");
+    Objects.requireNonNull(target, "target");
+
+    final int count = checkedVectors(source.remaining());
+    if ((long) count * 4L > (long) target.remaining()) {
+      throw new BufferOverflowException();
+    }
+
+    final int sp = source.position();
+    final int tp = target.position();
+    for (int index = 0; index < count; ++index) {
+      final int s = sp + (index * 4);
+      target.putInt(tp + (index * 4), packSignedWithZero(
+        source.get(s),
+        source.get(s + 1),
+        source.get(s + 2),
+        source.get(s + 3)));
+    }
+
+    source.position(sp + (count * 4));
+    target.position(tp + (count * 4));
+  }
+
+  /**
+   * Unpack signed {@code with-zero} {@code GL_INT_2_10_10_10_REV} vectors from
+   * {@code source}, filling all remaining space in {@code target}.
+   *
+   * @param source The source buffer
+   * @param target The target values
+   *
+   * @throws IllegalArgumentException If the number of remaining target values
+   *                                  is not a multiple of 4
+   * @throws BufferUnderflowException If {@code source} has too few remaining
+   *                                  vectors
+   * @see #decodeSignedWithZero2101010Rev(int[], int, float[], int, int)
+   */
+
+  public static void decodeSignedWithZero2101010Rev(
+    final ByteBuffer source,
+    final FloatBuffer target)
+  {
+    Objects.requireNonNull(source, "source");
+    Objects.requireNonNull(target, "target");
+
+    final int count = checkedVectors(target.remaining());
+    if ((long) count * 4L > (long) source.remaining()) {
+      throw new BufferUnderflowException();
+    }
+
+    final int sp = source.position();
+    final int tp = target.position();
+    for (int index = 0; index < count; ++index) {
+      unpackSignedWithZero(
+        source.getInt(sp + (index * 4)), target, tp + (index * 4));
+    }
+
+    source.position(sp + (count * 4));
+    target.position(tp + (count * 4));
+  }
+
+  private static int packSignedWithoutZero(
+    final float x,
+    final float y,
+    final float z,
+    final float w)
+  {
+    final int kx = withoutZero(x, SIGNED_WITHOUT_ZERO_SCALE_10) & 0x3ff;
+    final int ky = (withoutZero(y, SIGNED_WITHOUT_ZERO_SCALE_10) & 0x3ff) << 10;
+    final int kz = (withoutZero(z, SIGNED_WITHOUT_ZERO_SCALE_10) & 0x3ff) << 20;
+    final int kw = (withoutZero(w, SIGNED_WITHOUT_ZERO_SCALE_2) & 0x3) << 30;
+    return kx + ky + kz + kw;
+  }
+
+  private static void unpackSignedWithoutZero(
+    final int p,
+    final float[] target,
+    final int offset)
+  {
+    final int fx = (p << 22) >> 22;
+    final int fy = (p << 12) >> 22;
+    final int fz = (p << 2) >> 22;
+    final int fw = p >> 30;
+    target[offset] = (
+      (2.0f * (float) fx) + 1.0f) / SIGNED_WITHOUT_ZERO_SCALE_10;
+    target[offset + 1] = (
+      (2.0f * (float) fy) + 1.0f) / SIGNED_WITHOUT_ZERO_SCALE_10;
+    target[offset + 2] = (
+      (2.0f * (float) fz) + 1.0f) / SIGNED_WITHOUT_ZERO_SCALE_10;
+    target[offset + 3] = (
+      (2.0f * (float) fw) + 1.0f) / SIGNED_WITHOUT_ZERO_SCALE_2;
+  }
+
+  private static void unpackSignedWithoutZero(
+    final int p,
+    final FloatBuffer target,
+    final int offset)
+  {
+    final int fx = (p << 22) >> 22;
+    final int fy = (p << 12) >> 22;
+    final int fz = (p << 2) >> 22;
+    final int fw = p >> 30;
+    target.put(
+      offset, ((2.0f * (float) fx) + 1.0f) / SIGNED_WITHOUT_ZERO_SCALE_10);
+    target.put(
+      offset + 1, ((2.0f * (float) fy) + 1.0f) / SIGNED_WITHOUT_ZERO_SCALE_10);
+    target.put(
+      offset + 2, ((2.0f * (float) fz) + 1.0f) / SIGNED_WITHOUT_ZERO_SCALE_10);
+    target.put(
+      offset + 3, ((2.0f * (float) fw) + 1.0f) / SIGNED_WITHOUT_ZERO_SCALE_2);
+  }
+
+  /**
+   * Pack {@code count} vectors from {@code source}, starting at
+   * {@code sourceOffset}, into signed {@code without-zero}
+   * {@code GL_INT_2_10_10_10_REV} format, writing the results to {@code target}
+   * starting at {@code targetOffset}. Each vector is read as four consecutive
+   * values {@code x, y, z, w}, and each component is converted as with
+   * {@link NFPSignedFloatInt#toSignedNormalizedWithoutZero(float, int)}.
+   *
+   * @param source       The source values, in the range {@code [-1, 1]}
+   * @param sourceOffset The index of the first source value
+   * @param target       The target array
+   * @param targetOffset The index of the first target vector
+   * @param count        The number of vectors to convert
+   *
+   * @throws IndexOutOfBoundsException If either range is out of bounds
+   */
+
+  public static void encodeSignedWithoutZero2101010Rev(
+    final float[] source,
+    final int sourceOffset,
+    final int[] target,
+    final int targetOffset,
+    final int count)
+  {
+    Objects.checkFromIndexSize(
+      sourceOffset, Math.multiplyExact(count, 4), source.length);
+    Objects.checkFromIndexSize(targetOffset, count, target.length);
+
+    for (int index = 0; index < count; ++index) {
+      final int s = sourceOffset + (index * 4);
+      target[targetOffset + index] = packSignedWithoutZero(
+        source[s],
+        source[s + 1],
+        source[s + 2],
+        source[s + 3]);
+    }
+  }
+
+  /**
+   * Unpack {@code count} signed {@code without-zero}
+   * {@code GL_INT_2_10_10_10_REV} vectors from {@code source}, starting at
+   * {@code sourceOffset}, writing four values {@code x, y, z, w} per vector to
+   * {@code target} starting at {@code targetOffset}. Each component is
+   * converted as with
+   * {@link NFPSignedFloatInt#fromSignedNormalizedWithoutZero(int, int)}.
+   *
+   * @param source       The source vectors
+   * @param sourceOffset The index of the first source vector
+   * @param target       The target array
+   * @param targetOffset The index of the first target value
+   * @param count        The number of vectors to convert
+   *
+   * @throws IndexOutOfBoundsException If either range is out of bounds
+   */
+
+  public static void decodeSignedWithoutZero2101010Rev(
+    final int[] source,
+    final int sourceOffset,
+    final float[] target,
+    final int targetOffset,
+    final int count)
+  {
+    Objects.checkFromIndexSize(sourceOffset, count, source.length);
+    Objects.checkFromIndexSize(
+      targetOffset, Math.multiplyExact(count, 4), target.length);
+
+    for (int index = 0; index < count; ++index) {
+      unpackSignedWithoutZero(
+        source[sourceOffset + index], target, targetOffset + (index * 4));
+    }
+  }
+
+  /**
+   * Pack all remaining values in {@code source} into signed
+   * {@code without-zero} {@code GL_INT_2_10_10_10_REV} format, writing the
+   * results to {@code target}.
+   *
+   * @param source The source values, in the range {@code [-1, 1]}
+   * @param target The target buffer
+   *
+   * @throws IllegalArgumentException If the number of remaining source values
+   *                                  is not a multiple of 4
+   * @throws BufferOverflowException  If {@code target} has insufficient
+   *                                  remaining space
+   * @see #encodeSignedWithoutZero2101010Rev(float[], int, int[], int, int)
+   */
+
+  public static void encodeSignedWithoutZero2101010Rev(
+    final FloatBuffer source,
+    final ByteBuffer target)
+  {
+    Objects.requireNonNull(source, "source");
+    Objects.requireNonNull(target, "target");
+
+    final int count = checkedVectors(source.remaining());
+    if ((long) count * 4L > (long) target.remaining()) {
+      throw new BufferOverflowException();
+    }
+
+    final int sp = source.position();
+    final int tp = target.position();
+    for (int index = 0; index < count; ++index) {
+      final int s = sp + (index * 4);
+      target.putInt(tp + (index * 4), packSignedWithoutZero(
+        source.get(s),
+        source.get(s + 1),
+        source.get(s + 2),
+        source.get(s + 3)));
+    }
+
+    source.position(sp + (count * 4));
+    target.position(tp + (count * 4));
+  }
+
+  /**
+   * Unpack signed {@code without-zero} {@code GL_INT_2_10_10_10_REV} vectors
+   * from {@code source}, filling all remaining space in {@code target}.
+   *
+   * @param source The source buffer
+   * @param target The target values
+   *
+   * @throws IllegalArgumentException If the number of remaining target values
+   *                                  is not a multiple of 4
+   * @throws BufferUnderflowException If {@code source} has too few remaining
+   *                                  vectors
+   * @see #decodeSignedWithoutZero2101010Rev(int[], int, float[], int, int)
+   */
+
+  public static void decodeSignedWithoutZero2101010Rev(
+    final ByteBuffer source,
+    final FloatBuffer target)
+  {
+    Objects.requireNonNull(source, "source");
+    Objects.requireNonNull(target, "target");
+
+    final int count = checkedVectors(target.remaining());
+    if ((long) count * 4L > (long) source.remaining()) {
+      throw new BufferUnderflowException();
+    }
+
+    final int sp = source.position();
+    final int tp = target.position();
+    for (int index = 0; index < count; ++index) {
+      unpackSignedWithoutZero(
+        source.getInt(sp + (index * 4)), target, tp + (index * 4));
+    }
+
+    source.position(sp + (count * 4));
+    target.position(tp + (count * 4));
+  }
+}
@@ -0,0 +1,320 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jnfp.core;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * <p>A fixed-size array of normalized fixed-point values, packed tightly
+ * into a {@code long[]}.</p>
+ *
+ * <p>An array of {@code n} values with {@code b} bits of precision occupies
+ * {@code ceil((n * b) / 64)} {@code long} words. Value {@code i} occupies
+ * bits {@code [i * b, (i + 1) * b)} of the array, where bit {@code j} is
+ * bit {@code j % 64} of word {@code j / 64}, and so a value may straddle
+ * two adjacent words. Signed values are stored in two's complement
+ * form.</p>
+ *
+ * <p>Values are converted to and from floating point format using the
+ * array's {@link NFPCodec}, and so conversions produce results identical to
+ * those of {@link NFPUnsignedDoubleLong} and {@link NFPSignedDoubleLong}.</p>
+ *
+ * <p>Arrays are not thread-safe.</p>
+ */
+
+public final class NFPPackedArray
+{
+  private final NFPCodec codec;
+  private final int size;
+  private final int bits;
+  private final long mask;
+  private final boolean signed;
+  private final long[] words;
+
+  private NFPPackedArray(
+    final NFPCodec inCodec,
+    final int inSize)
+  {
+    this.codec = inCodec;
+    this.size = inSize;
+    this.bits = inCodec.bits();
+    this.mask = this.bits == 64 ? -1L : (1L << this.bits) - 1L;
+    this.signed = inCodec.representation().isSigned();
+    this.words = new long[wordsFor(this.bits, inSize)];
+  }
+
+  private static int wordsFor(
+    final int bits,
+    final int size)
+  {
+    return (int) ((((long) bits * (long) size) + 63L) >>> 6);
+  }
+
+  /**
+   * Create a new array of {@code size} values, all of which are initially
+   * zero.
+   *
+   * @param codec The codec that defines the representation and precision of
+   *              values
+   * @param size  The number of values
+   *
+   * @return A new array
+   *
+   * @throws IllegalArgumentException If {@code size} is negative
+   */
+
+  public static NFPPackedArray create(
+    final NFPCodec codec,
+    final int size)
+  {
+    Objects.requireNonNull(codec, "codec");
+    if (size < 0) {
+      throw new IllegalArgumentException(
+        String.format("Size %d must be non-negative", size));
+    }
+    return new NFPPackedArray(codec, size);
+  }
+
+  /**
+   * @return The codec that defines the representation and precision of
+   * values
+   */
+
+  public NFPCodec codec()
+  {
+    return this.codec;
+  }
+
+  /**
+   * @return The number of values in the array
+   */
+
+  public int size()
+  {
+    return this.size;
+  }
+
+  /**
+   * @return The number of {@code long} words used to store the values
+   */
+
+  public int wordCount()
+  {
+    return this.words.length;
+  }
+
+  private long read(
+    final long bit)
+  {
+    final int word = (int) (bit >>> 6);
+    final int shift = (int) (bit & 63L);
+    long raw = this.words[word] >>> shift;
+    if (shift + this.bits > 64) {
+      raw |= this.words[word + 1] << (64 - shift);
+    }
+    raw &= this.mask;
+    if (this.signed) {
+      final int extend = 64 - this.bits;
+      return (raw << extend) >> extend;
+    }
+    return raw;
+  }
+
+  private void write(
+    final long bit,
+    final long value)
+  {
+    final int word = (int) (bit >>> 6);
+    final int shift = (int) (bit & 63L);
+    final long v = value & this.mask;
+    this.words[word] =
+      (this.words[word] & ~(this.mask << shift)) | (v << shift);
+    if (shift + this.bits > 64) {
+      final int high = 64 - shift;
+      this.words[word + 1] =
+        (this.words[word + 1] & ~(this.mask >>> high)) | (v >>> high);
+    }
+  }
+
+  /**
+   * Retrieve the fixed-point value at {@code index}. Signed values are
+   * sign-extended; unsigned values are zero-extended.
+   *
+   * @param index The index
+   *
+   * @return The fixed-point value
+   *
+   * @throws IndexOutOfBoundsException If {@code index} is out of bounds
+   */
+
+  public long getRaw(
+    final int index)
+  {
+    Objects.checkIndex(index, this.size);
+    return this.read((long) index * (long) this.bits);
+  }
+
+  /**
+   * Set the fixed-point value at {@code index}. Only the low {@code b} bits
+   * of {@code value} are stored.
+   *
+   * @param index The index
+   * @param value The fixed-point value
+   *
+   * @throws IndexOutOfBoundsException If {@code index} is out of bounds
+   */
+
+  public void setRaw(
+    final int index,
+    final long value)
+  {
+    Objects.checkIndex(index, this.size);
+    this.write((long) index * (long) this.bits, value);
+  }
+
+  /**
+   * Retrieve the value at {@code index} in floating point format.
+   *
+   * @param index The index
+   *
+   * @return The value at {@code index}
+   *
+   * @throws IndexOutOfBoundsException If {@code index} is out of bounds
+   * @see NFPCodec#decode(long)
+   */
+
+  public double get(
+    final int index)
+  {
+    return this.codec.decode(this.getRaw(index));
+  }
+
+  /**
+   * Convert {@code x} to fixed-point format and store it at {@code index}.
+   *
+   * @param index The index
+   * @param x     The value
+   *
+   * @throws IndexOutOfBoundsException If {@code index} is out of bounds
+   * @see NFPCodec#encode(double)
+   */
+
+  public void set(
+    final int index,
+    final double x)
+  {
+    this.setRaw(index, this.codec.encode(x));
+  }
+
+  /**
+   * Convert {@code count} values, starting at {@code index}, to floating
+   * point format, writing the results to {@code target} starting at
+   * {@code targetOffset}. The results are identical to those produced by
+   * calling {@link #get(int)} for each value.
+   *
+   * @param index        The index of the first value
+   * @param target       The target array
+   * @param targetOffset The index of the first target value
+   * @param count        The number of values to convert
+   *
+   * @throws IndexOutOfBoundsException If either range is out of bounds
+   */
+
+  public void decode(
+    final int index,
+    final double[] target,
+    final int targetOffset,
+    final int count)
+  {
+    Objects.checkFromIndexSize(index, count, this.size);
+    Objects.checkFromIndexSize(targetOffset, count, target.length);
+
+    final NFPCodec c = this.codec;
+    final long b = this.bits;
+    long bit = (long) index * b;
+    for (int offset = 0; offset < count; ++offset) {
+      target[targetOffset + offset] = c.decode(this.read(bit));
+      bit += b;
+    }
+  }
+
+  /**
+   * Convert {@code count} values from {@code source}, starting at
+   * {@code sourceOffset}, to fixed-point format, storing the results
+   * starting at {@code index}. The results are identical to those produced
+   * by calling {@link #set(int, double)} for each value.
+   *
+   * @param source       The source values
+   * @param sourceOffset The index of the first source value
+   * @param index        The index of the first value to store
+   * @param count        The number of values to convert
+   *
+   * @throws IndexOutOfBoundsException If either range is out of bounds
+   */
+
+  public void encode(
+    final double[] source,
+    final int sourceOffset,
+    final int index,
+    final int count)
+  {
+    Objects.checkFromIndexSize(sourceOffset, count, source.length);
+    Objects.checkFromIndexSize(index, count, this.size);
+
+    final NFPCodec c = this.codec;
+    final long b = this.bits;
+    long bit = (long) index * b;
+    for (int offset = 0; offset < count; ++offset) {
+      this.write(bit, c.encode(source[sourceOffset + offset]));
+      bit += b;
+    }
+  }
+
+  @Override
+  public boolean equals(
+    final Object other)
+  {
+    if (this == other) {
+      return true;
+    }
+    if (other == null || !Objects.equals(this.getClass(), other.getClass())) {
+      return false;
+    }
+    final NFPPackedArray array = (NFPPackedArray) other;
+    return this.size == array.size
+           && this.codec.equals(array.codec)
+           && Arrays.equals(this.words, array.words);
+  }
+
+  @Override
+  public int hashCode()
+  {
+    return Objects.hash(
+      this.codec,
+      Integer.valueOf(this.size),
+      Integer.valueOf(Arrays.hashCode(this.words)));
+  }
+
+  @Override
+  public String toString()
+  {
+    return String.format(
+      "[NFPPackedArray %s %d]", this.codec, Integer.valueOf(this.size));
+  }
+}
@@ -0,0 +1,392 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jnfp.core;
+
+import com.io7m.junreachable.UnreachableCodeException;
+
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * <p>Parallel bulk conversion of normalized fixed-point values.</p>
+ *
+ * <p>The functions in this class split a range of values into pieces and
+ * convert the pieces in parallel on a {@link ForkJoinPool}, using the bulk
+ * functions of {@link NFPCodec}. The results are identical to those produced
+ * by the corresponding {@link NFPCodec} functions.</p>
+ *
+ * <p>Ranges are split until each piece has a working set (the source and
+ * target values together) of at most {@link #LEAF_BYTES} bytes, which is
+ * chosen to fit comfortably within the per-core L2 cache of current
+ * processors. Ranges no larger than a single piece are converted directly on
+ * the calling thread.</p>
+ */
+
+public final class NFPParallel
+{
+  /**
+   * The maximum working set, in bytes, of a single piece of a conversion.
+   */
+
+  public static final int LEAF_BYTES = 256 * 1024;
+
+  private NFPParallel()
+  {
+    throw new UnreachableCodeException();
+  }
+
+  interface KernelType
+  {
+    void convert(
+      int offset,
+      int count);
+  }
+
+  private static void split(
+    final KernelType kernel,
+    final int offset,
+    final int count,
+    final int leaf)
+  {
+    if (count <= leaf) {
+      kernel.convert(offset, count);
+      return;
+    }
+
+    final int half = count >>> 1;
+    ForkJoinTask.invokeAll(
+      ForkJoinTask.adapt(() -> split(kernel, offset, half, leaf)),
+      ForkJoinTask.adapt(
+        () -> split(kernel, offset + half, count - half, leaf)));
+  }
+
+  static void run(
+    final ForkJoinPool pool,
+    final KernelType kernel,
+    final int count,
+    final int elementBytes)
+  {
+    final int leaf = Math.max(1, LEAF_BYTES / elementBytes);
+    if (count <= leaf) {
+      kernel.convert(0, count);
+      return;
+    }
+    pool.invoke(ForkJoinTask.adapt(() -> split(kernel, 0, count, leaf)));
+  }
+
+  /**
+   * Convert {@code count} values from {@code source}, starting at
+   * {@code sourceOffset}, to floating point format using {@code codec},
+   * writing the results to {@code target} starting at {@code targetOffset}.
+   *
+   * @param pool         The pool that will execute the conversion
+   * @param codec        The codec
+   * @param source       The source values
+   * @param sourceOffset The index of the first source value
+   * @param target       The target array
+   * @param targetOffset The index of the first target value
+   * @param count        The number of values to convert
+   *
+   * @throws IndexOutOfBoundsException If either range is out of bounds
+   * @see NFPCodec#decode(long[], int, double[], int, int)
+   */
+
+  public static void decode(
+    final ForkJoinPool pool,
+    final NFPCodec codec,
+    final long[] source,
+    final int sourceOffset,
+    final double[] target,
+    final int targetOffset,
+    final int count)
+  {
+    Objects.requireNonNull(pool, "pool");
+    Objects.requireNonNull(codec, "codec");
+    Objects.checkFromIndexSize(sourceOffset, count, source.length);
+    Objects.checkFromIndexSize(targetOffset, count, target.length);
+
+    run(
+      pool,
+      (offset, size) -> codec.decode(
+        source, sourceOffset + offset, target, targetOffset + offset, size),
+      count,
+      16);
+  }
+
+  /**
+   * Convert values as with
+   * {@link #decode(ForkJoinPool, NFPCodec, long[], int, double[], int, int)},
+   * using the {@link ForkJoinPool#commonPool() common pool}.
+   *
+   * @param codec        The codec
+   * @param source       The source values
+   * @param sourceOffset The index of the first source value
+   * @param target       The target array
+   * @param targetOffset The index of the first target value
+   * @param count        The number of values to convert
+   *
+   * @throws IndexOutOfBoundsException If either range is out of bounds
+   */
+
+  public static void decode(
+    final NFPCodec codec,
+    final long[] source,
+    final int sourceOffset,
+    final double[] target,
+    final int targetOffset,
+    final int count)
+  {
+    decode(
+      ForkJoinPool.commonPool(),
+      codec,
+      source,
+      sourceOffset,
+      target,
+      targetOffset,
+      count);
+  }
+
+  /**
+   * Convert {@code count} values from {@code source}, starting at
+   * {@code sourceOffset}, to fixed-point format using {@code codec}, writing
+   * the results to {@code target} starting at {@code targetOffset}.
+   *
+   * @param pool         The pool that will execute the conversion
+   * @param codec        The codec
+   * @param source       The source values
+   * @param sourceOffset The index of the first source value
+   * @param target       The target array
+   * @param targetOffset The index of the first target value
+   * @param count        The number of values to convert
+   *
+   * @throws IndexOutOfBoundsException If either range is out of bounds
+   * @see NFPCodec#encode(double[], int, long[], int, int)
+   */
+
+  public static void encode(
+    final ForkJoinPool pool,
+    final NFPCodec codec,
+    final double[] source,
+    final int sourceOffset,
+    final long[] target,
+    final int targetOffset,
+    final int count)
+  {
+    Objects.requireNonNull(pool, "pool");
+    Objects.requireNonNull(codec, "codec");
+    Objects.checkFromIndexSize(sourceOffset, count, source.length);
+    Objects.checkFromIndexSize(targetOffset, count, target.length);
+
+    run(
+      pool,
+      (offset, size) -> codec.encode(
+        source, sourceOffset + offset, target, targetOffset + offset, size),
+      count,
+      16);
+  }
+
+  /**
+   * Convert values as with
+   * {@link #encode(ForkJoinPool, NFPCodec, double[], int, long[], int, int)},
+   * using the {@link ForkJoinPool#commonPool() common pool}.
+   *
+   * @param codec        The codec
+   * @param source       The source values
+   * @param sourceOffset The index of the first source value
+   * @param target       The target array
+   * @param targetOffset The index of the first target value
+   * @param count        The number of values to convert
+   *
+   * @throws IndexOutOfBoundsException If either range is out of bounds
+   */
+
+  public static void encode(
+    final NFPCodec codec,
+    final double[] source,
+    final int sourceOffset,
+    final long[] target,
+    final int targetOffset,
+    final int count)
+  {
+    encode(
+      ForkJoinPool.commonPool(),
+      codec,
+      source,
+      sourceOffset,
+      target,
+      targetOffset,
+      count);
+  }
+
+  /**
+   * Convert {@code count} values from {@code source}, starting at
+   * {@code sourceOffset}, to floating point format using {@code codec},
+   * writing the results to {@code target} starting at {@code targetOffset}.
+   * The codec must have at most {@code 32} bits of precision.
+   *
+   * @param pool         The pool that will execute the conversion
+   * @param codec        The codec
+   * @param source       The source values
+   * @param sourceOffset The index of the first source value
+   * @param target       The target array
+   * @param targetOffset The index of the first target value
+   * @param count        The number of values to convert
+   *
+   * @throws IllegalArgumentException  If the codec has more than {@code 32}
+   *                                   bits of precision
+   * @throws IndexOutOfBoundsException If either range is out of bounds
+   * @see NFPCodec#decodeFloat(int[], int, float[], int, int)
+   */
+
+  public static void decodeFloat(
+    final ForkJoinPool pool,
+    final NFPCodec codec,
+    final int[] source,
+    final int sourceOffset,
+    final float[] target,
+    final int targetOffset,
+    final int count)
+  {
+    Objects.requireNonNull(pool, "pool");
+    Objects.requireNonNull(codec, "codec");
+    codec.checkFloat();
+    Objects.checkFromIndexSize(sourceOffset, count, source.length);
+    Objects.checkFromIndexSize(targetOffset, count, target.length);
+
+    run(
+      pool,
+      (offset, size) -> codec.decodeFloat(
+        source, sourceOffset + offset, target, targetOffset + offset, size),
+      count,
+      8);
+  }
+
+  /**
+   * Convert values as with
+   * {@link #decodeFloat(ForkJoinPool, NFPCodec, int[], int, float[], int,
+   * int)}, using the {@link ForkJoinPool#commonPool() common pool}.
+   *
+   * @param codec        The codec
+   * @param source       The source values
+   * @param sourceOffset The index of the first source value
+   * @param target       The target array
+   * @param targetOffset The index of the first target value
+   * @param count        The number of values to convert
+   *
+   * @throws IllegalArgumentException  If the codec has more than {@code 32}
+   *                                   bits of precision
+   * @throws IndexOutOfBoundsException If either range is out of bounds
+   */
+
+  public static void decodeFloat(
+    final NFPCodec codec,
+    final int[] source,
+    final int sourceOffset,
+    final float[] target,
+    final int targetOffset,
+    final int count)
+  {
+    decodeFloat(
+      ForkJoinPool.commonPool(),
+      codec,
+      source,
+      sourceOffset,
+      target,
+      targetOffset,
+      count);
+  }
+
+  /**
+   * Convert {@code count} values from {@code source}, starting at
+   * {@code sourceOffset}, to fixed-point format using {@code codec}, writing
+   * the results to {@code target} starting at {@code targetOffset}. The codec
+   * must have at most {@code 32} bits of precision.
+   *
+   * @param pool         The pool that will execute the conversion
+   * @param codec        The codec
+   * @param source       The source values
+   * @param sourceOffset The index of the first source value
+   * @param target       The target array
+   * @param targetOffset The index of the first target value
+   * @param count        The number of values to convert
+   *
+   * @throws IllegalArgumentException  If the codec has more than {@code 32}
+   *                                   bits of precision
+   * @throws IndexOutOfBoundsException If either range is out of bounds
+   * @see NFPCodec#encodeFloat(float[], int, int[], int, int)
+   */
+
+  public static void encodeFloat(
+    final ForkJoinPool pool,
+    final NFPCodec codec,
+    final float[] source,
+    final int sourceOffset,
+    final int[] target,
+    final int targetOffset,
+    final int count)
+  {
+    Objects.requireNonNull(pool, "pool");
+    Objects.requireNonNull(codec, "codec");
+    codec.checkFloat();
+    Objects.checkFromIndexSize(sourceOffset, count, source.length);
+    Objects.checkFromIndexSize(targetOffset, count, target.length);
+
+    run(
+      pool,
+      (offset, size) -> codec.encodeFloat(
+        source, sourceOffset + offset, target, targetOffset + offset, size),
+      count,
+      8);
+  }
+
+  /**
+   * Convert values as with
+   * {@link #encodeFloat(ForkJoinPool, NFPCodec, float[], int, int[], int,
+   * int)}, using the {@link ForkJoinPool#commonPool() common pool}.
+   *
+   * @param codec        The codec
+   * @param source       The source values
+   * @param sourceOffset The index of the first source value
+   * @param target       The target array
+   * @param targetOffset The index of the first target value
+   * @param count        The number of values to convert
+   *
+   * @throws IllegalArgumentException  If the codec has more than {@code 32}
+   *                                   bits of precision
+   * @throws IndexOutOfBoundsException If either range is out of bounds
+   */
+
+  public static void encodeFloat(
+    final NFPCodec codec,
+    final float[] source,
+    final int sourceOffset,
+    final int[] target,
+    final int targetOffset,
+    final int count)
+  {
+    encodeFloat(
+      ForkJoinPool.commonPool(),
+      codec,
+      source,
+      sourceOffset,
+      target,
+      targetOffset,
+      count);
+  }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jnfp.core;
+
+import com.io7m.junreachable.UnreachableCodeException;
+
+/**
+ * <p>Exact powers of two.</p>
+ *
+ * <p>The conversion functions need {@code 2 ^ b} for small integer values of
+ * {@code b}. The results of this class are bit-for-bit identical to those of
+ * {@code StrictMath.pow(2.0, b)} but are computed by constructing the
+ * floating point value directly. When {@code b} is a constant, the compiler
+ * is able to fold the entire computation away.</p>
+ */
+
+final class NFPPowers
+{
+  private NFPPowers()
+  {
+    throw new UnreachableCodeException();
+  }
+
+  /**
+   * @param b A value in the range {@code [-1022, 1023]}
+   *
+   * @return Exactly {@code 2 ^ b}
+   */
+
+  static double twoPow(
+    final int b)
+  {
+    return Double.longBitsToDouble((long) (b + 1023) << 52);
+  }
+}
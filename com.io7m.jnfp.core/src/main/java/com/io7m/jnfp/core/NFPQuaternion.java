@@ -0,0 +1,409 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jnfp.core;
+
+import com.io7m.junreachable.UnreachableCodeException;
+
+import java.util.Objects;
+
+/**
+ * <p>Compression of unit quaternions using the <i>smallest three</i>
+ * scheme.</p>
+ *
+ * <p>A unit quaternion {@code (x, y, z, w)} is negated if necessary so that
+ * its component with the largest magnitude is positive. The index
+ * {@code i} of that component is stored in two bits, and the remaining
+ * three components, which must lie in the range
+ * {@code [-1 / sqrt(2), 1 / sqrt(2)]}, are multiplied by {@code sqrt(2)}
+ * and converted to signed {@code with-zero} fixed-point values with
+ * {@code b} bits of precision, exactly as
+ * {@link NFPSignedFloatInt#toSignedNormalizedWithZero(float, int)} would
+ * convert them. The largest component is reconstructed on decoding from
+ * the unit length constraint.</p>
+ *
+ * <p>The three components are packed in their original order, with the
+ * first in the low {@code b} bits, the second in the next {@code b} bits,
+ * and the third in the next {@code b} bits. The index {@code i} is stored
+ * in the two bits following the third component. Quaternions may be packed
+ * into an {@code int} with {@code b} in the range {@code [2, 10]}, or into
+ * a {@code long} with {@code b} in the range {@code [2, 20]}.</p>
+ */
+
+public final class NFPQuaternion
+{
+  private static final float SQRT2 = (float) Math.sqrt(2.0);
+
+  private NFPQuaternion()
+  {
+    throw new UnreachableCodeException();
+  }
+
+  private static NFPCodec codec(
+    final int b,
+    final int maximum)
+  {
+    if (b < 2 || b > maximum) {
+      throw new IllegalArgumentException(
+        String.format("Bits %d must be in the range [2, %d]", b, maximum));
+    }
+    return NFPCodec.signedWithZero(b);
+  }
+
+  private static int largest(
+    final float x,
+    final float y,
+    final float z,
+    final float w)
+  {
+    int index = 0;
+    float maximum = Math.abs(x);
+    if (Math.abs(y) > maximum) {
+      index = 1;
+      maximum = Math.abs(y);
+    }
+    if (Math.abs(z) > maximum) {
+      index = 2;
+      maximum = Math.abs(z);
+    }
+    if (Math.abs(w) > maximum) {
+      index = 3;
+    }
+    return index;
+  }
+
+  private static float get(
+    final float x,
+    final float y,
+    final float z,
+    final float w,
+    final int index)
+  {
+    return switch (index) {
+      case 0 -> x;
+      case 1 -> y;
+      case 2 -> z;
+      default -> w;
+    };
+  }
+
+  private static long component(
+    final NFPCodec codec,
+    final float c)
+  {
+    final float s = Math.min(1.0f, Math.max(-1.0f, c * SQRT2));
+    return (long) codec.encodeFloat(s) & ((1L << codec.bits()) - 1L);
+  }
+
+  private static long packWith(
+    final NFPCodec codec,
+    final float x,
+    final float y,
+    final float z,
+    final float w)
+  {
+    final int index = largest(x, y, z, w);
+    final float sign = get(x, y, z, w, index) < 0.0f ? -1.0f : 1.0f;
+
+    final int b = codec.bits();
+    long p = 0L;
+    int shift = 0;
+    for (int c = 0; c < 4; ++c) {
+      if (c != index) {
+        p += component(codec, get(x, y, z, w, c) * sign) << shift;
+        shift += b;
+      }
+    }
+    return p + ((long) index << shift);
+  }
+
+  private static void unpackWith(
+    final NFPCodec codec,
+    final long p,
+    final float[] target,
+    final int targetOffset)
+  {
+    final int b = codec.bits();
+    final int index = (int) (p >>> (3 * b)) & 3;
+
+    float sum = 0.0f;
+    int shift = 0;
+    for (int c = 0; c < 4; ++c) {
+      if (c != index) {
+        final int k = (int) (p << (64 - b - shift) >> (64 - b));
+        final float v = codec.decodeFloat(k) / SQRT2;
+        target[targetOffset + c] = v;
+        sum += v * v;
+        shift += b;
+      }
+    }
+    target[targetOffset + index] =
+      (float) Math.sqrt(Math.max(0.0f, 1.0f - sum));
+  }
+
+  /**
+   * Pack the unit quaternion {@code (x, y, z, w)} into an {@code int}.
+   *
+   * @param x The x component
+   * @param y The y component
+   * @param z The z component
+   * @param w The w component
+   * @param b The precision of each stored component, in the range
+   *          {@code [2, 10]}
+   *
+   * @return The packed quaternion
+   *
+   * @throws IllegalArgumentException If {@code b} is out of range
+   */
+
+  public static int packInt(
+    final float x,
+    final float y,
+    final float z,
+    final float w,
+    final int b)
+  {
+    return (int) packWith(codec(b, 10), x, y, z, w);
+  }
+
+  /**
+   * Pack the unit quaternion {@code (x, y, z, w)} into a {@code long}.
+   *
+   * @param x The x component
+   * @param y The y component
+   * @param z The z component
+   * @param w The w component
+   * @param b The precision of each stored component, in the range
+   *          {@code [2, 20]}
+   *
+   * @return The packed quaternion
+   *
+   * @throws IllegalArgumentException If {@code b} is out of range
+   */
+
+  public static long packLong(
+    final float x,
+    final float y,
+    final float z,
+    final float w,
+    final int b)
+  {
+    return packWith(codec(b, 20), x, y, z, w);
+  }
+
+  /**
+   * Unpack the quaternion {@code p}, writing the components
+   * {@code x, y, z, w} to {@code target} starting at {@code targetOffset}.
+   *
+   * @param p            The packed quaternion
+   * @param b            The precision of each stored component, in the
+   *                     range {@code [2, 10]}
+   * @param target       The target array
+   * @param targetOffset The index of the first target value
+   *
+   * @throws IllegalArgumentException  If {@code b} is out of range
+   * @throws IndexOutOfBoundsException If the target range is out of bounds
+   */
+
+  public static void unpackInt(
+    final int p,
+    final int b,
+    final float[] target,
+    final int targetOffset)
+  {
+    final NFPCodec codec = codec(b, 10);
+    Objects.checkFromIndexSize(targetOffset, 4, target.length);
+    unpackWith(codec, Integer.toUnsignedLong(p), target, targetOffset);
+  }
+
+  /**
+   * Unpack the quaternion {@code p}, writing the components
+   * {@code x, y, z, w} to {@code target} starting at {@code targetOffset}.
+   *
+   * @param p            The packed quaternion
+   * @param b            The precision of each stored component, in the
+   *                     range {@code [2, 20]}
+   * @param target       The target array
+   * @param targetOffset The index of the first target value
+   *
+   * @throws IllegalArgumentException  If {@code b} is out of range
+   * @throws IndexOutOfBoundsException If the target range is out of bounds
+   */
+
+  public static void unpackLong(
+    final long p,
+    final int b,
+    final float[] target,
+    final int targetOffset)
+  {
+    final NFPCodec codec = codec(b, 20);
+    Objects.checkFromIndexSize(targetOffset, 4, target.length);
+    unpackWith(codec, p, target, targetOffset);
+  }
+
+  /**
+   * Pack {@code count} unit quaternions from {@code source}, starting at
+   * {@code sourceOffset}, writing the results to {@code target} starting at
+   * {@code targetOffset}. Each quaternion is read as four consecutive values
+   * {@code x, y, z, w}.
+   *
+   * @param source       The source values
+   * @param sourceOffset The index of the first source value
+   * @param target       The target array
+   * @param targetOffset The index of the first target quaternion
+   * @param count        The number of quaternions to pack
+   * @param b            The precision of each stored component, in the
+   *                     range {@code [2, 10]}
+   *
+   * @throws IllegalArgumentException  If {@code b} is out of range
+   * @throws IndexOutOfBoundsException If either range is out of bounds
+   * @see #packInt(float, float, float, float, int)
+   */
+
+  public static void packInt(
+    final float[] source,
+    final int sourceOffset,
+    final int[] target,
+    final int targetOffset,
+    final int count,
+    final int b)
+  {
+    final NFPCodec codec = codec(b, 10);
+    Objects.checkFromIndexSize(
+      sourceOffset, Math.multiplyExact(count, 4), source.length);
+    Objects.checkFromIndexSize(targetOffset, count, target.length);
+
+    for (int index = 0; index < count; ++index) {
+      final int s = sourceOffset + (index * 4);
+      target[targetOffset + index] = (int) packWith(
+        codec, source[s], source[s + 1], source[s + 2], source[s + 3]);
+    }
+  }
+
+  /**
+   * Pack {@code count} unit quaternions from {@code source}, starting at
+   * {@code sourceOffset}, writing the results to {@code target} starting at
+   * {@code targetOffset}. Each quaternion is read as four consecutive values
+   * {@code x, y, z, w}.
+   *
+   * @param source       The source values
+   * @param sourceOffset The index of the first source value
+   * @param target       The target array
+   * @param targetOffset The index of the first target quaternion
+   * @param count        The number of quaternions to pack
+   * @param b            The precision of each stored component, in the
+   *                     range {@code [2, 20]}
+   *
+   * @throws IllegalArgumentException  If {@code b} is out of range
+   * @throws IndexOutOfBoundsException If either range is out of bounds
+   * @see #packLong(float, float, float, float, int)
+   */
+
+  public static void packLong(
+    final float[] source,
+    final int sourceOffset,
+    final long[] target,
+    final int targetOffset,
+    final int count,
+    final int b)
+  {
+    final NFPCodec codec = codec(b, 20);
+    Objects.checkFromIndexSize(
+      sourceOffset, Math.multiplyExact(count, 4), source.length);
+    Objects.checkFromIndexSize(targetOffset, count, target.length);
+
+    for (int index = 0; index < count; ++index) {
+      final int s = sourceOffset + (index * 4);
+      target[targetOffset + index] = packWith(
+        codec, source[s], source[s + 1], source[s + 2], source[s + 3]);
+    }
+  }
+
+  /**
+   * Unpack {@code count} quaternions from {@code source}, starting at
+   * {@code sourceOffset}, writing four values {@code x, y, z, w} per
+   * quaternion to {@code target} starting at {@code targetOffset}.
+   *
+   * @param source       The source quaternions
+   * @param sourceOffset The index of the first source quaternion
+   * @param target       The target array
+   * @param targetOffset The index of the first target value
+   * @param count        The number of quaternions to unpack
+   * @param b            The precision of each stored component, in the
+   *                     range {@code [2, 10]}
+   *
+   * @throws IllegalArgumentException  If {@code b} is out of range
+   * @throws IndexOutOfBoundsException If either range is out of bounds
+   * @see #unpackInt(int, int, float[], int)
+   */
+
+  public static void unpackInt(
+    final int[] source,
+    final int sourceOffset,
+    final float[] target,
+    final int targetOffset,
+    final int count,
+    final int b)
+  {
+    final NFPCodec codec = codec(b, 10);
+    Objects.checkFromIndexSize(sourceOffset, count, source.length);
+    Objects.checkFromIndexSize(
+      targetOffset, Math.multiplyExact(count, 4), target.length);
+
+    for (int index = 0; index < count; ++index) {
+      final long p = Integer.toUnsignedLong(source[sourceOffset + index]);
+      unpackWith(codec, p, target, targetOffset + (index * 4));
+    }
+  }
+
+  /**
+   * Unpack {@code count} quaternions from {@code source}, starting at
+   * {@code sourceOffset}, writing four values {@code x, y, z, w} per
+   * quaternion to {@code target} starting at {@code targetOffset}.
+   *
+   * @param source       The source quaternions
+   * @param sourceOffset The index of the first source quaternion
+   * @param target       The target array
+   * @param targetOffset The index of the first target value
+   * @param count        The number of quaternions to unpack
+   * @param b            The precision of each stored component, in the
+   *                     range {@code [2, 20]}
+   *
+   * @throws IllegalArgumentException  If {@code b} is out of range
+   * @throws IndexOutOfBoundsException If either range is out of bounds
+   * @see #unpackLong(long, int, float[], int)
+   */
+
+  public static void unpackLong(
+    final long[] source,
+    final int sourceOffset,
+    final float[] target,
+    final int targetOffset,
+    final int count,
+    final int b)
+  {
+    final NFPCodec codec = codec(b, 20);
+    Objects.checkFromIndexSize(sourceOffset, count, source.length);
+    Objects.checkFromIndexSize(
+      targetOffset, Math.multiplyExact(count, 4), target.length);
+
+    for (int index = 0; index < count; ++index) {
+      final long p = source[sourceOffset + index];
+      unpackWith(codec, p, target, targetOffset + (index * 4));
+    }
+  }
+}
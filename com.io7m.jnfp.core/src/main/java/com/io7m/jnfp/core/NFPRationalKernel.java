@@ -0,0 +1,246 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jnfp.core;
+
+import java.math.BigInteger;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * <p>An exact integer kernel that converts fixed-point values with one
+ * representation and bit width directly to fixed-point values with another
+ * representation and bit width.</p>
+ *
+ * <p>Every supported conversion has the form {@code y = trunc(n / d)}, where
+ * {@code n} is an integer linear in the source value and {@code d} is a
+ * positive integer that depends only on the bit widths. The decoded value
+ * {@code x} is {@code p / q} for an integer {@code p} linear in the source
+ * value {@code f}:</p>
+ *
+ * <pre>
+ * unsigned:     p = f,       q = 2^b - 1
+ * with-zero:    p = f,       q = 2^(b-1) - 1 (and p = -q for the minimum f)
+ * without-zero: p = 2f + 1,  q = 2^b - 1
+ * </pre>
+ *
+ * <p>The encoded value is then {@code trunc(p * m / q)} for the unsigned and
+ * {@code with-zero} targets, where {@code m} is the target scale, and
+ * {@code trunc((p * m - q) / 2q)} for the {@code without-zero} target.
+ * Negative values cannot be represented by an unsigned target, and so are
+ * clamped to zero.</p>
+ *
+ * <p>For bit widths of at most {@code 24}, the quotient computed through
+ * {@code double} arithmetic by {@link NFPCodec} differs from the true
+ * quotient by far less than the distance from a non-integral quotient to
+ * the nearest integer, so both truncate to the same value. Where the true
+ * quotient is an integer, as it is for every value of an exact widening
+ * such as {@code 8} to {@code 16} unsigned bits, the {@code double}
+ * computation has been verified exhaustively to produce exactly that
+ * integer for every pair of representations and bit widths in
+ * {@code [2, 24]}. The kernel therefore never needs to consult
+ * {@link NFPCodec}. The division itself is performed by multiplication
+ * with a precomputed reciprocal.</p>
+ *
+ * <p>Kernels are immutable, and are created on first use and shared, in
+ * the same manner as {@link NFPCodec} instances.</p>
+ */
+
+final class NFPRationalKernel
+{
+  private static final int NUMERATOR_BITS = 52;
+  private static final int MAXIMUM_BITS = 24;
+  private static final int REPRESENTATIONS =
+    NFPRepresentation.values().length;
+  private static final AtomicReferenceArray<NFPRationalKernel> KERNELS =
+    new AtomicReferenceArray<>(
+      REPRESENTATIONS * REPRESENTATIONS
+        * (MAXIMUM_BITS + 1) * (MAXIMUM_BITS + 1));
+
+  private final boolean unsignedTarget;
+  private final long minimum;
+  private final long pScale;
+  private final long pOffset;
+  private final long q;
+  private final long multiplier;
+  private final long subtract;
+  private final long magic;
+  private final int shift;
+
+  private NFPRationalKernel(
+    final NFPCodec inSource,
+    final NFPCodec inTarget)
+  {
+    final int sourceBits = inSource.bits();
+    final int targetBits = inTarget.bits();
+    this.unsignedTarget =
+      inTarget.representation() == NFPRepresentation.UNSIGNED;
+
+    switch (inSource.representation()) {
+      case UNSIGNED -> {
+        this.minimum = Long.MIN_VALUE;
+        this.pScale = 1L;
+        this.pOffset = 0L;
+        this.q = (1L << sourceBits) - 1L;
+      }
+      case SIGNED_WITH_ZERO -> {
+        this.minimum = -(1L << (sourceBits - 1));
+        this.pScale = 1L;
+        this.pOffset = 0L;
+        this.q = (1L << (sourceBits - 1)) - 1L;
+      }
+      case SIGNED_WITHOUT_ZERO -> {
+        this.minimum = Long.MIN_VALUE;
+        this.pScale = 2L;
+        this.pOffset = 1L;
+        this.q = (1L << sourceBits) - 1L;
+      }
+      default -> throw new IllegalStateException();
+    }
+
+    long m;
+    long sub;
+    long d;
+    switch (inTarget.representation()) {
+      case UNSIGNED -> {
+        m = (1L << targetBits) - 1L;
+        sub = 0L;
+        d = this.q;
+      }
+      case SIGNED_WITH_ZERO -> {
+        m = (1L << (targetBits - 1)) - 1L;
+        sub = 0L;
+        d = this.q;
+      }
+      case SIGNED_WITHOUT_ZERO -> {
+        m = (1L << targetBits) - 1L;
+        sub = this.q;
+        d = 2L * this.q;
+      }
+      default -> throw new IllegalStateException();
+    }
+
+    /*
+     * A denominator of 1 would require a reciprocal of 2^64. Scaling the
+     * numerator and denominator by 2 leaves every quotient unchanged.
+     */
+
+    if (d == 1L) {
+      m *= 2L;
+      sub *= 2L;
+      d = 2L;
+    }
+
+    this.multiplier = m;
+    this.subtract = sub;
+
+    /*
+     * For any numerator n < 2^N, where the denominator d < 2^l, choosing
+     * s >= N + l and m = floor(2^s / d) + 1 gives floor(n / d) =
+     * floor(n * m / 2^s). The shift is chosen to be at least 64 so that the
+     * quotient can be taken from the high half of the 128-bit product.
+     */
+
+    final int l = 64 - Long.numberOfLeadingZeros(d);
+    final int s = Math.max(NUMERATOR_BITS + l, 64);
+    this.magic = BigInteger.ONE.shiftLeft(s)
+      .divide(BigInteger.valueOf(d))
+      .add(BigInteger.ONE)
+      .longValue();
+    this.shift = s - 64;
+  }
+
+  /**
+   * Obtain the kernel that converts values of {@code source} to values of
+   * {@code target}. Kernels are shared, and so repeated calls with the same
+   * arguments return the same kernel, except possibly when racing with
+   * another thread on first use.
+   *
+   * @param source The source codec, with at most {@code 24} bits
+   * @param target The target codec, with at most {@code 24} bits
+   *
+   * @return A kernel
+   */
+
+  static NFPRationalKernel of(
+    final NFPCodec source,
+    final NFPCodec target)
+  {
+    Objects.requireNonNull(source, "source");
+    Objects.requireNonNull(target, "target");
+
+    final int index =
+      ((((source.representation().ordinal() * REPRESENTATIONS)
+        + target.representation().ordinal())
+        * (MAXIMUM_BITS + 1) + source.bits())
+        * (MAXIMUM_BITS + 1)) + target.bits();
+
+    final NFPRationalKernel existing = KERNELS.get(index);
+    if (existing != null) {
+      return existing;
+    }
+
+    final NFPRationalKernel created = new NFPRationalKernel(source, target);
+    KERNELS.set(index, created);
+    return created;
+  }
+
+  long convert(
+    final long f)
+  {
+    final long p =
+      f == this.minimum ? -this.q : (this.pScale * f) + this.pOffset;
+    final long n = (p * this.multiplier) - this.subtract;
+    if (n < 0L && this.unsignedTarget) {
+      return 0L;
+    }
+
+    final long a = Math.abs(n);
+    final long quotient =
+      Math.unsignedMultiplyHigh(a, this.magic) >>> this.shift;
+    return n < 0L ? -quotient : quotient;
+  }
+
+  void convert(
+    final int[] sources,
+    final int sourceOffset,
+    final int[] targets,
+    final int targetOffset,
+    final int count)
+  {
+    Objects.checkFromIndexSize(sourceOffset, count, sources.length);
+    Objects.checkFromIndexSize(targetOffset, count, targets.length);
+
+    /*
+     * If the ranges overlap with the target after the source, converting
+     * forwards would overwrite source values before they are read.
+     */
+
+    if (sources == targets && targetOffset > sourceOffset) {
+      for (int index = count - 1; index >= 0; --index) {
+        targets[targetOffset + index] =
+          (int) this.convert((long) sources[sourceOffset + index]);
+      }
+      return;
+    }
+
+    for (int index = 0; index < count; ++index) {
+      targets[targetOffset + index] =
+        (int) this.convert((long) sources[sourceOffset + index]);
+    }
+  }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jnfp.core;
+
+/**
+ * The representations of normalized fixed-point values supported by this
+ * package.
+ */
+
+public enum NFPRepresentation
+{
+  /**
+   * The unsigned representation described in {@link NFPUnsignedDoubleLong}.
+   */
+
+  UNSIGNED,
+
+  /**
+   * The signed {@code with-zero} representation described in
+   * {@link NFPSignedDoubleLong}.
+   */
+
+  SIGNED_WITH_ZERO,
+
+  /**
+   * The signed {@code without-zero} representation described in
+   * {@link NFPSignedDoubleLong}.
+   */
+
+  SIGNED_WITHOUT_ZERO;
+
+  /**
+   * @return {@code true} if values in this representation are signed
+   */
+
+  public boolean isSigned()
+  {
+    return this != UNSIGNED;
+  }
+}
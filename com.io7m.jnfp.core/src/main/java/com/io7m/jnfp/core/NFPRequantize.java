@@ -0,0 +1,199 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jnfp.core;
+
+import com.io7m.junreachable.UnreachableCodeException;
+
+/**
+ * <p>Conversion of normalized fixed-point values from one bit width to
+ * another, without leaving the integer domain.</p>
+ *
+ * <p>The functions in this class produce results identical to decoding each
+ * value with the source bit width and encoding the result with the target
+ * bit width using {@link NFPUnsignedDoubleLong} or
+ * {@link NFPSignedDoubleLong}. For example, converting from {@code 16} to
+ * {@code 8} bits using {@link #unsigned(int[], int, int[], int, int, int,
+ * int)} gives the same results as:</p>
+ *
+ * <pre>
+ * NFPUnsignedDoubleLong.toUnsignedNormalized(
+ *   NFPUnsignedDoubleLong.fromUnsignedNormalized(f, 16), 8)
+ * </pre>
+ *
+ * <p>Each conversion is evaluated as a single exact integer division by a
+ * constant, implemented as a multiplication by a precomputed reciprocal.
+ * The reciprocal for each pair of bit widths is computed on first use and
+ * shared by all subsequent calls, so converting short runs of values is
+ * cheap. The source values must lie within the range of their
+ * representation and bit width.</p>
+ */
+
+public final class NFPRequantize
+{
+  private static final int MAXIMUM_BITS = 24;
+
+  private NFPRequantize()
+  {
+    throw new UnreachableCodeException();
+  }
+
+  static void checkBits(
+    final int b)
+  {
+    if (b < 2 || b > MAXIMUM_BITS) {
+      throw new IllegalArgumentException(
+        String.format("Bits %d must be in the range [2, 24]", b));
+    }
+  }
+
+  private static void requantize(
+    final NFPRepresentation representation,
+    final int[] source,
+    final int sourceOffset,
+    final int[] target,
+    final int targetOffset,
+    final int count,
+    final int sourceBits,
+    final int targetBits)
+  {
+    checkBits(sourceBits);
+    checkBits(targetBits);
+
+    NFPRationalKernel.of(
+      NFPCodec.of(representation, sourceBits),
+      NFPCodec.of(representation, targetBits))
+      .convert(source, sourceOffset, target, targetOffset, count);
+  }
+
+  /**
+   * Convert {@code count} unsigned values from {@code source}, starting at
+   * {@code sourceOffset}, from {@code sourceBits} to {@code targetBits} bits
+   * of precision, writing the results to {@code target} starting at
+   * {@code targetOffset}. The source and target arrays may be the same, and
+   * the source and target ranges may overlap.
+   *
+   * @param source       The source values
+   * @param sourceOffset The index of the first source value
+   * @param target       The target array
+   * @param targetOffset The index of the first target value
+   * @param count        The number of values to convert
+   * @param sourceBits   The source precision, in the range {@code [2, 24]}
+   * @param targetBits   The target precision, in the range {@code [2, 24]}
+   *
+   * @throws IllegalArgumentException  If either bit width is out of range
+   * @throws IndexOutOfBoundsException If either range is out of bounds
+   */
+
+  public static void unsigned(
+    final int[] source,
+    final int sourceOffset,
+    final int[] target,
+    final int targetOffset,
+    final int count,
+    final int sourceBits,
+    final int targetBits)
+  {
+    requantize(
+      NFPRepresentation.UNSIGNED,
+      source,
+      sourceOffset,
+      target,
+      targetOffset,
+      count,
+      sourceBits,
+      targetBits);
+  }
+
+  /**
+   * Convert {@code count} signed {@code with-zero} values from
+   * {@code source}, starting at {@code sourceOffset}, from {@code sourceBits}
+   * to {@code targetBits} bits of precision, writing the results to
+   * {@code target} starting at {@code targetOffset}. The source and target
+   * arrays may be the same, and the source and target ranges may overlap.
+   *
+   * @param source       The source values
+   * @param sourceOffset The index of the first source value
+   * @param target       The target array
+   * @param targetOffset The index of the first target value
+   * @param count        The number of values to convert
+   * @param sourceBits   The source precision, in the range {@code [2, 24]}
+   * @param targetBits   The target precision, in the range {@code [2, 24]}
+   *
+   * @throws IllegalArgumentException  If either bit width is out of range
+   * @throws IndexOutOfBoundsException If either range is out of bounds
+   */
+
+  public static void signedWithZero(
+    final int[] source,
+    final int sourceOffset,
+    final int[] target,
+    final int targetOffset,
+    final int count,
+    final int sourceBits,
+    final int targetBits)
+  {
+    requantize(
+      NFPRepresentation.SIGNED_WITH_ZERO,
+      source,
+      sourceOffset,
+      target,
+      targetOffset,
+      count,
+      sourceBits,
+      targetBits);
+  }
+
+  /**
+   * Convert {@code count} signed {@code without-zero} values from
+   * {@code source}, starting at {@code sourceOffset}, from {@code sourceBits}
+   * to {@code targetBits} bits of precision, writing the results to
+   * {@code target} starting at {@code targetOffset}. The source and target
+   * arrays may be the same, and the source and target ranges may overlap.
+   *
+   * @param source       The source values
+   * @param sourceOffset The index of the first source value
+   * @param target       The target array
+   * @param targetOffset The index of the first target value
+   * @param count        The number of values to convert
+   * @param sourceBits   The source precision, in the range {@code [2, 24]}
+   * @param targetBits   The target precision, in the range {@code [2, 24]}
+   *
+   * @throws IllegalArgumentException  If either bit width is out of range
+   * @throws IndexOutOfBoundsException If either range is out of bounds
+   */
+
+  public static void signedWithoutZero(
+    final int[] source,
+    final int sourceOffset,
+    final int[] target,
+    final int targetOffset,
+    final int count,
+    final int sourceBits,
+    final int targetBits)
+  {
+    requantize(
+      NFPRepresentation.SIGNED_WITHOUT_ZERO,
+      source,
+      sourceOffset,
+      target,
+      targetOffset,
+      count,
+      sourceBits,
+      targetBits);
+  }
+}
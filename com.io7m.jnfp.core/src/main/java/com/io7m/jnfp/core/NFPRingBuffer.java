@@ -0,0 +1,327 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jnfp.core;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * <p>A bounded single-producer, single-consumer queue of floating point
+ * samples, stored as signed normalized fixed-point values.</p>
+ *
+ * <p>Samples are converted to fixed-point format when written, and back to
+ * floating point format when read, using the {@code with-zero}
+ * representation described in {@link NFPSignedFloatInt}. Each stored sample
+ * occupies {@code (b + 7) / 8} bytes, and so a buffer of {@code SNORM16}
+ * samples occupies half of the memory of a buffer of {@code float} values.
+ * Samples outside of the range {@code [-1, 1]} are clamped to that range
+ * before conversion; the results are otherwise identical to those produced
+ * by {@link NFPSignedFloatInt#toSignedNormalizedWithZero(float, int)} and
+ * {@link NFPSignedFloatInt#fromSignedNormalizedWithZero(int, int)}.</p>
+ *
+ * <p>Exactly one thread may write to a buffer and exactly one (possibly
+ * different) thread may read from it. Writes and reads are wait-free: they
+ * never block, never take locks, and never allocate. A write stores as many
+ * samples as there is free space for, and a read retrieves as many samples
+ * as are available; the number of samples actually transferred is
+ * returned. Samples written by the producer become visible to the consumer
+ * when the write returns.</p>
+ */
+
+public final class NFPRingBuffer
+{
+  /**
+   * The maximum capacity of a buffer, in samples.
+   */
+
+  public static final int MAXIMUM_CAPACITY = 1 << 28;
+
+  /*
+   * The producer's state (the write index and its cached copy of the read
+   * index) and the consumer's state (the read index and its cached copy of
+   * the write index) are held in one array, separated from each other and
+   * from the ends of the array by at least 112 bytes of padding, so that the
+   * two threads never write to the same cache line or to adjacent,
+   * prefetched lines. Unlike fields, array elements have a guaranteed
+   * layout.
+   */
+
+  private static final int PAD = 16;
+  private static final int WRITE_INDEX = PAD;
+  private static final int READ_CACHE = PAD + 1;
+  private static final int READ_INDEX = PAD * 2;
+  private static final int WRITE_CACHE = (PAD * 2) + 1;
+  private static final int INDICES = (PAD * 3) + 2;
+
+  private final byte[] data;
+  private final int bits;
+  private final int width;
+  private final int shift;
+  private final int mask;
+  private final float scale;
+  private final AtomicLongArray indices;
+
+  private NFPRingBuffer(
+    final int inBits,
+    final int inCapacity)
+  {
+    this.bits = inBits;
+    this.width = (inBits + 7) / 8;
+    this.shift = 32 - inBits;
+    this.mask = inCapacity - 1;
+    this.scale = (float) (NFPPowers.twoPow(inBits - 1) - 1.0);
+    this.data = new byte[inCapacity * this.width];
+    this.indices = new AtomicLongArray(INDICES);
+  }
+
+  /**
+   * Create a new, empty buffer. The capacity is rounded up to the next
+   * power of two.
+   *
+   * @param bits     The number of bits of precision of stored samples, in
+   *                 the range {@code [2, 32]}
+   * @param capacity The minimum number of samples that the buffer can hold,
+   *                 in the range {@code [1, }{@link #MAXIMUM_CAPACITY}{@code ]}
+   *
+   * @return A new buffer
+   *
+   * @throws IllegalArgumentException If either argument is out of range
+   */
+
+  public static NFPRingBuffer create(
+    final int bits,
+    final int capacity)
+  {
+    if (bits < 2 || bits > 32) {
+      throw new IllegalArgumentException(
+        String.format("Bits %d must be in the range [2, 32]", bits));
+    }
+    if (capacity < 1 || capacity > MAXIMUM_CAPACITY) {
+      throw new IllegalArgumentException(
+        String.format(
+          "Capacity %d must be in the range [1, %d]",
+          Integer.valueOf(capacity),
+          Integer.valueOf(MAXIMUM_CAPACITY)));
+    }
+
+    final int rounded =
+      1 << (32 - Integer.numberOfLeadingZeros(capacity - 1));
+    return new NFPRingBuffer(bits, rounded);
+  }
+
+  /**
+   * @return The number of bits of precision of stored samples
+   */
+
+  public int bits()
+  {
+    return this.bits;
+  }
+
+  /**
+   * @return The maximum number of samples that the buffer can hold
+   */
+
+  public int capacity()
+  {
+    return this.mask + 1;
+  }
+
+  /**
+   * Return the number of samples currently held in the buffer. If called
+   * from a thread other than the producer or consumer, the result is only an
+   * estimate, as the buffer may be modified concurrently.
+   *
+   * @return The number of samples available to read
+   */
+
+  public int size()
+  {
+    final long r = this.indices.getAcquire(READ_INDEX);
+    final long w = this.indices.getAcquire(WRITE_INDEX);
+    return (int) Math.max(0L, Math.min(w - r, (long) this.capacity()));
+  }
+
+  private void store(
+    final long index,
+    final float x)
+  {
+    final float clamped = Math.min(1.0f, Math.max(-1.0f, x));
+    final int f = (int) (clamped * this.scale);
+    final byte[] d = this.data;
+    final int w = this.width;
+    final int offset = ((int) index & this.mask) * w;
+    for (int k = 0; k < w; ++k) {
+      d[offset + k] = (byte) (f >> (k * 8));
+    }
+  }
+
+  private float load(
+    final long index)
+  {
+    final byte[] d = this.data;
+    final int w = this.width;
+    final int offset = ((int) index & this.mask) * w;
+    int f = 0;
+    for (int k = 0; k < w; ++k) {
+      f |= (d[offset + k] & 0xff) << (k * 8);
+    }
+    final int s = this.shift;
+    f = (f << s) >> s;
+    return Math.max(-1.0f, (float) f / this.scale);
+  }
+
+  private int freeSpace(
+    final long w,
+    final int required)
+  {
+    final int capacity = this.capacity();
+    int free = capacity - (int) (w - this.indices.getPlain(READ_CACHE));
+    if (free < required) {
+      final long r = this.indices.getAcquire(READ_INDEX);
+      this.indices.setPlain(READ_CACHE, r);
+      free = capacity - (int) (w - r);
+    }
+    return free;
+  }
+
+  private int available(
+    final long r,
+    final int required)
+  {
+    int available = (int) (this.indices.getPlain(WRITE_CACHE) - r);
+    if (available < required) {
+      final long w = this.indices.getAcquire(WRITE_INDEX);
+      this.indices.setPlain(WRITE_CACHE, w);
+      available = (int) (w - r);
+    }
+    return available;
+  }
+
+  /**
+   * Write a single sample to the buffer. This method must only be called by
+   * the producer thread.
+   *
+   * @param x The sample
+   *
+   * @return {@code true} if the sample was written, or {@code false} if the
+   * buffer is full
+   */
+
+  public boolean offer(
+    final float x)
+  {
+    final long w = this.indices.getPlain(WRITE_INDEX);
+    if (this.freeSpace(w, 1) < 1) {
+      return false;
+    }
+    this.store(w, x);
+    this.indices.setRelease(WRITE_INDEX, w + 1L);
+    return true;
+  }
+
+  /**
+   * Write up to {@code count} samples from {@code source}, starting at
+   * {@code sourceOffset}, to the buffer. This method must only be called by
+   * the producer thread.
+   *
+   * @param source       The source samples
+   * @param sourceOffset The index of the first source sample
+   * @param count        The maximum number of samples to write
+   *
+   * @return The number of samples written, which is less than {@code count}
+   * if the buffer has too little free space
+   *
+   * @throws IndexOutOfBoundsException If the source range is out of bounds
+   */
+
+  public int write(
+    final float[] source,
+    final int sourceOffset,
+    final int count)
+  {
+    Objects.checkFromIndexSize(sourceOffset, count, source.length);
+
+    final long w = this.indices.getPlain(WRITE_INDEX);
+    final int n = Math.min(count, this.freeSpace(w, count));
+    for (int index = 0; index < n; ++index) {
+      this.store(w + index, source[sourceOffset + index]);
+    }
+    this.indices.setRelease(WRITE_INDEX, w + n);
+    return n;
+  }
+
+  /**
+   * Read a single sample from the buffer. This method must only be called by
+   * the consumer thread. As no stored sample can decode to {@code NaN}, a
+   * {@code NaN} result unambiguously indicates an empty buffer.
+   *
+   * @return The sample, or {@link Float#NaN} if the buffer is empty
+   */
+
+  public float poll()
+  {
+    final long r = this.indices.getPlain(READ_INDEX);
+    if (this.available(r, 1) < 1) {
+      return Float.NaN;
+    }
+    final float x = this.load(r);
+    this.indices.setRelease(READ_INDEX, r + 1L);
+    return x;
+  }
+
+  /**
+   * Read up to {@code count} samples from the buffer, writing them to
+   * {@code target} starting at {@code targetOffset}. This method must only
+   * be called by the consumer thread.
+   *
+   * @param target       The target array
+   * @param targetOffset The index of the first target sample
+   * @param count        The maximum number of samples to read
+   *
+   * @return The number of samples read, which is less than {@code count} if
+   * the buffer holds too few samples
+   *
+   * @throws IndexOutOfBoundsException If the target range is out of bounds
+   */
+
+  public int read(
+    final float[] target,
+    final int targetOffset,
+    final int count)
+  {
+    Objects.checkFromIndexSize(targetOffset, count, target.length);
+
+    final long r = this.indices.getPlain(READ_INDEX);
+    final int n = Math.min(count, this.available(r, count));
+    for (int index = 0; index < n; ++index) {
+      target[targetOffset + index] = this.load(r + index);
+    }
+    this.indices.setRelease(READ_INDEX, r + n);
+    return n;
+  }
+
+  @Override
+  public String toString()
+  {
+    return String.format(
+      "[NFPRingBuffer %d %d]",
+      Integer.valueOf(this.bits),
+      Integer.valueOf(this.capacity()));
+  }
+}
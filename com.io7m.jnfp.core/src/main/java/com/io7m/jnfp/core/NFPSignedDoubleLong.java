@@ -18,6 +18,8 @@ package com.io7m.jnfp.core;
 
 import com.io7m.junreachable.UnreachableCodeException;
 
+import java.util.Objects;
+
 /**
  * <p>Conversion of signed normalized fixed-point values to and from floating
  * point values.</p>
@@ -91,7 +93,7 @@ public final class NFPSignedDoubleLong
     final long f,
     final int b)
   {
-    final double twobm1 = StrictMath.pow(2.0, (double) b) - 1.0;
+    final double twobm1 = NFPPowers.twoPow(b) - 1.0;
     final double dx = (double) f;
     return ((2.0 * dx) + 1.0) / twobm1;
   }
@@ -112,7 +114,7 @@ public final class NFPSignedDoubleLong
     final double x,
     final int b)
   {
-    final double twobm1 = StrictMath.pow(2.0, (double) b) - 1.0;
+    final double twobm1 = NFPPowers.twoPow(b) - 1.0;
     final double r = (x * twobm1) - 1.0;
     final double rx = r / 2.0;
     return (long) rx;
@@ -135,7 +137,7 @@ public final class NFPSignedDoubleLong
     final long f,
     final int b)
   {
-    final double twobm1m1 = StrictMath.pow(2.0, (double) b - 1.0) - 1.0;
+    final double twobm1m1 = NFPPowers.twoPow(b - 1) - 1.0;
     final double dx = (double) f;
     final double div = dx / (twobm1m1);
     return Math.max(-1.0, div);
@@ -157,9 +159,156 @@ public final class NFPSignedDoubleLong
     final double x,
     final int b)
   {
-    final double twobm1m1 = StrictMath.pow(2.0, (double) b - 1.0) - 1.0;
+    final double twobm1m1 = NFPPowers.twoPow(b - 1) - 1.0;
     final double mult = x * twobm1m1;
     return (long) mult;
   }
 
+  /**
+   * Convert {@code count} values from {@code source}, starting at
+   * {@code sourceOffset}, to floating point format, writing the results to
+   * {@code target} starting at {@code targetOffset}. The values are assumed to
+   * be signed fixed-point values with {@code b} bits of precision, using the
+   * {@code without-zero} representation described in the documentation at the
+   * beginning of this class. The results are identical to those produced by
+   * calling {@link #fromSignedNormalizedWithoutZero(long, int)} for each value.
+   *
+   * @param source       The source values
+   * @param sourceOffset The index of the first source value
+   * @param target       The target array
+   * @param targetOffset The index of the first target value
+   * @param count        The number of values to convert
+   * @param b            A value in the range {@code [2, 32]}
+   *
+   * @throws IndexOutOfBoundsException If either range is out of bounds
+   */
+
+  public static void fromSignedNormalizedWithoutZero(
+    final long[] source,
+    final int sourceOffset,
+    final double[] target,
+    final int targetOffset,
+    final int count,
+    final int b)
+  {
+    Objects.checkFromIndexSize(sourceOffset, count, source.length);
+    Objects.checkFromIndexSize(targetOffset, count, target.length);
+
+    final double twobm1 = NFPPowers.twoPow(b) - 1.0;
+    for (int index = 0; index < count; ++index) {
+      final double dx = (double) source[sourceOffset + index];
+      target[targetOffset + index] = ((2.0 * dx) + 1.0) / twobm1;
+    }
+  }
+
+  /**
+   * Convert {@code count} values from {@code source}, starting at
+   * {@code sourceOffset}, to fixed-point format using the {@code without-zero}
+   * representation described in the documentation at the beginning of this
+   * class, writing the results to {@code target} starting at
+   * {@code targetOffset}. The results are identical to those produced by
+   * calling {@link #toSignedNormalizedWithoutZero(double, int)} for each value.
+   *
+   * @param source       The source values, in the range {@code [-1, 1]}
+   * @param sourceOffset The index of the first source value
+   * @param target       The target array
+   * @param targetOffset The index of the first target value
+   * @param count        The number of values to convert
+   * @param b            A value in the range {@code [2, 32]}
+   *
+   * @throws IndexOutOfBoundsException If either range is out of bounds
+   */
+
+  public static void toSignedNormalizedWithoutZero(
+    final double[] source,
+    final int sourceOffset,
+    final long[] target,
+    final int targetOffset,
+    final int count,
+    final int b)
+  {
+    Objects.checkFromIndexSize(sourceOffset, count, source.length);
+    Objects.checkFromIndexSize(targetOffset, count, target.length);
+
+    final double twobm1 = NFPPowers.twoPow(b) - 1.0;
+    for (int index = 0; index < count; ++index) {
+      final double r = (source[sourceOffset + index] * twobm1) - 1.0;
+      final double rx = r / 2.0;
+      target[targetOffset + index] = (long) rx;
+    }
+  }
+
+  /**
+   * Convert {@code count} values from {@code source}, starting at
+   * {@code sourceOffset}, to floating point format, writing the results to
+   * {@code target} starting at {@code targetOffset}. The values are assumed to
+   * be signed fixed-point values with {@code b} bits of precision, using the
+   * {@code with-zero} representation described in the documentation at the
+   * beginning of this class. The results are identical to those produced by
+   * calling {@link #fromSignedNormalizedWithZero(long, int)} for each value.
+   *
+   * @param source       The source values
+   * @param sourceOffset The index of the first source value
+   * @param target       The target array
+   * @param targetOffset The index of the first target value
+   * @param count        The number of values to convert
+   * @param b            A value in the range {@code [2, 32]}
+   *
+   * @throws IndexOutOfBoundsException If either range is out of bounds
+   */
+
+  public static void fromSignedNormalizedWithZero(
+    final long[] source,
+    final int sourceOffset,
+    final double[] target,
+    final int targetOffset,
+    final int count,
+    final int b)
+  {
+    Objects.checkFromIndexSize(sourceOffset, count, source.length);
+    Objects.checkFromIndexSize(targetOffset, count, target.length);
+
+    final double twobm1m1 = NFPPowers.twoPow(b - 1) - 1.0;
+    for (int index = 0; index < count; ++index) {
+      final double dx = (double) source[sourceOffset + index];
+      final double div = dx / (twobm1m1);
+      target[targetOffset + index] = Math.max(-1.0, div);
+    }
+  }
+
+  /**
+   * Convert {@code count} values from {@code source}, starting at
+   * {@code sourceOffset}, to fixed-point format using the {@code with-zero}
+   * representation described in the documentation at the beginning of this
+   * class, writing the results to {@code target} starting at
+   * {@code targetOffset}. The results are identical to those produced by
+   * calling {@link #toSignedNormalizedWithZero(double, int)} for each value.
+   *
+   * @param source       The source values, in the range {@code [-1, 1]}
+   * @param sourceOffset The index of the first source value
+   * @param target       The target array
+   * @param targetOffset The index of the first target value
+   * @param count        The number of values to convert
+   * @param b            A value in the range {@code [2, 32]}
+   *
+   * @throws IndexOutOfBoundsException If either range is out of bounds
+   */
+
+  public static void toSignedNormalizedWithZero(
+    final double[] source,
+    final int sourceOffset,
+    final long[] target,
+    final int targetOffset,
+    final int count,
+    final int b)
+  {
+    Objects.checkFromIndexSize(sourceOffset, count, source.length);
+    Objects.checkFromIndexSize(targetOffset, count, target.length);
+
+    final double twobm1m1 = NFPPowers.twoPow(b - 1) - 1.0;
+    for (int index = 0; index < count; ++index) {
+      final double mult = source[sourceOffset + index] * twobm1m1;
+      target[targetOffset + index] = (long) mult;
+    }
+  }
 }
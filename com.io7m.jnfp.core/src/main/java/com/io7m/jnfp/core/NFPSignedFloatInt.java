@@ -18,6 +18,8 @@ package com.io7m.jnfp.core;
 
 import com.io7m.junreachable.UnreachableCodeException;
 
+import java.util.Objects;
+
 /**
  * <p>Conversion of signed normalized fixed-point values to and from floating
  * point values.</p>
@@ -91,7 +93,7 @@ public final class NFPSignedFloatInt
     final int f,
     final int b)
   {
-    final float twobm1 = (float) (StrictMath.pow(2.0, (double) b) - 1.0);
+    final float twobm1 = (float) (NFPPowers.twoPow(b) - 1.0);
     final float dx = (float) f;
     return ((2.0f * dx) + 1.0f) / twobm1;
   }
@@ -112,7 +114,7 @@ public final class NFPSignedFloatInt
     final float x,
     final int b)
   {
-    final float twobm1 = (float) (StrictMath.pow(2.0, (double) b) - 1.0);
+    final float twobm1 = (float) (NFPPowers.twoPow(b) - 1.0);
     final float r = (x * twobm1) - 1.0f;
     final float rx = r / 2.0f;
     return (int) rx;
@@ -136,7 +138,7 @@ public final class NFPSignedFloatInt
     final int b)
   {
     final float twobm1m1 =
-      (float) (StrictMath.pow(2.0, (double) b - 1.0) - 1.0);
+      (float) (NFPPowers.twoPow(b - 1) - 1.0);
     final float dx = (float) f;
     final float div = dx / (twobm1m1);
     return Math.max(-1.0f, div);
@@ -159,9 +161,500 @@ public final class NFPSignedFloatInt
     final int b)
   {
     final float twobm1m1 =
-      (float) (StrictMath.pow(2.0, (double) b - 1.0) - 1.0);
+      (float) (NFPPowers.twoPow(b - 1) - 1.0);
     final float mult = x * twobm1m1;
     return (int) mult;
   }
 
+  /**
+   * Convert {@code count} values from {@code source}, starting at
+   * {@code sourceOffset}, to floating point format, writing the results to
+   * {@code target} starting at {@code targetOffset}. The values are assumed to
+   * be signed fixed-point values with {@code b} bits of precision, using the
+   * {@code without-zero} representation described in the documentation at the
+   * beginning of this class. The results are identical to those produced by
+   * calling {@link #fromSignedNormalizedWithoutZero(int, int)} for each value.
+   *
+   * @param source       The source values
+   * @param sourceOffset The index of the first source value
+   * @param target       The target array
+   * @param targetOffset The index of the first target value
+   * @param count        The number of values to convert
+   * @param b            A value in the range {@code [2, 32]}
+   *
+   * @throws IndexOutOfBoundsException If either range is out of bounds
+   */
+
+  public static void fromSignedNormalizedWithoutZero(
+    final int[] source,
+    final int sourceOffset,
+    final float[] target,
+    final int targetOffset,
+    final int count,
+    final int b)
+  {
+    Objects.checkFromIndexSize(sourceOffset, count, source.length);
+    Objects.checkFromIndexSize(targetOffset, count, target.length);
+
+    final float twobm1 = (float) (NFPPowers.twoPow(b) - 1.0);
+    for (int index = 0; index < count; ++index) {
+      final float dx = (float) source[sourceOffset + index];
+      target[targetOffset + index] = ((2.0f * dx) + 1.0f) / twobm1;
+    }
+  }
+
+  /**
+   * Convert {@code count} values from {@code source}, starting at
+   * {@code sourceOffset}, to fixed-point format using the {@code without-zero}
+   * representation described in the documentation at the beginning of this
+   * class, writing the results to {@code target} starting at
+   * {@code targetOffset}. The results are identical to those produced by
+   * calling {@link #toSignedNormalizedWithoutZero(float, int)} for each value.
+   *
+   * @param source       The source values, in the range {@code [-1, 1]}
+   * @param sourceOffset The index of the first source value
+   * @param target       The target array
+   * @param targetOffset The index of the first target value
+   * @param count        The number of values to convert
+   * @param b            A value in the range {@code [2, 32]}
+   *
+   * @throws IndexOutOfBoundsException If either range is out of bounds
+   */
+
+  public static void toSignedNormalizedWithoutZero(
+    final float[] source,
+    final int sourceOffset,
+    final int[] target,
+    final int targetOffset,
+    final int count,
+    final int b)
+  {
+    Objects.checkFromIndexSize(sourceOffset, count, source.length);
+    Objects.checkFromIndexSize(targetOffset, count, target.length);
+
+    final float twobm1 = (float) (NFPPowers.twoPow(b) - 1.0);
+    for (int index = 0; index < count; ++index) {
+      final float r = (source[sourceOffset + index] * twobm1) - 1.0f;
+      final float rx = r / 2.0f;
+      target[targetOffset + index] = (int) rx;
+    }
+  }
+
+  /**
+   * Convert {@code count} values from {@code source}, starting at
+   * {@code sourceOffset}, to floating point format, writing the results to
+   * {@code target} starting at {@code targetOffset}. The values are assumed to
+   * be signed fixed-point values with {@code b} bits of precision, using the
+   * {@code with-zero} representation described in the documentation at the
+   * beginning of this class. The results are identical to those produced by
+   * calling {@link #fromSignedNormalizedWithZero(int, int)} for each value.
+   *
+   * @param source       The source values
+   * @param sourceOffset The index of the first source value
+   * @param target       The target array
+   * @param targetOffset The index of the first target value
+   * @param count        The number of values to convert
+   * @param b            A value in the range {@code [2, 32]}
+   *
+   * @throws IndexOutOfBoundsException If either range is out of bounds
+   */
+
+  public static void fromSignedNormalizedWithZero(
+    final int[] source,
+    final int sourceOffset,
+    final float[] target,
+    final int targetOffset,
+    final int count,
+    final int b)
+  {
+    Objects.checkFromIndexSize(sourceOffset, count, source.length);
+    Objects.checkFromIndexSize(targetOffset, count, target.length);
+
+    final float twobm1m1 =
+      (float) (NFPPowers.twoPow(b - 1) - 1.0);
+    for (int index = 0; index < count; ++index) {
+      final float dx = (float) source[sourceOffset + index];
+      final float div = dx / (twobm1m1);
+      target[targetOffset + index] = Math.max(-1.0f, div);
+    }
+  }
+
+  /**
+   * Convert {@code count} values from {@code source}, starting at
+   * {@code sourceOffset}, to fixed-point format using the {@code with-zero}
+   * representation described in the documentation at the beginning of this
+   * class, writing the results to {@code target} starting at
+   * {@code targetOffset}. The results are identical to those produced by
+   * calling {@link #toSignedNormalizedWithZero(float, int)} for each value.
+   *
+   * @param source       The source values, in the range {@code [-1, 1]}
+   * @param sourceOffset The index of the first source value
+   * @param target       The target array
+   * @param targetOffset The index of the first target value
+   * @param count        The number of values to convert
+   * @param b            A value in the range {@code [2, 32]}
+   *
+   * @throws IndexOutOfBoundsException If either range is out of bounds
+   */
+
+  public static void toSignedNormalizedWithZero(
+    final float[] source,
+    final int sourceOffset,
+    final int[] target,
+    final int targetOffset,
+    final int count,
+    final int b)
+  {
+    Objects.checkFromIndexSize(sourceOffset, count, source.length);
+    Objects.checkFromIndexSize(targetOffset, count, target.length);
+
+    final float twobm1m1 =
+      (float) (NFPPowers.twoPow(b - 1) - 1.0);
+    for (int index = 0; index < count; ++index) {
+      final float mult = source[sourceOffset + index] * twobm1m1;
+      target[targetOffset + index] = (int) mult;
+    }
+  }
+
+  /**
+   * Convert {@code count} values from {@code source}, starting at
+   * {@code sourceOffset}, to floating point format, writing the results to
+   * {@code target} starting at {@code targetOffset}. The values are assumed to
+   * be signed fixed-point values with {@code b} bits of precision, using the
+   * {@code without-zero} representation described in the documentation at the
+   * beginning of this class, held in the low {@code b} bits of each
+   * {@code byte} and sign-extended from bit {@code b - 1}. The results are
+   * identical to those produced by calling
+   * {@link #fromSignedNormalizedWithoutZero(int, int)} for each value.
+   *
+   * @param source       The source values
+   * @param sourceOffset The index of the first source value
+   * @param target       The target array
+   * @param targetOffset The index of the first target value
+   * @param count        The number of values to convert
+   * @param b            A value in the range {@code [2, 8]}
+   *
+   * @throws IllegalArgumentException  If {@code b} is out of range
+   * @throws IndexOutOfBoundsException If either range is out of bounds
+   */
+
+  public static void fromSignedNormalizedWithoutZero(
+    final byte[] source,
+    final int sourceOffset,
+    final float[] target,
+    final int targetOffset,
+    final int count,
+    final int b)
+  {
+    NFPUnsignedFloatInt.checkNarrowBits(b, 8);
+
+    Objects.checkFromIndexSize(sourceOffset, count, source.length);
+    Objects.checkFromIndexSize(targetOffset, count, target.length);
+
+    final int shift = 32 - b;
+    final float twobm1 = (float) (NFPPowers.twoPow(b) - 1.0);
+    for (int index = 0; index < count; ++index) {
+      final int f = (source[sourceOffset + index] << shift) >> shift;
+      final float dx = (float) f;
+      target[targetOffset + index] = ((2.0f * dx) + 1.0f) / twobm1;
+    }
+  }
+
+  /**
+   * Convert {@code count} values from {@code source}, starting at
+   * {@code sourceOffset}, to fixed-point format using the {@code without-zero}
+   * representation described in the documentation at the beginning of this
+   * class, writing the results to {@code target} starting at
+   * {@code targetOffset}. The results are identical to the low bits of those
+   * produced by calling {@link #toSignedNormalizedWithoutZero(float, int)} for
+   * each value, truncated to a {@code byte}.
+   *
+   * @param source       The source values, in the range {@code [-1, 1]}
+   * @param sourceOffset The index of the first source value
+   * @param target       The target array
+   * @param targetOffset The index of the first target value
+   * @param count        The number of values to convert
+   * @param b            A value in the range {@code [2, 8]}
+   *
+   * @throws IllegalArgumentException  If {@code b} is out of range
+   * @throws IndexOutOfBoundsException If either range is out of bounds
+   */
+
+  public static void toSignedNormalizedWithoutZero(
+    final float[] source,
+    final int sourceOffset,
+    final byte[] target,
+    final int targetOffset,
+    final int count,
+    final int b)
+  {
+    NFPUnsignedFloatInt.checkNarrowBits(b, 8);
+
+    Objects.checkFromIndexSize(sourceOffset, count, source.length);
+    Objects.checkFromIndexSize(targetOffset, count, target.length);
+
+    final float twobm1 = (float) (NFPPowers.twoPow(b) - 1.0);
+    for (int index = 0; index < count; ++index) {
+      final float r = (source[sourceOffset + index] * twobm1) - 1.0f;
+      final float rx = r / 2.0f;
+      target[targetOffset + index] = (byte) (int) rx;
+    }
+  }
+
+  /**
+   * Convert {@code count} values from {@code source}, starting at
+   * {@code sourceOffset}, to floating point format, writing the results to
+   * {@code target} starting at {@code targetOffset}. The values are assumed to
+   * be signed fixed-point values with {@code b} bits of precision, using the
+   * {@code with-zero} representation described in the documentation at the
+   * beginning of this class, held in the low {@code b} bits of each
+   * {@code byte} and sign-extended from bit {@code b - 1}. The results are
+   * identical to those produced by calling
+   * {@link #fromSignedNormalizedWithZero(int, int)} for each value.
+   *
+   * @param source       The source values
+   * @param sourceOffset The index of the first source value
+   * @param target       The target array
+   * @param targetOffset The index of the first target value
+   * @param count        The number of values to convert
+   * @param b            A value in the range {@code [2, 8]}
+   *
+   * @throws IllegalArgumentException  If {@code b} is out of range
+   * @throws IndexOutOfBoundsException If either range is out of bounds
+   */
+
+  public static void fromSignedNormalizedWithZero(
+    final byte[] source,
+    final int sourceOffset,
+    final float[] target,
+    final int targetOffset,
+    final int count,
+    final int b)
+  {
+    NFPUnsignedFloatInt.checkNarrowBits(b, 8);
+
+    Objects.checkFromIndexSize(sourceOffset, count, source.length);
+    Objects.checkFromIndexSize(targetOffset, count, target.length);
+
+    final int shift = 32 - b;
+    final float twobm1m1 =
+      (float) (NFPPowers.twoPow(b - 1) - 1.0);
+    for (int index = 0; index < count; ++index) {
+      final int f = (source[sourceOffset + index] << shift) >> shift;
+      final float div = (float) f / twobm1m1;
+      target[targetOffset + index] = Math.max(-1.0f, div);
+    }
+  }
+
+  /**
+   * Convert {@code count} values from {@code source}, starting at
+   * {@code sourceOffset}, to fixed-point format using the {@code with-zero}
+   * representation described in the documentation at the beginning of this
+   * class, writing the results to {@code target} starting at
+   * {@code targetOffset}. The results are identical to the low bits of those
+   * produced by calling {@link #toSignedNormalizedWithZero(float, int)} for
+   * each value, truncated to a {@code byte}.
+   *
+   * @param source       The source values, in the range {@code [-1, 1]}
+   * @param sourceOffset The index of the first source value
+   * @param target       The target array
+   * @param targetOffset The index of the first target value
+   * @param count        The number of values to convert
+   * @param b            A value in the range {@code [2, 8]}
+   *
+   * @throws IllegalArgumentException  If {@code b} is out of range
+   * @throws IndexOutOfBoundsException If either range is out of bounds
+   */
+
+  public static void toSignedNormalizedWithZero(
+    final float[] source,
+    final int sourceOffset,
+    final byte[] target,
+    final int targetOffset,
+    final int count,
+    final int b)
+  {
+    NFPUnsignedFloatInt.checkNarrowBits(b, 8);
+
+    Objects.checkFromIndexSize(sourceOffset, count, source.length);
+    Objects.checkFromIndexSize(targetOffset, count, target.length);
+
+    final float twobm1m1 =
+      (float) (NFPPowers.twoPow(b - 1) - 1.0);
+    for (int index = 0; index < count; ++index) {
+      final float mult = source[sourceOffset + index] * twobm1m1;
+      target[targetOffset + index] = (byte) (int) mult;
+    }
+  }
+
+  /**
+   * Convert {@code count} values from {@code source}, starting at
+   * {@code sourceOffset}, to floating point format, writing the results to
+   * {@code target} starting at {@code targetOffset}. The values are assumed to
+   * be signed fixed-point values with {@code b} bits of precision, using the
+   * {@code without-zero} representation described in the documentation at the
+   * beginning of this class, held in the low {@code b} bits of each
+   * {@code short} and sign-extended from bit {@code b - 1}. The results are
+   * identical to those produced by calling
+   * {@link #fromSignedNormalizedWithoutZero(int, int)} for each value.
+   *
+   * @param source       The source values
+   * @param sourceOffset The index of the first source value
+   * @param target       The target array
+   * @param targetOffset The index of the first target value
+   * @param count        The number of values to convert
+   * @param b            A value in the range {@code [2, 16]}
+   *
+   * @throws IllegalArgumentException  If {@code b} is out of range
+   * @throws IndexOutOfBoundsException If either range is out of bounds
+   */
+
+  public static void fromSignedNormalizedWithoutZero(
+    final short[] source,
+    final int sourceOffset,
+    final float[] target,
+    final int targetOffset,
+    final int count,
+    final int b)
+  {
+    NFPUnsignedFloatInt.checkNarrowBits(b, 16);
+
+    Objects.checkFromIndexSize(sourceOffset, count, source.length);
+    Objects.checkFromIndexSize(targetOffset, count, target.length);
+
+    final int shift = 32 - b;
+    final float twobm1 = (float) (NFPPowers.twoPow(b) - 1.0);
+    for (int index = 0; index < count; ++index) {
+      final int f = (source[sourceOffset + index] << shift) >> shift;
+      final float dx = (float) f;
+      target[targetOffset + index] = ((2.0f * dx) + 1.0f) / twobm1;
+    }
+  }
+
+  /**
+   * Convert {@code count} values from {@code source}, starting at
+   * {@code sourceOffset}, to fixed-point format using the {@code without-zero}
+   * representation described in the documentation at the beginning of this
+   * class, writing the results to {@code target} starting at
+   * {@code targetOffset}. The results are identical to the low bits of those
+   * produced by calling {@link #toSignedNormalizedWithoutZero(float, int)} for
+   * each value, truncated to a {@code short}.
+   *
+   * @param source       The source values, in the range {@code [-1, 1]}
+   * @param sourceOffset The index of the first source value
+   * @param target       The target array
+   * @param targetOffset The index of the first target value
+   * @param count        The number of values to convert
+   * @param b            A value in the range {@code [2, 16]}
+   *
+   * @throws IllegalArgumentException  If {@code b} is out of range
+   * @throws IndexOutOfBoundsException If either range is out of bounds
+   */
+
+  public static void toSignedNormalizedWithoutZero(
+    final float[] source,
+    final int sourceOffset,
+    final short[] target,
+    final int targetOffset,
+    final int count,
+    final int b)
+  {
+    NFPUnsignedFloatInt.checkNarrowBits(b, 16);
+
+    Objects.checkFromIndexSize(sourceOffset, count, source.length);
+    Objects.checkFromIndexSize(targetOffset, count, target.length);
+
+    final float twobm1 = (float) (NFPPowers.twoPow(b) - 1.0);
+    for (int index = 0; index < count; ++index) {
+      final float r = (source[sourceOffset + index] * twobm1) - 1.0f;
+      final float rx = r / 2.0f;
+      target[targetOffset + index] = (short) (int) rx;
+    }
+  }
+
+  /**
+   * Convert {@code count} values from {@code source}, starting at
+   * {@code sourceOffset}, to floating point format, writing the results to
+   * {@code target} starting at {@code targetOffset}. The values are assumed to
+   * be signed fixed-point values with {@code b} bits of precision, using the
+   * {@code with-zero} representation described in the documentation at the
+   * beginning of this class, held in the low {@code b} bits of each
+   * {@code short} and sign-extended from bit {@code b - 1}. The results are
+   * identical to those produced by calling
+   * {@link #fromSignedNormalizedWithZero(int, int)} for each value.
+   *
+   * @param source       The source values
+   * @param sourceOffset The index of the first source value
+   * @param target       The target array
+   * @param targetOffset The index of the first target value
+   * @param count        The number of values to convert
+   * @param b            A value in the range {@code [2, 16]}
+   *
+   * @throws IllegalArgumentException  If {@code b} is out of range
+   * @throws IndexOutOfBoundsException If either range is out of bounds
+   */
+
+  public static void fromSignedNormalizedWithZero(
+    final short[] source,
+    final int sourceOffset,
+    final float[] target,
+    final int targetOffset,
+    final int count,
+    final int b)
+  {
+    NFPUnsignedFloatInt.checkNarrowBits(b, 16);
+
+    Objects.checkFromIndexSize(sourceOffset, count, source.length);
+    Objects.checkFromIndexSize(targetOffset, count, target.length);
+
+    final int shift = 32 - b;
+    final float twobm1m1 =
+      (float) (NFPPowers.twoPow(b - 1) - 1.0);
+    for (int index = 0; index < count; ++index) {
+      final int f = (source[sourceOffset + index] << shift) >> shift;
+      final float div = (float) f / twobm1m1;
+      target[targetOffset + index] = Math.max(-1.0f, div);
+    }
+  }
+
+  /**
+   * Convert {@code count} values from {@code source}, starting at
+   * {@code sourceOffset}, to fixed-point format using the {@code with-zero}
+   * representation described in the documentation at the beginning of this
+   * class, writing the results to {@code target} starting at
+   * {@code targetOffset}. The results are identical to the low bits of those
+   * produced by calling {@link #toSignedNormalizedWithZero(float, int)} for
+   * each value, truncated to a {@code short}.
+   *
+   * @param source       The source values, in the range {@code [-1, 1]}
+   * @param sourceOffset The index of the first source value
+   * @param target       The target array
+   * @param targetOffset The index of the first target value
+   * @param count        The number of values to convert
+   * @param b            A value in the range {@code [2, 16]}
+   *
+   * @throws IllegalArgumentException  If {@code b} is out of range
+   * @throws IndexOutOfBoundsException If either range is out of bounds
+   */
+
+  public static void toSignedNormalizedWithZero(
+    final float[] source,
+    final int sourceOffset,
+    final short[] target,
+    final int targetOffset,
+    final int count,
+    final int b)
+  {
+    NFPUnsignedFloatInt.checkNarrowBits(b, 16);
+
+    Objects.checkFromIndexSize(sourceOffset, count, source.length);
+    Objects.checkFromIndexSize(targetOffset, count, target.length);
+
+    final float twobm1m1 =
+      (float) (NFPPowers.twoPow(b - 1) - 1.0);
+    for (int index = 0; index < count; ++index) {
+      final float mult = source[sourceOffset + index] * twobm1m1;
+      target[targetOffset + index] = (short) (int) mult;
+    }
+  }
 }
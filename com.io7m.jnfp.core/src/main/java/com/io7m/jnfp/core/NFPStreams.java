@@ -0,0 +1,459 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jnfp.core;
+
+import com.io7m.junreachable.UnreachableCodeException;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.Objects;
+
+/**
+ * <p>Conversion of streams of floating point samples to and from streams of
+ * normalized fixed-point values.</p>
+ *
+ * <p>The functions in this class read from a source until it is exhausted,
+ * converting values in blocks of {@link #BLOCK_VALUES} values, and writing
+ * each converted block to the target before reading the next. Each call
+ * allocates a fixed pair of buffers and reuses them for every block, and so
+ * streams of any length are converted in constant memory. Floating point
+ * samples are stored as IEEE 754 values, and fixed-point values are stored
+ * as described in {@link NFPBuffers}, each in the byte order specified by
+ * the caller. The results are identical to those produced by the
+ * corresponding functions in {@link NFPBuffers}.</p>
+ *
+ * <p>Channels are expected to be in blocking mode. Sources and targets are
+ * not closed by the functions in this class, and targets are not
+ * flushed.</p>
+ */
+
+public final class NFPStreams
+{
+  /**
+   * The number of values converted in each block.
+   */
+
+  public static final int BLOCK_VALUES = 8192;
+
+  private NFPStreams()
+  {
+    throw new UnreachableCodeException();
+  }
+
+  private interface BlockConverterType
+  {
+    void convert(
+      ByteBuffer input,
+      ByteBuffer output,
+      int count);
+  }
+
+  private static boolean fill(
+    final ReadableByteChannel source,
+    final ByteBuffer buffer)
+    throws IOException
+  {
+    while (buffer.hasRemaining()) {
+      if (source.read(buffer) < 0) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static long transfer(
+    final ReadableByteChannel source,
+    final ByteBuffer input,
+    final int inputWidth,
+    final WritableByteChannel target,
+    final ByteBuffer output,
+    final int outputWidth,
+    final BlockConverterType converter)
+    throws IOException
+  {
+    long total = 0L;
+    boolean finished = false;
+    while (!finished) {
+      finished = fill(source, input);
+      input.flip();
+
+      final int count = input.remaining() / inputWidth;
+      final int limit = input.limit();
+      input.limit(count * inputWidth);
+      output.clear();
+      converter.convert(input, output, count);
+      input.limit(limit);
+      input.position(count * inputWidth);
+      input.compact();
+
+      output.position(0);
+      output.limit(count * outputWidth);
+      while (output.hasRemaining()) {
+        target.write(output);
+      }
+      total += count;
+    }
+
+    if (input.position() != 0) {
+      throw new EOFException(
+        String.format(
+          "Source ended with a truncated value (%d trailing bytes)",
+          Integer.valueOf(input.position())));
+    }
+    return total;
+  }
+
+  /**
+   * Read {@code float} samples from {@code source} until it is exhausted,
+   * and write the samples to {@code target} converted to fixed-point format
+   * using {@code codec}. The codec must have at most {@code 32} bits of
+   * precision.
+   *
+   * @param codec       The codec
+   * @param source      The source channel
+   * @param sourceOrder The byte order of the source samples
+   * @param target      The target channel
+   * @param targetOrder The byte order of the fixed-point values
+   *
+   * @return The number of values converted
+   *
+   * @throws IOException              On I/O errors, or if the source ends
+   *                                  partway through a sample
+   * @throws IllegalArgumentException If the codec has more than {@code 32}
+   *                                  bits of precision
+   * @see NFPBuffers#encodeFloat(NFPCodec, java.nio.FloatBuffer, ByteBuffer)
+   */
+
+  public static long encodeFloat(
+    final NFPCodec codec,
+    final ReadableByteChannel source,
+    final ByteOrder sourceOrder,
+    final WritableByteChannel target,
+    final ByteOrder targetOrder)
+    throws IOException
+  {
+    Objects.requireNonNull(codec, "codec");
+    Objects.requireNonNull(source, "source");
+    Objects.requireNonNull(sourceOrder, "sourceOrder");
+    Objects.requireNonNull(target, "target");
+    Objects.requireNonNull(targetOrder, "targetOrder");
+    codec.checkFloat();
+
+    final int width = NFPBuffers.byteWidth(codec);
+    return transfer(
+      source,
+      ByteBuffer.allocateDirect(BLOCK_VALUES * Float.BYTES).order(sourceOrder),
+      Float.BYTES,
+      target,
+      ByteBuffer.allocateDirect(BLOCK_VALUES * width).order(targetOrder),
+      width,
+      (input, output, count) -> {
+        NFPBuffers.encodeFloat(codec, input.asFloatBuffer(), output);
+      });
+  }
+
+  /**
+   * Read {@code double} samples from {@code source} until it is exhausted,
+   * and write the samples to {@code target} converted to fixed-point format
+   * using {@code codec}.
+   *
+   * @param codec       The codec
+   * @param source      The source channel
+   * @param sourceOrder The byte order of the source samples
+   * @param target      The target channel
+   * @param targetOrder The byte order of the fixed-point values
+   *
+   * @return The number of values converted
+   *
+   * @throws IOException On I/O errors, or if the source ends partway through
+   *                     a sample
+   * @see NFPBuffers#encode(NFPCodec, java.nio.DoubleBuffer, ByteBuffer)
+   */
+
+  public static long encode(
+    final NFPCodec codec,
+    final ReadableByteChannel source,
+    final ByteOrder sourceOrder,
+    final WritableByteChannel target,
+    final ByteOrder targetOrder)
+    throws IOException
+  {
+    Objects.requireNonNull(codec, "codec");
+    Objects.requireNonNull(source, "source");
+    Objects.requireNonNull(sourceOrder, "sourceOrder");
+    Objects.requireNonNull(target, "target");
+    Objects.requireNonNull(targetOrder, "targetOrder");
+
+    final int width = NFPBuffers.byteWidth(codec);
+    return transfer(
+      source,
+      ByteBuffer.allocateDirect(BLOCK_VALUES * Double.BYTES)
+        .order(sourceOrder),
+      Double.BYTES,
+      target,
+      ByteBuffer.allocateDirect(BLOCK_VALUES * width).order(targetOrder),
+      width,
+      (input, output, count) -> {
+        NFPBuffers.encode(codec, input.asDoubleBuffer(), output);
+      });
+  }
+
+  /**
+   * Read fixed-point values from {@code source} until it is exhausted, and
+   * write the values to {@code target} converted to {@code float} samples
+   * using {@code codec}. The codec must have at most {@code 32} bits of
+   * precision.
+   *
+   * @param codec       The codec
+   * @param source      The source channel
+   * @param sourceOrder The byte order of the fixed-point values
+   * @param target      The target channel
+   * @param targetOrder The byte order of the target samples
+   *
+   * @return The number of values converted
+   *
+   * @throws IOException              On I/O errors, or if the source ends
+   *                                  partway through a value
+   * @throws IllegalArgumentException If the codec has more than {@code 32}
+   *                                  bits of precision
+   * @see NFPBuffers#decodeFloat(NFPCodec, ByteBuffer, java.nio.FloatBuffer)
+   */
+
+  public static long decodeFloat(
+    final NFPCodec codec,
+    final ReadableByteChannel source,
+    final ByteOrder sourceOrder,
+    final WritableByteChannel target,
+    final ByteOrder targetOrder)
+    throws IOException
+  {
+    Objects.requireNonNull(codec, "codec");
+    Objects.requireNonNull(source, "source");
+    Objects.requireNonNull(sourceOrder, "sourceOrder");
+    Objects.requireNonNull(target, "target");
+    Objects.requireNonNull(targetOrder, "targetOrder");
+    codec.checkFloat();
+
+    final int width = NFPBuffers.byteWidth(codec);
+    return transfer(
+      source,
+      ByteBuffer.allocateDirect(BLOCK_VALUES * width).order(sourceOrder),
+      width,
+      target,
+      ByteBuffer.allocateDirect(BLOCK_VALUES * Float.BYTES).order(targetOrder),
+      Float.BYTES,
+      (input, output, count) -> {
+        NFPBuffers.decodeFloat(
+          codec, input, output.asFloatBuffer().limit(count));
+      });
+  }
+
+  /**
+   * Read fixed-point values from {@code source} until it is exhausted, and
+   * write the values to {@code target} converted to {@code double} samples
+   * using {@code codec}.
+   *
+   * @param codec       The codec
+   * @param source      The source channel
+   * @param sourceOrder The byte order of the fixed-point values
+   * @param target      The target channel
+   * @param targetOrder The byte order of the target samples
+   *
+   * @return The number of values converted
+   *
+   * @throws IOException On I/O errors, or if the source ends partway through
+   *                     a value
+   * @see NFPBuffers#decode(NFPCodec, ByteBuffer, java.nio.DoubleBuffer)
+   */
+
+  public static long decode(
+    final NFPCodec codec,
+    final ReadableByteChannel source,
+    final ByteOrder sourceOrder,
+    final WritableByteChannel target,
+    final ByteOrder targetOrder)
+    throws IOException
+  {
+    Objects.requireNonNull(codec, "codec");
+    Objects.requireNonNull(source, "source");
+    Objects.requireNonNull(sourceOrder, "sourceOrder");
+    Objects.requireNonNull(target, "target");
+    Objects.requireNonNull(targetOrder, "targetOrder");
+
+    final int width = NFPBuffers.byteWidth(codec);
+    return transfer(
+      source,
+      ByteBuffer.allocateDirect(BLOCK_VALUES * width).order(sourceOrder),
+      width,
+      target,
+      ByteBuffer.allocateDirect(BLOCK_VALUES * Double.BYTES)
+        .order(targetOrder),
+      Double.BYTES,
+      (input, output, count) -> {
+        NFPBuffers.decode(
+          codec, input, output.asDoubleBuffer().limit(count));
+      });
+  }
+
+  /**
+   * Read {@code float} samples from {@code source} until it is exhausted,
+   * and write the samples to {@code target} converted to fixed-point format
+   * using {@code codec}.
+   *
+   * @param codec       The codec
+   * @param source      The source stream
+   * @param sourceOrder The byte order of the source samples
+   * @param target      The target stream
+   * @param targetOrder The byte order of the fixed-point values
+   *
+   * @return The number of values converted
+   *
+   * @throws IOException              On I/O errors, or if the source ends
+   *                                  partway through a sample
+   * @throws IllegalArgumentException If the codec has more than {@code 32}
+   *                                  bits of precision
+   * @see #encodeFloat(NFPCodec, ReadableByteChannel, ByteOrder, WritableByteChannel, ByteOrder)
+   */
+
+  public static long encodeFloat(
+    final NFPCodec codec,
+    final InputStream source,
+    final ByteOrder sourceOrder,
+    final OutputStream target,
+    final ByteOrder targetOrder)
+    throws IOException
+  {
+    return encodeFloat(
+      codec,
+      Channels.newChannel(source),
+      sourceOrder,
+      Channels.newChannel(target),
+      targetOrder);
+  }
+
+  /**
+   * Read {@code double} samples from {@code source} until it is exhausted,
+   * and write the samples to {@code target} converted to fixed-point format
+   * using {@code codec}.
+   *
+   * @param codec       The codec
+   * @param source      The source stream
+   * @param sourceOrder The byte order of the source samples
+   * @param target      The target stream
+   * @param targetOrder The byte order of the fixed-point values
+   *
+   * @return The number of values converted
+   *
+   * @throws IOException On I/O errors, or if the source ends partway through
+   *                     a sample
+   * @see #encode(NFPCodec, ReadableByteChannel, ByteOrder, WritableByteChannel, ByteOrder)
+   */
+
+  public static long encode(
+    final NFPCodec codec,
+    final InputStream source,
+    final ByteOrder sourceOrder,
+    final OutputStream target,
+    final ByteOrder targetOrder)
+    throws IOException
+  {
+    return encode(
+      codec,
+      Channels.newChannel(source),
+      sourceOrder,
+      Channels.newChannel(target),
+      targetOrder);
+  }
+
+  /**
+   * Read fixed-point values from {@code source} until it is exhausted, and
+   * write the values to {@code target} converted to {@code float} samples
+   * using {@code codec}.
+   *
+   * @param codec       The codec
+   * @param source      The source stream
+   * @param sourceOrder The byte order of the fixed-point values
+   * @param target      The target stream
+   * @param targetOrder The byte order of the target samples
+   *
+   * @return The number of values converted
+   *
+   * @throws IOException              On I/O errors, or if the source ends
+   *                                  partway through a value
+   * @throws IllegalArgumentException If the codec has more than {@code 32}
+   *                                  bits of precision
+   * @see #decodeFloat(NFPCodec, ReadableByteChannel, ByteOrder, WritableByteChannel, ByteOrder)
+   */
+
+  public static long decodeFloat(
+    final NFPCodec codec,
+    final InputStream source,
+    final ByteOrder sourceOrder,
+    final OutputStream target,
+    final ByteOrder targetOrder)
+    throws IOException
+  {
+    return decodeFloat(
+      codec,
+      Channels.newChannel(source),
+      sourceOrder,
+      Channels.newChannel(target),
+      targetOrder);
+  }
+
+  /**
+   * Read fixed-point values from {@code source} until it is exhausted, and
+   * write the values to {@code target} converted to {@code double} samples
+   * using {@code codec}.
+   *
+   * @param codec       The codec
+   * @param source      The source stream
+   * @param sourceOrder The byte order of the fixed-point values
+   * @param target      The target stream
+   * @param targetOrder The byte order of the target samples
+   *
+   * @return The number of values converted
+   *
+   * @throws IOException On I/O errors, or if the source ends partway through
+   *                     a value
+   * @see #decode(NFPCodec, ReadableByteChannel, ByteOrder, WritableByteChannel, ByteOrder)
+   */
+
+  public static long decode(
+    final NFPCodec codec,
+    final InputStream source,
+    final ByteOrder sourceOrder,
+    final OutputStream target,
+    final ByteOrder targetOrder)
+    throws IOException
+  {
+    return decode(
+      codec,
+      Channels.newChannel(source),
+      sourceOrder,
+      Channels.newChannel(target),
+      targetOrder);
+  }
+}
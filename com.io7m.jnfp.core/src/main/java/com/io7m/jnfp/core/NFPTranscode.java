@@ -0,0 +1,162 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jnfp.core;
+
+import com.io7m.junreachable.UnreachableCodeException;
+
+import java.util.Objects;
+
+/**
+ * <p>Conversion of normalized fixed-point values between representations,
+ * without leaving the integer domain.</p>
+ *
+ * <p>The functions in this class convert values between any two of the
+ * unsigned, signed {@code with-zero}, and signed {@code without-zero}
+ * representations, with any bit widths in the range {@code [2, 24]}. The
+ * results are identical to decoding each value with the source codec and
+ * encoding the result with the target codec, as in:</p>
+ *
+ * <pre>
+ * target.encode(source.decode(f))
+ * </pre>
+ *
+ * <p>The one exception is that unsigned values cannot represent the
+ * negative values that signed sources may decode to. Where such a value
+ * would be encoded into an unsigned target, the result is {@code 0}. This
+ * matches the clamping that OpenGL applies when converting signed
+ * normalized values to unsigned normalized values.</p>
+ *
+ * @see NFPRequantize
+ */
+
+public final class NFPTranscode
+{
+  private NFPTranscode()
+  {
+    throw new UnreachableCodeException();
+  }
+
+  /**
+   * Convert {@code count} values from {@code sourceValues}, starting at
+   * {@code sourceOffset}, from the representation and bit width of
+   * {@code source} to the representation and bit width of {@code target},
+   * writing the results to {@code targetValues} starting at
+   * {@code targetOffset}. The source and target arrays may be the same, and
+   * the source and target ranges may overlap.
+   *
+   * @param source       The source codec
+   * @param sourceValues The source values
+   * @param sourceOffset The index of the first source value
+   * @param target       The target codec
+   * @param targetValues The target array
+   * @param targetOffset The index of the first target value
+   * @param count        The number of values to convert
+   *
+   * @throws IllegalArgumentException  If either codec has a bit width outside
+   *                                   of the range {@code [2, 24]}
+   * @throws IndexOutOfBoundsException If either range is out of bounds
+   */
+
+  public static void transcode(
+    final NFPCodec source,
+    final int[] sourceValues,
+    final int sourceOffset,
+    final NFPCodec target,
+    final int[] targetValues,
+    final int targetOffset,
+    final int count)
+  {
+    Objects.requireNonNull(source, "source");
+    Objects.requireNonNull(target, "target");
+    NFPRequantize.checkBits(source.bits());
+    NFPRequantize.checkBits(target.bits());
+
+    NFPRationalKernel.of(source, target)
+      .convert(sourceValues, sourceOffset, targetValues, targetOffset, count);
+  }
+
+  /**
+   * Convert {@code count} signed {@code without-zero} values to signed
+   * {@code with-zero} values with the same bit width.
+   *
+   * @param source       The source values
+   * @param sourceOffset The index of the first source value
+   * @param target       The target array
+   * @param targetOffset The index of the first target value
+   * @param count        The number of values to convert
+   * @param b            The bit width, in the range {@code [2, 24]}
+   *
+   * @throws IllegalArgumentException  If {@code b} is out of range
+   * @throws IndexOutOfBoundsException If either range is out of bounds
+   * @see #transcode(NFPCodec, int[], int, NFPCodec, int[], int, int)
+   */
+
+  public static void withoutZeroToWithZero(
+    final int[] source,
+    final int sourceOffset,
+    final int[] target,
+    final int targetOffset,
+    final int count,
+    final int b)
+  {
+    NFPRequantize.checkBits(b);
+    transcode(
+      NFPCodec.signedWithoutZero(b),
+      source,
+      sourceOffset,
+      NFPCodec.signedWithZero(b),
+      target,
+      targetOffset,
+      count);
+  }
+
+  /**
+   * Convert {@code count} signed {@code with-zero} values to signed
+   * {@code without-zero} values with the same bit width.
+   *
+   * @param source       The source values
+   * @param sourceOffset The index of the first source value
+   * @param target       The target array
+   * @param targetOffset The index of the first target value
+   * @param count        The number of values to convert
+   * @param b            The bit width, in the range {@code [2, 24]}
+   *
+   * @throws IllegalArgumentException  If {@code b} is out of range
+   * @throws IndexOutOfBoundsException If either range is out of bounds
+   * @see #transcode(NFPCodec, int[], int, NFPCodec, int[], int, int)
+   */
+
+  public static void withZeroToWithoutZero(
+    final int[] source,
+    final int sourceOffset,
+    final int[] target,
+    final int targetOffset,
+    final int count,
+    final int b)
+  {
+    NFPRequantize.checkBits(b);
+    transcode(
+      NFPCodec.signedWithZero(b),
+      source,
+      sourceOffset,
+      NFPCodec.signedWithoutZero(b),
+      target,
+      targetOffset,
+      count);
+  }
+}
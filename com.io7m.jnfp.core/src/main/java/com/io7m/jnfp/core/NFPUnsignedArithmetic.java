@@ -0,0 +1,484 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jnfp.core;
+
+import com.io7m.junreachable.UnreachableCodeException;
+
+import java.util.Objects;
+
+/**
+ * <p>Arithmetic performed directly on unsigned normalized fixed-point
+ * values.</p>
+ *
+ * <p>Each operation is defined in terms of the floating point conversions
+ * in {@link NFPUnsignedFloatInt}: the operands are converted with
+ * {@link NFPUnsignedFloatInt#fromUnsignedNormalized(int, int)}, the
+ * operation is performed using {@code float} arithmetic as described on
+ * each function, and the result is converted back with
+ * {@link NFPUnsignedFloatInt#toUnsignedNormalized(float, int)}. The
+ * functions in this class produce results identical to that procedure.</p>
+ *
+ * <p>Rather than converting every value, the functions compute the exact
+ * result using integer arithmetic, and the exact result is then truncated
+ * exactly as the conversion to fixed-point format would truncate it. The
+ * rounding error of the {@code float} procedure is bounded, and so it can
+ * only disagree with the exact result when the exact result lies very close
+ * to a whole number. For the small fraction of values where that is the
+ * case, the {@code float} procedure is evaluated instead, using the tables
+ * of {@link NFPLookupFloatInt} so that no division is required.</p>
+ *
+ * <p>All values are assumed to be unsigned fixed-point values with
+ * {@code b} bits of precision, where {@code b} is in the range
+ * {@code [2, 16]}.</p>
+ */
+
+public final class NFPUnsignedArithmetic
+{
+  /*
+   * The float procedures perform at most four roundings, each with a
+   * relative error of at most 2^-24, on values no greater than 1. Results
+   * are therefore within m * 2^-22 of the exact result when scaled by m;
+   * the guard band allows for four times that.
+   */
+
+  private static final int GUARD_SHIFT = 20;
+
+  private NFPUnsignedArithmetic()
+  {
+    throw new UnreachableCodeException();
+  }
+
+  private static boolean nearWhole(
+    final long remainder,
+    final long divisor,
+    final int m)
+  {
+    final long band = divisor * m;
+    return (remainder << GUARD_SHIFT) <= band
+      || ((divisor - remainder) << GUARD_SHIFT) <= band;
+  }
+
+  private static int multiplyWith(
+    final float[] table,
+    final int m,
+    final int b,
+    final int x,
+    final int y)
+  {
+    final long n = (long) x * (long) y;
+    final long q = (n + (n >>> b) + 1L) >>> b;
+    if (nearWhole(n - (q * m), m, m)) {
+      return NFPUnsignedFloatInt.toUnsignedNormalized(table[x] * table[y], b);
+    }
+    return (int) q;
+  }
+
+  private static int lerpWith(
+    final float[] table,
+    final int m,
+    final int b,
+    final int x,
+    final int y,
+    final int t)
+  {
+    final long n = ((long) x * m) + ((long) t * (long) (y - x));
+    final long q = (n + (n >>> b) + 1L) >>> b;
+    if (nearWhole(n - (q * m), m, m)) {
+      final float fx = table[x];
+      return NFPUnsignedFloatInt.toUnsignedNormalized(
+        fx + ((table[y] - fx) * table[t]), b);
+    }
+    return (int) q;
+  }
+
+  private static int unpremultiplyWith(
+    final float[] table,
+    final int m,
+    final int b,
+    final int x,
+    final int alpha)
+  {
+    if (alpha == 0) {
+      return 0;
+    }
+    if (x >= alpha) {
+      return m;
+    }
+
+    final long n = (long) x * m;
+    final long q = n / alpha;
+    if (nearWhole(n - (q * alpha), alpha, m)) {
+      return NFPUnsignedFloatInt.toUnsignedNormalized(
+        table[x] / table[alpha], b);
+    }
+    return (int) q;
+  }
+
+  private static int addSaturatedWith(
+    final float[] table,
+    final int b,
+    final int x,
+    final int y)
+  {
+    /*
+     * Every sum is a whole number, so the integer shortcut never applies.
+     */
+
+    return NFPUnsignedFloatInt.toUnsignedNormalized(
+      Math.min(1.0f, table[x] + table[y]), b);
+  }
+
+  /**
+   * Multiply {@code x} by {@code y}. The result is the conversion of
+   * {@code fx * fy}, where {@code fx} and {@code fy} are the floating
+   * point values of {@code x} and {@code y}.
+   *
+   * @param x A value in the range {@code [0, (2 ^ b) - 1]}
+   * @param y A value in the range {@code [0, (2 ^ b) - 1]}
+   * @param b A value in the range {@code [2, 16]}
+   *
+   * @return The product of {@code x} and {@code y}
+   *
+   * @throws IllegalArgumentException If {@code b} is out of range
+   */
+
+  public static int multiply(
+    final int x,
+    final int y,
+    final int b)
+  {
+    final float[] table = NFPLookupFloatInt.unsignedTable(b);
+    return multiplyWith(table, table.length - 1, b, x, y);
+  }
+
+  /**
+   * Linearly interpolate between {@code x} and {@code y} by {@code t}. The
+   * result is the conversion of {@code fx + ((fy - fx) * ft)}, where
+   * {@code fx}, {@code fy}, and {@code ft} are the floating point values of
+   * {@code x}, {@code y}, and {@code t}.
+   *
+   * @param x A value in the range {@code [0, (2 ^ b) - 1]}
+   * @param y A value in the range {@code [0, (2 ^ b) - 1]}
+   * @param t A value in the range {@code [0, (2 ^ b) - 1]}
+   * @param b A value in the range {@code [2, 16]}
+   *
+   * @return The interpolated value
+   *
+   * @throws IllegalArgumentException If {@code b} is out of range
+   */
+
+  public static int lerp(
+    final int x,
+    final int y,
+    final int t,
+    final int b)
+  {
+    final float[] table = NFPLookupFloatInt.unsignedTable(b);
+    return lerpWith(table, table.length - 1, b, x, y, t);
+  }
+
+  /**
+   * Premultiply the color component {@code x} by {@code alpha}. This is
+   * equivalent to {@link #multiply(int, int, int)}.
+   *
+   * @param x     A value in the range {@code [0, (2 ^ b) - 1]}
+   * @param alpha A value in the range {@code [0, (2 ^ b) - 1]}
+   * @param b     A value in the range {@code [2, 16]}
+   *
+   * @return The premultiplied component
+   *
+   * @throws IllegalArgumentException If {@code b} is out of range
+   */
+
+  public static int premultiply(
+    final int x,
+    final int alpha,
+    final int b)
+  {
+    return multiply(x, alpha, b);
+  }
+
+  /**
+   * Divide the premultiplied color component {@code x} by {@code alpha}.
+   * The result is {@code 0} if {@code alpha} is {@code 0}, and otherwise
+   * the conversion of {@code min(1, fx / falpha)}, where {@code fx} and
+   * {@code falpha} are the floating point values of {@code x} and
+   * {@code alpha}.
+   *
+   * @param x     A value in the range {@code [0, (2 ^ b) - 1]}
+   * @param alpha A value in the range {@code [0, (2 ^ b) - 1]}
+   * @param b     A value in the range {@code [2, 16]}
+   *
+   * @return The unpremultiplied component
+   *
+   * @throws IllegalArgumentException If {@code b} is out of range
+   */
+
+  public static int unpremultiply(
+    final int x,
+    final int alpha,
+    final int b)
+  {
+    final float[] table = NFPLookupFloatInt.unsignedTable(b);
+    return unpremultiplyWith(table, table.length - 1, b, x, alpha);
+  }
+
+  /**
+   * Add {@code x} to {@code y}, saturating at {@code (2 ^ b) - 1}. The
+   * result is the conversion of {@code min(1, fx + fy)}, where {@code fx}
+   * and {@code fy} are the floating point values of {@code x} and
+   * {@code y}.
+   *
+   * @param x A value in the range {@code [0, (2 ^ b) - 1]}
+   * @param y A value in the range {@code [0, (2 ^ b) - 1]}
+   * @param b A value in the range {@code [2, 16]}
+   *
+   * @return The saturated sum of {@code x} and {@code y}
+   *
+   * @throws IllegalArgumentException If {@code b} is out of range
+   */
+
+  public static int addSaturated(
+    final int x,
+    final int y,
+    final int b)
+  {
+    return addSaturatedWith(NFPLookupFloatInt.unsignedTable(b), b, x, y);
+  }
+
+  /**
+   * Multiply {@code count} values from {@code x}, starting at
+   * {@code xOffset}, by {@code count} values from {@code y}, starting at
+   * {@code yOffset}, writing the results to {@code target} starting at
+   * {@code targetOffset}. The results are identical to those produced by
+   * calling {@link #multiply(int, int, int)} for each pair of values.
+   *
+   * @param x            The first operands
+   * @param xOffset      The index of the first value in {@code x}
+   * @param y            The second operands
+   * @param yOffset      The index of the first value in {@code y}
+   * @param target       The target array
+   * @param targetOffset The index of the first target value
+   * @param count        The number of values
+   * @param b            A value in the range {@code [2, 16]}
+   *
+   * @throws IllegalArgumentException  If {@code b} is out of range
+   * @throws IndexOutOfBoundsException If any range is out of bounds
+   */
+
+  public static void multiply(
+    final int[] x,
+    final int xOffset,
+    final int[] y,
+    final int yOffset,
+    final int[] target,
+    final int targetOffset,
+    final int count,
+    final int b)
+  {
+    final float[] table = NFPLookupFloatInt.unsignedTable(b);
+    final int m = table.length - 1;
+    Objects.checkFromIndexSize(xOffset, count, x.length);
+    Objects.checkFromIndexSize(yOffset, count, y.length);
+    Objects.checkFromIndexSize(targetOffset, count, target.length);
+
+    for (int index = 0; index < count; ++index) {
+      target[targetOffset + index] = multiplyWith(
+        table, m, b, x[xOffset + index], y[yOffset + index]);
+    }
+  }
+
+  /**
+   * Linearly interpolate between {@code count} values from {@code x},
+   * starting at {@code xOffset}, and {@code count} values from {@code y},
+   * starting at {@code yOffset}, by {@code count} values from {@code t},
+   * starting at {@code tOffset}, writing the results to {@code target}
+   * starting at {@code targetOffset}. The results are identical to those
+   * produced by calling {@link #lerp(int, int, int, int)} for each triple of
+   * values.
+   *
+   * @param x            The first operands
+   * @param xOffset      The index of the first value in {@code x}
+   * @param y            The second operands
+   * @param yOffset      The index of the first value in {@code y}
+   * @param t            The interpolation factors
+   * @param tOffset      The index of the first value in {@code t}
+   * @param target       The target array
+   * @param targetOffset The index of the first target value
+   * @param count        The number of values
+   * @param b            A value in the range {@code [2, 16]}
+   *
+   * @throws IllegalArgumentException  If {@code b} is out of range
+   * @throws IndexOutOfBoundsException If any range is out of bounds
+   */
+
+  public static void lerp(
+    final int[] x,
+    final int xOffset,
+    final int[] y,
+    final int yOffset,
+    final int[] t,
+    final int tOffset,
+    final int[] target,
+    final int targetOffset,
+    final int count,
+    final int b)
+  {
+    final float[] table = NFPLookupFloatInt.unsignedTable(b);
+    final int m = table.length - 1;
+    Objects.checkFromIndexSize(xOffset, count, x.length);
+    Objects.checkFromIndexSize(yOffset, count, y.length);
+    Objects.checkFromIndexSize(tOffset, count, t.length);
+    Objects.checkFromIndexSize(targetOffset, count, target.length);
+
+    for (int index = 0; index < count; ++index) {
+      final int tv = t[tOffset + index];
+      target[targetOffset + index] =
+        lerpWith(table, m, b, x[xOffset + index], y[yOffset + index], tv);
+    }
+  }
+
+  /**
+   * Premultiply {@code count} pixels from {@code source}, starting at
+   * {@code sourceOffset}, writing the results to {@code target} starting at
+   * {@code targetOffset}. Each pixel is stored as four consecutive values
+   * {@code r, g, b, a}; the color components are premultiplied by the alpha
+   * component as with {@link #premultiply(int, int, int)}, and the alpha
+   * component is copied unchanged.
+   *
+   * @param source       The source pixels
+   * @param sourceOffset The index of the first source value
+   * @param target       The target array
+   * @param targetOffset The index of the first target value
+   * @param count        The number of pixels
+   * @param b            A value in the range {@code [2, 16]}
+   *
+   * @throws IllegalArgumentException  If {@code b} is out of range
+   * @throws IndexOutOfBoundsException If either range is out of bounds
+   */
+
+  public static void premultiply(
+    final int[] source,
+    final int sourceOffset,
+    final int[] target,
+    final int targetOffset,
+    final int count,
+    final int b)
+  {
+    final float[] table = NFPLookupFloatInt.unsignedTable(b);
+    final int m = table.length - 1;
+    final int size = Math.multiplyExact(count, 4);
+    Objects.checkFromIndexSize(sourceOffset, size, source.length);
+    Objects.checkFromIndexSize(targetOffset, size, target.length);
+
+    for (int index = 0; index < size; index += 4) {
+      final int s = sourceOffset + index;
+      final int t = targetOffset + index;
+      final int alpha = source[s + 3];
+      target[t] = multiplyWith(table, m, b, source[s], alpha);
+      target[t + 1] = multiplyWith(table, m, b, source[s + 1], alpha);
+      target[t + 2] = multiplyWith(table, m, b, source[s + 2], alpha);
+      target[t + 3] = alpha;
+    }
+  }
+
+  /**
+   * Unpremultiply {@code count} pixels from {@code source}, starting at
+   * {@code sourceOffset}, writing the results to {@code target} starting at
+   * {@code targetOffset}. Each pixel is stored as four consecutive values
+   * {@code r, g, b, a}; the color components are divided by the alpha
+   * component as with {@link #unpremultiply(int, int, int)}, and the alpha
+   * component is copied unchanged.
+   *
+   * @param source       The source pixels
+   * @param sourceOffset The index of the first source value
+   * @param target       The target array
+   * @param targetOffset The index of the first target value
+   * @param count        The number of pixels
+   * @param b            A value in the range {@code [2, 16]}
+   *
+   * @throws IllegalArgumentException  If {@code b} is out of range
+   * @throws IndexOutOfBoundsException If either range is out of bounds
+   */
+
+  public static void unpremultiply(
+    final int[] source,
+    final int sourceOffset,
+    final int[] target,
+    final int targetOffset,
+    final int count,
+    final int b)
+  {
+    final float[] table = NFPLookupFloatInt.unsignedTable(b);
+    final int m = table.length - 1;
+    final int size = Math.multiplyExact(count, 4);
+    Objects.checkFromIndexSize(sourceOffset, size, source.length);
+    Objects.checkFromIndexSize(targetOffset, size, target.length);
+
+    for (int index = 0; index < size; index += 4) {
+      final int s = sourceOffset + index;
+      final int t = targetOffset + index;
+      final int alpha = source[s + 3];
+      target[t] = unpremultiplyWith(table, m, b, source[s], alpha);
+      target[t + 1] = unpremultiplyWith(table, m, b, source[s + 1], alpha);
+      target[t + 2] = unpremultiplyWith(table, m, b, source[s + 2], alpha);
+      target[t + 3] = alpha;
+    }
+  }
+
+  /**
+   * Add {@code count} values from {@code x}, starting at {@code xOffset},
+   * to {@code count} values from {@code y}, starting at {@code yOffset},
+   * writing the results to {@code target} starting at {@code targetOffset}.
+   * The results are identical to those produced by calling
+   * {@link #addSaturated(int, int, int)} for each pair of values.
+   *
+   * @param x            The first operands
+   * @param xOffset      The index of the first value in {@code x}
+   * @param y            The second operands
+   * @param yOffset      The index of the first value in {@code y}
+   * @param target       The target array
+   * @param targetOffset The index of the first target value
+   * @param count        The number of values
+   * @param b            A value in the range {@code [2, 16]}
+   *
+   * @throws IllegalArgumentException  If {@code b} is out of range
+   * @throws IndexOutOfBoundsException If any range is out of bounds
+   */
+
+  public static void addSaturated(
+    final int[] x,
+    final int xOffset,
+    final int[] y,
+    final int yOffset,
+    final int[] target,
+    final int targetOffset,
+    final int count,
+    final int b)
+  {
+    final float[] table = NFPLookupFloatInt.unsignedTable(b);
+    Objects.checkFromIndexSize(xOffset, count, x.length);
+    Objects.checkFromIndexSize(yOffset, count, y.length);
+    Objects.checkFromIndexSize(targetOffset, count, target.length);
+
+    for (int index = 0; index < count; ++index) {
+      target[targetOffset + index] = addSaturatedWith(
+        table, b, x[xOffset + index], y[yOffset + index]);
+    }
+  }
+}
@@ -19,6 +19,8 @@ package com.io7m.jnfp.core;
 import com.io7m.junreachable.UnreachableCodeException;
 import com.io7m.junsigned.core.UnsignedFloat;
 
+import java.util.Objects;
+
 /**
  * <p>Conversion of unsigned normalized fixed-point values to and from floating
  * point values.</p>
@@ -62,7 +64,7 @@ public final class NFPUnsignedFloatInt
     final int f,
     final int b)
   {
-    final double twobm1 = StrictMath.pow(2.0, (double) b) - 1.0;
+    final double twobm1 = NFPPowers.twoPow(b) - 1.0;
     return UnsignedFloat.fromUnsignedInt(f) / (float) twobm1;
   }
 
@@ -80,8 +82,407 @@ public final class NFPUnsignedFloatInt
     final float x,
     final int b)
   {
-    final double twobm1 = StrictMath.pow(2.0, (double) b) - 1.0;
+    final double twobm1 = NFPPowers.twoPow(b) - 1.0;
     return UnsignedFloat.toUnsignedInt(x * (float) twobm1);
   }
 
+  /**
+   * Convert {@code count} values from {@code source}, starting at
+   * {@code sourceOffset}, to floating point format, writing the results to
+   * {@code target} starting at {@code targetOffset}. The values are assumed to
+   * be unsigned fixed-point values with {@code b} bits of precision. The
+   * results are identical to those produced by calling
+   * {@link #fromUnsignedNormalized(int, int)} for each value.
+   *
+   * @param source       The source values
+   * @param sourceOffset The index of the first source value
+   * @param target       The target array
+   * @param targetOffset The index of the first target value
+   * @param count        The number of values to convert
+   * @param b            A value in the range {@code [2, 32]}
+   *
+   * @throws IndexOutOfBoundsException If either range is out of bounds
+   */
+
+  public static void fromUnsignedNormalized(
+    final int[] source,
+    final int sourceOffset,
+    final float[] target,
+    final int targetOffset,
+    final int count,
+    final int b)
+  {
+    Objects.checkFromIndexSize(sourceOffset, count, source.length);
+    Objects.checkFromIndexSize(targetOffset, count, target.length);
+
+    final float twobm1 =
+      (float) (NFPPowers.twoPow(b) - 1.0);
+    for (int index = 0; index < count; ++index) {
+      target[targetOffset + index] =
+        UnsignedFloat.fromUnsignedInt(source[sourceOffset + index]) / twobm1;
+    }
+  }
+
+  /**
+   * Convert {@code count} values from {@code source}, starting at
+   * {@code sourceOffset}, to fixed-point format, writing the results to
+   * {@code target} starting at {@code targetOffset}. The results are identical
+   * to those produced by calling {@link #toUnsignedNormalized(float, int)} for
+   * each value.
+   *
+   * @param source       The source values, in the range {@code [0, 1]}
+   * @param sourceOffset The index of the first source value
+   * @param target       The target array
+   * @param targetOffset The index of the first target value
+   * @param count        The number of values to convert
+   * @param b            A value in the range {@code [2, 32]}
+   *
+   * @throws IndexOutOfBoundsException If either range is out of bounds
+   */
+
+  public static void toUnsignedNormalized(
+    final float[] source,
+    final int sourceOffset,
+    final int[] target,
+    final int targetOffset,
+    final int count,
+    final int b)
+  {
+    Objects.checkFromIndexSize(sourceOffset, count, source.length);
+    Objects.checkFromIndexSize(targetOffset, count, target.length);
+
+    final float twobm1 =
+      (float) (NFPPowers.twoPow(b) - 1.0);
+    for (int index = 0; index < count; ++index) {
+      target[targetOffset + index] =
+        UnsignedFloat.toUnsignedInt(source[sourceOffset + index] * twobm1);
+    }
+  }
+
+  /**
+   * <p>Convert {@code count} values from {@code source}, starting at
+   * {@code sourceOffset}, to {@code 8} bit fixed-point format, writing the
+   * results to {@code target} starting at {@code targetOffset}. This is
+   * equivalent to calling
+   * {@link #toUnsignedNormalized(float[], int, byte[], int, int, int)} with
+   * {@code b = 8}.</p>
+   *
+   * <p>The conversion to a narrow type allows the saturation branch in
+   * {@link UnsignedFloat#toUnsignedInt(float)} to be omitted: any value that
+   * would saturate to {@code 0xffffffff} instead saturates to
+   * {@link Integer#MAX_VALUE}, and both have the same low bits.</p>
+   *
+   * @param source       The source values, in the range {@code [0, 1]}
+   * @param sourceOffset The index of the first source value
+   * @param target       The target array
+   * @param targetOffset The index of the first target value
+   * @param count        The number of values to convert
+   *
+   * @throws IndexOutOfBoundsException If either range is out of bounds
+   */
+
+  public static void toUnsignedNormalized8(
+    final float[] source,
+    final int sourceOffset,
+    final byte[] target,
+    final int targetOffset,
+    final int count)
+  {
+    toUnsignedNormalized(source, sourceOffset, target, targetOffset, count, 8);
+  }
+
+  /**
+   * <p>Convert {@code count} values from {@code source}, starting at
+   * {@code sourceOffset}, to {@code 16} bit fixed-point format, writing the
+   * results to {@code target} starting at {@code targetOffset}. This is
+   * equivalent to calling
+   * {@link #toUnsignedNormalized(float[], int, short[], int, int, int)} with
+   * {@code b = 16}.</p>
+   *
+   * @param source       The source values, in the range {@code [0, 1]}
+   * @param sourceOffset The index of the first source value
+   * @param target       The target array
+   * @param targetOffset The index of the first target value
+   * @param count        The number of values to convert
+   *
+   * @throws IndexOutOfBoundsException If either range is out of bounds
+   * @see #toUnsignedNormalized8(float[], int, byte[], int, int)
+   */
+
+  public static void toUnsignedNormalized16(
+    final float[] source,
+    final int sourceOffset,
+    final short[] target,
+    final int targetOffset,
+    final int count)
+  {
+    toUnsignedNormalized(
+      source, sourceOffset, target, targetOffset, count, 16);
+  }
+
+  /**
+   * Check that {@code b} is a valid precision for values held in an integer
+   * type of {@code maximum} bits.
+   *
+   * @param b       The number of bits of precision
+   * @param maximum The number of bits in the integer type
+   *
+   * @throws IllegalArgumentException If {@code b} is out of range
+   */
+
+  static void checkNarrowBits(
+    final int b,
+    final int maximum)
+  {
+    if (b < 2 || b > maximum) {
+      throw new IllegalArgumentException(
+        String.format("Bits %d must be in the range [2, %d]", b, maximum));
+    }
+  }
+
+  /**
+   * Convert {@code count} values from {@code source}, starting at
+   * {@code sourceOffset}, to floating point format, writing the results to
+   * {@code target} starting at {@code targetOffset}. The values are assumed to
+   * be unsigned fixed-point values with {@code b} bits of precision, held in
+   * the low {@code b} bits of each {@code byte} and any higher bits are
+   * ignored. The results are identical to those produced by calling
+   * {@link #fromUnsignedNormalized(int, int)} for each value.
+   *
+   * @param source       The source values
+   * @param sourceOffset The index of the first source value
+   * @param target       The target array
+   * @param targetOffset The index of the first target value
+   * @param count        The number of values to convert
+   * @param b            A value in the range {@code [2, 8]}
+   *
+   * @throws IllegalArgumentException  If {@code b} is out of range
+   * @throws IndexOutOfBoundsException If either range is out of bounds
+   */
+
+  public static void fromUnsignedNormalized(
+    final byte[] source,
+    final int sourceOffset,
+    final float[] target,
+    final int targetOffset,
+    final int count,
+    final int b)
+  {
+    checkNarrowBits(b, 8);
+
+    Objects.checkFromIndexSize(sourceOffset, count, source.length);
+    Objects.checkFromIndexSize(targetOffset, count, target.length);
+
+    final int mask = (1 << b) - 1;
+    final float twobm1 =
+      (float) (NFPPowers.twoPow(b) - 1.0);
+    for (int index = 0; index < count; ++index) {
+      final int f = source[sourceOffset + index] & mask;
+      target[targetOffset + index] = (float) f / twobm1;
+    }
+  }
+
+  /**
+   * Convert {@code count} values from {@code source}, starting at
+   * {@code sourceOffset}, to floating point format, writing the results to
+   * {@code target} starting at {@code targetOffset}. The values are assumed to
+   * be unsigned fixed-point values with {@code b} bits of precision, held in
+   * the low {@code b} bits of each {@code short} and any higher bits are
+   * ignored. The results are identical to those produced by calling
+   * {@link #fromUnsignedNormalized(int, int)} for each value.
+   *
+   * @param source       The source values
+   * @param sourceOffset The index of the first source value
+   * @param target       The target array
+   * @param targetOffset The index of the first target value
+   * @param count        The number of values to convert
+   * @param b            A value in the range {@code [2, 16]}
+   *
+   * @throws IllegalArgumentException  If {@code b} is out of range
+   * @throws IndexOutOfBoundsException If either range is out of bounds
+   */
+
+  public static void fromUnsignedNormalized(
+    final short[] source,
+    final int sourceOffset,
+    final float[] target,
+    final int targetOffset,
+    final int count,
+    final int b)
+  {
+    checkNarrowBits(b, 16);
+
+    Objects.checkFromIndexSize(sourceOffset, count, source.length);
+    Objects.checkFromIndexSize(targetOffset, count, target.length);
+
+    final int mask = (1 << b) - 1;
+    final float twobm1 =
+      (float) (NFPPowers.twoPow(b) - 1.0);
+    for (int index = 0; index < count; ++index) {
+      final int f = source[sourceOffset + index] & mask;
+      target[targetOffset + index] = (float) f / twobm1;
+    }
+  }
+
+  /**
+   * Convert {@code count} values from {@code source}, starting at
+   * {@code sourceOffset}, to floating point format, writing the results to
+   * {@code target} starting at {@code targetOffset}. The values are assumed to
+   * be unsigned fixed-point values with {@code b} bits of precision, held in
+   * the low {@code b} bits of each {@code char} and any higher bits are
+   * ignored. The results are identical to those produced by calling
+   * {@link #fromUnsignedNormalized(int, int)} for each value.
+   *
+   * @param source       The source values
+   * @param sourceOffset The index of the first source value
+   * @param target       The target array
+   * @param targetOffset The index of the first target value
+   * @param count        The number of values to convert
+   * @param b            A value in the range {@code [2, 16]}
+   *
+   * @throws IllegalArgumentException  If {@code b} is out of range
+   * @throws IndexOutOfBoundsException If either range is out of bounds
+   */
+
+  public static void fromUnsignedNormalized(
+    final char[] source,
+    final int sourceOffset,
+    final float[] target,
+    final int targetOffset,
+    final int count,
+    final int b)
+  {
+    checkNarrowBits(b, 16);
+
+    Objects.checkFromIndexSize(sourceOffset, count, source.length);
+    Objects.checkFromIndexSize(targetOffset, count, target.length);
+
+    final int mask = (1 << b) - 1;
+    final float twobm1 =
+      (float) (NFPPowers.twoPow(b) - 1.0);
+    for (int index = 0; index < count; ++index) {
+      final int f = source[sourceOffset + index] & mask;
+      target[targetOffset + index] = (float) f / twobm1;
+    }
+  }
+
+  /**
+   * Convert {@code count} values from {@code source}, starting at
+   * {@code sourceOffset}, to fixed-point format, writing the results to
+   * {@code target} starting at {@code targetOffset}. The results are identical
+   * to the low bits of those produced by calling
+   * {@link #toUnsignedNormalized(float, int)} for each value, truncated to a
+   * {@code byte}.
+   *
+   * @param source       The source values, in the range {@code [0, 1]}
+   * @param sourceOffset The index of the first source value
+   * @param target       The target array
+   * @param targetOffset The index of the first target value
+   * @param count        The number of values to convert
+   * @param b            A value in the range {@code [2, 8]}
+   *
+   * @throws IllegalArgumentException  If {@code b} is out of range
+   * @throws IndexOutOfBoundsException If either range is out of bounds
+   */
+
+  public static void toUnsignedNormalized(
+    final float[] source,
+    final int sourceOffset,
+    final byte[] target,
+    final int targetOffset,
+    final int count,
+    final int b)
+  {
+    checkNarrowBits(b, 8);
+
+    Objects.checkFromIndexSize(sourceOffset, count, source.length);
+    Objects.checkFromIndexSize(targetOffset, count, target.length);
+
+    final float twobm1 =
+      (float) (NFPPowers.twoPow(b) - 1.0);
+    for (int index = 0; index < count; ++index) {
+      final float x = source[sourceOffset + index];
+      target[targetOffset + index] = (byte) (int) (x * twobm1);
+    }
+  }
+
+  /**
+   * Convert {@code count} values from {@code source}, starting at
+   * {@code sourceOffset}, to fixed-point format, writing the results to
+   * {@code target} starting at {@code targetOffset}. The results are identical
+   * to the low bits of those produced by calling
+   * {@link #toUnsignedNormalized(float, int)} for each value, truncated to a
+   * {@code short}.
+   *
+   * @param source       The source values, in the range {@code [0, 1]}
+   * @param sourceOffset The index of the first source value
+   * @param target       The target array
+   * @param targetOffset The index of the first target value
+   * @param count        The number of values to convert
+   * @param b            A value in the range {@code [2, 16]}
+   *
+   * @throws IllegalArgumentException  If {@code b} is out of range
+   * @throws IndexOutOfBoundsException If either range is out of bounds
+   */
+
+  public static void toUnsignedNormalized(
+    final float[] source,
+    final int sourceOffset,
+    final short[] target,
+    final int targetOffset,
+    final int count,
+    final int b)
+  {
+    checkNarrowBits(b, 16);
+
+    Objects.checkFromIndexSize(sourceOffset, count, source.length);
+    Objects.checkFromIndexSize(targetOffset, count, target.length);
+
+    final float twobm1 =
+      (float) (NFPPowers.twoPow(b) - 1.0);
+    for (int index = 0; index < count; ++index) {
+      final float x = source[sourceOffset + index];
+      target[targetOffset + index] = (short) (int) (x * twobm1);
+    }
+  }
+
+  /**
+   * Convert {@code count} values from {@code source}, starting at
+   * {@code sourceOffset}, to fixed-point format, writing the results to
+   * {@code target} starting at {@code targetOffset}. The results are identical
+   * to the low bits of those produced by calling
+   * {@link #toUnsignedNormalized(float, int)} for each value, truncated to a
+   * {@code char}.
+   *
+   * @param source       The source values, in the range {@code [0, 1]}
+   * @param sourceOffset The index of the first source value
+   * @param target       The target array
+   * @param targetOffset The index of the first target value
+   * @param count        The number of values to convert
+   * @param b            A value in the range {@code [2, 16]}
+   *
+   * @throws IllegalArgumentException  If {@code b} is out of range
+   * @throws IndexOutOfBoundsException If either range is out of bounds
+   */
+
+  public static void toUnsignedNormalized(
+    final float[] source,
+    final int sourceOffset,
+    final char[] target,
+    final int targetOffset,
+    final int count,
+    final int b)
+  {
+    checkNarrowBits(b, 16);
+
+    Objects.checkFromIndexSize(sourceOffset, count, source.length);
+    Objects.checkFromIndexSize(targetOffset, count, target.length);
+
+    final float twobm1 =
+      (float) (NFPPowers.twoPow(b) - 1.0);
+    for (int index = 0; index < count; ++index) {
+      final float x = source[sourceOffset + index];
+      target[targetOffset + index] = (char) (int) (x * twobm1);
+    }
+  }
 }
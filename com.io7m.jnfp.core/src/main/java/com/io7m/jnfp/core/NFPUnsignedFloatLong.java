@@ -19,6 +19,8 @@ package com.io7m.jnfp.core;
 import com.io7m.junreachable.UnreachableCodeException;
 import com.io7m.junsigned.core.UnsignedFloat;
 
+import java.util.Objects;
+
 /**
  * <p>Conversion of unsigned normalized fixed-point values to and from floating
  * point values.</p>
@@ -62,7 +64,7 @@ public final class NFPUnsignedFloatLong
     final long f,
     final int b)
   {
-    final double twobm1 = StrictMath.pow(2.0, (double) b) - 1.0;
+    final double twobm1 = NFPPowers.twoPow(b) - 1.0;
     return UnsignedFloat.fromUnsignedLong(f) / (float) twobm1;
   }
 
@@ -80,7 +82,80 @@ public final class NFPUnsignedFloatLong
     final float x,
     final int b)
   {
-    final double twobm1 = StrictMath.pow(2.0, (double) b) - 1.0;
+    final double twobm1 = NFPPowers.twoPow(b) - 1.0;
     return UnsignedFloat.toUnsignedLong(x * (float) twobm1);
   }
+
+  /**
+   * Convert {@code count} values from {@code source}, starting at
+   * {@code sourceOffset}, to floating point format, writing the results to
+   * {@code target} starting at {@code targetOffset}. The values are assumed to
+   * be unsigned fixed-point values with {@code b} bits of precision. The
+   * results are identical to those produced by calling
+   * {@link #fromUnsignedNormalized(long, int)} for each value.
+   *
+   * @param source       The source values
+   * @param sourceOffset The index of the first source value
+   * @param target       The target array
+   * @param targetOffset The index of the first target value
+   * @param count        The number of values to convert
+   * @param b            A value in the range {@code [2, 32]}
+   *
+   * @throws IndexOutOfBoundsException If either range is out of bounds
+   */
+
+  public static void fromUnsignedNormalized(
+    final long[] source,
+    final int sourceOffset,
+    final float[] target,
+    final int targetOffset,
+    final int count,
+    final int b)
+  {
+    Objects.checkFromIndexSize(sourceOffset, count, source.length);
+    Objects.checkFromIndexSize(targetOffset, count, target.length);
+
+    final float twobm1 =
+      (float) (NFPPowers.twoPow(b) - 1.0);
+    for (int index = 0; index < count; ++index) {
+      target[targetOffset + index] =
+        UnsignedFloat.fromUnsignedLong(source[sourceOffset + index]) / twobm1;
+    }
+  }
+
+  /**
+   * Convert {@code count} values from {@code source}, starting at
+   * {@code sourceOffset}, to fixed-point format, writing the results to
+   * {@code target} starting at {@code targetOffset}. The results are identical
+   * to those produced by calling {@link #toUnsignedNormalized(float, int)} for
+   * each value.
+   *
+   * @param source       The source values, in the range {@code [0, 1]}
+   * @param sourceOffset The index of the first source value
+   * @param target       The target array
+   * @param targetOffset The index of the first target value
+   * @param count        The number of values to convert
+   * @param b            A value in the range {@code [2, 32]}
+   *
+   * @throws IndexOutOfBoundsException If either range is out of bounds
+   */
+
+  public static void toUnsignedNormalized(
+    final float[] source,
+    final int sourceOffset,
+    final long[] target,
+    final int targetOffset,
+    final int count,
+    final int b)
+  {
+    Objects.checkFromIndexSize(sourceOffset, count, source.length);
+    Objects.checkFromIndexSize(targetOffset, count, target.length);
+
+    final float twobm1 =
+      (float) (NFPPowers.twoPow(b) - 1.0);
+    for (int index = 0; index < count; ++index) {
+      target[targetOffset + index] =
+        UnsignedFloat.toUnsignedLong(source[sourceOffset + index] * twobm1);
+    }
+  }
 }
@@ -0,0 +1,266 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jnfp.core;
+
+import com.io7m.junreachable.UnreachableCodeException;
+
+/**
+ * <p>Bulk conversion of normalized fixed-point values to and from floating
+ * point values using SIMD instructions.</p>
+ *
+ * <p>The functions in this class produce results identical to the bulk
+ * functions in {@link NFPSignedFloatInt} and {@link NFPUnsignedFloatInt}.
+ * If the {@code jdk.incubator.vector} module is present at run-time, the
+ * conversions are performed using the vector API. Otherwise, the functions
+ * in this class simply delegate to the scalar implementations.</p>
+ */
+
+public final class NFPVectorFloatInt
+{
+  private static final boolean ACCELERATED = isVectorAPIAvailable();
+
+  private NFPVectorFloatInt()
+  {
+    throw new UnreachableCodeException();
+  }
+
+  private static boolean isVectorAPIAvailable()
+  {
+    try {
+      Class.forName(
+        "jdk.incubator.vector.FloatVector",
+        false,
+        NFPVectorFloatInt.class.getClassLoader());
+      return true;
+    } catch (final ClassNotFoundException | LinkageError e) {
+      return false;
+    }
+  }
+
+  /**
+   * @return {@code true} if the vector API is available and conversions are
+   * being performed using SIMD instructions
+   */
+
+  public static boolean isAccelerated()
+  {
+    return ACCELERATED;
+  }
+
+  /**
+   * Convert {@code count} values from {@code source}, starting at
+   * {@code sourceOffset}, to floating point format using the
+   * {@code without-zero} representation, writing the results to
+   * {@code target} starting at {@code targetOffset}.
+   *
+   * @param source       The source values
+   * @param sourceOffset The index of the first source value
+   * @param target       The target array
+   * @param targetOffset The index of the first target value
+   * @param count        The number of values to convert
+   * @param b            A value in the range {@code [2, 32]}
+   *
+   * @throws IndexOutOfBoundsException If either range is out of bounds
+   * @see NFPSignedFloatInt#fromSignedNormalizedWithoutZero(int[], int, float[], int, int, int)
+   */
+
+  public static void fromSignedNormalizedWithoutZero(
+    final int[] source,
+    final int sourceOffset,
+    final float[] target,
+    final int targetOffset,
+    final int count,
+    final int b)
+  {
+    if (ACCELERATED) {
+      NFPVectorFloatIntKernels.fromSignedNormalizedWithoutZero(
+        source, sourceOffset, target, targetOffset, count, b);
+    } else {
+      NFPSignedFloatInt.fromSignedNormalizedWithoutZero(
+        source, sourceOffset, target, targetOffset, count, b);
+    }
+  }
+
+  /**
+   * Convert {@code count} values from {@code source}, starting at
+   * {@code sourceOffset}, to fixed-point format using the
+   * {@code without-zero} representation, writing the results to
+   * {@code target} starting at {@code targetOffset}.
+   *
+   * @param source       The source values, in the range {@code [-1, 1]}
+   * @param sourceOffset The index of the first source value
+   * @param target       The target array
+   * @param targetOffset The index of the first target value
+   * @param count        The number of values to convert
+   * @param b            A value in the range {@code [2, 32]}
+   *
+   * @throws IndexOutOfBoundsException If either range is out of bounds
+   * @see NFPSignedFloatInt#toSignedNormalizedWithoutZero(float[], int, int[], int, int, int)
+   */
+
+  public static void toSignedNormalizedWithoutZero(
+    final float[] source,
+    final int sourceOffset,
+    final int[] target,
+    final int targetOffset,
+    final int count,
+    final int b)
+  {
+    if (ACCELERATED) {
+      NFPVectorFloatIntKernels.toSignedNormalizedWithoutZero(
+        source, sourceOffset, target, targetOffset, count, b);
+    } else {
+      NFPSignedFloatInt.toSignedNormalizedWithoutZero(
+        source, sourceOffset, target, targetOffset, count, b);
+    }
+  }
+
+  /**
+   * Convert {@code count} values from {@code source}, starting at
+   * {@code sourceOffset}, to floating point format using the
+   * {@code with-zero} representation, writing the results to {@code target}
+   * starting at {@code targetOffset}.
+   *
+   * @param source       The source values
+   * @param sourceOffset The index of the first source value
+   * @param target       The target array
+   * @param targetOffset The index of the first target value
+   * @param count        The number of values to convert
+   * @param b            A value in the range {@code [2, 32]}
+   *
+   * @throws IndexOutOfBoundsException If either range is out of bounds
+   * @see NFPSignedFloatInt#fromSignedNormalizedWithZero(int[], int, float[], int, int, int)
+   */
+
+  public static void fromSignedNormalizedWithZero(
+    final int[] source,
+    final int sourceOffset,
+    final float[] target,
+    final int targetOffset,
+    final int count,
+    final int b)
+  {
+    if (ACCELERATED) {
+      NFPVectorFloatIntKernels.fromSignedNormalizedWithZero(
+        source, sourceOffset, target, targetOffset, count, b);
+    } else {
+      NFPSignedFloatInt.fromSignedNormalizedWithZero(
+        source, sourceOffset, target, targetOffset, count, b);
+    }
+  }
+
+  /**
+   * Convert {@code count} values from {@code source}, starting at
+   * {@code sourceOffset}, to fixed-point format using the {@code with-zero}
+   * representation, writing the results to {@code target} starting at
+   * {@code targetOffset}.
+   *
+   * @param source       The source values, in the range {@code [-1, 1]}
+   * @param sourceOffset The index of the first source value
+   * @param target       The target array
+   * @param targetOffset The index of the first target value
+   * @param count        The number of values to convert
+   * @param b            A value in the range {@code [2, 32]}
+   *
+   * @throws IndexOutOfBoundsException If either range is out of bounds
+   * @see NFPSignedFloatInt#toSignedNormalizedWithZero(float[], int, int[], int, int, int)
+   */
+
+  public static void toSignedNormalizedWithZero(
+    final float[] source,
+    final int sourceOffset,
+    final int[] target,
+    final int targetOffset,
+    final int count,
+    final int b)
+  {
+    if (ACCELERATED) {
+      NFPVectorFloatIntKernels.toSignedNormalizedWithZero(
+        source, sourceOffset, target, targetOffset, count, b);
+    } else {
+      NFPSignedFloatInt.toSignedNormalizedWithZero(
+        source, sourceOffset, target, targetOffset, count, b);
+    }
+  }
+
+  /**
+   * Convert {@code count} unsigned values from {@code source}, starting at
+   * {@code sourceOffset}, to floating point format, writing the results to
+   * {@code target} starting at {@code targetOffset}.
+   *
+   * @param source       The source values
+   * @param sourceOffset The index of the first source value
+   * @param target       The target array
+   * @param targetOffset The index of the first target value
+   * @param count        The number of values to convert
+   * @param b            A value in the range {@code [2, 32]}
+   *
+   * @throws IndexOutOfBoundsException If either range is out of bounds
+   * @see NFPUnsignedFloatInt#fromUnsignedNormalized(int[], int, float[], int, int, int)
+   */
+
+  public static void fromUnsignedNormalized(
+    final int[] source,
+    final int sourceOffset,
+    final float[] target,
+    final int targetOffset,
+    final int count,
+    final int b)
+  {
+    if (ACCELERATED) {
+      NFPVectorFloatIntKernels.fromUnsignedNormalized(
+        source, sourceOffset, target, targetOffset, count, b);
+    } else {
+      NFPUnsignedFloatInt.fromUnsignedNormalized(
+        source, sourceOffset, target, targetOffset, count, b);
+    }
+  }
+
+  /**
+   * Convert {@code count} values from {@code source}, starting at
+   * {@code sourceOffset}, to unsigned fixed-point format, writing the
+   * results to {@code target} starting at {@code targetOffset}.
+   *
+   * @param source       The source values, in the range {@code [0, 1]}
+   * @param sourceOffset The index of the first source value
+   * @param target       The target array
+   * @param targetOffset The index of the first target value
+   * @param count        The number of values to convert
+   * @param b            A value in the range {@code [2, 32]}
+   *
+   * @throws IndexOutOfBoundsException If either range is out of bounds
+   * @see NFPUnsignedFloatInt#toUnsignedNormalized(float[], int, int[], int, int, int)
+   */
+
+  public static void toUnsignedNormalized(
+    final float[] source,
+    final int sourceOffset,
+    final int[] target,
+    final int targetOffset,
+    final int count,
+    final int b)
+  {
+    if (ACCELERATED) {
+      NFPVectorFloatIntKernels.toUnsignedNormalized(
+        source, sourceOffset, target, targetOffset, count, b);
+    } else {
+      NFPUnsignedFloatInt.toUnsignedNormalized(
+        source, sourceOffset, target, targetOffset, count, b);
+    }
+  }
+}
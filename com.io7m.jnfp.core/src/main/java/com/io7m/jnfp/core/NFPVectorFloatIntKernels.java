@@ -0,0 +1,271 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jnfp.core;
+
+import com.io7m.junreachable.UnreachableCodeException;
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+import java.util.Objects;
+
+/**
+ * Vector API implementations of the bulk functions in
+ * {@link NFPVectorFloatInt}. This class must not be loaded unless the
+ * {@code jdk.incubator.vector} module is present.
+ */
+
+final class NFPVectorFloatIntKernels
+{
+  private static final VectorSpecies<Float> FLOATS =
+    FloatVector.SPECIES_PREFERRED;
+  private static final VectorSpecies<Integer> INTS =
+    IntVector.SPECIES_PREFERRED;
+
+  private NFPVectorFloatIntKernels()
+  {
+    throw new UnreachableCodeException();
+  }
+
+  static void fromSignedNormalizedWithoutZero(
+    final int[] source,
+    final int sourceOffset,
+    final float[] target,
+    final int targetOffset,
+    final int count,
+    final int b)
+  {
+    Objects.checkFromIndexSize(sourceOffset, count, source.length);
+    Objects.checkFromIndexSize(targetOffset, count, target.length);
+
+    final float twobm1 = (float) (NFPPowers.twoPow(b) - 1.0);
+    final int bound = INTS.loopBound(count);
+
+    int index = 0;
+    for (; index < bound; index += INTS.length()) {
+      final FloatVector dx =
+        (FloatVector) IntVector.fromArray(INTS, source, sourceOffset + index)
+          .convert(VectorOperators.I2F, 0);
+      dx.mul(2.0f)
+        .add(1.0f)
+        .div(twobm1)
+        .intoArray(target, targetOffset + index);
+    }
+
+    NFPSignedFloatInt.fromSignedNormalizedWithoutZero(
+      source,
+      sourceOffset + index,
+      target,
+      targetOffset + index,
+      count - index,
+      b);
+  }
+
+  static void toSignedNormalizedWithoutZero(
+    final float[] source,
+    final int sourceOffset,
+    final int[] target,
+    final int targetOffset,
+    final int count,
+    final int b)
+  {
+    Objects.checkFromIndexSize(sourceOffset, count, source.length);
+    Objects.checkFromIndexSize(targetOffset, count, target.length);
+
+    final float twobm1 = (float) (NFPPowers.twoPow(b) - 1.0);
+    final int bound = FLOATS.loopBound(count);
+
+    int index = 0;
+    for (; index < bound; index += FLOATS.length()) {
+      FloatVector.fromArray(FLOATS, source, sourceOffset + index)
+        .mul(twobm1)
+        .sub(1.0f)
+        .div(2.0f)
+        .convert(VectorOperators.F2I, 0)
+        .reinterpretAsInts()
+        .intoArray(target, targetOffset + index);
+    }
+
+    NFPSignedFloatInt.toSignedNormalizedWithoutZero(
+      source,
+      sourceOffset + index,
+      target,
+      targetOffset + index,
+      count - index,
+      b);
+  }
+
+  static void fromSignedNormalizedWithZero(
+    final int[] source,
+    final int sourceOffset,
+    final float[] target,
+    final int targetOffset,
+    final int count,
+    final int b)
+  {
+    Objects.checkFromIndexSize(sourceOffset, count, source.length);
+    Objects.checkFromIndexSize(targetOffset, count, target.length);
+
+    final float twobm1m1 =
+      (float) (NFPPowers.twoPow(b - 1) - 1.0);
+    final int bound = INTS.loopBound(count);
+
+    int index = 0;
+    for (; index < bound; index += INTS.length()) {
+      final FloatVector dx =
+        (FloatVector) IntVector.fromArray(INTS, source, sourceOffset + index)
+          .convert(VectorOperators.I2F, 0);
+      dx.div(twobm1m1)
+        .max(-1.0f)
+        .intoArray(target, targetOffset + index);
+    }
+
+    NFPSignedFloatInt.fromSignedNormalizedWithZero(
+      source,
+      sourceOffset + index,
+      target,
+      targetOffset + index,
+      count - index,
+      b);
+  }
+
+  static void toSignedNormalizedWithZero(
+    final float[] source,
+    final int sourceOffset,
+    final int[] target,
+    final int targetOffset,
+    final int count,
+    final int b)
+  {
+    Objects.checkFromIndexSize(sourceOffset, count, source.length);
+    Objects.checkFromIndexSize(targetOffset, count, target.length);
+
+    final float twobm1m1 =
+      (float) (NFPPowers.twoPow(b - 1) - 1.0);
+    final int bound = FLOATS.loopBound(count);
+
+    int index = 0;
+    for (; index < bound; index += FLOATS.length()) {
+      FloatVector.fromArray(FLOATS, source, sourceOffset + index)
+        .mul(twobm1m1)
+        .convert(VectorOperators.F2I, 0)
+        .reinterpretAsInts()
+        .intoArray(target, targetOffset + index);
+    }
+
+    NFPSignedFloatInt.toSignedNormalizedWithZero(
+      source,
+      sourceOffset + index,
+      target,
+      targetOffset + index,
+      count - index,
+      b);
+  }
+
+  static void fromUnsignedNormalized(
+    final int[] source,
+    final int sourceOffset,
+    final float[] target,
+    final int targetOffset,
+    final int count,
+    final int b)
+  {
+    Objects.checkFromIndexSize(sourceOffset, count, source.length);
+    Objects.checkFromIndexSize(targetOffset, count, target.length);
+
+    final float twobm1 = (float) (NFPPowers.twoPow(b) - 1.0);
+    final int bound = INTS.loopBound(count);
+
+    int index = 0;
+    for (; index < bound; index += INTS.length()) {
+      final IntVector f =
+        IntVector.fromArray(INTS, source, sourceOffset + index);
+
+      /*
+       * Both halves are exactly representable, and so the single rounding
+       * performed by the addition yields the same result as converting the
+       * zero-extended value to a float directly.
+       */
+
+      final FloatVector hi =
+        (FloatVector) f.lanewise(VectorOperators.LSHR, 16)
+          .convert(VectorOperators.I2F, 0);
+      final FloatVector lo =
+        (FloatVector) f.and(0xffff)
+          .convert(VectorOperators.I2F, 0);
+
+      hi.mul(65536.0f)
+        .add(lo)
+        .div(twobm1)
+        .intoArray(target, targetOffset + index);
+    }
+
+    NFPUnsignedFloatInt.fromUnsignedNormalized(
+      source,
+      sourceOffset + index,
+      target,
+      targetOffset + index,
+      count - index,
+      b);
+  }
+
+  static void toUnsignedNormalized(
+    final float[] source,
+    final int sourceOffset,
+    final int[] target,
+    final int targetOffset,
+    final int count,
+    final int b)
+  {
+    Objects.checkFromIndexSize(sourceOffset, count, source.length);
+    Objects.checkFromIndexSize(targetOffset, count, target.length);
+
+    final float twobm1 = (float) (NFPPowers.twoPow(b) - 1.0);
+    final int bound = FLOATS.loopBound(count);
+
+    int index = 0;
+    for (; index < bound; index += FLOATS.length()) {
+      final FloatVector x =
+        FloatVector.fromArray(FLOATS, source, sourceOffset + index)
+          .mul(twobm1);
+
+      /*
+       * Values above 2 ^ 31 saturate to 0xffffffff, as they do in the
+       * scalar unsigned conversion.
+       */
+
+      final VectorMask<Integer> large =
+        x.compare(VectorOperators.GT, 2147483648.0f).cast(INTS);
+
+      x.convert(VectorOperators.F2I, 0)
+        .reinterpretAsInts()
+        .blend(-1, large)
+        .intoArray(target, targetOffset + index);
+    }
+
+    NFPUnsignedFloatInt.toUnsignedNormalized(
+      source,
+      sourceOffset + index,
+      target,
+      targetOffset + index,
+      count - index,
+      b);
+  }
+}
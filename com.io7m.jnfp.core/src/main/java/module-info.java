@@ -22,6 +22,7 @@ module com.io7m.jnfp.core
 {
   requires static org.osgi.annotation.bundle;
   requires static org.osgi.annotation.versioning;
+  requires static jdk.incubator.vector;
 
   requires com.io7m.junreachable.core;
   requires com.io7m.junsigned.core;
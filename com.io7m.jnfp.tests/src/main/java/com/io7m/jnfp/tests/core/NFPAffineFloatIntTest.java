@@ -0,0 +1,190 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jnfp.tests.core;
+
+import com.io7m.jnfp.core.NFPAffineFloatInt;
+import com.io7m.jnfp.core.NFPSignedFloatInt;
+import com.io7m.jnfp.core.NFPUnsignedFloatInt;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Random;
+
+public final class NFPAffineFloatIntTest
+{
+  private static final int VECTORS = 1000;
+  private static final float[] MINIMUM = {-10.0f, 2.5f, -0.125f};
+  private static final float[] EXTENT = {20.0f, 100.0f, 0.25f};
+
+  private static float[] positions()
+  {
+    final Random random = new Random(0x5eedL);
+    final float[] xs = new float[VECTORS * 3];
+    for (int index = 0; index < xs.length; ++index) {
+      final int c = index % 3;
+      xs[index] = MINIMUM[c] + (random.nextFloat() * EXTENT[c]);
+    }
+    return xs;
+  }
+
+  private static void transform(
+    final float[] ys)
+  {
+    for (int index = 0; index < ys.length; ++index) {
+      final int c = index % 3;
+      ys[index] = MINIMUM[c] + (ys[index] * EXTENT[c]);
+    }
+  }
+
+  private static float[] inverse(
+    final float[] xs)
+  {
+    final float[] ys = new float[xs.length];
+    for (int index = 0; index < xs.length; ++index) {
+      final int c = index % 3;
+      ys[index] = (xs[index] - MINIMUM[c]) / EXTENT[c];
+    }
+    return ys;
+  }
+
+  @Test public void testUnsigned()
+  {
+    for (final int b : new int[]{8, 10, 16, 32}) {
+      final float[] xs = positions();
+      final int[] ks = new int[xs.length];
+      NFPAffineFloatInt.toUnsignedNormalized(
+        xs, 0, ks, 0, VECTORS, b, MINIMUM, EXTENT);
+
+      final int[] es = new int[xs.length];
+      NFPUnsignedFloatInt.toUnsignedNormalized(
+        inverse(xs), 0, es, 0, xs.length, b);
+      Assert.assertArrayEquals(es, ks);
+
+      final float[] ys = new float[xs.length + 3];
+      NFPAffineFloatInt.fromUnsignedNormalized(
+        ks, 0, ys, 3, VECTORS, b, MINIMUM, EXTENT);
+
+      final float[] fs = new float[xs.length];
+      NFPUnsignedFloatInt.fromUnsignedNormalized(ks, 0, fs, 0, ks.length, b);
+      transform(fs);
+      for (int index = 0; index < fs.length; ++index) {
+        Assert.assertEquals(fs[index], ys[index + 3], 0.0f);
+        if (b <= 16) {
+          Assert.assertEquals(
+            xs[index], ys[index + 3], EXTENT[index % 3] / 64.0f);
+        }
+      }
+    }
+  }
+
+  @Test public void testSignedWithZero()
+  {
+    final float[] offset = {0.0f, 0.0f, 0.0f};
+    final float[] scale = {4.0f, 1.0f, 0.5f};
+    final Random random = new Random(0x5eedL);
+    final int[] ks = new int[VECTORS * 3];
+    for (int index = 0; index < ks.length; ++index) {
+      ks[index] = random.nextInt(65536) - 32768;
+    }
+
+    final float[] ys = new float[ks.length];
+    NFPAffineFloatInt.fromSignedNormalizedWithZero(
+      ks, 0, ys, 0, VECTORS, 16, offset, scale);
+
+    final float[] fs = new float[ks.length];
+    NFPSignedFloatInt.fromSignedNormalizedWithZero(
+      ks, 0, fs, 0, ks.length, 16);
+    for (int index = 0; index < fs.length; ++index) {
+      final int c = index % 3;
+      Assert.assertEquals(
+        offset[c] + (fs[index] * scale[c]), ys[index], 0.0f);
+    }
+
+    final int[] rs = new int[ks.length];
+    NFPAffineFloatInt.toSignedNormalizedWithZero(
+      ys, 0, rs, 0, VECTORS, 16, offset, scale);
+    final int[] es = new int[ks.length];
+    final float[] ns = new float[ks.length];
+    for (int index = 0; index < ns.length; ++index) {
+      final int c = index % 3;
+      ns[index] = (ys[index] - offset[c]) / scale[c];
+    }
+    NFPSignedFloatInt.toSignedNormalizedWithZero(
+      ns, 0, es, 0, ns.length, 16);
+    Assert.assertArrayEquals(es, rs);
+  }
+
+  @Test public void testSignedWithoutZero()
+  {
+    final float[] offset = {1.0f, -1.0f};
+    final float[] scale = {2.0f, 3.0f};
+    final int[] ks = new int[256 * 2];
+    for (int index = 0; index < ks.length; ++index) {
+      ks[index] = (index >> 1) - 128;
+    }
+
+    final float[] ys = new float[ks.length];
+    NFPAffineFloatInt.fromSignedNormalizedWithoutZero(
+      ks, 0, ys, 0, 256, 8, offset, scale);
+    for (int index = 0; index < ks.length; ++index) {
+      final int c = index % 2;
+      final float y =
+        NFPSignedFloatInt.fromSignedNormalizedWithoutZero(ks[index], 8);
+      Assert.assertEquals(offset[c] + (y * scale[c]), ys[index], 0.0f);
+    }
+
+    final int[] rs = new int[ks.length];
+    NFPAffineFloatInt.toSignedNormalizedWithoutZero(
+      ys, 0, rs, 0, 256, 8, offset, scale);
+    for (int index = 0; index < ks.length; ++index) {
+      final int c = index % 2;
+      final float n = (ys[index] - offset[c]) / scale[c];
+      Assert.assertEquals(
+        (long) NFPSignedFloatInt.toSignedNormalizedWithoutZero(n, 8),
+        (long) rs[index]);
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testMismatchedTransform()
+  {
+    NFPAffineFloatInt.fromUnsignedNormalized(
+      new int[3], 0, new float[3], 0, 1, 8, new float[3], new float[2]);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testEmptyTransform()
+  {
+    NFPAffineFloatInt.fromUnsignedNormalized(
+      new int[3], 0, new float[3], 0, 1, 8, new float[0], new float[0]);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testBitsTooLarge()
+  {
+    NFPAffineFloatInt.toUnsignedNormalized(
+      new float[0], 0, new int[0], 0, 0, 33, MINIMUM, EXTENT);
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class)
+  public void testOutOfBounds()
+  {
+    NFPAffineFloatInt.toUnsignedNormalized(
+      new float[5], 0, new int[6], 0, 2, 8, MINIMUM, EXTENT);
+  }
+}
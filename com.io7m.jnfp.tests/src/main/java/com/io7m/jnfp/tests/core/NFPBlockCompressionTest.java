@@ -0,0 +1,322 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jnfp.tests.core;
+
+import com.io7m.jnfp.core.NFPBlockCompression;
+import com.io7m.jnfp.core.NFPSignedFloatInt;
+import com.io7m.jnfp.core.NFPUnsignedFloatInt;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+public final class NFPBlockCompressionTest
+{
+  private static float[] noise(
+    final int size,
+    final boolean signed)
+  {
+    final Random random = new Random(0x5eedL);
+    final float[] xs = new float[size];
+    for (int index = 0; index < xs.length; ++index) {
+      final float x = random.nextFloat();
+      xs[index] = signed ? (x * 2.0f) - 1.0f : x;
+    }
+    return xs;
+  }
+
+  private static float[] gradient(
+    final int width,
+    final int height,
+    final int channels)
+  {
+    final float[] xs = new float[width * height * channels];
+    for (int y = 0; y < height; ++y) {
+      for (int x = 0; x < width; ++x) {
+        final int i = ((y * width) + x) * channels;
+        xs[i] = (float) x / (float) width;
+        if (channels > 1) {
+          xs[i + 1] = (float) y / (float) height;
+        }
+      }
+    }
+    return xs;
+  }
+
+  private static double maximumError(
+    final float[] xs,
+    final float[] ys)
+  {
+    double maximum = 0.0;
+    for (int index = 0; index < xs.length; ++index) {
+      maximum = Math.max(maximum, Math.abs(xs[index] - ys[index]));
+    }
+    return maximum;
+  }
+
+  @Test
+  public void testCompressedSize()
+  {
+    Assert.assertEquals(8, NFPBlockCompression.compressedSize(1, 1, 1));
+    Assert.assertEquals(16, NFPBlockCompression.compressedSize(4, 4, 2));
+    Assert.assertEquals(32, NFPBlockCompression.compressedSize(5, 5, 1));
+    Assert.assertEquals(
+      256 * 256 * 16, NFPBlockCompression.compressedSize(1024, 1024, 2));
+  }
+
+  @Test
+  public void testBC4UnsignedNoise()
+  {
+    final int width = 64;
+    final int height = 64;
+    final float[] xs = noise(width * height, false);
+    final byte[] bs = new byte[NFPBlockCompression.compressedSize(
+      width, height, 1)];
+    NFPBlockCompression.encodeBC4Unsigned(xs, 0, width, height, bs, 0);
+    final float[] ys = new float[xs.length];
+    NFPBlockCompression.decodeBC4Unsigned(bs, 0, width, height, ys, 0);
+    Assert.assertTrue(maximumError(xs, ys) <= (1.0 / 14.0) + (1.0 / 255.0));
+  }
+
+  @Test
+  public void testBC4SignedNoise()
+  {
+    final int width = 64;
+    final int height = 64;
+    final float[] xs = noise(width * height, true);
+    final byte[] bs = new byte[NFPBlockCompression.compressedSize(
+      width, height, 1)];
+    NFPBlockCompression.encodeBC4Signed(xs, 0, width, height, bs, 0);
+    final float[] ys = new float[xs.length];
+    NFPBlockCompression.decodeBC4Signed(bs, 0, width, height, ys, 0);
+    Assert.assertTrue(maximumError(xs, ys) <= (2.0 / 14.0) + (1.0 / 127.0));
+  }
+
+  @Test
+  public void testBC5UnsignedGradient()
+  {
+    final int width = 256;
+    final int height = 256;
+    final float[] xs = gradient(width, height, 2);
+    final byte[] bs = new byte[NFPBlockCompression.compressedSize(
+      width, height, 2)];
+    NFPBlockCompression.encodeBC5Unsigned(xs, 0, width, height, bs, 0);
+    final float[] ys = new float[xs.length];
+    NFPBlockCompression.decodeBC5Unsigned(bs, 0, width, height, ys, 0);
+    Assert.assertTrue(maximumError(xs, ys) <= 1.0 / 255.0);
+  }
+
+  @Test
+  public void testBC5SignedGradient()
+  {
+    final int width = 256;
+    final int height = 256;
+    final float[] xs = gradient(width, height, 2);
+    for (int index = 0; index < xs.length; ++index) {
+      xs[index] = (xs[index] * 2.0f) - 1.0f;
+    }
+    final byte[] bs = new byte[NFPBlockCompression.compressedSize(
+      width, height, 2)];
+    NFPBlockCompression.encodeBC5Signed(xs, 0, width, height, bs, 0);
+    final float[] ys = new float[xs.length];
+    NFPBlockCompression.decodeBC5Signed(bs, 0, width, height, ys, 0);
+    Assert.assertTrue(maximumError(xs, ys) <= 2.0 / 127.0);
+  }
+
+  @Test
+  public void testConstantBlocksExact()
+  {
+    for (int k = 0; k < 256; ++k) {
+      final float x = NFPUnsignedFloatInt.fromUnsignedNormalized(k, 8);
+      final float[] xs = new float[16];
+      Arrays.fill(xs, x);
+      final byte[] bs = new byte[8];
+      NFPBlockCompression.encodeBC4Unsigned(xs, 0, 4, 4, bs, 0);
+      Assert.assertEquals((byte) k, bs[0]);
+      Assert.assertEquals((byte) k, bs[1]);
+      final float[] ys = new float[16];
+      NFPBlockCompression.decodeBC4Unsigned(bs, 0, 4, 4, ys, 0);
+      Assert.assertArrayEquals(xs, ys, 0.0f);
+    }
+
+    for (int k = -127; k <= 127; ++k) {
+      final float x = NFPSignedFloatInt.fromSignedNormalizedWithZero(k, 8);
+      final float[] xs = new float[16];
+      Arrays.fill(xs, x);
+      final byte[] bs = new byte[8];
+      NFPBlockCompression.encodeBC4Signed(xs, 0, 4, 4, bs, 0);
+      Assert.assertEquals((byte) k, bs[0]);
+      final float[] ys = new float[16];
+      NFPBlockCompression.decodeBC4Signed(bs, 0, 4, 4, ys, 0);
+      Assert.assertArrayEquals(xs, ys, 0.0f);
+    }
+  }
+
+  @Test
+  public void testDecodeEightValueMode()
+  {
+    final byte[] bs = new byte[8];
+    bs[0] = (byte) 255;
+    bs[1] = 0;
+    long indices = 0L;
+    for (int texel = 0; texel < 16; ++texel) {
+      indices += (long) (texel & 7) << (texel * 3);
+    }
+    for (int index = 0; index < 6; ++index) {
+      bs[2 + index] = (byte) (indices >>> (index * 8));
+    }
+
+    final float[] ys = new float[16];
+    NFPBlockCompression.decodeBC4Unsigned(bs, 0, 4, 4, ys, 0);
+    final float[] expected = {
+      1.0f, 0.0f, 6.0f / 7.0f, 5.0f / 7.0f,
+      4.0f / 7.0f, 3.0f / 7.0f, 2.0f / 7.0f, 1.0f / 7.0f,
+    };
+    for (int texel = 0; texel < 16; ++texel) {
+      Assert.assertEquals(expected[texel & 7], ys[texel], 1.0e-6f);
+    }
+  }
+
+  @Test
+  public void testDecodeSixValueMode()
+  {
+    final byte[] bs = new byte[8];
+    bs[0] = (byte) -127;
+    bs[1] = (byte) 127;
+    long indices = 0L;
+    for (int texel = 0; texel < 16; ++texel) {
+      indices += (long) (texel & 7) << (texel * 3);
+    }
+    for (int index = 0; index < 6; ++index) {
+      bs[2 + index] = (byte) (indices >>> (index * 8));
+    }
+
+    final float[] ys = new float[16];
+    NFPBlockCompression.decodeBC4Signed(bs, 0, 4, 4, ys, 0);
+    final float[] expected = {
+      -1.0f, 1.0f, -0.6f, -0.2f, 0.2f, 0.6f, -1.0f, 1.0f,
+    };
+    for (int texel = 0; texel < 16; ++texel) {
+      Assert.assertEquals(expected[texel & 7], ys[texel], 1.0e-6f);
+    }
+  }
+
+  @Test
+  public void testDecodeSignedMinimum()
+  {
+    final byte[] bs = {(byte) -128, (byte) -128, 0, 0, 0, 0, 0, 0};
+    final float[] ys = new float[16];
+    NFPBlockCompression.decodeBC4Signed(bs, 0, 4, 4, ys, 0);
+    for (final float y : ys) {
+      Assert.assertEquals(-1.0f, y, 0.0f);
+    }
+  }
+
+  @Test
+  public void testUnalignedSize()
+  {
+    final int width = 7;
+    final int height = 5;
+    final float[] xs = gradient(width, height, 2);
+    final byte[] bs = new byte[NFPBlockCompression.compressedSize(
+      width, height, 2) + 3];
+    NFPBlockCompression.encodeBC5Unsigned(xs, 0, width, height, bs, 3);
+    final float[] ys = new float[xs.length + 2];
+    ys[0] = 23.0f;
+    ys[ys.length - 1] = 23.0f;
+    NFPBlockCompression.decodeBC5Unsigned(bs, 3, width, height, ys, 1);
+    Assert.assertEquals(23.0f, ys[0], 0.0f);
+    Assert.assertEquals(23.0f, ys[ys.length - 1], 0.0f);
+    Assert.assertTrue(
+      maximumError(xs, Arrays.copyOfRange(ys, 1, xs.length + 1))
+        <= ((3.0 / 7.0) / 14.0) + (1.0 / 255.0));
+  }
+
+  @Test
+  public void testParallelIdentical()
+  {
+    final int width = 1024;
+    final int height = 1024;
+    final float[] xs = noise(width * height * 2, true);
+    final int size = NFPBlockCompression.compressedSize(width, height, 2);
+    final byte[] bs0 = new byte[size];
+    final byte[] bs1 = new byte[size];
+
+    final ForkJoinPool single = new ForkJoinPool(1);
+    try {
+      NFPBlockCompression.encodeBC5Signed(
+        single, xs, 0, width, height, bs0, 0);
+    } finally {
+      single.shutdown();
+    }
+    NFPBlockCompression.encodeBC5Signed(xs, 0, width, height, bs1, 0);
+    Assert.assertArrayEquals(bs0, bs1);
+
+    final float[] ys = new float[xs.length];
+    NFPBlockCompression.decodeBC5Signed(bs1, 0, width, height, ys, 0);
+
+    final byte[] block = new byte[16];
+    final float[] ts = new float[32];
+    for (int by = 0; by < height / 4; by += 37) {
+      for (int bx = 0; bx < width / 4; bx += 29) {
+        final float[] sub = new float[32];
+        for (int y = 0; y < 4; ++y) {
+          System.arraycopy(
+            xs, ((((by * 4) + y) * width) + (bx * 4)) * 2, sub, y * 8, 8);
+        }
+        NFPBlockCompression.encodeBC5Signed(sub, 0, 4, 4, block, 0);
+        Assert.assertArrayEquals(
+          block,
+          Arrays.copyOfRange(
+            bs1, ((by * (width / 4)) + bx) * 16,
+            (((by * (width / 4)) + bx) * 16) + 16));
+        NFPBlockCompression.decodeBC5Signed(block, 0, 4, 4, ts, 0);
+        for (int y = 0; y < 4; ++y) {
+          for (int x = 0; x < 8; ++x) {
+            Assert.assertEquals(
+              ts[(y * 8) + x],
+              ys[((((by * 4) + y) * width) + (bx * 4)) * 2 + x],
+              0.0f);
+          }
+        }
+      }
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testZeroSize()
+  {
+    NFPBlockCompression.encodeBC4Unsigned(
+      new float[0], 0, 0, 4, new byte[8], 0);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testChannels()
+  {
+    NFPBlockCompression.compressedSize(4, 4, 3);
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class)
+  public void testTargetOutOfBounds()
+  {
+    NFPBlockCompression.encodeBC5Unsigned(
+      new float[32], 0, 4, 4, new byte[8], 0);
+  }
+}
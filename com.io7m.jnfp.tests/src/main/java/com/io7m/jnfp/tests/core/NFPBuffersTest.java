@@ -0,0 +1,200 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jnfp.tests.core;
+
+import com.io7m.jnfp.core.NFPBuffers;
+import com.io7m.jnfp.core.NFPCodec;
+import com.io7m.jnfp.core.NFPRepresentation;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.FloatBuffer;
+
+public final class NFPBuffersTest
+{
+  private static final ByteOrder[] ORDERS = {
+    ByteOrder.BIG_ENDIAN,
+    ByteOrder.LITTLE_ENDIAN,
+  };
+
+  private static float[] floats(
+    final NFPRepresentation r)
+  {
+    final float[] xs = new float[201];
+    for (int index = 0; index < xs.length; ++index) {
+      xs[index] = ((float) index - 100.0f) / 100.0f;
+      if (!r.isSigned()) {
+        xs[index] = Math.abs(xs[index]);
+      }
+    }
+    return xs;
+  }
+
+  private static ByteBuffer allocate(
+    final int size,
+    final boolean direct,
+    final ByteOrder order)
+  {
+    final ByteBuffer buffer =
+      direct ? ByteBuffer.allocateDirect(size) : ByteBuffer.allocate(size);
+    return buffer.order(order);
+  }
+
+  @Test public void testFloatRoundTrip()
+  {
+    for (final NFPRepresentation r : NFPRepresentation.values()) {
+      final float[] xs = floats(r);
+      for (int e = 2; e <= 24; ++e) {
+        final NFPCodec codec = NFPCodec.of(r, e);
+        final int width = NFPBuffers.byteWidth(codec);
+
+        for (final ByteOrder order : ORDERS) {
+          for (final boolean direct : new boolean[]{false, true}) {
+            final ByteBuffer bytes =
+              allocate(3 + (xs.length * width), direct, order);
+            bytes.position(3);
+
+            final FloatBuffer source = FloatBuffer.wrap(xs);
+            NFPBuffers.encodeFloat(codec, source, bytes);
+            Assert.assertEquals(0L, (long) source.remaining());
+            Assert.assertEquals(0L, (long) bytes.remaining());
+
+            bytes.position(3);
+            final FloatBuffer target = FloatBuffer.allocate(xs.length);
+            NFPBuffers.decodeFloat(codec, bytes, target);
+            Assert.assertEquals(0L, (long) target.remaining());
+
+            for (int index = 0; index < xs.length; ++index) {
+              final float y = codec.decodeFloat(codec.encodeFloat(xs[index]));
+              Assert.assertEquals(
+                String.format("%s %d %s", r, e, order),
+                (double) y,
+                (double) target.get(index),
+                0.0);
+            }
+          }
+        }
+      }
+    }
+  }
+
+  @Test public void testDoubleRoundTrip()
+  {
+    for (final NFPRepresentation r : NFPRepresentation.values()) {
+      final float[] fs = floats(r);
+      final double[] xs = new double[fs.length];
+      for (int index = 0; index < xs.length; ++index) {
+        xs[index] = (double) fs[index];
+      }
+
+      for (int e = 2; e <= 53; ++e) {
+        final NFPCodec codec = NFPCodec.of(r, e);
+        final int width = NFPBuffers.byteWidth(codec);
+
+        for (final ByteOrder order : ORDERS) {
+          final ByteBuffer bytes = allocate(xs.length * width, true, order);
+
+          NFPBuffers.encode(codec, DoubleBuffer.wrap(xs), bytes);
+          bytes.flip();
+          final DoubleBuffer target = DoubleBuffer.allocate(xs.length);
+          NFPBuffers.decode(codec, bytes, target);
+
+          for (int index = 0; index < xs.length; ++index) {
+            final double y = codec.decode(codec.encode(xs[index]));
+            Assert.assertEquals(
+              String.format("%s %d %s", r, e, order),
+              y,
+              target.get(index),
+              0.0);
+          }
+        }
+      }
+    }
+  }
+
+  @Test public void testSaturatedWide()
+  {
+    for (final NFPRepresentation r : NFPRepresentation.values()) {
+      final ByteBuffer bytes = ByteBuffer.allocate(4);
+      final NFPCodec codec = NFPCodec.of(r, 32);
+      final FloatBuffer target = FloatBuffer.allocate(1);
+      NFPBuffers.encodeFloat(codec, FloatBuffer.wrap(new float[]{1.0f}), bytes);
+      bytes.flip();
+      NFPBuffers.decodeFloat(codec, bytes, target);
+      Assert.assertEquals(
+        (double) codec.decodeFloat(codec.encodeFloat(1.0f)),
+        (double) target.get(0),
+        0.0);
+    }
+  }
+
+  @Test public void testLayout()
+  {
+    final NFPCodec codec = NFPCodec.unsigned(24);
+    final ByteBuffer bytes = ByteBuffer.allocate(3);
+
+    NFPBuffers.encodeFloat(codec, FloatBuffer.wrap(new float[]{1.0f}), bytes);
+    Assert.assertEquals(0xff, bytes.get(0) & 0xff);
+    Assert.assertEquals(0xff, bytes.get(1) & 0xff);
+    Assert.assertEquals(0xff, bytes.get(2) & 0xff);
+
+    final ByteBuffer little = ByteBuffer.allocate(3)
+      .order(ByteOrder.LITTLE_ENDIAN);
+    NFPBuffers.encodeFloat(
+      NFPCodec.signedWithZero(24),
+      FloatBuffer.wrap(new float[]{-1.0f}),
+      little);
+    Assert.assertEquals(0x01, little.get(0) & 0xff);
+    Assert.assertEquals(0x00, little.get(1) & 0xff);
+    Assert.assertEquals(0x80, little.get(2) & 0xff);
+  }
+
+  @Test public void testOverflowUnmodified()
+  {
+    final ByteBuffer bytes = ByteBuffer.allocate(3);
+    final FloatBuffer source = FloatBuffer.wrap(new float[]{1.0f, 1.0f});
+
+    try {
+      NFPBuffers.encodeFloat(NFPCodec.unsigned(16), source, bytes);
+      Assert.fail();
+    } catch (final BufferOverflowException e) {
+      Assert.assertEquals(0L, (long) source.position());
+      Assert.assertEquals(0L, (long) bytes.position());
+      Assert.assertEquals(0L, (long) bytes.get(0));
+    }
+  }
+
+  @Test(expected = BufferUnderflowException.class)
+  public void testUnderflow()
+  {
+    NFPBuffers.decode(
+      NFPCodec.unsigned(16), ByteBuffer.allocate(3), DoubleBuffer.allocate(2));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testFloatTooWide()
+  {
+    NFPBuffers.decodeFloat(
+      NFPCodec.unsigned(33), ByteBuffer.allocate(8), FloatBuffer.allocate(1));
+  }
+}
@@ -0,0 +1,231 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jnfp.tests.core;
+
+import com.io7m.jnfp.core.NFPCodec;
+import com.io7m.jnfp.core.NFPRepresentation;
+import com.io7m.jnfp.core.NFPSignedDoubleLong;
+import com.io7m.jnfp.core.NFPSignedFloatInt;
+import com.io7m.jnfp.core.NFPUnsignedDoubleLong;
+import com.io7m.jnfp.core.NFPUnsignedFloatInt;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Random;
+
+public final class NFPCodecTest
+{
+  private static final int COUNT = 257;
+
+  @Test public void testShared()
+  {
+    for (final NFPRepresentation r : NFPRepresentation.values()) {
+      for (int e = 2; e <= 64; ++e) {
+        final NFPCodec c = NFPCodec.of(r, e);
+        Assert.assertSame(c, NFPCodec.of(r, e));
+        Assert.assertEquals(c, NFPCodec.of(r, e));
+        Assert.assertEquals(
+          (long) c.hashCode(), (long) NFPCodec.of(r, e).hashCode());
+        Assert.assertNotEquals(c, NFPCodec.of(r, e == 2 ? 3 : 2));
+        Assert.assertNotEquals(c, null);
+        Assert.assertEquals(r, c.representation());
+        Assert.assertEquals((long) e, (long) c.bits());
+        Assert.assertTrue(c.toString().contains(r.toString()));
+      }
+    }
+
+    Assert.assertSame(
+      NFPCodec.of(NFPRepresentation.UNSIGNED, 16),
+      NFPCodec.unsigned(16));
+    Assert.assertSame(
+      NFPCodec.of(NFPRepresentation.SIGNED_WITH_ZERO, 8),
+      NFPCodec.signedWithZero(8));
+    Assert.assertSame(
+      NFPCodec.of(NFPRepresentation.SIGNED_WITHOUT_ZERO, 10),
+      NFPCodec.signedWithoutZero(10));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testBitsTooSmall()
+  {
+    NFPCodec.unsigned(1);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testBitsTooLarge()
+  {
+    NFPCodec.unsigned(65);
+  }
+
+  @Test
+  public void testFloatBitsTooLarge()
+  {
+    for (final NFPRepresentation r : NFPRepresentation.values()) {
+      final NFPCodec c = NFPCodec.of(r, 33);
+      Assert.assertThrows(
+        IllegalArgumentException.class, () -> c.encodeFloat(0.5f));
+      Assert.assertThrows(
+        IllegalArgumentException.class, () -> c.decodeFloat(1));
+      Assert.assertThrows(
+        IllegalArgumentException.class,
+        () -> c.encodeFloat(new float[1], 0, new int[1], 0, 1));
+      Assert.assertThrows(
+        IllegalArgumentException.class,
+        () -> c.decodeFloat(new int[1], 0, new float[1], 0, 1));
+    }
+  }
+
+  @Test public void testUnsigned()
+  {
+    final Random random = new Random(0x5eedL);
+    for (int e = 2; e <= 64; ++e) {
+      final NFPCodec c = NFPCodec.unsigned(e);
+      final double[] xs = new double[COUNT];
+      for (int index = 0; index < COUNT; ++index) {
+        xs[index] = random.nextDouble();
+      }
+
+      final long[] ks = new long[COUNT];
+      final double[] ys = new double[COUNT];
+      c.encode(xs, 0, ks, 0, COUNT);
+      c.decode(ks, 0, ys, 0, COUNT);
+
+      for (int index = 0; index < COUNT; ++index) {
+        final long k =
+          NFPUnsignedDoubleLong.toUnsignedNormalized(xs[index], e);
+        Assert.assertEquals(k, c.encode(xs[index]));
+        Assert.assertEquals(k, ks[index]);
+
+        final double y = NFPUnsignedDoubleLong.fromUnsignedNormalized(k, e);
+        Assert.assertEquals(y, c.decode(k), 0.0);
+        Assert.assertEquals(y, ys[index], 0.0);
+      }
+    }
+  }
+
+  @Test public void testSigned()
+  {
+    final Random random = new Random(0x5eedL);
+    for (int e = 2; e <= 64; ++e) {
+      final NFPCodec cw = NFPCodec.signedWithZero(e);
+      final NFPCodec co = NFPCodec.signedWithoutZero(e);
+      final double[] xs = new double[COUNT];
+      for (int index = 0; index < COUNT; ++index) {
+        xs[index] = (random.nextDouble() * 2.0) - 1.0;
+      }
+
+      final long[] kw = new long[COUNT];
+      final long[] ko = new long[COUNT];
+      final double[] yw = new double[COUNT];
+      final double[] yo = new double[COUNT];
+      cw.encode(xs, 0, kw, 0, COUNT);
+      co.encode(xs, 0, ko, 0, COUNT);
+      cw.decode(kw, 0, yw, 0, COUNT);
+      co.decode(ko, 0, yo, 0, COUNT);
+
+      for (int index = 0; index < COUNT; ++index) {
+        final double x = xs[index];
+        final long w = NFPSignedDoubleLong.toSignedNormalizedWithZero(x, e);
+        final long o = NFPSignedDoubleLong.toSignedNormalizedWithoutZero(x, e);
+        Assert.assertEquals(w, cw.encode(x));
+        Assert.assertEquals(o, co.encode(x));
+        Assert.assertEquals(w, kw[index]);
+        Assert.assertEquals(o, ko[index]);
+
+        final double dwith =
+          NFPSignedDoubleLong.fromSignedNormalizedWithZero(w, e);
+        final double dout =
+          NFPSignedDoubleLong.fromSignedNormalizedWithoutZero(o, e);
+        Assert.assertEquals(dwith, cw.decode(w), 0.0);
+        Assert.assertEquals(dout, co.decode(o), 0.0);
+        Assert.assertEquals(dwith, yw[index], 0.0);
+        Assert.assertEquals(dout, yo[index], 0.0);
+      }
+    }
+  }
+
+  @Test public void testFloat()
+  {
+    final Random random = new Random(0x5eedL);
+    for (int e = 2; e <= 32; ++e) {
+      final NFPCodec cu = NFPCodec.unsigned(e);
+      final NFPCodec cw = NFPCodec.signedWithZero(e);
+      final NFPCodec co = NFPCodec.signedWithoutZero(e);
+
+      final float[] xs = new float[COUNT];
+      for (int index = 0; index < COUNT; ++index) {
+        xs[index] = (random.nextFloat() * 2.0f) - 1.0f;
+      }
+
+      final int[] ku = new int[COUNT];
+      final int[] kw = new int[COUNT];
+      final int[] ko = new int[COUNT];
+      cu.encodeFloat(xs, 0, ku, 0, COUNT);
+      cw.encodeFloat(xs, 0, kw, 0, COUNT);
+      co.encodeFloat(xs, 0, ko, 0, COUNT);
+
+      final float[] yu = new float[COUNT];
+      final float[] yw = new float[COUNT];
+      final float[] yo = new float[COUNT];
+      cu.decodeFloat(ku, 0, yu, 0, COUNT);
+      cw.decodeFloat(kw, 0, yw, 0, COUNT);
+      co.decodeFloat(ko, 0, yo, 0, COUNT);
+
+      for (int index = 0; index < COUNT; ++index) {
+        final float x = xs[index];
+        final float ux = Math.abs(x);
+        final int u = NFPUnsignedFloatInt.toUnsignedNormalized(ux, e);
+        final int w = NFPSignedFloatInt.toSignedNormalizedWithZero(x, e);
+        final int o = NFPSignedFloatInt.toSignedNormalizedWithoutZero(x, e);
+        Assert.assertEquals((long) u, (long) cu.encodeFloat(ux));
+        Assert.assertEquals((long) w, (long) cw.encodeFloat(x));
+        Assert.assertEquals((long) o, (long) co.encodeFloat(x));
+        Assert.assertEquals(
+          (long) NFPUnsignedFloatInt.toUnsignedNormalized(x, e),
+          (long) ku[index]);
+        Assert.assertEquals((long) w, (long) kw[index]);
+        Assert.assertEquals((long) o, (long) ko[index]);
+
+        Assert.assertEquals(
+          NFPUnsignedFloatInt.fromUnsignedNormalized(u, e),
+          cu.decodeFloat(u),
+          0.0f);
+        Assert.assertEquals(
+          NFPSignedFloatInt.fromSignedNormalizedWithZero(w, e),
+          cw.decodeFloat(w),
+          0.0f);
+        Assert.assertEquals(
+          NFPSignedFloatInt.fromSignedNormalizedWithoutZero(o, e),
+          co.decodeFloat(o),
+          0.0f);
+        Assert.assertEquals(
+          NFPUnsignedFloatInt.fromUnsignedNormalized(ku[index], e),
+          yu[index],
+          0.0f);
+        Assert.assertEquals(
+          NFPSignedFloatInt.fromSignedNormalizedWithZero(w, e),
+          yw[index],
+          0.0f);
+        Assert.assertEquals(
+          NFPSignedFloatInt.fromSignedNormalizedWithoutZero(o, e),
+          yo[index],
+          0.0f);
+      }
+    }
+  }
+}
@@ -0,0 +1,338 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jnfp.tests.core;
+
+import com.io7m.jnfp.core.NFPCodec;
+import com.io7m.jnfp.core.NFPColumn;
+import com.io7m.jnfp.core.NFPRepresentation;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ReadOnlyBufferException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Random;
+
+public final class NFPColumnTest
+{
+  private static final int[] BITS = {2, 8, 12, 16, 20, 24, 31, 32, 53, 64};
+
+  private static long truncate(
+    final long x,
+    final int b,
+    final boolean signed)
+  {
+    if (b == 64) {
+      return x;
+    }
+    if (signed) {
+      return (x << (64 - b)) >> (64 - b);
+    }
+    return x & ((1L << b) - 1L);
+  }
+
+  private static void checkRoundTrip(
+    final ByteBuffer buffer)
+  {
+    final Random random = new Random(0x5eedL);
+    for (final NFPRepresentation r : NFPRepresentation.values()) {
+      for (final int b : BITS) {
+        final NFPCodec codec = NFPCodec.of(r, b);
+        final int size = 500;
+        buffer.clear();
+
+        final NFPColumn column = NFPColumn.create(buffer, codec, size);
+        Assert.assertEquals(codec, column.codec());
+        Assert.assertEquals(size, column.size());
+
+        final long[] expected = new long[size];
+        for (int index = 0; index < size; ++index) {
+          final long value = random.nextLong();
+          column.setRaw(index, value);
+          expected[index] = truncate(value, b, r.isSigned());
+        }
+
+        final NFPColumn reopened = NFPColumn.open(buffer);
+        Assert.assertEquals(codec, reopened.codec());
+        Assert.assertEquals(size, reopened.size());
+        for (int index = 0; index < size; ++index) {
+          Assert.assertEquals(
+            String.format("%s %d", codec, index),
+            expected[index],
+            reopened.getRaw(index));
+          Assert.assertEquals(
+            codec.decode(expected[index]), reopened.get(index), 0.0);
+        }
+      }
+    }
+  }
+
+  @Test
+  public void testByteSize()
+  {
+    Assert.assertEquals(16L, NFPColumn.byteSize(NFPCodec.unsigned(8), 0));
+    Assert.assertEquals(26L, NFPColumn.byteSize(NFPCodec.unsigned(8), 10));
+    Assert.assertEquals(46L, NFPColumn.byteSize(NFPCodec.unsigned(24), 10));
+    Assert.assertEquals(
+      96L, NFPColumn.byteSize(NFPCodec.signedWithZero(64), 10));
+  }
+
+  @Test
+  public void testHeapRoundTrip()
+  {
+    checkRoundTrip(ByteBuffer.allocate(8 * 500 + NFPColumn.HEADER_BYTES));
+  }
+
+  @Test
+  public void testDirectRoundTrip()
+  {
+    checkRoundTrip(
+      ByteBuffer.allocateDirect(8 * 500 + NFPColumn.HEADER_BYTES));
+  }
+
+  @Test
+  public void testOffsetBuffer()
+  {
+    final ByteBuffer buffer = ByteBuffer.allocate(100);
+    buffer.position(7);
+
+    final NFPColumn column =
+      NFPColumn.create(buffer, NFPCodec.signedWithZero(16), 4);
+    column.set(3, -0.5);
+    buffer.position(0);
+    Assert.assertEquals((byte) 'N', buffer.get(7));
+
+    buffer.position(7);
+    final NFPColumn reopened = NFPColumn.open(buffer);
+    Assert.assertEquals(
+      NFPCodec.signedWithZero(16).decode(NFPCodec.signedWithZero(16)
+                                           .encode(-0.5)),
+      reopened.get(3),
+      0.0);
+  }
+
+  @Test
+  public void testEncodeDecodeMatchesScalar()
+  {
+    final Random random = new Random(0x5eedL);
+    for (final NFPRepresentation r : NFPRepresentation.values()) {
+      final NFPCodec codec = NFPCodec.of(r, 12);
+      final double lower = r.isSigned() ? -1.0 : 0.0;
+      final double[] values = new double[300];
+      for (int index = 0; index < values.length; ++index) {
+        values[index] = lower + random.nextDouble() * (1.0 - lower);
+      }
+
+      final NFPColumn column = NFPColumn.create(
+        ByteBuffer.allocate(1000), codec, values.length);
+      column.encode(values, 10, 5, 200);
+
+      final double[] decoded = new double[values.length];
+      column.decode(5, decoded, 0, 200);
+      for (int index = 0; index < 200; ++index) {
+        Assert.assertEquals(
+          codec.decode(codec.encode(values[10 + index])),
+          decoded[index],
+          0.0);
+        Assert.assertEquals(
+          codec.encode(values[10 + index]),
+          column.getRaw(5 + index));
+      }
+    }
+  }
+
+  @Test
+  public void testMappedFile()
+    throws IOException
+  {
+    final Path file = Files.createTempFile("nfp-column", ".bin");
+    try {
+      final NFPCodec codec = NFPCodec.unsigned(24);
+      try (FileChannel channel = FileChannel.open(
+        file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+        final NFPColumn column = NFPColumn.createFile(channel, codec, 1000);
+        for (int index = 0; index < 1000; ++index) {
+          column.set(index, index / 1000.0);
+        }
+        column.force();
+      }
+
+      Assert.assertEquals(
+        NFPColumn.byteSize(codec, 1000), Files.size(file));
+
+      try (FileChannel channel =
+             FileChannel.open(file, StandardOpenOption.READ)) {
+        final NFPColumn column =
+          NFPColumn.openFile(channel, FileChannel.MapMode.READ_ONLY);
+        Assert.assertTrue(column.isReadOnly());
+        Assert.assertEquals(codec, column.codec());
+        Assert.assertEquals(1000, column.size());
+        for (int index = 0; index < 1000; ++index) {
+          Assert.assertEquals(
+            codec.encode(index / 1000.0), column.getRaw(index));
+        }
+        Assert.assertThrows(
+          ReadOnlyBufferException.class, () -> column.set(0, 1.0));
+      }
+    } finally {
+      Files.deleteIfExists(file);
+    }
+  }
+
+  @Test
+  public void testTiledFile()
+    throws IOException
+  {
+    final Path file = Files.createTempFile("nfp-column", ".bin");
+    try {
+      final NFPCodec codec0 = NFPCodec.unsigned(8);
+      final NFPCodec codec1 = NFPCodec.signedWithZero(16);
+      final long position0 = 5L;
+      final long position1 = position0 + NFPColumn.byteSize(codec0, 100);
+      try (FileChannel channel = FileChannel.open(
+        file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+        final NFPColumn column0 =
+          NFPColumn.createFile(channel, position0, codec0, 100);
+        final NFPColumn column1 =
+          NFPColumn.createFile(channel, position1, codec1, 50);
+        for (int index = 0; index < 100; ++index) {
+          column0.setRaw(index, index);
+        }
+        for (int index = 0; index < 50; ++index) {
+          column1.setRaw(index, -index);
+        }
+        column0.force();
+        column1.force();
+      }
+
+      Assert.assertEquals(
+        position1 + NFPColumn.byteSize(codec1, 50), Files.size(file));
+
+      try (FileChannel channel =
+             FileChannel.open(file, StandardOpenOption.READ)) {
+        final NFPColumn column0 =
+          NFPColumn.openFile(channel, position0, FileChannel.MapMode.READ_ONLY);
+        final NFPColumn column1 =
+          NFPColumn.openFile(channel, position1, FileChannel.MapMode.READ_ONLY);
+        Assert.assertEquals(codec0, column0.codec());
+        Assert.assertEquals(100, column0.size());
+        Assert.assertEquals(codec1, column1.codec());
+        Assert.assertEquals(50, column1.size());
+        for (int index = 0; index < 100; ++index) {
+          Assert.assertEquals(index, column0.getRaw(index));
+        }
+        for (int index = 0; index < 50; ++index) {
+          Assert.assertEquals(-index, column1.getRaw(index));
+        }
+
+        Assert.assertThrows(
+          IllegalArgumentException.class,
+          () -> NFPColumn.openFile(channel, FileChannel.MapMode.READ_ONLY));
+        Assert.assertThrows(
+          IllegalArgumentException.class,
+          () -> NFPColumn.openFile(
+            channel, position1 + 1L, FileChannel.MapMode.READ_ONLY));
+        Assert.assertThrows(
+          IllegalArgumentException.class,
+          () -> NFPColumn.openFile(
+            channel, Files.size(file), FileChannel.MapMode.READ_ONLY));
+        Assert.assertThrows(
+          IllegalArgumentException.class,
+          () -> NFPColumn.openFile(
+            channel, -1L, FileChannel.MapMode.READ_ONLY));
+      }
+    } finally {
+      Files.deleteIfExists(file);
+    }
+  }
+
+  @Test
+  public void testCreateTooSmall()
+  {
+    Assert.assertThrows(
+      IllegalArgumentException.class,
+      () -> NFPColumn.create(
+        ByteBuffer.allocate(25), NFPCodec.unsigned(8), 10));
+    Assert.assertThrows(
+      IllegalArgumentException.class,
+      () -> NFPColumn.create(
+        ByteBuffer.allocate(25), NFPCodec.unsigned(8), -1));
+  }
+
+  @Test
+  public void testOpenMalformed()
+  {
+    Assert.assertThrows(
+      IllegalArgumentException.class,
+      () -> NFPColumn.open(ByteBuffer.allocate(8)));
+    Assert.assertThrows(
+      IllegalArgumentException.class,
+      () -> NFPColumn.open(ByteBuffer.allocate(100)));
+
+    final ByteBuffer buffer = ByteBuffer.allocate(100);
+    NFPColumn.create(buffer, NFPCodec.unsigned(8), 10);
+
+    buffer.put(4, (byte) 2);
+    Assert.assertThrows(
+      IllegalArgumentException.class, () -> NFPColumn.open(buffer));
+    buffer.put(4, (byte) 1);
+
+    buffer.put(5, (byte) 3);
+    Assert.assertThrows(
+      IllegalArgumentException.class, () -> NFPColumn.open(buffer));
+    buffer.put(5, (byte) 0);
+
+    buffer.put(6, (byte) 65);
+    Assert.assertThrows(
+      IllegalArgumentException.class, () -> NFPColumn.open(buffer));
+    buffer.put(6, (byte) 8);
+
+    buffer.put(7, (byte) 2);
+    Assert.assertThrows(
+      IllegalArgumentException.class, () -> NFPColumn.open(buffer));
+    buffer.put(7, (byte) 1);
+
+    buffer.put(8, (byte) 100);
+    Assert.assertThrows(
+      IllegalArgumentException.class, () -> NFPColumn.open(buffer));
+    buffer.put(8, (byte) 10);
+
+    Assert.assertEquals(10, NFPColumn.open(buffer).size());
+  }
+
+  @Test
+  public void testIndexBounds()
+  {
+    final NFPColumn column =
+      NFPColumn.create(ByteBuffer.allocate(100), NFPCodec.unsigned(8), 10);
+    Assert.assertThrows(
+      IndexOutOfBoundsException.class, () -> column.getRaw(10));
+    Assert.assertThrows(
+      IndexOutOfBoundsException.class, () -> column.set(-1, 0.0));
+    Assert.assertThrows(
+      IndexOutOfBoundsException.class,
+      () -> column.decode(5, new double[10], 0, 6));
+    Assert.assertThrows(
+      IndexOutOfBoundsException.class,
+      () -> column.encode(new double[10], 5, 0, 6));
+  }
+}
@@ -0,0 +1,292 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jnfp.tests.core;
+
+import com.io7m.jnfp.core.NFPCodec;
+import com.io7m.jnfp.core.NFPFlowProcessor;
+import com.io7m.jnfp.core.NFPRepresentation;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+public final class NFPFlowProcessorTest
+{
+  private static final class Collector<T> implements Flow.Subscriber<T>
+  {
+    private final List<T> items;
+    private final CountDownLatch done;
+    private final AtomicReference<Throwable> error;
+    private final long initialDemand;
+    private volatile Flow.Subscription subscription;
+
+    Collector(
+      final long inInitialDemand)
+    {
+      this.items = Collections.synchronizedList(new ArrayList<>());
+      this.done = new CountDownLatch(1);
+      this.error = new AtomicReference<>();
+      this.initialDemand = inInitialDemand;
+    }
+
+    @Override
+    public void onSubscribe(
+      final Flow.Subscription inSubscription)
+    {
+      this.subscription = inSubscription;
+      if (this.initialDemand > 0L) {
+        inSubscription.request(this.initialDemand);
+      }
+    }
+
+    @Override
+    public void onNext(
+      final T item)
+    {
+      this.items.add(item);
+    }
+
+    @Override
+    public void onError(
+      final Throwable throwable)
+    {
+      this.error.set(throwable);
+      this.done.countDown();
+    }
+
+    @Override
+    public void onComplete()
+    {
+      this.done.countDown();
+    }
+
+    void await()
+      throws InterruptedException
+    {
+      Assert.assertTrue(this.done.await(30L, TimeUnit.SECONDS));
+    }
+  }
+
+  private static float[] chunk(
+    final Random random,
+    final NFPRepresentation r)
+  {
+    final float lower = r.isSigned() ? -1.0f : 0.0f;
+    final float[] values = new float[1 + random.nextInt(500)];
+    for (int index = 0; index < values.length; ++index) {
+      values[index] = lower + random.nextFloat() * (1.0f - lower);
+    }
+    return values;
+  }
+
+  @Test
+  public void testPipelineVirtualThreads()
+    throws InterruptedException
+  {
+    try (ExecutorService executor =
+           Executors.newVirtualThreadPerTaskExecutor()) {
+      for (final NFPRepresentation r : NFPRepresentation.values()) {
+        final NFPCodec codec = NFPCodec.of(r, 16);
+        final Random random = new Random(0x5eedL);
+
+        final NFPFlowProcessor<float[], int[]> encoder =
+          NFPFlowProcessor.encoder(codec, executor, 4);
+        final NFPFlowProcessor<int[], float[]> decoder =
+          NFPFlowProcessor.decoder(codec, executor, 4);
+        final Collector<int[]> encoded = new Collector<>(Long.MAX_VALUE);
+        final Collector<float[]> decoded = new Collector<>(Long.MAX_VALUE);
+
+        encoder.subscribe(encoded);
+        encoder.subscribe(decoder);
+        decoder.subscribe(decoded);
+
+        final List<float[]> sent = new ArrayList<>();
+        try (SubmissionPublisher<float[]> source =
+               new SubmissionPublisher<>(executor, 2)) {
+          source.subscribe(encoder);
+          for (int index = 0; index < 200; ++index) {
+            final float[] values = chunk(random, r);
+            sent.add(values);
+            source.submit(values);
+          }
+        }
+
+        encoded.await();
+        decoded.await();
+        Assert.assertNull(encoded.error.get());
+        Assert.assertNull(decoded.error.get());
+        Assert.assertEquals(sent.size(), encoded.items.size());
+        Assert.assertEquals(sent.size(), decoded.items.size());
+
+        for (int index = 0; index < sent.size(); ++index) {
+          final float[] values = sent.get(index);
+          final int[] expected = new int[values.length];
+          codec.encodeFloat(values, 0, expected, 0, values.length);
+          Assert.assertArrayEquals(expected, encoded.items.get(index));
+
+          final float[] expectedFloat = new float[values.length];
+          codec.decodeFloat(expected, 0, expectedFloat, 0, values.length);
+          Assert.assertArrayEquals(
+            expectedFloat, decoded.items.get(index), 0.0f);
+        }
+      }
+    }
+  }
+
+  @Test
+  public void testBackpressure()
+    throws InterruptedException
+  {
+    try (ExecutorService executor =
+           Executors.newVirtualThreadPerTaskExecutor()) {
+      final NFPFlowProcessor<float[], int[]> encoder =
+        NFPFlowProcessor.encoder(NFPCodec.unsigned(8), executor, 2);
+      final Collector<int[]> stalled = new Collector<>(0L);
+      encoder.subscribe(stalled);
+
+      int accepted = 0;
+      boolean dropped = false;
+      try (SubmissionPublisher<float[]> source =
+             new SubmissionPublisher<>(executor, 2)) {
+        source.subscribe(encoder);
+        for (int index = 0; index < 1000 && !dropped; ++index) {
+          final int lag = source.offer(
+            new float[]{0.5f},
+            10L,
+            TimeUnit.MILLISECONDS,
+            (subscriber, item) -> false);
+          if (lag < 0) {
+            dropped = true;
+          } else {
+            ++accepted;
+          }
+        }
+
+        Assert.assertTrue(dropped);
+        Assert.assertTrue(accepted < 1000);
+        Assert.assertTrue(stalled.items.isEmpty());
+
+        stalled.subscription.request(Long.MAX_VALUE);
+      }
+
+      stalled.await();
+      Assert.assertEquals(accepted, stalled.items.size());
+      for (final int[] item : stalled.items) {
+        Assert.assertArrayEquals(new int[]{127}, item);
+      }
+    }
+  }
+
+  @Test
+  public void testErrorPropagated()
+    throws InterruptedException
+  {
+    try (ExecutorService executor =
+           Executors.newVirtualThreadPerTaskExecutor()) {
+      final NFPFlowProcessor<int[], float[]> decoder =
+        NFPFlowProcessor.decoder(NFPCodec.signedWithZero(12), executor);
+      final Collector<float[]> collector = new Collector<>(Long.MAX_VALUE);
+      decoder.subscribe(collector);
+
+      final SubmissionPublisher<int[]> source =
+        new SubmissionPublisher<>(executor, 4);
+      source.subscribe(decoder);
+      source.submit(new int[]{1, 2, 3});
+      source.closeExceptionally(new IllegalStateException("Failed!"));
+
+      collector.await();
+      Assert.assertTrue(
+        collector.error.get() instanceof IllegalStateException);
+    }
+  }
+
+  @Test
+  public void testSecondSubscriptionCancelled()
+    throws InterruptedException
+  {
+    try (ExecutorService executor =
+           Executors.newVirtualThreadPerTaskExecutor()) {
+      final NFPFlowProcessor<float[], int[]> encoder =
+        NFPFlowProcessor.encoder(NFPCodec.unsigned(8), executor);
+
+      final CountDownLatch cancelled = new CountDownLatch(1);
+      encoder.onSubscribe(new Flow.Subscription()
+      {
+        @Override
+        public void request(
+          final long n)
+        {
+
+        }
+
+        @Override
+        public void cancel()
+        {
+
+        }
+      });
+      encoder.onSubscribe(new Flow.Subscription()
+      {
+        @Override
+        public void request(
+          final long n)
+        {
+          Assert.fail();
+        }
+
+        @Override
+        public void cancel()
+        {
+          cancelled.countDown();
+        }
+      });
+      Assert.assertEquals(0L, cancelled.getCount());
+      encoder.close();
+    }
+  }
+
+  @Test
+  public void testInvalid()
+  {
+    final ExecutorService executor =
+      Executors.newVirtualThreadPerTaskExecutor();
+    try {
+      Assert.assertThrows(
+        IllegalArgumentException.class,
+        () -> NFPFlowProcessor.encoder(NFPCodec.unsigned(33), executor));
+      Assert.assertThrows(
+        IllegalArgumentException.class,
+        () -> NFPFlowProcessor.decoder(NFPCodec.unsigned(33), executor));
+      Assert.assertThrows(
+        IllegalArgumentException.class,
+        () -> NFPFlowProcessor.encoder(NFPCodec.unsigned(8), executor, 0));
+    } finally {
+      executor.shutdown();
+    }
+  }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jnfp.tests.core;
+
+import com.io7m.jnfp.core.NFPLookupFloatInt;
+import com.io7m.jnfp.core.NFPSignedFloatInt;
+import com.io7m.jnfp.core.NFPUnsignedFloatInt;
+import org.junit.Assert;
+import org.junit.Test;
+
+public final class NFPLookupFloatIntTest
+{
+  @Test public void testUnsignedExhaustive()
+  {
+    for (int e = 2; e <= 16; ++e) {
+      final int size = 1 << e;
+      final int[] ks = new int[size];
+      for (int k = 0; k < size; ++k) {
+        ks[k] = k;
+      }
+
+      final float[] ys = new float[size];
+      NFPLookupFloatInt.fromUnsignedNormalized(ks, 0, ys, 0, size, e);
+
+      for (int k = 0; k < size; ++k) {
+        final float expected = NFPUnsignedFloatInt.fromUnsignedNormalized(k, e);
+        Assert.assertEquals(
+          expected, NFPLookupFloatInt.fromUnsignedNormalized(k, e), 0.0f);
+        Assert.assertEquals(expected, ys[k], 0.0f);
+      }
+    }
+  }
+
+  @Test public void testSignedExhaustive()
+  {
+    for (int e = 2; e <= 16; ++e) {
+      final int size = 1 << e;
+      final int first = -(size >> 1);
+      final int[] ks = new int[size];
+      for (int index = 0; index < size; ++index) {
+        ks[index] = first + index;
+      }
+
+      final float[] yw = new float[size];
+      final float[] yo = new float[size];
+      NFPLookupFloatInt.fromSignedNormalizedWithZero(ks, 0, yw, 0, size, e);
+      NFPLookupFloatInt.fromSignedNormalizedWithoutZero(ks, 0, yo, 0, size, e);
+
+      for (int index = 0; index < size; ++index) {
+        final int k = ks[index];
+        final float ew = NFPSignedFloatInt.fromSignedNormalizedWithZero(k, e);
+        final float eo =
+          NFPSignedFloatInt.fromSignedNormalizedWithoutZero(k, e);
+
+        Assert.assertEquals(
+          ew, NFPLookupFloatInt.fromSignedNormalizedWithZero(k, e), 0.0f);
+        Assert.assertEquals(
+          eo, NFPLookupFloatInt.fromSignedNormalizedWithoutZero(k, e), 0.0f);
+        Assert.assertEquals(ew, yw[index], 0.0f);
+        Assert.assertEquals(eo, yo[index], 0.0f);
+      }
+    }
+  }
+
+  @Test public void testShared()
+  {
+    final float[] a = new float[1];
+    final float[] b = new float[1];
+    NFPLookupFloatInt.fromUnsignedNormalized(new int[]{255}, 0, a, 0, 1, 8);
+    NFPLookupFloatInt.fromUnsignedNormalized(new int[]{255}, 0, b, 0, 1, 8);
+    Assert.assertEquals(1.0f, a[0], 0.0f);
+    Assert.assertEquals(a[0], b[0], 0.0f);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testBitsTooLarge()
+  {
+    NFPLookupFloatInt.fromUnsignedNormalized(0, 17);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testBitsTooSmall()
+  {
+    NFPLookupFloatInt.fromSignedNormalizedWithZero(0, 1);
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class)
+  public void testValueOutOfRange()
+  {
+    NFPLookupFloatInt.fromSignedNormalizedWithoutZero(128, 8);
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class)
+  public void testBulkValueOutOfRange()
+  {
+    NFPLookupFloatInt.fromUnsignedNormalized(
+      new int[]{256}, 0, new float[1], 0, 1, 8);
+  }
+}
@@ -0,0 +1,294 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jnfp.tests.core;
+
+import com.io7m.jnfp.core.NFPCodec;
+import com.io7m.jnfp.core.NFPMipmapFilter;
+import com.io7m.jnfp.core.NFPMipmaps;
+import com.io7m.jnfp.core.NFPRepresentation;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+public final class NFPMipmapsTest
+{
+  private static final int[] BITS = {2, 8, 10, 16, 24, 32};
+
+  private static long minimum(
+    final NFPCodec codec)
+  {
+    final int b = codec.bits();
+    return codec.representation().isSigned() ? -(1L << (b - 1)) : 0L;
+  }
+
+  private static long maximum(
+    final NFPCodec codec)
+  {
+    final int b = codec.bits();
+    return codec.representation().isSigned()
+      ? (1L << (b - 1)) - 1L
+      : (1L << b) - 1L;
+  }
+
+  private static int[] image(
+    final NFPCodec codec,
+    final int size)
+  {
+    final Random random = new Random(0x5eedL);
+    final long low = minimum(codec);
+    final long range = maximum(codec) - low + 1L;
+    final int[] xs = new int[size];
+    for (int index = 0; index < size; ++index) {
+      xs[index] = (int) (low + (long) (random.nextDouble() * range));
+    }
+    return xs;
+  }
+
+  private static double decode(
+    final NFPCodec codec,
+    final int k)
+  {
+    if (codec.representation() == NFPRepresentation.UNSIGNED) {
+      return codec.decode(Integer.toUnsignedLong(k));
+    }
+    return codec.decode(k);
+  }
+
+  private static int[] boxReference(
+    final NFPCodec codec,
+    final int channels,
+    final int[] source,
+    final int width,
+    final int height)
+  {
+    final int tw = NFPMipmaps.levelSize(width, 1);
+    final int th = NFPMipmaps.levelSize(height, 1);
+    final int sx = width == 1 ? 1 : 2;
+    final int sy = height == 1 ? 1 : 2;
+    final int[] target = new int[tw * th * channels];
+    for (int y = 0; y < th; ++y) {
+      for (int x = 0; x < tw; ++x) {
+        for (int c = 0; c < channels; ++c) {
+          final int x0 = x * sx;
+          final int y0 = y * sy;
+          final int x1 = x0 + sx - 1;
+          final int y1 = y0 + sy - 1;
+          final double a =
+            decode(codec, source[(((y0 * width) + x0) * channels) + c]);
+          final double b =
+            decode(codec, source[(((y0 * width) + x1) * channels) + c]);
+          final double d =
+            decode(codec, source[(((y1 * width) + x0) * channels) + c]);
+          final double e =
+            decode(codec, source[(((y1 * width) + x1) * channels) + c]);
+          final double mean;
+          if (sx == 2 && sy == 2) {
+            mean = ((a + b) + (d + e)) / 4.0;
+          } else if (sx == 2 || sy == 2) {
+            mean = (a + e) / 2.0;
+          } else {
+            mean = a;
+          }
+          target[((y * tw + x) * channels) + c] = (int) codec.encode(mean);
+        }
+      }
+    }
+    return target;
+  }
+
+  @Test
+  public void testLevels()
+  {
+    Assert.assertEquals(1, NFPMipmaps.levelCount(1, 1));
+    Assert.assertEquals(2, NFPMipmaps.levelCount(2, 1));
+    Assert.assertEquals(11, NFPMipmaps.levelCount(1024, 7));
+    Assert.assertEquals(15, NFPMipmaps.levelCount(16384, 16384));
+    Assert.assertEquals(1, NFPMipmaps.levelSize(7, 3));
+    Assert.assertEquals(3, NFPMipmaps.levelSize(7, 1));
+    Assert.assertEquals(1, NFPMipmaps.levelSize(1024, 12));
+  }
+
+  @Test
+  public void testBoxIdentical()
+  {
+    final int[][] sizes = {{64, 64}, {13, 7}, {1, 9}, {9, 1}, {2, 2}, {1, 1}};
+    for (final NFPRepresentation r : NFPRepresentation.values()) {
+      for (final int b : BITS) {
+        final NFPCodec codec = NFPCodec.of(r, b);
+        for (final int[] size : sizes) {
+          for (int channels = 1; channels <= 3; ++channels) {
+            final int w = size[0];
+            final int h = size[1];
+            final int[] xs = image(codec, w * h * channels);
+            final int[] expected = boxReference(codec, channels, xs, w, h);
+            final int[] ys = new int[expected.length + 2];
+            NFPMipmaps.downsample(
+              NFPMipmapFilter.BOX, codec, channels, xs, 0, w, h, ys, 1);
+            Assert.assertArrayEquals(
+              String.format("%s %d %dx%d", codec, channels, w, h),
+              expected,
+              Arrays.copyOfRange(ys, 1, expected.length + 1));
+          }
+        }
+      }
+    }
+  }
+
+  @Test
+  public void testBoxExactMeans()
+  {
+    final NFPCodec codec = NFPCodec.unsigned(16);
+    final int[] xs = new int[16 * 16];
+    for (int index = 0; index < xs.length; ++index) {
+      xs[index] = (index * 4) % 65536;
+    }
+    final int[] ys = new int[8 * 8];
+    NFPMipmaps.downsample(
+      NFPMipmapFilter.BOX, codec, 1, xs, 0, 16, 16, ys, 0);
+    Assert.assertArrayEquals(boxReference(codec, 1, xs, 16, 16), ys);
+  }
+
+  @Test
+  public void testConstant()
+  {
+    for (final NFPRepresentation r : NFPRepresentation.values()) {
+      for (final int b : new int[]{8, 16}) {
+        final NFPCodec codec = NFPCodec.of(r, b);
+        final int[] values =
+          {(int) minimum(codec), 0, 3, (int) maximum(codec)};
+        for (final int k : values) {
+          final int[] xs = new int[37 * 21 * 2];
+          Arrays.fill(xs, k);
+          for (final NFPMipmapFilter filter : NFPMipmapFilter.values()) {
+            final int[][] levels =
+              NFPMipmaps.generate(filter, codec, 2, xs, 37, 21);
+            Assert.assertEquals(5, levels.length);
+            final int expected =
+              r == NFPRepresentation.SIGNED_WITH_ZERO && k == minimum(codec)
+                ? k + 1
+                : k;
+            for (final int[] level : levels) {
+              for (final int y : level) {
+                Assert.assertEquals(
+                  String.format("%s %s %d", filter, codec, k), expected, y);
+              }
+            }
+          }
+        }
+      }
+    }
+  }
+
+  @Test
+  public void testKaiserRamp()
+  {
+    final NFPCodec codec = NFPCodec.unsigned(16);
+    final int width = 256;
+    final int height = 16;
+    final int[] xs = new int[width * height];
+    for (int y = 0; y < height; ++y) {
+      for (int x = 0; x < width; ++x) {
+        xs[(y * width) + x] = x * 200;
+      }
+    }
+
+    final int[] ys = new int[(width / 2) * (height / 2)];
+    NFPMipmaps.downsample(
+      NFPMipmapFilter.KAISER, codec, 1, xs, 0, width, height, ys, 0);
+    for (int y = 0; y < height / 2; ++y) {
+      for (int x = 4; x < (width / 2) - 4; ++x) {
+        final double expected = ((2 * x) + 0.5) * 200.0;
+        Assert.assertEquals(expected, ys[(y * (width / 2)) + x], 2.0);
+      }
+    }
+  }
+
+  @Test
+  public void testKaiserClamped()
+  {
+    for (final NFPRepresentation r : NFPRepresentation.values()) {
+      final NFPCodec codec = NFPCodec.of(r, 8);
+      final int low = (int) minimum(codec);
+      final int high = (int) maximum(codec);
+      final int[] xs = new int[32 * 32];
+      for (int y = 0; y < 32; ++y) {
+        for (int x = 0; x < 32; ++x) {
+          xs[(y * 32) + x] = ((x / 3) % 2) == 0 ? low : high;
+        }
+      }
+      final int[] ys = new int[16 * 16];
+      NFPMipmaps.downsample(
+        NFPMipmapFilter.KAISER, codec, 1, xs, 0, 32, 32, ys, 0);
+      for (final int y : ys) {
+        Assert.assertTrue(y >= low && y <= high);
+      }
+    }
+  }
+
+  @Test
+  public void testParallelIdentical()
+  {
+    final NFPCodec codec = NFPCodec.unsigned(16);
+    final int width = 1024;
+    final int height = 1024;
+    final int[] xs = image(codec, width * height);
+
+    for (final NFPMipmapFilter filter : NFPMipmapFilter.values()) {
+      final int[][] expected;
+      final ForkJoinPool single = new ForkJoinPool(1);
+      try {
+        expected = NFPMipmaps.generate(
+          single, filter, codec, 1, xs, width, height);
+      } finally {
+        single.shutdown();
+      }
+
+      final int[][] levels =
+        NFPMipmaps.generate(filter, codec, 1, xs, width, height);
+      Assert.assertEquals(10, levels.length);
+      for (int index = 0; index < levels.length; ++index) {
+        Assert.assertArrayEquals(expected[index], levels[index]);
+      }
+      Assert.assertEquals(1, levels[levels.length - 1].length);
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testCodecTooWide()
+  {
+    NFPMipmaps.generate(
+      NFPMipmapFilter.BOX, NFPCodec.unsigned(33), 1, new int[4], 2, 2);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testZeroSize()
+  {
+    NFPMipmaps.levelCount(0, 4);
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class)
+  public void testSourceOutOfBounds()
+  {
+    NFPMipmaps.downsample(
+      NFPMipmapFilter.BOX, NFPCodec.unsigned(8), 2, new int[7], 0, 2, 2,
+      new int[2], 0);
+  }
+}
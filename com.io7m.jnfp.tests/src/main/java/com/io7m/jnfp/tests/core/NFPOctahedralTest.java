@@ -0,0 +1,189 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jnfp.tests.core;
+
+import com.io7m.jnfp.core.NFPOctahedral;
+import com.io7m.jnfp.core.NFPSignedFloatInt;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Random;
+
+public final class NFPOctahedralTest
+{
+  private static final int VECTORS = 100_000;
+
+  private static float[] vectors()
+  {
+    final Random random = new Random(0x5eedL);
+    final float[] xs = new float[VECTORS * 3];
+    for (int index = 0; index < VECTORS; ++index) {
+      final double x = random.nextGaussian();
+      final double y = random.nextGaussian();
+      final double z = random.nextGaussian();
+      final double length = Math.sqrt((x * x) + (y * y) + (z * z));
+      xs[index * 3] = (float) (x / length);
+      xs[(index * 3) + 1] = (float) (y / length);
+      xs[(index * 3) + 2] = (float) (z / length);
+    }
+    return xs;
+  }
+
+  private static double angle(
+    final float[] a,
+    final int ai,
+    final float[] b,
+    final int bi)
+  {
+    final double ax = a[ai];
+    final double ay = a[ai + 1];
+    final double az = a[ai + 2];
+    final double bx = b[bi];
+    final double by = b[bi + 1];
+    final double bz = b[bi + 2];
+    final double cx = (ay * bz) - (az * by);
+    final double cy = (az * bx) - (ax * bz);
+    final double cz = (ax * by) - (ay * bx);
+    final double cross = Math.sqrt((cx * cx) + (cy * cy) + (cz * cz));
+    final double dot = (ax * bx) + (ay * by) + (az * bz);
+    return Math.atan2(cross, dot);
+  }
+
+  private static double maximumError(
+    final int b)
+  {
+    final float[] xs = vectors();
+    final float[] ys = new float[3];
+    double maximum = 0.0;
+    for (int index = 0; index < VECTORS; ++index) {
+      final int i = index * 3;
+      final int p = NFPOctahedral.encode(xs[i], xs[i + 1], xs[i + 2], b);
+      NFPOctahedral.decode(p, b, ys, 0);
+      maximum = Math.max(maximum, angle(xs, i, ys, 0));
+    }
+    return maximum;
+  }
+
+  @Test
+  public void testRoundTrip8()
+  {
+    final double e = maximumError(8);
+    Assert.assertTrue(e < Math.toRadians(2.5));
+  }
+
+  @Test
+  public void testRoundTrip12()
+  {
+    final double e = maximumError(12);
+    Assert.assertTrue(e < Math.toRadians(0.15));
+  }
+
+  @Test
+  public void testRoundTrip16()
+  {
+    final double e = maximumError(16);
+    Assert.assertTrue(e < Math.toRadians(0.01));
+  }
+
+  @Test
+  public void testAxes()
+  {
+    final float[][] axes = {
+      {1.0f, 0.0f, 0.0f},
+      {-1.0f, 0.0f, 0.0f},
+      {0.0f, 1.0f, 0.0f},
+      {0.0f, -1.0f, 0.0f},
+      {0.0f, 0.0f, 1.0f},
+      {0.0f, 0.0f, -1.0f},
+    };
+
+    final float[] ys = new float[3];
+    for (int b = 2; b <= 16; ++b) {
+      for (final float[] axis : axes) {
+        final int p = NFPOctahedral.encode(axis[0], axis[1], axis[2], b);
+        NFPOctahedral.decode(p, b, ys, 0);
+        Assert.assertArrayEquals(axis, ys, 0.0f);
+      }
+    }
+  }
+
+  @Test
+  public void testZeroVector()
+  {
+    final float[] ys = new float[3];
+    NFPOctahedral.decode(NFPOctahedral.encode(0.0f, 0.0f, 0.0f, 8), 8, ys, 0);
+    Assert.assertArrayEquals(new float[]{0.0f, 0.0f, 1.0f}, ys, 0.0f);
+  }
+
+  @Test
+  public void testComponentsWithZero()
+  {
+    final int b = 12;
+    final float x = 0.6f;
+    final float y = 0.0f;
+    final float z = 0.8f;
+    final int p = NFPOctahedral.encode(x, y, z, b);
+    final int u = (p << 20) >> 20;
+    final int v = (p << 8) >> 20;
+    Assert.assertEquals(
+      NFPSignedFloatInt.toSignedNormalizedWithZero(x / (x + z), b), u);
+    Assert.assertEquals(
+      NFPSignedFloatInt.toSignedNormalizedWithZero(y, b), v);
+  }
+
+  @Test
+  public void testBulk()
+  {
+    final float[] xs = vectors();
+    for (final int b : new int[]{8, 12, 16}) {
+      final int[] ps = new int[VECTORS + 1];
+      NFPOctahedral.encode(xs, 3, ps, 1, VECTORS - 1, b);
+      final float[] ys = new float[(VECTORS * 3) + 3];
+      NFPOctahedral.decode(ps, 1, ys, 3, VECTORS - 1, b);
+
+      final float[] zs = new float[3];
+      for (int index = 1; index < VECTORS; ++index) {
+        final int i = index * 3;
+        final int p = NFPOctahedral.encode(xs[i], xs[i + 1], xs[i + 2], b);
+        Assert.assertEquals(p, ps[index]);
+        NFPOctahedral.decode(p, b, zs, 0);
+        Assert.assertEquals(zs[0], ys[i], 0.0f);
+        Assert.assertEquals(zs[1], ys[i + 1], 0.0f);
+        Assert.assertEquals(zs[2], ys[i + 2], 0.0f);
+      }
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testBitsTooLarge()
+  {
+    NFPOctahedral.encode(0.0f, 0.0f, 1.0f, 17);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testBitsTooSmall()
+  {
+    NFPOctahedral.decode(0, 1, new float[3], 0);
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class)
+  public void testBulkOutOfBounds()
+  {
+    NFPOctahedral.encode(new float[5], 0, new int[2], 0, 2, 8);
+  }
+}
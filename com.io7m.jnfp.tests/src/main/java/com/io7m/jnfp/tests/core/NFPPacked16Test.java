@@ -0,0 +1,214 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jnfp.tests.core;
+
+import com.io7m.jnfp.core.NFPPacked16;
+import com.io7m.jnfp.core.NFPUnsignedFloatInt;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.util.Random;
+
+public final class NFPPacked16Test
+{
+  private static final int PIXELS = 10_000;
+
+  private static float[] values(
+    final int channels)
+  {
+    final Random random = new Random(0x5eedL);
+    final float[] xs = new float[PIXELS * channels];
+    for (int index = 0; index < xs.length; ++index) {
+      xs[index] = random.nextFloat();
+    }
+    xs[0] = 0.0f;
+    xs[1] = 1.0f;
+    xs[2] = 1.5f;
+    return xs;
+  }
+
+  private static int pack(
+    final float[] xs,
+    final int offset,
+    final int[] widths)
+  {
+    int p = 0;
+    for (int index = 0; index < widths.length; ++index) {
+      final int w = widths[index];
+      final int k =
+        NFPUnsignedFloatInt.toUnsignedNormalized(xs[offset + index], w);
+      p = (p << w) | (k & ((1 << w) - 1));
+    }
+    return p;
+  }
+
+  private static void checkUnpacked(
+    final int p,
+    final float[] ys,
+    final int offset,
+    final int[] widths)
+  {
+    int shift = 16;
+    for (int index = 0; index < widths.length; ++index) {
+      final int w = widths[index];
+      shift -= w;
+      final int k = (p >>> shift) & ((1 << w) - 1);
+      Assert.assertEquals(
+        (double) NFPUnsignedFloatInt.fromUnsignedNormalized(k, w),
+        (double) ys[offset + index],
+        0.0);
+    }
+  }
+
+  @Test public void testRGB565()
+  {
+    final int[] widths = {5, 6, 5};
+    final float[] xs = values(3);
+    final short[] ps = new short[PIXELS + 1];
+    NFPPacked16.encodeRGB565(xs, 0, ps, 1, PIXELS);
+    for (int index = 0; index < PIXELS; ++index) {
+      Assert.assertEquals(
+        (long) pack(xs, index * 3, widths), (long) (ps[index + 1] & 0xffff));
+    }
+
+    final ByteBuffer bytes = ByteBuffer.allocateDirect(PIXELS * 2);
+    NFPPacked16.encodeRGB565(FloatBuffer.wrap(xs), bytes);
+    bytes.flip();
+    for (int index = 0; index < PIXELS; ++index) {
+      Assert.assertEquals(
+        (long) ps[index + 1], (long) bytes.getShort(index * 2));
+    }
+
+    final short[] all = new short[65536];
+    for (int index = 0; index < all.length; ++index) {
+      all[index] = (short) index;
+    }
+    final float[] ys = new float[all.length * 3];
+    NFPPacked16.decodeRGB565(all, 0, ys, 0, all.length);
+    for (int index = 0; index < all.length; ++index) {
+      checkUnpacked(index, ys, index * 3, widths);
+    }
+
+    final FloatBuffer yb = FloatBuffer.allocate(PIXELS * 3);
+    NFPPacked16.decodeRGB565(bytes, yb);
+    final float[] ya = new float[PIXELS * 3];
+    NFPPacked16.decodeRGB565(ps, 1, ya, 0, PIXELS);
+    Assert.assertArrayEquals(ya, yb.array(), 0.0f);
+  }
+
+  @Test public void testRGBA4444()
+  {
+    final int[] widths = {4, 4, 4, 4};
+    final float[] xs = values(4);
+    final short[] ps = new short[PIXELS];
+    NFPPacked16.encodeRGBA4444(xs, 0, ps, 0, PIXELS);
+    for (int index = 0; index < PIXELS; ++index) {
+      Assert.assertEquals(
+        (long) pack(xs, index * 4, widths), (long) (ps[index] & 0xffff));
+    }
+
+    final ByteBuffer bytes =
+      ByteBuffer.allocate(PIXELS * 2).order(ByteOrder.LITTLE_ENDIAN);
+    NFPPacked16.encodeRGBA4444(FloatBuffer.wrap(xs), bytes);
+    bytes.flip();
+    for (int index = 0; index < PIXELS; ++index) {
+      Assert.assertEquals((long) ps[index], (long) bytes.getShort(index * 2));
+    }
+
+    final short[] all = new short[65536];
+    for (int index = 0; index < all.length; ++index) {
+      all[index] = (short) index;
+    }
+    final float[] ys = new float[all.length * 4];
+    NFPPacked16.decodeRGBA4444(all, 0, ys, 0, all.length);
+    for (int index = 0; index < all.length; ++index) {
+      checkUnpacked(index, ys, index * 4, widths);
+    }
+
+    final FloatBuffer yb = FloatBuffer.allocate(PIXELS * 4);
+    NFPPacked16.decodeRGBA4444(bytes, yb);
+    final float[] ya = new float[PIXELS * 4];
+    NFPPacked16.decodeRGBA4444(ps, 0, ya, 0, PIXELS);
+    Assert.assertArrayEquals(ya, yb.array(), 0.0f);
+  }
+
+  @Test public void testRGBA5551()
+  {
+    final int[] widths = {5, 5, 5, 1};
+    final float[] xs = values(4);
+    final short[] ps = new short[PIXELS];
+    NFPPacked16.encodeRGBA5551(xs, 0, ps, 0, PIXELS);
+    for (int index = 0; index < PIXELS; ++index) {
+      Assert.assertEquals(
+        (long) pack(xs, index * 4, widths), (long) (ps[index] & 0xffff));
+    }
+
+    final ByteBuffer bytes = ByteBuffer.allocate(PIXELS * 2);
+    NFPPacked16.encodeRGBA5551(FloatBuffer.wrap(xs), bytes);
+    bytes.flip();
+    for (int index = 0; index < PIXELS; ++index) {
+      Assert.assertEquals((long) ps[index], (long) bytes.getShort(index * 2));
+    }
+
+    final short[] all = new short[65536];
+    for (int index = 0; index < all.length; ++index) {
+      all[index] = (short) index;
+    }
+    final float[] ys = new float[all.length * 4];
+    NFPPacked16.decodeRGBA5551(all, 0, ys, 0, all.length);
+    for (int index = 0; index < all.length; ++index) {
+      checkUnpacked(index, ys, index * 4, widths);
+    }
+
+    final FloatBuffer yb = FloatBuffer.allocate(PIXELS * 4);
+    NFPPacked16.decodeRGBA5551(bytes, yb);
+    final float[] ya = new float[PIXELS * 4];
+    NFPPacked16.decodeRGBA5551(ps, 0, ya, 0, PIXELS);
+    Assert.assertArrayEquals(ya, yb.array(), 0.0f);
+  }
+
+  @Test public void testOpaqueAlpha()
+  {
+    final short[] ps = new short[1];
+    NFPPacked16.encodeRGBA5551(
+      new float[]{1.0f, 0.0f, 1.0f, 1.0f}, 0, ps, 0, 1);
+    Assert.assertEquals(0xf83fL, (long) (ps[0] & 0xffff));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testPartialPixel()
+  {
+    NFPPacked16.encodeRGB565(FloatBuffer.allocate(4), ByteBuffer.allocate(4));
+  }
+
+  @Test(expected = BufferOverflowException.class)
+  public void testOverflow()
+  {
+    NFPPacked16.encodeRGB565(FloatBuffer.allocate(6), ByteBuffer.allocate(3));
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class)
+  public void testOutOfBounds()
+  {
+    NFPPacked16.encodeRGBA4444(new float[7], 0, new short[2], 0, 2);
+  }
+}
@@ -0,0 +1,238 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jnfp.tests.core;
+
+import com.io7m.jnfp.core.NFPPacked32;
+import com.io7m.jnfp.core.NFPSignedFloatInt;
+import com.io7m.jnfp.core.NFPUnsignedFloatInt;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.util.Random;
+
+public final class NFPPacked32Test
+{
+  private static final int VECTORS = 100_000;
+  private static final int[] WIDTHS = {10, 10, 10, 2};
+  private static final int[] SHIFTS = {0, 10, 20, 30};
+
+  private static float[] values(
+    final boolean signed)
+  {
+    final Random random = new Random(0x5eedL);
+    final float[] xs = new float[VECTORS * 4];
+    for (int index = 0; index < xs.length; ++index) {
+      final float x = random.nextFloat();
+      xs[index] = signed ? (x * 2.0f) - 1.0f : x;
+    }
+    xs[0] = 0.0f;
+    xs[1] = 1.0f;
+    xs[2] = signed ? -1.0f : 1.0f;
+    xs[3] = signed ? -1.0f : 1.0f;
+    xs[4] = signed ? 1.0f : 0.0f;
+    return xs;
+  }
+
+  private static int[] packed()
+  {
+    final Random random = new Random(0x5eedL);
+    final int[] ps = new int[VECTORS];
+    for (int index = 0; index < ps.length; ++index) {
+      ps[index] = random.nextInt();
+    }
+    ps[0] = 0;
+    ps[1] = 0xffffffff;
+    ps[2] = 0x80000000;
+    ps[3] = 0x20080200;
+    return ps;
+  }
+
+  private static int component(
+    final int p,
+    final int index,
+    final boolean signed)
+  {
+    final int w = WIDTHS[index];
+    final int u = (p >>> SHIFTS[index]) & ((1 << w) - 1);
+    return signed ? (u << (32 - w)) >> (32 - w) : u;
+  }
+
+  private static void checkRoundTrip(
+    final float[] xs,
+    final int[] ps,
+    final float[] ys,
+    final int[] qs,
+    final ComponentEncoderType encoder,
+    final ComponentDecoderType decoder,
+    final boolean signed)
+  {
+    for (int v = 0; v < VECTORS; ++v) {
+      int expected = 0;
+      for (int c = 0; c < 4; ++c) {
+        final int k = encoder.encode(xs[(v * 4) + c], WIDTHS[c]);
+        expected |= (k & ((1 << WIDTHS[c]) - 1)) << SHIFTS[c];
+      }
+      Assert.assertEquals((long) expected, (long) ps[v]);
+
+      for (int c = 0; c < 4; ++c) {
+        final int k = component(qs[v], c, signed);
+        Assert.assertEquals(
+          (double) decoder.decode(k, WIDTHS[c]),
+          (double) ys[(v * 4) + c],
+          0.0);
+      }
+    }
+  }
+
+  private interface ComponentEncoderType
+  {
+    int encode(
+      float x,
+      int b);
+  }
+
+  private interface ComponentDecoderType
+  {
+    float decode(
+      int f,
+      int b);
+  }
+
+  @Test public void testUnsigned()
+  {
+    final float[] xs = values(false);
+    final int[] ps = new int[VECTORS];
+    NFPPacked32.encodeUnsigned2101010Rev(xs, 0, ps, 0, VECTORS);
+
+    final int[] qs = packed();
+    final float[] ys = new float[VECTORS * 4];
+    NFPPacked32.decodeUnsigned2101010Rev(qs, 0, ys, 0, VECTORS);
+
+    checkRoundTrip(
+      xs,
+      ps,
+      ys,
+      qs,
+      NFPUnsignedFloatInt::toUnsignedNormalized,
+      NFPUnsignedFloatInt::fromUnsignedNormalized,
+      false);
+
+    final ByteBuffer bytes = ByteBuffer.allocateDirect(VECTORS * 4);
+    NFPPacked32.encodeUnsigned2101010Rev(FloatBuffer.wrap(xs), bytes);
+    bytes.flip();
+    Assert.assertEquals(ps[1], bytes.getInt(4));
+    final FloatBuffer yb = FloatBuffer.allocate(VECTORS * 4);
+    NFPPacked32.decodeUnsigned2101010Rev(bytes, yb);
+
+    final float[] ya = new float[VECTORS * 4];
+    NFPPacked32.decodeUnsigned2101010Rev(ps, 0, ya, 0, VECTORS);
+    Assert.assertArrayEquals(ya, yb.array(), 0.0f);
+  }
+
+  @Test public void testSignedWithZero()
+  {
+    final float[] xs = values(true);
+    final int[] ps = new int[VECTORS + 1];
+    NFPPacked32.encodeSignedWithZero2101010Rev(xs, 0, ps, 1, VECTORS);
+
+    final int[] qs = packed();
+    final float[] ys = new float[VECTORS * 4];
+    NFPPacked32.decodeSignedWithZero2101010Rev(qs, 0, ys, 0, VECTORS);
+
+    final int[] pa = new int[VECTORS];
+    System.arraycopy(ps, 1, pa, 0, VECTORS);
+    checkRoundTrip(
+      xs,
+      pa,
+      ys,
+      qs,
+      NFPSignedFloatInt::toSignedNormalizedWithZero,
+      NFPSignedFloatInt::fromSignedNormalizedWithZero,
+      true);
+
+    final ByteBuffer bytes =
+      ByteBuffer.allocate(VECTORS * 4).order(ByteOrder.LITTLE_ENDIAN);
+    NFPPacked32.encodeSignedWithZero2101010Rev(FloatBuffer.wrap(xs), bytes);
+    bytes.flip();
+    final FloatBuffer yb = FloatBuffer.allocate(VECTORS * 4);
+    NFPPacked32.decodeSignedWithZero2101010Rev(bytes, yb);
+
+    final float[] ya = new float[VECTORS * 4];
+    NFPPacked32.decodeSignedWithZero2101010Rev(pa, 0, ya, 0, VECTORS);
+    Assert.assertArrayEquals(ya, yb.array(), 0.0f);
+  }
+
+  @Test public void testSignedWithoutZero()
+  {
+    final float[] xs = values(true);
+    final int[] ps = new int[VECTORS];
+    NFPPacked32.encodeSignedWithoutZero2101010Rev(xs, 0, ps, 0, VECTORS);
+
+    final int[] qs = packed();
+    final float[] ys = new float[VECTORS * 4];
+    NFPPacked32.decodeSignedWithoutZero2101010Rev(qs, 0, ys, 0, VECTORS);
+
+    checkRoundTrip(
+      xs,
+      ps,
+      ys,
+      qs,
+      NFPSignedFloatInt::toSignedNormalizedWithoutZero,
+      NFPSignedFloatInt::fromSignedNormalizedWithoutZero,
+      true);
+
+    final ByteBuffer bytes = ByteBuffer.allocate(VECTORS * 4);
+    NFPPacked32.encodeSignedWithoutZero2101010Rev(FloatBuffer.wrap(xs), bytes);
+    bytes.flip();
+    final FloatBuffer yb = FloatBuffer.allocate(VECTORS * 4);
+    NFPPacked32.decodeSignedWithoutZero2101010Rev(bytes, yb);
+
+    final float[] ya = new float[VECTORS * 4];
+    NFPPacked32.decodeSignedWithoutZero2101010Rev(ps, 0, ya, 0, VECTORS);
+    Assert.assertArrayEquals(ya, yb.array(), 0.0f);
+  }
+
+  @Test public void testSignExtension()
+  {
+    final float[] ys = new float[4];
+    NFPPacked32.decodeSignedWithZero2101010Rev(
+      new int[]{0xc0080001}, 0, ys, 0, 1);
+    Assert.assertEquals(1.0f / 511.0f, ys[0], 0.0f);
+    Assert.assertEquals(-1.0f, ys[1], 0.0f);
+    Assert.assertEquals(0.0f, ys[2], 0.0f);
+    Assert.assertEquals(-1.0f, ys[3], 0.0f);
+  }
+
+  @Test(expected = BufferUnderflowException.class)
+  public void testUnderflow()
+  {
+    NFPPacked32.decodeUnsigned2101010Rev(
+      ByteBuffer.allocate(7), FloatBuffer.allocate(8));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testPartialVector()
+  {
+    NFPPacked32.encodeUnsigned2101010Rev(
+      FloatBuffer.allocate(3), ByteBuffer.allocate(4));
+  }
+}
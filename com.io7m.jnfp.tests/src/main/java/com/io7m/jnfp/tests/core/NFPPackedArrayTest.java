@@ -0,0 +1,205 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jnfp.tests.core;
+
+import com.io7m.jnfp.core.NFPCodec;
+import com.io7m.jnfp.core.NFPPackedArray;
+import com.io7m.jnfp.core.NFPRepresentation;
+import com.io7m.jnfp.core.NFPSignedDoubleLong;
+import com.io7m.jnfp.core.NFPUnsignedDoubleLong;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Random;
+
+public final class NFPPackedArrayTest
+{
+  private static final int[] BITS = {2, 5, 12, 20, 31, 32, 33, 53, 63, 64};
+
+  private static long truncate(
+    final long x,
+    final int b,
+    final boolean signed)
+  {
+    if (b == 64) {
+      return x;
+    }
+    if (signed) {
+      return (x << (64 - b)) >> (64 - b);
+    }
+    return x & ((1L << b) - 1L);
+  }
+
+  @Test
+  public void testWordCount()
+  {
+    Assert.assertEquals(0, NFPPackedArray.create(NFPCodec.unsigned(12), 0)
+      .wordCount());
+    Assert.assertEquals(1, NFPPackedArray.create(NFPCodec.unsigned(12), 5)
+      .wordCount());
+    Assert.assertEquals(2, NFPPackedArray.create(NFPCodec.unsigned(12), 6)
+      .wordCount());
+    Assert.assertEquals(
+      1875, NFPPackedArray.create(NFPCodec.unsigned(12), 10_000).wordCount());
+  }
+
+  @Test
+  public void testRawRandomAccess()
+  {
+    final Random random = new Random(0x5eedL);
+    for (final NFPRepresentation r : NFPRepresentation.values()) {
+      for (final int b : BITS) {
+        final NFPCodec codec = NFPCodec.of(r, b);
+        final int size = 1000;
+        final NFPPackedArray array = NFPPackedArray.create(codec, size);
+        final long[] expected = new long[size];
+
+        for (int step = 0; step < 20_000; ++step) {
+          final int index = random.nextInt(size);
+          final long value = random.nextLong();
+          array.setRaw(index, value);
+          expected[index] = truncate(value, b, r.isSigned());
+        }
+        for (int index = 0; index < size; ++index) {
+          Assert.assertEquals(
+            String.format("%s %d", codec, index),
+            expected[index],
+            array.getRaw(index));
+        }
+      }
+    }
+  }
+
+  @Test
+  public void testUnsignedConversions()
+  {
+    final Random random = new Random(0x5eedL);
+    for (final int b : BITS) {
+      final NFPPackedArray array =
+        NFPPackedArray.create(NFPCodec.unsigned(b), 100);
+      for (int index = 0; index < 100; ++index) {
+        final double x = random.nextDouble();
+        array.set(index, x);
+        final long k = NFPUnsignedDoubleLong.toUnsignedNormalized(x, b);
+        Assert.assertEquals(k, array.getRaw(index));
+        Assert.assertEquals(
+          NFPUnsignedDoubleLong.fromUnsignedNormalized(k, b),
+          array.get(index),
+          0.0);
+      }
+    }
+  }
+
+  @Test
+  public void testSignedConversions()
+  {
+    final Random random = new Random(0x5eedL);
+    for (final int b : BITS) {
+      final NFPPackedArray with =
+        NFPPackedArray.create(NFPCodec.signedWithZero(b), 100);
+      final NFPPackedArray without =
+        NFPPackedArray.create(NFPCodec.signedWithoutZero(b), 100);
+      for (int index = 0; index < 100; ++index) {
+        final double x = (random.nextDouble() * 2.0) - 1.0;
+        with.set(index, x);
+        without.set(index, x);
+
+        final long kw = NFPSignedDoubleLong.toSignedNormalizedWithZero(x, b);
+        Assert.assertEquals(
+          NFPSignedDoubleLong.fromSignedNormalizedWithZero(kw, b),
+          with.get(index),
+          0.0);
+        final long ko =
+          NFPSignedDoubleLong.toSignedNormalizedWithoutZero(x, b);
+        Assert.assertEquals(
+          NFPSignedDoubleLong.fromSignedNormalizedWithoutZero(ko, b),
+          without.get(index),
+          0.0);
+      }
+    }
+  }
+
+  @Test
+  public void testBulk()
+  {
+    final Random random = new Random(0x5eedL);
+    for (final NFPRepresentation r : NFPRepresentation.values()) {
+      for (final int b : BITS) {
+        final NFPCodec codec = NFPCodec.of(r, b);
+        final int size = 3000;
+        final double[] xs = new double[size + 1];
+        for (int index = 0; index < xs.length; ++index) {
+          final double x = random.nextDouble();
+          xs[index] = r.isSigned() ? (x * 2.0) - 1.0 : x;
+        }
+
+        final NFPPackedArray bulk = NFPPackedArray.create(codec, size);
+        final NFPPackedArray single = NFPPackedArray.create(codec, size);
+        bulk.encode(xs, 1, 7, size - 9);
+        for (int index = 7; index < size - 2; ++index) {
+          single.set(index, xs[index - 6]);
+        }
+        Assert.assertEquals(single, bulk);
+        Assert.assertEquals(single.hashCode(), bulk.hashCode());
+
+        final double[] ys = new double[size + 3];
+        bulk.decode(3, ys, 2, size - 3);
+        for (int index = 3; index < size; ++index) {
+          Assert.assertEquals(bulk.get(index), ys[index - 1], 0.0);
+        }
+      }
+    }
+  }
+
+  @Test
+  public void testEquality()
+  {
+    final NFPPackedArray a = NFPPackedArray.create(NFPCodec.unsigned(12), 4);
+    final NFPPackedArray b = NFPPackedArray.create(NFPCodec.unsigned(12), 4);
+    final NFPPackedArray c = NFPPackedArray.create(NFPCodec.unsigned(13), 4);
+    Assert.assertEquals(a, b);
+    Assert.assertNotEquals(a, c);
+    Assert.assertNotEquals(a, null);
+    a.setRaw(2, 1L);
+    Assert.assertNotEquals(a, b);
+    b.setRaw(2, 1L);
+    Assert.assertEquals(a, b);
+    Assert.assertEquals(NFPCodec.unsigned(12), a.codec());
+    Assert.assertEquals(4, a.size());
+    Assert.assertTrue(a.toString().contains("NFPPackedArray"));
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class)
+  public void testGetOutOfBounds()
+  {
+    NFPPackedArray.create(NFPCodec.unsigned(12), 4).getRaw(4);
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class)
+  public void testDecodeOutOfBounds()
+  {
+    NFPPackedArray.create(NFPCodec.unsigned(12), 4)
+      .decode(1, new double[4], 0, 4);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testNegativeSize()
+  {
+    NFPPackedArray.create(NFPCodec.unsigned(12), -1);
+  }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jnfp.tests.core;
+
+import com.io7m.jnfp.core.NFPCodec;
+import com.io7m.jnfp.core.NFPParallel;
+import com.io7m.jnfp.core.NFPRepresentation;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+public final class NFPParallelTest
+{
+  private static final int SIZE = 1_000_003;
+
+  @Test public void testDoubleLong()
+  {
+    final Random random = new Random(0x5eedL);
+    final double[] xs = new double[SIZE];
+    for (int index = 0; index < xs.length; ++index) {
+      xs[index] = (random.nextDouble() * 2.0) - 1.0;
+    }
+
+    final ForkJoinPool pool = new ForkJoinPool(4);
+    try {
+      for (final NFPRepresentation r : NFPRepresentation.values()) {
+        final NFPCodec codec = NFPCodec.of(r, 16);
+        final long[] expectedK = new long[SIZE];
+        final double[] expectedY = new double[SIZE];
+        codec.encode(xs, 0, expectedK, 0, SIZE);
+        codec.decode(expectedK, 0, expectedY, 0, SIZE);
+
+        final long[] ks = new long[SIZE + 1];
+        final double[] ys = new double[SIZE];
+        NFPParallel.encode(pool, codec, xs, 0, ks, 1, SIZE);
+        NFPParallel.decode(codec, ks, 1, ys, 0, SIZE);
+
+        for (int index = 0; index < SIZE; ++index) {
+          Assert.assertEquals(expectedK[index], ks[index + 1]);
+          Assert.assertEquals(expectedY[index], ys[index], 0.0);
+        }
+      }
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  @Test public void testFloatInt()
+  {
+    final Random random = new Random(0x5eedL);
+    final float[] xs = new float[SIZE];
+    for (int index = 0; index < xs.length; ++index) {
+      xs[index] = random.nextFloat();
+    }
+
+    final NFPCodec codec = NFPCodec.unsigned(10);
+    final int[] expectedK = new int[SIZE];
+    final float[] expectedY = new float[SIZE];
+    codec.encodeFloat(xs, 0, expectedK, 0, SIZE);
+    codec.decodeFloat(expectedK, 0, expectedY, 0, SIZE);
+
+    final int[] ks = new int[SIZE];
+    final float[] ys = new float[SIZE + 2];
+    NFPParallel.encodeFloat(codec, xs, 0, ks, 0, SIZE);
+    NFPParallel.decodeFloat(
+      ForkJoinPool.commonPool(), codec, ks, 0, ys, 2, SIZE);
+
+    for (int index = 0; index < SIZE; ++index) {
+      Assert.assertEquals((long) expectedK[index], (long) ks[index]);
+      Assert.assertEquals(
+        (double) expectedY[index], (double) ys[index + 2], 0.0);
+    }
+  }
+
+  @Test public void testSmall()
+  {
+    final long[] ks = new long[]{0L, 255L};
+    final double[] ys = new double[2];
+    NFPParallel.decode(NFPCodec.unsigned(8), ks, 0, ys, 0, 2);
+    Assert.assertEquals(0.0, ys[0], 0.0);
+    Assert.assertEquals(1.0, ys[1], 0.0);
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class)
+  public void testOutOfBounds()
+  {
+    NFPParallel.encode(
+      NFPCodec.unsigned(8), new double[SIZE], 1, new long[SIZE], 0, SIZE);
+  }
+
+  @Test
+  public void testFloatBitsTooLarge()
+  {
+    final NFPCodec codec = NFPCodec.unsigned(33);
+    Assert.assertThrows(
+      IllegalArgumentException.class,
+      () -> NFPParallel.encodeFloat(codec, new float[0], 0, new int[0], 0, 0));
+    Assert.assertThrows(
+      IllegalArgumentException.class,
+      () -> NFPParallel.decodeFloat(codec, new int[0], 0, new float[0], 0, 0));
+  }
+}
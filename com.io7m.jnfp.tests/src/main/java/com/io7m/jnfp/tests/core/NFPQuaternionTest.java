@@ -0,0 +1,228 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jnfp.tests.core;
+
+import com.io7m.jnfp.core.NFPQuaternion;
+import com.io7m.jnfp.core.NFPSignedFloatInt;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Random;
+
+public final class NFPQuaternionTest
+{
+  private static final int QUATERNIONS = 100_000;
+
+  private static float[] quaternions()
+  {
+    final Random random = new Random(0x5eedL);
+    final float[] qs = new float[QUATERNIONS * 4];
+    for (int index = 0; index < QUATERNIONS; ++index) {
+      final double x = random.nextGaussian();
+      final double y = random.nextGaussian();
+      final double z = random.nextGaussian();
+      final double w = random.nextGaussian();
+      final double length =
+        Math.sqrt((x * x) + (y * y) + (z * z) + (w * w));
+      qs[index * 4] = (float) (x / length);
+      qs[(index * 4) + 1] = (float) (y / length);
+      qs[(index * 4) + 2] = (float) (z / length);
+      qs[(index * 4) + 3] = (float) (w / length);
+    }
+    return qs;
+  }
+
+  private static double error(
+    final float[] a,
+    final int ai,
+    final float[] b,
+    final int bi)
+  {
+    double dot = 0.0;
+    for (int c = 0; c < 4; ++c) {
+      dot += (double) a[ai + c] * (double) b[bi + c];
+    }
+    final double sign = dot < 0.0 ? -1.0 : 1.0;
+    double maximum = 0.0;
+    for (int c = 0; c < 4; ++c) {
+      maximum = Math.max(
+        maximum,
+        Math.abs((double) a[ai + c] - (sign * (double) b[bi + c])));
+    }
+    return maximum;
+  }
+
+  private static double maximumErrorInt(
+    final int b)
+  {
+    final float[] qs = quaternions();
+    final float[] rs = new float[4];
+    double maximum = 0.0;
+    for (int index = 0; index < QUATERNIONS; ++index) {
+      final int i = index * 4;
+      final int p =
+        NFPQuaternion.packInt(qs[i], qs[i + 1], qs[i + 2], qs[i + 3], b);
+      NFPQuaternion.unpackInt(p, b, rs, 0);
+      maximum = Math.max(maximum, error(qs, i, rs, 0));
+    }
+    return maximum;
+  }
+
+  private static double maximumErrorLong(
+    final int b)
+  {
+    final float[] qs = quaternions();
+    final float[] rs = new float[4];
+    double maximum = 0.0;
+    for (int index = 0; index < QUATERNIONS; ++index) {
+      final int i = index * 4;
+      final long p =
+        NFPQuaternion.packLong(qs[i], qs[i + 1], qs[i + 2], qs[i + 3], b);
+      NFPQuaternion.unpackLong(p, b, rs, 0);
+      maximum = Math.max(maximum, error(qs, i, rs, 0));
+    }
+    return maximum;
+  }
+
+  @Test
+  public void testRoundTripInt()
+  {
+    for (int b = 4; b <= 10; ++b) {
+      Assert.assertTrue(maximumErrorInt(b) < 5.0 / (double) (1 << b));
+    }
+  }
+
+  @Test
+  public void testRoundTripLong()
+  {
+    for (int b = 4; b <= 20; ++b) {
+      Assert.assertTrue(maximumErrorLong(b) < 5.0 / (double) (1 << b));
+    }
+  }
+
+  @Test
+  public void testIdentity()
+  {
+    Assert.assertEquals(
+      3 << 30, NFPQuaternion.packInt(0.0f, 0.0f, 0.0f, 1.0f, 10));
+    Assert.assertEquals(
+      3L << 60, NFPQuaternion.packLong(0.0f, 0.0f, 0.0f, -1.0f, 20));
+
+    final float[] rs = new float[4];
+    NFPQuaternion.unpackInt(3 << 30, 10, rs, 0);
+    Assert.assertArrayEquals(new float[]{0.0f, 0.0f, 0.0f, 1.0f}, rs, 0.0f);
+  }
+
+  @Test
+  public void testComponentsWithZero()
+  {
+    final int b = 9;
+    final float x = 0.5f;
+    final float y = -0.1f;
+    final float z = 0.7f;
+    final float w = (float) -Math.sqrt(1.0 - 0.25 - 0.01 - 0.49);
+
+    final int p = NFPQuaternion.packInt(x, y, z, w, b);
+    final float sqrt2 = (float) Math.sqrt(2.0);
+    Assert.assertEquals(2, p >>> 27);
+    Assert.assertEquals(
+      NFPSignedFloatInt.toSignedNormalizedWithZero(x * sqrt2, b),
+      (p << 23) >> 23);
+    Assert.assertEquals(
+      NFPSignedFloatInt.toSignedNormalizedWithZero(y * sqrt2, b),
+      (p << 14) >> 23);
+    Assert.assertEquals(
+      NFPSignedFloatInt.toSignedNormalizedWithZero(w * sqrt2, b),
+      (p << 5) >> 23);
+  }
+
+  @Test
+  public void testNegation()
+  {
+    final float[] qs = quaternions();
+    for (int index = 0; index < QUATERNIONS; ++index) {
+      final int i = index * 4;
+      Assert.assertEquals(
+        NFPQuaternion.packLong(qs[i], qs[i + 1], qs[i + 2], qs[i + 3], 16),
+        NFPQuaternion.packLong(
+          -qs[i], -qs[i + 1], -qs[i + 2], -qs[i + 3], 16));
+    }
+  }
+
+  @Test
+  public void testBulkInt()
+  {
+    final float[] qs = quaternions();
+    final int[] ps = new int[QUATERNIONS + 1];
+    NFPQuaternion.packInt(qs, 4, ps, 1, QUATERNIONS - 1, 10);
+    final float[] rs = new float[(QUATERNIONS * 4) + 4];
+    NFPQuaternion.unpackInt(ps, 1, rs, 4, QUATERNIONS - 1, 10);
+
+    final float[] ss = new float[4];
+    for (int index = 1; index < QUATERNIONS; ++index) {
+      final int i = index * 4;
+      final int p =
+        NFPQuaternion.packInt(qs[i], qs[i + 1], qs[i + 2], qs[i + 3], 10);
+      Assert.assertEquals(p, ps[index]);
+      NFPQuaternion.unpackInt(p, 10, ss, 0);
+      for (int c = 0; c < 4; ++c) {
+        Assert.assertEquals(ss[c], rs[i + c], 0.0f);
+      }
+    }
+  }
+
+  @Test
+  public void testBulkLong()
+  {
+    final float[] qs = quaternions();
+    final long[] ps = new long[QUATERNIONS + 1];
+    NFPQuaternion.packLong(qs, 4, ps, 1, QUATERNIONS - 1, 20);
+    final float[] rs = new float[(QUATERNIONS * 4) + 4];
+    NFPQuaternion.unpackLong(ps, 1, rs, 4, QUATERNIONS - 1, 20);
+
+    final float[] ss = new float[4];
+    for (int index = 1; index < QUATERNIONS; ++index) {
+      final int i = index * 4;
+      final long p =
+        NFPQuaternion.packLong(qs[i], qs[i + 1], qs[i + 2], qs[i + 3], 20);
+      Assert.assertEquals(p, ps[index]);
+      NFPQuaternion.unpackLong(p, 20, ss, 0);
+      for (int c = 0; c < 4; ++c) {
+        Assert.assertEquals(ss[c], rs[i + c], 0.0f);
+      }
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testIntBitsTooLarge()
+  {
+    NFPQuaternion.packInt(0.0f, 0.0f, 0.0f, 1.0f, 11);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testLongBitsTooLarge()
+  {
+    NFPQuaternion.unpackLong(0L, 21, new float[4], 0);
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class)
+  public void testBulkOutOfBounds()
+  {
+    NFPQuaternion.unpackInt(new int[2], 0, new float[7], 0, 2, 8);
+  }
+}
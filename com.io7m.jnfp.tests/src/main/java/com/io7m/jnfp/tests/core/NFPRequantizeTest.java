@@ -0,0 +1,141 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jnfp.tests.core;
+
+import com.io7m.jnfp.core.NFPRequantize;
+import com.io7m.jnfp.core.NFPSignedDoubleLong;
+import com.io7m.jnfp.core.NFPUnsignedDoubleLong;
+import org.junit.Assert;
+import org.junit.Test;
+
+public final class NFPRequantizeTest
+{
+  private static int[] unsignedValues(
+    final int b)
+  {
+    final int[] fs = new int[1 << b];
+    for (int index = 0; index < fs.length; ++index) {
+      fs[index] = index;
+    }
+    return fs;
+  }
+
+  private static int[] signedValues(
+    final int b)
+  {
+    final int[] fs = new int[1 << b];
+    for (int index = 0; index < fs.length; ++index) {
+      fs[index] = index - (fs.length >> 1);
+    }
+    return fs;
+  }
+
+  @Test public void testUnsignedExhaustive()
+  {
+    for (int b1 = 2; b1 <= 16; ++b1) {
+      final int[] fs = unsignedValues(b1);
+      final int[] ks = new int[fs.length];
+      for (int b2 = 2; b2 <= 24; ++b2) {
+        NFPRequantize.unsigned(fs, 0, ks, 0, fs.length, b1, b2);
+        for (int index = 0; index < fs.length; ++index) {
+          final long expected = NFPUnsignedDoubleLong.toUnsignedNormalized(
+            NFPUnsignedDoubleLong.fromUnsignedNormalized(fs[index], b1), b2);
+          Assert.assertEquals(
+            String.format("%d -> %d: %d", b1, b2, fs[index]),
+            expected,
+            (long) ks[index]);
+        }
+      }
+    }
+  }
+
+  @Test public void testSignedWithZeroExhaustive()
+  {
+    for (int b1 = 2; b1 <= 16; ++b1) {
+      final int[] fs = signedValues(b1);
+      final int[] ks = new int[fs.length];
+      for (int b2 = 2; b2 <= 24; ++b2) {
+        NFPRequantize.signedWithZero(fs, 0, ks, 0, fs.length, b1, b2);
+        for (int index = 0; index < fs.length; ++index) {
+          final long expected = NFPSignedDoubleLong.toSignedNormalizedWithZero(
+            NFPSignedDoubleLong.fromSignedNormalizedWithZero(fs[index], b1),
+            b2);
+          Assert.assertEquals(
+            String.format("%d -> %d: %d", b1, b2, fs[index]),
+            expected,
+            (long) ks[index]);
+        }
+      }
+    }
+  }
+
+  @Test public void testSignedWithoutZeroExhaustive()
+  {
+    for (int b1 = 2; b1 <= 16; ++b1) {
+      final int[] fs = signedValues(b1);
+      final int[] ks = new int[fs.length];
+      for (int b2 = 2; b2 <= 24; ++b2) {
+        NFPRequantize.signedWithoutZero(fs, 0, ks, 0, fs.length, b1, b2);
+        for (int index = 0; index < fs.length; ++index) {
+          final long expected =
+            NFPSignedDoubleLong.toSignedNormalizedWithoutZero(
+              NFPSignedDoubleLong.fromSignedNormalizedWithoutZero(
+                fs[index], b1),
+              b2);
+          Assert.assertEquals(
+            String.format("%d -> %d: %d", b1, b2, fs[index]),
+            expected,
+            (long) ks[index]);
+        }
+      }
+    }
+  }
+
+  @Test public void testInPlace()
+  {
+    final int[] fs = {0, 65535, 32768};
+    NFPRequantize.unsigned(fs, 0, fs, 0, fs.length, 16, 8);
+    Assert.assertArrayEquals(new int[]{0, 255, 127}, fs);
+  }
+
+  @Test public void testOverlappingForward()
+  {
+    final int[] fs = {255, 0, 0, 0};
+    NFPRequantize.unsigned(fs, 0, fs, 1, 3, 8, 16);
+    Assert.assertArrayEquals(new int[]{255, 65535, 0, 0}, fs);
+  }
+
+  @Test public void testOverlappingBackward()
+  {
+    final int[] fs = {0, 255, 0, 255};
+    NFPRequantize.unsigned(fs, 1, fs, 0, 3, 8, 16);
+    Assert.assertArrayEquals(new int[]{65535, 0, 65535, 255}, fs);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testBitsTooLarge()
+  {
+    NFPRequantize.unsigned(new int[1], 0, new int[1], 0, 1, 25, 8);
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class)
+  public void testOutOfBounds()
+  {
+    NFPRequantize.signedWithZero(new int[1], 0, new int[1], 0, 2, 8, 8);
+  }
+}
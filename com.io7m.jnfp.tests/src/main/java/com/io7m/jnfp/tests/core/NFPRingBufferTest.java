@@ -0,0 +1,234 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jnfp.tests.core;
+
+import com.io7m.jnfp.core.NFPRingBuffer;
+import com.io7m.jnfp.core.NFPSignedFloatInt;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicReference;
+
+public final class NFPRingBufferTest
+{
+  private static float expected(
+    final float x,
+    final int b)
+  {
+    return NFPSignedFloatInt.fromSignedNormalizedWithZero(
+      NFPSignedFloatInt.toSignedNormalizedWithZero(x, b), b);
+  }
+
+  private static float sample(
+    final long index)
+  {
+    return (float) Math.sin((double) index * 0.001);
+  }
+
+  @Test
+  public void testCapacity()
+  {
+    Assert.assertEquals(1, NFPRingBuffer.create(16, 1).capacity());
+    Assert.assertEquals(8, NFPRingBuffer.create(16, 5).capacity());
+    Assert.assertEquals(1024, NFPRingBuffer.create(24, 1024).capacity());
+    Assert.assertEquals(1024, NFPRingBuffer.create(24, 1000).capacity());
+    Assert.assertEquals(24, NFPRingBuffer.create(24, 1000).bits());
+  }
+
+  @Test
+  public void testInvalid()
+  {
+    Assert.assertThrows(
+      IllegalArgumentException.class, () -> NFPRingBuffer.create(1, 16));
+    Assert.assertThrows(
+      IllegalArgumentException.class, () -> NFPRingBuffer.create(33, 16));
+    Assert.assertThrows(
+      IllegalArgumentException.class, () -> NFPRingBuffer.create(16, 0));
+    Assert.assertThrows(
+      IllegalArgumentException.class,
+      () -> NFPRingBuffer.create(16, NFPRingBuffer.MAXIMUM_CAPACITY + 1));
+  }
+
+  @Test
+  public void testRoundTripMatchesScalar()
+  {
+    final Random random = new Random(0x5eedL);
+    for (final int b : new int[]{2, 8, 12, 16, 20, 24, 32}) {
+      final NFPRingBuffer buffer = NFPRingBuffer.create(b, 64);
+      final float[] input = new float[40];
+      final float[] output = new float[40];
+
+      for (int round = 0; round < 100; ++round) {
+        for (int index = 0; index < input.length; ++index) {
+          input[index] = (random.nextFloat() * 2.0f) - 1.0f;
+        }
+        input[0] = 1.0f;
+        input[1] = -1.0f;
+        input[2] = 0.0f;
+
+        Assert.assertEquals(40, buffer.write(input, 0, 40));
+        Assert.assertEquals(40, buffer.size());
+        Assert.assertEquals(40, buffer.read(output, 0, 40));
+        Assert.assertEquals(0, buffer.size());
+
+        for (int index = 0; index < input.length; ++index) {
+          Assert.assertEquals(
+            String.format("%d %f", b, input[index]),
+            expected(input[index], b),
+            output[index],
+            0.0f);
+        }
+      }
+    }
+  }
+
+  @Test
+  public void testClamped()
+  {
+    final NFPRingBuffer buffer = NFPRingBuffer.create(16, 4);
+    Assert.assertTrue(buffer.offer(1.5f));
+    Assert.assertTrue(buffer.offer(-7.0f));
+    Assert.assertTrue(buffer.offer(Float.POSITIVE_INFINITY));
+
+    final float[] output = new float[3];
+    Assert.assertEquals(3, buffer.read(output, 0, 3));
+    Assert.assertArrayEquals(new float[]{1.0f, -1.0f, 1.0f}, output, 0.0f);
+  }
+
+  @Test
+  public void testPoll()
+  {
+    final NFPRingBuffer buffer = NFPRingBuffer.create(24, 4);
+    Assert.assertTrue(Float.isNaN(buffer.poll()));
+
+    for (int round = 0; round < 10; ++round) {
+      Assert.assertTrue(buffer.offer(0.25f));
+      Assert.assertTrue(buffer.offer(-0.75f));
+      Assert.assertTrue(buffer.offer(Float.NaN));
+      Assert.assertEquals(expected(0.25f, 24), buffer.poll(), 0.0f);
+      Assert.assertEquals(expected(-0.75f, 24), buffer.poll(), 0.0f);
+      Assert.assertEquals(0.0f, buffer.poll(), 0.0f);
+      Assert.assertTrue(Float.isNaN(buffer.poll()));
+    }
+    Assert.assertEquals(0, buffer.size());
+  }
+
+  @Test
+  public void testFullEmpty()
+  {
+    final NFPRingBuffer buffer = NFPRingBuffer.create(24, 8);
+    final float[] input = new float[12];
+    final float[] output = new float[12];
+    for (int index = 0; index < input.length; ++index) {
+      input[index] = index / 16.0f;
+    }
+
+    Assert.assertEquals(0, buffer.read(output, 0, 12));
+    Assert.assertEquals(8, buffer.write(input, 0, 12));
+    Assert.assertFalse(buffer.offer(0.5f));
+    Assert.assertEquals(0, buffer.write(input, 8, 4));
+
+    Assert.assertEquals(5, buffer.read(output, 0, 5));
+    Assert.assertEquals(4, buffer.write(input, 8, 4));
+    Assert.assertTrue(buffer.offer(0.5f));
+    Assert.assertEquals(8, buffer.size());
+
+    Assert.assertEquals(7, buffer.read(output, 5, 7));
+    for (int index = 0; index < 12; ++index) {
+      Assert.assertEquals(expected(input[index], 24), output[index], 0.0f);
+    }
+    Assert.assertEquals(1, buffer.size());
+    Assert.assertEquals(1, buffer.read(output, 0, 12));
+    Assert.assertEquals(expected(0.5f, 24), output[0], 0.0f);
+    Assert.assertEquals(0, buffer.size());
+  }
+
+  @Test
+  public void testBounds()
+  {
+    final NFPRingBuffer buffer = NFPRingBuffer.create(16, 8);
+    Assert.assertThrows(
+      IndexOutOfBoundsException.class,
+      () -> buffer.write(new float[4], 2, 3));
+    Assert.assertThrows(
+      IndexOutOfBoundsException.class,
+      () -> buffer.read(new float[4], -1, 1));
+  }
+
+  @Test
+  public void testConcurrent()
+    throws Exception
+  {
+    for (final int b : new int[]{16, 24}) {
+      final NFPRingBuffer buffer = NFPRingBuffer.create(b, 256);
+      final long total = 500_000L;
+      final AtomicReference<Throwable> failure = new AtomicReference<>();
+
+      final Thread producer = new Thread(() -> {
+        final Random random = new Random(0x5eedL);
+        final float[] chunk = new float[97];
+        long written = 0L;
+        while (written < total) {
+          final int n = (int) Math.min(
+            1L + random.nextInt(chunk.length), total - written);
+          for (int index = 0; index < n; ++index) {
+            chunk[index] = sample(written + index);
+          }
+          int offset = 0;
+          while (offset < n) {
+            offset += buffer.write(chunk, offset, n - offset);
+            Thread.yield();
+          }
+          written += n;
+        }
+      });
+
+      final Thread consumer = new Thread(() -> {
+        final float[] chunk = new float[61];
+        long read = 0L;
+        while (read < total && failure.get() == null) {
+          final int n = buffer.read(chunk, 0, chunk.length);
+          for (int index = 0; index < n; ++index) {
+            final float e = expected(sample(read + index), b);
+            if (e != chunk[index]) {
+              failure.set(new AssertionError(
+                String.format(
+                  "Sample %d: expected %f, got %f",
+                  Long.valueOf(read + index),
+                  Float.valueOf(e),
+                  Float.valueOf(chunk[index]))));
+              return;
+            }
+          }
+          read += n;
+          Thread.yield();
+        }
+      });
+
+      producer.setDaemon(true);
+      consumer.start();
+      producer.start();
+      consumer.join(60_000L);
+      Assert.assertFalse(consumer.isAlive());
+      Assert.assertNull(failure.get());
+      producer.join(60_000L);
+      Assert.assertEquals(0, buffer.size());
+    }
+  }
+}
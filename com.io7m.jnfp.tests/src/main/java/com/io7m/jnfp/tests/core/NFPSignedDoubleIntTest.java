@@ -74,4 +74,61 @@ public final class NFPSignedDoubleIntTest
       Assert.assertEquals(0.0, f0, 0.0);
     }
   }
+
+  @Test public void testBulkWithoutZero()
+  {
+    for (int e = 2; e <= 32; ++e) {
+      final double[] xs = new double[101];
+      for (int index = 0; index < xs.length; ++index) {
+        xs[index] = -1.0 + ((double) index / 50.0);
+      }
+
+      final int[] ks = new int[xs.length + 2];
+      NFPSignedDoubleInt.toSignedNormalizedWithoutZero(xs, 0, ks, 1, xs.length, e);
+
+      final double[] ys = new double[xs.length];
+      NFPSignedDoubleInt.fromSignedNormalizedWithoutZero(ks, 1, ys, 0, xs.length, e);
+
+      for (int index = 0; index < xs.length; ++index) {
+        final int k = NFPSignedDoubleInt.toSignedNormalizedWithoutZero(xs[index], e);
+        Assert.assertEquals((long) k, (long) ks[index + 1]);
+        Assert.assertEquals(
+          (double) NFPSignedDoubleInt.fromSignedNormalizedWithoutZero(k, e),
+          (double) ys[index],
+          0.0);
+      }
+    }
+  }
+
+  @Test public void testBulkWithZero()
+  {
+    for (int e = 2; e <= 32; ++e) {
+      final double[] xs = new double[101];
+      for (int index = 0; index < xs.length; ++index) {
+        xs[index] = -1.0 + ((double) index / 50.0);
+      }
+
+      final int[] ks = new int[xs.length + 2];
+      NFPSignedDoubleInt.toSignedNormalizedWithZero(xs, 0, ks, 1, xs.length, e);
+
+      final double[] ys = new double[xs.length];
+      NFPSignedDoubleInt.fromSignedNormalizedWithZero(ks, 1, ys, 0, xs.length, e);
+
+      for (int index = 0; index < xs.length; ++index) {
+        final int k = NFPSignedDoubleInt.toSignedNormalizedWithZero(xs[index], e);
+        Assert.assertEquals((long) k, (long) ks[index + 1]);
+        Assert.assertEquals(
+          (double) NFPSignedDoubleInt.fromSignedNormalizedWithZero(k, e),
+          (double) ys[index],
+          0.0);
+      }
+    }
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class)
+  public void testBulkOutOfBounds()
+  {
+    NFPSignedDoubleInt.toSignedNormalizedWithZero(
+      new double[4], 0, new int[4], 2, 4, 8);
+  }
 }
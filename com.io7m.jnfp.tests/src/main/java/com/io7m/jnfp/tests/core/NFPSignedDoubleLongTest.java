@@ -76,4 +76,61 @@ public final class NFPSignedDoubleLongTest
       Assert.assertEquals(0.0, f0, 0.0);
     }
   }
+
+  @Test public void testBulkWithoutZero()
+  {
+    for (int e = 2; e <= 64; ++e) {
+      final double[] xs = new double[101];
+      for (int index = 0; index < xs.length; ++index) {
+        xs[index] = -1.0 + ((double) index / 50.0);
+      }
+
+      final long[] ks = new long[xs.length + 2];
+      NFPSignedDoubleLong.toSignedNormalizedWithoutZero(xs, 0, ks, 1, xs.length, e);
+
+      final double[] ys = new double[xs.length];
+      NFPSignedDoubleLong.fromSignedNormalizedWithoutZero(ks, 1, ys, 0, xs.length, e);
+
+      for (int index = 0; index < xs.length; ++index) {
+        final long k = NFPSignedDoubleLong.toSignedNormalizedWithoutZero(xs[index], e);
+        Assert.assertEquals(k, ks[index + 1]);
+        Assert.assertEquals(
+          (double) NFPSignedDoubleLong.fromSignedNormalizedWithoutZero(k, e),
+          (double) ys[index],
+          0.0);
+      }
+    }
+  }
+
+  @Test public void testBulkWithZero()
+  {
+    for (int e = 2; e <= 64; ++e) {
+      final double[] xs = new double[101];
+      for (int index = 0; index < xs.length; ++index) {
+        xs[index] = -1.0 + ((double) index / 50.0);
+      }
+
+      final long[] ks = new long[xs.length + 2];
+      NFPSignedDoubleLong.toSignedNormalizedWithZero(xs, 0, ks, 1, xs.length, e);
+
+      final double[] ys = new double[xs.length];
+      NFPSignedDoubleLong.fromSignedNormalizedWithZero(ks, 1, ys, 0, xs.length, e);
+
+      for (int index = 0; index < xs.length; ++index) {
+        final long k = NFPSignedDoubleLong.toSignedNormalizedWithZero(xs[index], e);
+        Assert.assertEquals(k, ks[index + 1]);
+        Assert.assertEquals(
+          (double) NFPSignedDoubleLong.fromSignedNormalizedWithZero(k, e),
+          (double) ys[index],
+          0.0);
+      }
+    }
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class)
+  public void testBulkOutOfBounds()
+  {
+    NFPSignedDoubleLong.toSignedNormalizedWithZero(
+      new double[4], 0, new long[4], 2, 4, 8);
+  }
 }
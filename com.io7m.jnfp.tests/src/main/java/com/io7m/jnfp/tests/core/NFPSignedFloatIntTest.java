@@ -72,4 +72,145 @@ public final class NFPSignedFloatIntTest
       Assert.assertEquals(0.0, f0, 0.0);
     }
   }
+
+  @Test public void testBulkWithoutZero()
+  {
+    for (int e = 2; e <= 32; ++e) {
+      final float[] xs = new float[101];
+      for (int index = 0; index < xs.length; ++index) {
+        xs[index] = -1.0f + ((float) index / 50.0f);
+      }
+
+      final int[] ks = new int[xs.length + 2];
+      NFPSignedFloatInt.toSignedNormalizedWithoutZero(xs, 0, ks, 1, xs.length, e);
+
+      final float[] ys = new float[xs.length];
+      NFPSignedFloatInt.fromSignedNormalizedWithoutZero(ks, 1, ys, 0, xs.length, e);
+
+      for (int index = 0; index < xs.length; ++index) {
+        final int k = NFPSignedFloatInt.toSignedNormalizedWithoutZero(xs[index], e);
+        Assert.assertEquals((long) k, (long) ks[index + 1]);
+        Assert.assertEquals(
+          (double) NFPSignedFloatInt.fromSignedNormalizedWithoutZero(k, e),
+          (double) ys[index],
+          0.0);
+      }
+    }
+  }
+
+  @Test public void testBulkWithZero()
+  {
+    for (int e = 2; e <= 32; ++e) {
+      final float[] xs = new float[101];
+      for (int index = 0; index < xs.length; ++index) {
+        xs[index] = -1.0f + ((float) index / 50.0f);
+      }
+
+      final int[] ks = new int[xs.length + 2];
+      NFPSignedFloatInt.toSignedNormalizedWithZero(xs, 0, ks, 1, xs.length, e);
+
+      final float[] ys = new float[xs.length];
+      NFPSignedFloatInt.fromSignedNormalizedWithZero(ks, 1, ys, 0, xs.length, e);
+
+      for (int index = 0; index < xs.length; ++index) {
+        final int k = NFPSignedFloatInt.toSignedNormalizedWithZero(xs[index], e);
+        Assert.assertEquals((long) k, (long) ks[index + 1]);
+        Assert.assertEquals(
+          (double) NFPSignedFloatInt.fromSignedNormalizedWithZero(k, e),
+          (double) ys[index],
+          0.0);
+      }
+    }
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class)
+  public void testBulkOutOfBounds()
+  {
+    NFPSignedFloatInt.toSignedNormalizedWithZero(
+      new float[4], 0, new int[4], 2, 4, 8);
+  }
+
+  @Test public void testNarrowArraysExhaustive()
+  {
+    for (int e = 2; e <= 16; ++e) {
+      final int size = 1 << e;
+      final int first = -(size >> 1);
+      final short[] k16 = new short[size];
+      final byte[] k8 = new byte[size];
+      for (int index = 0; index < size; ++index) {
+        k16[index] = (short) (first + index);
+        k8[index] = (byte) (first + index);
+      }
+
+      final float[] yw16 = new float[size];
+      final float[] yo16 = new float[size];
+      NFPSignedFloatInt.fromSignedNormalizedWithZero(
+        k16, 0, yw16, 0, size, e);
+      NFPSignedFloatInt.fromSignedNormalizedWithoutZero(
+        k16, 0, yo16, 0, size, e);
+
+      final float[] yw8 = new float[size];
+      final float[] yo8 = new float[size];
+      if (e <= 8) {
+        NFPSignedFloatInt.fromSignedNormalizedWithZero(
+          k8, 0, yw8, 0, size, e);
+        NFPSignedFloatInt.fromSignedNormalizedWithoutZero(
+          k8, 0, yo8, 0, size, e);
+      }
+
+      final short[] rw16 = new short[size];
+      final short[] ro16 = new short[size];
+      NFPSignedFloatInt.toSignedNormalizedWithZero(
+        yw16, 0, rw16, 0, size, e);
+      NFPSignedFloatInt.toSignedNormalizedWithoutZero(
+        yo16, 0, ro16, 0, size, e);
+
+      final byte[] rw8 = new byte[size];
+      final byte[] ro8 = new byte[size];
+      if (e <= 8) {
+        NFPSignedFloatInt.toSignedNormalizedWithZero(
+          yw8, 0, rw8, 0, size, e);
+        NFPSignedFloatInt.toSignedNormalizedWithoutZero(
+          yo8, 0, ro8, 0, size, e);
+      }
+
+      for (int index = 0; index < size; ++index) {
+        final int k = first + index;
+        final float ew = NFPSignedFloatInt.fromSignedNormalizedWithZero(k, e);
+        final float eo =
+          NFPSignedFloatInt.fromSignedNormalizedWithoutZero(k, e);
+        final int kw = NFPSignedFloatInt.toSignedNormalizedWithZero(ew, e);
+        final int ko = NFPSignedFloatInt.toSignedNormalizedWithoutZero(eo, e);
+
+        Assert.assertEquals((double) ew, (double) yw16[index], 0.0);
+        Assert.assertEquals((double) eo, (double) yo16[index], 0.0);
+        Assert.assertEquals((long) kw, (long) rw16[index]);
+        Assert.assertEquals((long) ko, (long) ro16[index]);
+        if (e <= 8) {
+          Assert.assertEquals((double) ew, (double) yw8[index], 0.0);
+          Assert.assertEquals((double) eo, (double) yo8[index], 0.0);
+          Assert.assertEquals((long) kw, (long) rw8[index]);
+          Assert.assertEquals((long) ko, (long) ro8[index]);
+        }
+      }
+    }
+  }
+
+  @Test public void testNarrowSignExtension()
+  {
+    final float[] ys = new float[1];
+    NFPSignedFloatInt.fromSignedNormalizedWithZero(
+      new byte[]{(byte) 0x0f}, 0, ys, 0, 1, 4);
+    Assert.assertEquals(
+      (double) NFPSignedFloatInt.fromSignedNormalizedWithZero(-1, 4),
+      (double) ys[0],
+      0.0);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testNarrowBitsTooLarge()
+  {
+    NFPSignedFloatInt.toSignedNormalizedWithZero(
+      new float[1], 0, new short[1], 0, 1, 17);
+  }
 }
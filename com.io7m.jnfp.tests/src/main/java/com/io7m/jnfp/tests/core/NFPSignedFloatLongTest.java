@@ -77,4 +77,60 @@ public final class NFPSignedFloatLongTest
     }
   }
 
+  @Test public void testBulkWithoutZero()
+  {
+    for (int e = 2; e <= 64; ++e) {
+      final float[] xs = new float[101];
+      for (int index = 0; index < xs.length; ++index) {
+        xs[index] = -1.0f + ((float) index / 50.0f);
+      }
+
+      final long[] ks = new long[xs.length + 2];
+      NFPSignedFloatLong.toSignedNormalizedWithoutZero(xs, 0, ks, 1, xs.length, e);
+
+      final float[] ys = new float[xs.length];
+      NFPSignedFloatLong.fromSignedNormalizedWithoutZero(ks, 1, ys, 0, xs.length, e);
+
+      for (int index = 0; index < xs.length; ++index) {
+        final long k = NFPSignedFloatLong.toSignedNormalizedWithoutZero(xs[index], e);
+        Assert.assertEquals(k, ks[index + 1]);
+        Assert.assertEquals(
+          (double) NFPSignedFloatLong.fromSignedNormalizedWithoutZero(k, e),
+          (double) ys[index],
+          0.0);
+      }
+    }
+  }
+
+  @Test public void testBulkWithZero()
+  {
+    for (int e = 2; e <= 64; ++e) {
+      final float[] xs = new float[101];
+      for (int index = 0; index < xs.length; ++index) {
+        xs[index] = -1.0f + ((float) index / 50.0f);
+      }
+
+      final long[] ks = new long[xs.length + 2];
+      NFPSignedFloatLong.toSignedNormalizedWithZero(xs, 0, ks, 1, xs.length, e);
+
+      final float[] ys = new float[xs.length];
+      NFPSignedFloatLong.fromSignedNormalizedWithZero(ks, 1, ys, 0, xs.length, e);
+
+      for (int index = 0; index < xs.length; ++index) {
+        final long k = NFPSignedFloatLong.toSignedNormalizedWithZero(xs[index], e);
+        Assert.assertEquals(k, ks[index + 1]);
+        Assert.assertEquals(
+          (double) NFPSignedFloatLong.fromSignedNormalizedWithZero(k, e),
+          (double) ys[index],
+          0.0);
+      }
+    }
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class)
+  public void testBulkOutOfBounds()
+  {
+    NFPSignedFloatLong.toSignedNormalizedWithZero(
+      new float[4], 0, new long[4], 2, 4, 8);
+  }
 }
@@ -0,0 +1,260 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jnfp.tests.core;
+
+import com.io7m.jnfp.core.NFPBuffers;
+import com.io7m.jnfp.core.NFPCodec;
+import com.io7m.jnfp.core.NFPRepresentation;
+import com.io7m.jnfp.core.NFPStreams;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.util.Random;
+
+public final class NFPStreamsTest
+{
+  private static final ByteOrder[] ORDERS = {
+    ByteOrder.LITTLE_ENDIAN,
+    ByteOrder.BIG_ENDIAN,
+  };
+
+  private static final int COUNT = (NFPStreams.BLOCK_VALUES * 2) + 1001;
+
+  /**
+   * A channel that returns at most seven bytes per read, so that samples
+   * are split across reads.
+   */
+
+  private static final class TrickleChannel implements ReadableByteChannel
+  {
+    private final ByteBuffer data;
+
+    TrickleChannel(
+      final byte[] inData)
+    {
+      this.data = ByteBuffer.wrap(inData);
+    }
+
+    @Override
+    public int read(
+      final ByteBuffer dst)
+    {
+      if (!this.data.hasRemaining()) {
+        return -1;
+      }
+      final int n = Math.min(
+        7, Math.min(dst.remaining(), this.data.remaining()));
+      final ByteBuffer slice = this.data.slice().limit(n);
+      dst.put(slice);
+      this.data.position(this.data.position() + n);
+      return n;
+    }
+
+    @Override
+    public boolean isOpen()
+    {
+      return true;
+    }
+
+    @Override
+    public void close()
+    {
+
+    }
+  }
+
+  private static double[] samples(
+    final NFPRepresentation r,
+    final int count)
+  {
+    final Random random = new Random(0x5eedL);
+    final double lower = r.isSigned() ? -1.0 : 0.0;
+    final double[] values = new double[count];
+    for (int index = 0; index < count; ++index) {
+      values[index] = lower + random.nextDouble() * (1.0 - lower);
+    }
+    return values;
+  }
+
+  @Test
+  public void testEncodeDoubleMatchesBuffers()
+    throws IOException
+  {
+    for (final NFPRepresentation r : NFPRepresentation.values()) {
+      for (final int b : new int[]{8, 16, 24, 40, 64}) {
+        for (final ByteOrder so : ORDERS) {
+          for (final ByteOrder to : ORDERS) {
+            final NFPCodec codec = NFPCodec.of(r, b);
+            final double[] values = samples(r, COUNT);
+
+            final ByteBuffer input =
+              ByteBuffer.allocate(COUNT * Double.BYTES).order(so);
+            input.asDoubleBuffer().put(values);
+
+            final ByteBuffer expected = ByteBuffer.allocate(
+              COUNT * NFPBuffers.byteWidth(codec)).order(to);
+            NFPBuffers.encode(
+              codec, ByteBuffer.wrap(input.array()).order(so)
+                .asDoubleBuffer(), expected);
+
+            final ByteArrayOutputStream output = new ByteArrayOutputStream();
+            final long n = NFPStreams.encode(
+              codec, new TrickleChannel(input.array()), so,
+              Channels.newChannel(output), to);
+
+            Assert.assertEquals(COUNT, n);
+            Assert.assertArrayEquals(expected.array(), output.toByteArray());
+          }
+        }
+      }
+    }
+  }
+
+  @Test
+  public void testFloatRoundTrip()
+    throws IOException
+  {
+    for (final NFPRepresentation r : NFPRepresentation.values()) {
+      for (final int b : new int[]{8, 12, 16, 24, 32}) {
+        for (final ByteOrder so : ORDERS) {
+          for (final ByteOrder to : ORDERS) {
+            final NFPCodec codec = NFPCodec.of(r, b);
+            final double[] values = samples(r, COUNT);
+
+            final ByteBuffer input =
+              ByteBuffer.allocate(COUNT * Float.BYTES).order(so);
+            for (final double value : values) {
+              input.putFloat((float) value);
+            }
+
+            final ByteArrayOutputStream encoded = new ByteArrayOutputStream();
+            Assert.assertEquals(
+              COUNT,
+              NFPStreams.encodeFloat(
+                codec, new ByteArrayInputStream(input.array()), so,
+                encoded, to));
+
+            final ByteBuffer fixed =
+              ByteBuffer.wrap(encoded.toByteArray()).order(to);
+            Assert.assertEquals(
+              (long) COUNT * NFPBuffers.byteWidth(codec),
+              fixed.capacity());
+
+            final ByteArrayOutputStream decoded = new ByteArrayOutputStream();
+            Assert.assertEquals(
+              COUNT,
+              NFPStreams.decodeFloat(
+                codec, new TrickleChannel(encoded.toByteArray()), to,
+                Channels.newChannel(decoded), so));
+
+            final ByteBuffer result =
+              ByteBuffer.wrap(decoded.toByteArray()).order(so);
+            for (int index = 0; index < COUNT; ++index) {
+              final float x = input.getFloat(index * Float.BYTES);
+              Assert.assertEquals(
+                String.format("%s %d", codec, index),
+                codec.decodeFloat(codec.encodeFloat(x)),
+                result.getFloat(index * Float.BYTES),
+                0.0f);
+            }
+          }
+        }
+      }
+    }
+  }
+
+  @Test
+  public void testDoubleDecodeMatchesBuffers()
+    throws IOException
+  {
+    final NFPCodec codec = NFPCodec.signedWithZero(16);
+    final Random random = new Random(0x5eedL);
+    final byte[] data = new byte[COUNT * 2];
+    random.nextBytes(data);
+
+    final ByteBuffer expected =
+      ByteBuffer.allocate(COUNT * Double.BYTES).order(ByteOrder.BIG_ENDIAN);
+    NFPBuffers.decode(
+      codec,
+      ByteBuffer.wrap(data).order(ByteOrder.LITTLE_ENDIAN),
+      expected.asDoubleBuffer());
+
+    final ByteArrayOutputStream output = new ByteArrayOutputStream();
+    Assert.assertEquals(
+      COUNT,
+      NFPStreams.decode(
+        codec, new ByteArrayInputStream(data), ByteOrder.LITTLE_ENDIAN,
+        output, ByteOrder.BIG_ENDIAN));
+    Assert.assertArrayEquals(expected.array(), output.toByteArray());
+  }
+
+  @Test
+  public void testEmpty()
+    throws IOException
+  {
+    final ByteArrayOutputStream output = new ByteArrayOutputStream();
+    Assert.assertEquals(
+      0L,
+      NFPStreams.encode(
+        NFPCodec.unsigned(8), new ByteArrayInputStream(new byte[0]),
+        ByteOrder.LITTLE_ENDIAN, output, ByteOrder.LITTLE_ENDIAN));
+    Assert.assertEquals(0, output.size());
+  }
+
+  @Test
+  public void testTruncated()
+  {
+    Assert.assertThrows(
+      EOFException.class,
+      () -> NFPStreams.encodeFloat(
+        NFPCodec.unsigned(8), new ByteArrayInputStream(new byte[4097]),
+        ByteOrder.LITTLE_ENDIAN, new ByteArrayOutputStream(),
+        ByteOrder.LITTLE_ENDIAN));
+    Assert.assertThrows(
+      EOFException.class,
+      () -> NFPStreams.decode(
+        NFPCodec.unsigned(24), new ByteArrayInputStream(new byte[100]),
+        ByteOrder.LITTLE_ENDIAN, new ByteArrayOutputStream(),
+        ByteOrder.LITTLE_ENDIAN));
+  }
+
+  @Test
+  public void testFloatBitsOutOfRange()
+  {
+    Assert.assertThrows(
+      IllegalArgumentException.class,
+      () -> NFPStreams.encodeFloat(
+        NFPCodec.unsigned(33), new ByteArrayInputStream(new byte[0]),
+        ByteOrder.LITTLE_ENDIAN, new ByteArrayOutputStream(),
+        ByteOrder.LITTLE_ENDIAN));
+    Assert.assertThrows(
+      IllegalArgumentException.class,
+      () -> NFPStreams.decodeFloat(
+        NFPCodec.unsigned(33), new ByteArrayInputStream(new byte[0]),
+        ByteOrder.LITTLE_ENDIAN, new ByteArrayOutputStream(),
+        ByteOrder.LITTLE_ENDIAN));
+  }
+}
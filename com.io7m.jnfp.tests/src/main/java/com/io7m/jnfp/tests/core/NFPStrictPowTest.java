@@ -0,0 +1,159 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jnfp.tests.core;
+
+import com.io7m.jnfp.core.NFPSignedDoubleInt;
+import com.io7m.jnfp.core.NFPSignedDoubleLong;
+import com.io7m.jnfp.core.NFPSignedFloatInt;
+import com.io7m.jnfp.core.NFPSignedFloatLong;
+import com.io7m.jnfp.core.NFPUnsignedDoubleInt;
+import com.io7m.jnfp.core.NFPUnsignedDoubleLong;
+import com.io7m.jnfp.core.NFPUnsignedFloatInt;
+import com.io7m.jnfp.core.NFPUnsignedFloatLong;
+import com.io7m.junsigned.core.UnsignedDouble;
+import com.io7m.junsigned.core.UnsignedFloat;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Check that the conversion functions produce exactly the same results as
+ * the original implementations that used {@code StrictMath.pow}.
+ */
+
+public final class NFPStrictPowTest
+{
+  private static final double[] VALUES = {
+    -1.0, -0.75, -0.5, -0.333, -0.1, 0.0, 0.1, 0.25, 0.333, 0.5, 0.9, 1.0,
+  };
+
+  private static double twoPow(
+    final int b)
+  {
+    return StrictMath.pow(2.0, (double) b);
+  }
+
+  @Test public void testSigned()
+  {
+    for (int e = 2; e <= 64; ++e) {
+      final double twobm1 = twoPow(e) - 1.0;
+      final double twobm1m1 = twoPow(e - 1) - 1.0;
+      final float twobm1f = (float) twobm1;
+      final float twobm1m1f = (float) twobm1m1;
+      final float twobm1fl = (float) twoPow(e) - 1.0f;
+      final float twobm1m1fl = (float) twoPow(e - 1) - 1.0f;
+
+      for (final double x : VALUES) {
+        final float xf = (float) x;
+
+        Assert.assertEquals(
+          (long) (((x * twobm1) - 1.0) / 2.0),
+          NFPSignedDoubleLong.toSignedNormalizedWithoutZero(x, e));
+        Assert.assertEquals(
+          (long) (x * twobm1m1),
+          NFPSignedDoubleLong.toSignedNormalizedWithZero(x, e));
+        Assert.assertEquals(
+          (long) (((xf * twobm1fl) - 1.0f) / 2.0f),
+          NFPSignedFloatLong.toSignedNormalizedWithoutZero(xf, e));
+        Assert.assertEquals(
+          (long) (xf * twobm1m1fl),
+          NFPSignedFloatLong.toSignedNormalizedWithZero(xf, e));
+
+        final long k = (long) (x * twobm1m1);
+        Assert.assertEquals(
+          ((2.0 * (double) k) + 1.0) / twobm1,
+          NFPSignedDoubleLong.fromSignedNormalizedWithoutZero(k, e),
+          0.0);
+        Assert.assertEquals(
+          Math.max(-1.0, (double) k / twobm1m1),
+          NFPSignedDoubleLong.fromSignedNormalizedWithZero(k, e),
+          0.0);
+        Assert.assertEquals(
+          ((2.0f * (float) k) + 1.0f) / twobm1fl,
+          NFPSignedFloatLong.fromSignedNormalizedWithoutZero(k, e),
+          0.0f);
+        Assert.assertEquals(
+          Math.max(-1.0f, (float) k / twobm1m1fl),
+          NFPSignedFloatLong.fromSignedNormalizedWithZero(k, e),
+          0.0f);
+
+        if (e <= 32) {
+          final int ki = (int) (x * twobm1m1);
+          Assert.assertEquals(
+            (long) (int) (((x * twobm1) - 1.0) / 2.0),
+            (long) NFPSignedDoubleInt.toSignedNormalizedWithoutZero(x, e));
+          Assert.assertEquals(
+            (long) (int) (xf * twobm1m1f),
+            (long) NFPSignedFloatInt.toSignedNormalizedWithZero(xf, e));
+          Assert.assertEquals(
+            ((2.0f * (float) ki) + 1.0f) / twobm1f,
+            NFPSignedFloatInt.fromSignedNormalizedWithoutZero(ki, e),
+            0.0f);
+          Assert.assertEquals(
+            Math.max(-1.0, (double) ki / twobm1m1),
+            NFPSignedDoubleInt.fromSignedNormalizedWithZero(ki, e),
+            0.0);
+        }
+      }
+    }
+  }
+
+  @Test public void testUnsigned()
+  {
+    for (int e = 2; e <= 64; ++e) {
+      final double twobm1 = twoPow(e) - 1.0;
+
+      for (final double v : VALUES) {
+        final double x = Math.abs(v);
+        final float xf = (float) x;
+
+        final long k = UnsignedDouble.toUnsignedLong(x * twobm1);
+        Assert.assertEquals(
+          k, NFPUnsignedDoubleLong.toUnsignedNormalized(x, e));
+        Assert.assertEquals(
+          UnsignedFloat.toUnsignedLong(xf * (float) twobm1),
+          NFPUnsignedFloatLong.toUnsignedNormalized(xf, e));
+        Assert.assertEquals(
+          UnsignedDouble.fromUnsignedLong(k) / twobm1,
+          NFPUnsignedDoubleLong.fromUnsignedNormalized(k, e),
+          0.0);
+        Assert.assertEquals(
+          UnsignedFloat.fromUnsignedLong(k) / (float) twobm1,
+          NFPUnsignedFloatLong.fromUnsignedNormalized(k, e),
+          0.0f);
+
+        if (e <= 32) {
+          final int ki = UnsignedDouble.toUnsignedInt(x * twobm1);
+          Assert.assertEquals(
+            (long) ki,
+            (long) NFPUnsignedDoubleInt.toUnsignedNormalized(x, e));
+          Assert.assertEquals(
+            (long) UnsignedFloat.toUnsignedInt(xf * (float) twobm1),
+            (long) NFPUnsignedFloatInt.toUnsignedNormalized(xf, e));
+          Assert.assertEquals(
+            UnsignedDouble.fromUnsignedInt(ki) / twobm1,
+            NFPUnsignedDoubleInt.fromUnsignedNormalized(ki, e),
+            0.0);
+          Assert.assertEquals(
+            UnsignedFloat.fromUnsignedInt(ki) / (float) twobm1,
+            NFPUnsignedFloatInt.fromUnsignedNormalized(ki, e),
+            0.0f);
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jnfp.tests.core;
+
+import com.io7m.jnfp.core.NFPCodec;
+import com.io7m.jnfp.core.NFPRepresentation;
+import com.io7m.jnfp.core.NFPTranscode;
+import org.junit.Assert;
+import org.junit.Test;
+
+public final class NFPTranscodeTest
+{
+  private static int[] values(
+    final NFPCodec codec)
+  {
+    final int[] fs = new int[1 << codec.bits()];
+    final int first =
+      codec.representation().isSigned() ? -(fs.length >> 1) : 0;
+    for (int index = 0; index < fs.length; ++index) {
+      fs[index] = first + index;
+    }
+    return fs;
+  }
+
+  @Test public void testExhaustive()
+  {
+    for (final NFPRepresentation r1 : NFPRepresentation.values()) {
+      for (final NFPRepresentation r2 : NFPRepresentation.values()) {
+        for (int b1 = 2; b1 <= 14; ++b1) {
+          final NFPCodec c1 = NFPCodec.of(r1, b1);
+          final int[] fs = values(c1);
+          final int[] ks = new int[fs.length];
+
+          for (final int b2 : new int[]{2, 3, 8, 10, 16, 24}) {
+            final NFPCodec c2 = NFPCodec.of(r2, b2);
+            NFPTranscode.transcode(c1, fs, 0, c2, ks, 0, fs.length);
+
+            for (int index = 0; index < fs.length; ++index) {
+              long expected = c2.encode(c1.decode((long) fs[index]));
+              if (r2 == NFPRepresentation.UNSIGNED) {
+                expected = Math.max(0L, expected);
+              }
+              Assert.assertEquals(
+                String.format("%s -> %s: %d", c1, c2, fs[index]),
+                expected,
+                (long) ks[index]);
+            }
+          }
+        }
+      }
+    }
+  }
+
+  @Test public void testSignedToUnsignedClamps()
+  {
+    final int[] ks = new int[3];
+    NFPTranscode.transcode(
+      NFPCodec.signedWithZero(8),
+      new int[]{-128, 0, 127},
+      0,
+      NFPCodec.unsigned(8),
+      ks,
+      0,
+      3);
+    Assert.assertArrayEquals(new int[]{0, 0, 255}, ks);
+  }
+
+  @Test public void testWithoutZeroToWithZero()
+  {
+    final int[] fs = values(NFPCodec.signedWithoutZero(8));
+    final int[] ks = new int[fs.length];
+    NFPTranscode.withoutZeroToWithZero(fs, 0, ks, 0, fs.length, 8);
+
+    final NFPCodec c1 = NFPCodec.signedWithoutZero(8);
+    final NFPCodec c2 = NFPCodec.signedWithZero(8);
+    for (int index = 0; index < fs.length; ++index) {
+      Assert.assertEquals(
+        c2.encode(c1.decode((long) fs[index])), (long) ks[index]);
+    }
+    Assert.assertEquals(-127L, (long) ks[0]);
+    Assert.assertEquals(127L, (long) ks[fs.length - 1]);
+  }
+
+  @Test public void testWithZeroToWithoutZeroInPlace()
+  {
+    final int[] fs = values(NFPCodec.signedWithZero(10));
+    final int[] expected = new int[fs.length];
+    final NFPCodec c1 = NFPCodec.signedWithZero(10);
+    final NFPCodec c2 = NFPCodec.signedWithoutZero(10);
+    for (int index = 0; index < fs.length; ++index) {
+      expected[index] = (int) c2.encode(c1.decode((long) fs[index]));
+    }
+
+    NFPTranscode.withZeroToWithoutZero(fs, 0, fs, 0, fs.length, 10);
+    Assert.assertArrayEquals(expected, fs);
+  }
+
+  @Test public void testOverlapping()
+  {
+    final NFPCodec c1 = NFPCodec.signedWithZero(8);
+    final NFPCodec c2 = NFPCodec.unsigned(16);
+    final int[] original = {127, -127, 0, 64, -64, 1};
+
+    final int[] expected = new int[original.length - 1];
+    for (int index = 0; index < expected.length; ++index) {
+      expected[index] = Math.max(
+        0, (int) c2.encode(c1.decode((long) original[index])));
+    }
+
+    final int[] forward = original.clone();
+    NFPTranscode.transcode(
+      c1, forward, 0, c2, forward, 1, forward.length - 1);
+    Assert.assertEquals(original[0], forward[0]);
+    for (int index = 0; index < expected.length; ++index) {
+      Assert.assertEquals(expected[index], forward[index + 1]);
+    }
+
+    final int[] inPlace = original.clone();
+    NFPTranscode.transcode(
+      c1, inPlace, 0, c2, inPlace, 0, inPlace.length);
+    Assert.assertEquals(expected[0], inPlace[0]);
+
+    final int[] shifted = original.clone();
+    NFPTranscode.transcode(
+      c1, shifted, 1, c2, shifted, 0, shifted.length - 1);
+    for (int index = 0; index < expected.length; ++index) {
+      Assert.assertEquals(
+        Math.max(0, (int) c2.encode(c1.decode((long) original[index + 1]))),
+        shifted[index]);
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testBitsTooLarge()
+  {
+    NFPTranscode.transcode(
+      NFPCodec.unsigned(32),
+      new int[1],
+      0,
+      NFPCodec.unsigned(8),
+      new int[1],
+      0,
+      1);
+  }
+}
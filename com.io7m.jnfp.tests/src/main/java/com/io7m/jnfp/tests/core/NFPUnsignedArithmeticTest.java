@@ -0,0 +1,239 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jnfp.tests.core;
+
+import com.io7m.jnfp.core.NFPUnsignedArithmetic;
+import com.io7m.jnfp.core.NFPUnsignedFloatInt;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Random;
+
+public final class NFPUnsignedArithmeticTest
+{
+  private static float from(
+    final int x,
+    final int b)
+  {
+    return NFPUnsignedFloatInt.fromUnsignedNormalized(x, b);
+  }
+
+  private static int to(
+    final float x,
+    final int b)
+  {
+    return NFPUnsignedFloatInt.toUnsignedNormalized(x, b);
+  }
+
+  private static int[] values(
+    final int count,
+    final int b)
+  {
+    final Random random = new Random(0x5eedL);
+    final int[] xs = new int[count];
+    for (int index = 0; index < count; ++index) {
+      xs[index] = random.nextInt(1 << b);
+    }
+    return xs;
+  }
+
+  @Test
+  public void testMultiplyExhaustive()
+  {
+    for (int b = 2; b <= 10; ++b) {
+      final int m = (1 << b) - 1;
+      for (int x = 0; x <= m; ++x) {
+        for (int y = 0; y <= m; ++y) {
+          Assert.assertEquals(
+            to(from(x, b) * from(y, b), b),
+            NFPUnsignedArithmetic.multiply(x, y, b));
+          Assert.assertEquals(
+            NFPUnsignedArithmetic.multiply(x, y, b),
+            NFPUnsignedArithmetic.premultiply(x, y, b));
+        }
+      }
+    }
+  }
+
+  @Test
+  public void testAddSaturatedExhaustive()
+  {
+    for (int b = 2; b <= 10; ++b) {
+      final int m = (1 << b) - 1;
+      for (int x = 0; x <= m; ++x) {
+        for (int y = 0; y <= m; ++y) {
+          Assert.assertEquals(
+            to(Math.min(1.0f, from(x, b) + from(y, b)), b),
+            NFPUnsignedArithmetic.addSaturated(x, y, b));
+        }
+      }
+    }
+  }
+
+  @Test
+  public void testUnpremultiplyExhaustive()
+  {
+    for (int b = 2; b <= 10; ++b) {
+      final int m = (1 << b) - 1;
+      for (int x = 0; x <= m; ++x) {
+        for (int a = 0; a <= m; ++a) {
+          final int expected =
+            a == 0 ? 0 : to(Math.min(1.0f, from(x, b) / from(a, b)), b);
+          Assert.assertEquals(
+            expected, NFPUnsignedArithmetic.unpremultiply(x, a, b));
+        }
+      }
+    }
+  }
+
+  @Test
+  public void testLerpExhaustive8()
+  {
+    final int b = 8;
+    for (int x = 0; x <= 255; ++x) {
+      final float fx = from(x, b);
+      for (int y = 0; y <= 255; ++y) {
+        final float fy = from(y, b);
+        for (int t = 0; t <= 255; ++t) {
+          final int expected = to(fx + ((fy - fx) * from(t, b)), b);
+          if (expected != NFPUnsignedArithmetic.lerp(x, y, t, b)) {
+            Assert.fail(String.format("lerp(%d, %d, %d)", x, y, t));
+          }
+        }
+      }
+    }
+  }
+
+  @Test
+  public void testRandom16()
+  {
+    final int b = 16;
+    final Random random = new Random(0x5eedL);
+    for (int index = 0; index < 1_000_000; ++index) {
+      final int x = random.nextInt(1 << b);
+      final int y = random.nextInt(1 << b);
+      final int t = random.nextInt(1 << b);
+      final float fx = from(x, b);
+      final float fy = from(y, b);
+      Assert.assertEquals(
+        to(fx * fy, b), NFPUnsignedArithmetic.multiply(x, y, b));
+      Assert.assertEquals(
+        to(fx + ((fy - fx) * from(t, b)), b),
+        NFPUnsignedArithmetic.lerp(x, y, t, b));
+      Assert.assertEquals(
+        to(Math.min(1.0f, fx + fy), b),
+        NFPUnsignedArithmetic.addSaturated(x, y, b));
+      Assert.assertEquals(
+        y == 0 ? 0 : to(Math.min(1.0f, fx / fy), b),
+        NFPUnsignedArithmetic.unpremultiply(x, y, b));
+    }
+  }
+
+  @Test
+  public void testKnown8()
+  {
+    Assert.assertEquals(255, NFPUnsignedArithmetic.multiply(255, 255, 8));
+    Assert.assertEquals(0, NFPUnsignedArithmetic.multiply(0, 255, 8));
+    Assert.assertEquals(64, NFPUnsignedArithmetic.multiply(128, 128, 8));
+    Assert.assertEquals(255, NFPUnsignedArithmetic.addSaturated(200, 100, 8));
+    Assert.assertEquals(10, NFPUnsignedArithmetic.lerp(10, 200, 0, 8));
+    Assert.assertEquals(200, NFPUnsignedArithmetic.lerp(10, 200, 255, 8));
+    Assert.assertEquals(255, NFPUnsignedArithmetic.unpremultiply(9, 8, 8));
+    Assert.assertEquals(0, NFPUnsignedArithmetic.unpremultiply(9, 0, 8));
+  }
+
+  @Test
+  public void testBulk()
+  {
+    final int count = 10_000;
+    for (final int b : new int[]{8, 10, 16}) {
+      final int[] xs = values(count + 1, b);
+      final int[] ys = values(count + 2, b);
+      final int[] ts = values(count + 3, b);
+      final int[] rs = new int[count + 4];
+
+      NFPUnsignedArithmetic.multiply(xs, 1, ys, 2, rs, 4, count, b);
+      for (int index = 0; index < count; ++index) {
+        Assert.assertEquals(
+          NFPUnsignedArithmetic.multiply(xs[index + 1], ys[index + 2], b),
+          rs[index + 4]);
+      }
+
+      NFPUnsignedArithmetic.addSaturated(xs, 1, ys, 2, rs, 4, count, b);
+      for (int index = 0; index < count; ++index) {
+        Assert.assertEquals(
+          NFPUnsignedArithmetic.addSaturated(xs[index + 1], ys[index + 2], b),
+          rs[index + 4]);
+      }
+
+      NFPUnsignedArithmetic.lerp(xs, 1, ys, 2, ts, 3, rs, 4, count, b);
+      for (int index = 0; index < count; ++index) {
+        Assert.assertEquals(
+          NFPUnsignedArithmetic.lerp(
+            xs[index + 1], ys[index + 2], ts[index + 3], b),
+          rs[index + 4]);
+      }
+    }
+  }
+
+  @Test
+  public void testBulkPremultiply()
+  {
+    final int pixels = 10_000;
+    for (final int b : new int[]{8, 10, 16}) {
+      final int[] ps = values(pixels * 4, b);
+      final int[] qs = new int[(pixels * 4) + 1];
+      final int[] us = new int[pixels * 4];
+
+      NFPUnsignedArithmetic.premultiply(ps, 0, qs, 1, pixels, b);
+      NFPUnsignedArithmetic.unpremultiply(qs, 1, us, 0, pixels, b);
+      for (int index = 0; index < pixels * 4; index += 4) {
+        final int alpha = ps[index + 3];
+        Assert.assertEquals(alpha, qs[index + 4]);
+        Assert.assertEquals(alpha, us[index + 3]);
+        for (int c = 0; c < 3; ++c) {
+          final int q =
+            NFPUnsignedArithmetic.premultiply(ps[index + c], alpha, b);
+          Assert.assertEquals(q, qs[index + 1 + c]);
+          Assert.assertEquals(
+            NFPUnsignedArithmetic.unpremultiply(q, alpha, b),
+            us[index + c]);
+        }
+      }
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testBitsTooLarge()
+  {
+    NFPUnsignedArithmetic.multiply(0, 0, 17);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testBitsTooSmall()
+  {
+    NFPUnsignedArithmetic.addSaturated(
+      new int[1], 0, new int[1], 0, new int[1], 0, 1, 1);
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class)
+  public void testBulkOutOfBounds()
+  {
+    NFPUnsignedArithmetic.premultiply(new int[4], 0, new int[7], 0, 2, 8);
+  }
+}
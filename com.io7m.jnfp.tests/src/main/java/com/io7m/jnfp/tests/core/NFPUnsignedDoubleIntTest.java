@@ -42,4 +42,36 @@ public final class NFPUnsignedDoubleIntTest
       Assert.assertEquals(1.0, f1, 0.0);
     }
   }
+
+  @Test public void testBulk()
+  {
+    for (int e = 2; e <= 32; ++e) {
+      final double[] xs = new double[101];
+      for (int index = 0; index < xs.length; ++index) {
+        xs[index] = (double) index / 100.0;
+      }
+
+      final int[] ks = new int[xs.length + 2];
+      NFPUnsignedDoubleInt.toUnsignedNormalized(xs, 0, ks, 1, xs.length, e);
+
+      final double[] ys = new double[xs.length];
+      NFPUnsignedDoubleInt.fromUnsignedNormalized(ks, 1, ys, 0, xs.length, e);
+
+      for (int index = 0; index < xs.length; ++index) {
+        final int k = NFPUnsignedDoubleInt.toUnsignedNormalized(xs[index], e);
+        Assert.assertEquals((long) k, (long) ks[index + 1]);
+        Assert.assertEquals(
+          (double) NFPUnsignedDoubleInt.fromUnsignedNormalized(k, e),
+          (double) ys[index],
+          0.0);
+      }
+    }
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class)
+  public void testBulkOutOfBounds()
+  {
+    NFPUnsignedDoubleInt.toUnsignedNormalized(
+      new double[4], 2, new int[4], 0, 4, 8);
+  }
 }
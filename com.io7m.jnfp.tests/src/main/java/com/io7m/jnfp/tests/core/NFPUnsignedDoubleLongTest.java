@@ -42,4 +42,36 @@ public final class NFPUnsignedDoubleLongTest
       Assert.assertEquals(1.0, f1, 0.0);
     }
   }
+
+  @Test public void testBulk()
+  {
+    for (int e = 2; e <= 64; ++e) {
+      final double[] xs = new double[101];
+      for (int index = 0; index < xs.length; ++index) {
+        xs[index] = (double) index / 100.0;
+      }
+
+      final long[] ks = new long[xs.length + 2];
+      NFPUnsignedDoubleLong.toUnsignedNormalized(xs, 0, ks, 1, xs.length, e);
+
+      final double[] ys = new double[xs.length];
+      NFPUnsignedDoubleLong.fromUnsignedNormalized(ks, 1, ys, 0, xs.length, e);
+
+      for (int index = 0; index < xs.length; ++index) {
+        final long k = NFPUnsignedDoubleLong.toUnsignedNormalized(xs[index], e);
+        Assert.assertEquals(k, ks[index + 1]);
+        Assert.assertEquals(
+          (double) NFPUnsignedDoubleLong.fromUnsignedNormalized(k, e),
+          (double) ys[index],
+          0.0);
+      }
+    }
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class)
+  public void testBulkOutOfBounds()
+  {
+    NFPUnsignedDoubleLong.toUnsignedNormalized(
+      new double[4], 2, new long[4], 0, 4, 8);
+  }
 }
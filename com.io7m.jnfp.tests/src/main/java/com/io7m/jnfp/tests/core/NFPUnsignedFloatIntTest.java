@@ -42,4 +42,159 @@ public final class NFPUnsignedFloatIntTest
       Assert.assertEquals(1.0, f1, 0.0);
     }
   }
+
+  @Test public void testBulk()
+  {
+    for (int e = 2; e <= 32; ++e) {
+      final float[] xs = new float[101];
+      for (int index = 0; index < xs.length; ++index) {
+        xs[index] = (float) index / 100.0f;
+      }
+
+      final int[] ks = new int[xs.length + 2];
+      NFPUnsignedFloatInt.toUnsignedNormalized(xs, 0, ks, 1, xs.length, e);
+
+      final float[] ys = new float[xs.length];
+      NFPUnsignedFloatInt.fromUnsignedNormalized(ks, 1, ys, 0, xs.length, e);
+
+      for (int index = 0; index < xs.length; ++index) {
+        final int k = NFPUnsignedFloatInt.toUnsignedNormalized(xs[index], e);
+        Assert.assertEquals((long) k, (long) ks[index + 1]);
+        Assert.assertEquals(
+          (double) NFPUnsignedFloatInt.fromUnsignedNormalized(k, e),
+          (double) ys[index],
+          0.0);
+      }
+    }
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class)
+  public void testBulkOutOfBounds()
+  {
+    NFPUnsignedFloatInt.toUnsignedNormalized(
+      new float[4], 2, new int[4], 0, 4, 8);
+  }
+
+  @Test public void testBulkNarrow()
+  {
+    final float[] xs = new float[(1 << 20) + 8];
+    int index = 0;
+    for (long bits = 0L; bits <= 0xffffffffL; bits += 4099L) {
+      if (index == xs.length - 8) {
+        break;
+      }
+      xs[index] = Float.intBitsToFloat((int) bits);
+      ++index;
+    }
+    xs[index++] = Float.NaN;
+    xs[index++] = Float.POSITIVE_INFINITY;
+    xs[index++] = Float.NEGATIVE_INFINITY;
+    xs[index++] = -0.0f;
+    xs[index++] = 1.0f;
+    xs[index++] = Math.nextDown(1.0f);
+    xs[index++] = 0x1.0p31f;
+    xs[index] = Math.nextUp(0x1.0p31f);
+
+    final byte[] k8 = new byte[xs.length + 1];
+    final short[] k16 = new short[xs.length + 1];
+    NFPUnsignedFloatInt.toUnsignedNormalized8(xs, 0, k8, 1, xs.length);
+    NFPUnsignedFloatInt.toUnsignedNormalized16(xs, 0, k16, 1, xs.length);
+
+    for (int i = 0; i < xs.length; ++i) {
+      final float x = xs[i];
+      Assert.assertEquals(
+        (long) (byte) NFPUnsignedFloatInt.toUnsignedNormalized(x, 8),
+        (long) k8[i + 1]);
+      Assert.assertEquals(
+        (long) (short) NFPUnsignedFloatInt.toUnsignedNormalized(x, 16),
+        (long) k16[i + 1]);
+    }
+  }
+
+  @Test public void testBulkNarrowUnitRange()
+  {
+    final float[] xs = new float[65536];
+    final byte[] k8 = new byte[xs.length];
+    final short[] k16 = new short[xs.length];
+    for (int i = 0; i < xs.length; ++i) {
+      xs[i] = (float) i / 65535.0f;
+    }
+
+    NFPUnsignedFloatInt.toUnsignedNormalized8(xs, 0, k8, 0, xs.length);
+    NFPUnsignedFloatInt.toUnsignedNormalized16(xs, 0, k16, 0, xs.length);
+
+    for (int i = 0; i < xs.length; ++i) {
+      Assert.assertEquals(
+        (long) NFPUnsignedFloatInt.toUnsignedNormalized(xs[i], 8),
+        (long) (k8[i] & 0xff));
+      Assert.assertEquals(
+        (long) NFPUnsignedFloatInt.toUnsignedNormalized(xs[i], 16),
+        (long) (k16[i] & 0xffff));
+    }
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class)
+  public void testBulkNarrowOutOfBounds()
+  {
+    NFPUnsignedFloatInt.toUnsignedNormalized8(
+      new float[4], 0, new byte[3], 0, 4);
+  }
+
+  @Test public void testNarrowArrays()
+  {
+    final float[] xs = new float[1001];
+    for (int index = 0; index < xs.length; ++index) {
+      xs[index] = (float) index / 1000.0f;
+    }
+
+    for (int e = 2; e <= 16; ++e) {
+      final short[] k16 = new short[xs.length];
+      final char[] kc = new char[xs.length];
+      NFPUnsignedFloatInt.toUnsignedNormalized(xs, 0, k16, 0, xs.length, e);
+      NFPUnsignedFloatInt.toUnsignedNormalized(xs, 0, kc, 0, xs.length, e);
+
+      final float[] y16 = new float[xs.length];
+      final float[] yc = new float[xs.length];
+      NFPUnsignedFloatInt.fromUnsignedNormalized(k16, 0, y16, 0, xs.length, e);
+      NFPUnsignedFloatInt.fromUnsignedNormalized(kc, 0, yc, 0, xs.length, e);
+
+      final byte[] k8 = new byte[xs.length];
+      final float[] y8 = new float[xs.length];
+      if (e <= 8) {
+        NFPUnsignedFloatInt.toUnsignedNormalized(xs, 0, k8, 0, xs.length, e);
+        NFPUnsignedFloatInt.fromUnsignedNormalized(k8, 0, y8, 0, xs.length, e);
+      }
+
+      for (int index = 0; index < xs.length; ++index) {
+        final int k = NFPUnsignedFloatInt.toUnsignedNormalized(xs[index], e);
+        final float y = NFPUnsignedFloatInt.fromUnsignedNormalized(k, e);
+        Assert.assertEquals((long) k, (long) (k16[index] & 0xffff));
+        Assert.assertEquals((long) k, (long) kc[index]);
+        Assert.assertEquals((double) y, (double) y16[index], 0.0);
+        Assert.assertEquals((double) y, (double) yc[index], 0.0);
+        if (e <= 8) {
+          Assert.assertEquals((long) k, (long) (k8[index] & 0xff));
+          Assert.assertEquals((double) y, (double) y8[index], 0.0);
+        }
+      }
+    }
+  }
+
+  @Test public void testNarrowDecodeIgnoresHighBits()
+  {
+    final float[] ys = new float[1];
+    NFPUnsignedFloatInt.fromUnsignedNormalized(
+      new byte[]{(byte) 0xf3}, 0, ys, 0, 1, 4);
+    Assert.assertEquals(
+      (double) NFPUnsignedFloatInt.fromUnsignedNormalized(3, 4),
+      (double) ys[0],
+      0.0);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testNarrowBitsTooLarge()
+  {
+    NFPUnsignedFloatInt.toUnsignedNormalized(
+      new float[1], 0, new byte[1], 0, 1, 9);
+  }
 }
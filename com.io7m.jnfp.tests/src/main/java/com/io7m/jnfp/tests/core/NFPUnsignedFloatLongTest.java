@@ -42,4 +42,36 @@ public final class NFPUnsignedFloatLongTest
       Assert.assertEquals(1.0, f1, 0.0);
     }
   }
+
+  @Test public void testBulk()
+  {
+    for (int e = 2; e <= 64; ++e) {
+      final float[] xs = new float[101];
+      for (int index = 0; index < xs.length; ++index) {
+        xs[index] = (float) index / 100.0f;
+      }
+
+      final long[] ks = new long[xs.length + 2];
+      NFPUnsignedFloatLong.toUnsignedNormalized(xs, 0, ks, 1, xs.length, e);
+
+      final float[] ys = new float[xs.length];
+      NFPUnsignedFloatLong.fromUnsignedNormalized(ks, 1, ys, 0, xs.length, e);
+
+      for (int index = 0; index < xs.length; ++index) {
+        final long k = NFPUnsignedFloatLong.toUnsignedNormalized(xs[index], e);
+        Assert.assertEquals(k, ks[index + 1]);
+        Assert.assertEquals(
+          (double) NFPUnsignedFloatLong.fromUnsignedNormalized(k, e),
+          (double) ys[index],
+          0.0);
+      }
+    }
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class)
+  public void testBulkOutOfBounds()
+  {
+    NFPUnsignedFloatLong.toUnsignedNormalized(
+      new float[4], 2, new long[4], 0, 4, 8);
+  }
 }
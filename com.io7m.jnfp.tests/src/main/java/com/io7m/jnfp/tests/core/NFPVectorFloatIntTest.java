@@ -0,0 +1,147 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jnfp.tests.core;
+
+import com.io7m.jnfp.core.NFPSignedFloatInt;
+import com.io7m.jnfp.core.NFPUnsignedFloatInt;
+import com.io7m.jnfp.core.NFPVectorFloatInt;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Random;
+
+public final class NFPVectorFloatIntTest
+{
+  private static final int COUNT = 1037;
+
+  private static float[] floats(
+    final Random random,
+    final float lower,
+    final float upper)
+  {
+    final float[] xs = new float[COUNT];
+    for (int index = 0; index < xs.length; ++index) {
+      xs[index] = lower + (random.nextFloat() * (upper - lower));
+    }
+    xs[0] = lower;
+    xs[1] = upper;
+    xs[2] = 0.0f;
+    xs[3] = Float.NaN;
+    xs[4] = 1.0e10f;
+    xs[5] = -1.0e10f;
+    return xs;
+  }
+
+  private static int[] ints(
+    final Random random)
+  {
+    final int[] xs = new int[COUNT];
+    for (int index = 0; index < xs.length; ++index) {
+      xs[index] = random.nextInt();
+    }
+    xs[0] = Integer.MIN_VALUE;
+    xs[1] = Integer.MAX_VALUE;
+    xs[2] = 0;
+    xs[3] = -1;
+    return xs;
+  }
+
+  @Test public void testAccelerated()
+  {
+    Assert.assertTrue(NFPVectorFloatInt.isAccelerated());
+  }
+
+  @Test public void testSignedWithoutZero()
+  {
+    final Random random = new Random(0x5eedL);
+    for (int e = 2; e <= 32; ++e) {
+      final float[] xs = floats(random, -1.0f, 1.0f);
+      final int[] ka = new int[COUNT];
+      final int[] kb = new int[COUNT];
+      NFPVectorFloatInt.toSignedNormalizedWithoutZero(
+        xs, 3, ka, 1, COUNT - 3, e);
+      NFPSignedFloatInt.toSignedNormalizedWithoutZero(
+        xs, 3, kb, 1, COUNT - 3, e);
+      Assert.assertArrayEquals(kb, ka);
+
+      final int[] ks = ints(random);
+      final float[] fa = new float[COUNT];
+      final float[] fb = new float[COUNT];
+      NFPVectorFloatInt.fromSignedNormalizedWithoutZero(
+        ks, 1, fa, 2, COUNT - 2, e);
+      NFPSignedFloatInt.fromSignedNormalizedWithoutZero(
+        ks, 1, fb, 2, COUNT - 2, e);
+      Assert.assertArrayEquals(fb, fa, 0.0f);
+    }
+  }
+
+  @Test public void testSignedWithZero()
+  {
+    final Random random = new Random(0x5eedL);
+    for (int e = 2; e <= 32; ++e) {
+      final float[] xs = floats(random, -1.0f, 1.0f);
+      final int[] ka = new int[COUNT];
+      final int[] kb = new int[COUNT];
+      NFPVectorFloatInt.toSignedNormalizedWithZero(
+        xs, 0, ka, 0, COUNT, e);
+      NFPSignedFloatInt.toSignedNormalizedWithZero(
+        xs, 0, kb, 0, COUNT, e);
+      Assert.assertArrayEquals(kb, ka);
+
+      final int[] ks = ints(random);
+      final float[] fa = new float[COUNT];
+      final float[] fb = new float[COUNT];
+      NFPVectorFloatInt.fromSignedNormalizedWithZero(
+        ks, 0, fa, 0, COUNT, e);
+      NFPSignedFloatInt.fromSignedNormalizedWithZero(
+        ks, 0, fb, 0, COUNT, e);
+      Assert.assertArrayEquals(fb, fa, 0.0f);
+    }
+  }
+
+  @Test public void testUnsigned()
+  {
+    final Random random = new Random(0x5eedL);
+    for (int e = 2; e <= 32; ++e) {
+      final float[] xs = floats(random, 0.0f, 1.0f);
+      final int[] ka = new int[COUNT];
+      final int[] kb = new int[COUNT];
+      NFPVectorFloatInt.toUnsignedNormalized(
+        xs, 0, ka, 0, COUNT, e);
+      NFPUnsignedFloatInt.toUnsignedNormalized(
+        xs, 0, kb, 0, COUNT, e);
+      Assert.assertArrayEquals(kb, ka);
+
+      final int[] ks = ints(random);
+      final float[] fa = new float[COUNT];
+      final float[] fb = new float[COUNT];
+      NFPVectorFloatInt.fromUnsignedNormalized(
+        ks, 0, fa, 0, COUNT, e);
+      NFPUnsignedFloatInt.fromUnsignedNormalized(
+        ks, 0, fb, 0, COUNT, e);
+      Assert.assertArrayEquals(fb, fa, 0.0f);
+    }
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class)
+  public void testOutOfBounds()
+  {
+    NFPVectorFloatInt.toUnsignedNormalized(
+      new float[64], 1, new int[64], 0, 64, 8);
+  }
+}
@@ -103,4 +103,140 @@ public final class UnreachableTest
     UnreachableTest.execNoArgPrivateConstructor(
       "com.io7m.jnfp.core.NFPSignedDoubleLong");
   }
+
+  @Test(expected = UnreachableCodeException.class)
+  public void testNFPPowers()
+    throws Exception
+  {
+    UnreachableTest.execNoArgPrivateConstructor(
+      "com.io7m.jnfp.core.NFPPowers");
+  }
+
+  @Test(expected = UnreachableCodeException.class)
+  public void testNFPVectorFloatInt()
+    throws Exception
+  {
+    UnreachableTest.execNoArgPrivateConstructor(
+      "com.io7m.jnfp.core.NFPVectorFloatInt");
+  }
+
+  @Test(expected = UnreachableCodeException.class)
+  public void testNFPVectorFloatIntKernels()
+    throws Exception
+  {
+    UnreachableTest.execNoArgPrivateConstructor(
+      "com.io7m.jnfp.core.NFPVectorFloatIntKernels");
+  }
+
+  @Test(expected = UnreachableCodeException.class)
+  public void testNFPLookupFloatInt()
+    throws Exception
+  {
+    UnreachableTest.execNoArgPrivateConstructor(
+      "com.io7m.jnfp.core.NFPLookupFloatInt");
+  }
+
+  @Test(expected = UnreachableCodeException.class)
+  public void testNFPBuffers()
+    throws Exception
+  {
+    UnreachableTest.execNoArgPrivateConstructor(
+      "com.io7m.jnfp.core.NFPBuffers");
+  }
+
+  @Test(expected = UnreachableCodeException.class)
+  public void testNFPParallel()
+    throws Exception
+  {
+    UnreachableTest.execNoArgPrivateConstructor(
+      "com.io7m.jnfp.core.NFPParallel");
+  }
+
+  @Test(expected = UnreachableCodeException.class)
+  public void testNFPPacked16()
+    throws Exception
+  {
+    UnreachableTest.execNoArgPrivateConstructor(
+      "com.io7m.jnfp.core.NFPPacked16");
+  }
+
+  @Test(expected = UnreachableCodeException.class)
+  public void testNFPPacked32()
+    throws Exception
+  {
+    UnreachableTest.execNoArgPrivateConstructor(
+      "com.io7m.jnfp.core.NFPPacked32");
+  }
+
+  @Test(expected = UnreachableCodeException.class)
+  public void testNFPRequantize()
+    throws Exception
+  {
+    UnreachableTest.execNoArgPrivateConstructor(
+      "com.io7m.jnfp.core.NFPRequantize");
+  }
+
+  @Test(expected = UnreachableCodeException.class)
+  public void testNFPTranscode()
+    throws Exception
+  {
+    UnreachableTest.execNoArgPrivateConstructor(
+      "com.io7m.jnfp.core.NFPTranscode");
+  }
+
+  @Test(expected = UnreachableCodeException.class)
+  public void testNFPAffineFloatInt()
+    throws Exception
+  {
+    UnreachableTest.execNoArgPrivateConstructor(
+      "com.io7m.jnfp.core.NFPAffineFloatInt");
+  }
+
+  @Test(expected = UnreachableCodeException.class)
+  public void testNFPOctahedral()
+    throws Exception
+  {
+    UnreachableTest.execNoArgPrivateConstructor(
+      "com.io7m.jnfp.core.NFPOctahedral");
+  }
+
+  @Test(expected = UnreachableCodeException.class)
+  public void testNFPQuaternion()
+    throws Exception
+  {
+    UnreachableTest.execNoArgPrivateConstructor(
+      "com.io7m.jnfp.core.NFPQuaternion");
+  }
+
+  @Test(expected = UnreachableCodeException.class)
+  public void testNFPBlockCompression()
+    throws Exception
+  {
+    UnreachableTest.execNoArgPrivateConstructor(
+      "com.io7m.jnfp.core.NFPBlockCompression");
+  }
+
+  @Test(expected = UnreachableCodeException.class)
+  public void testNFPUnsignedArithmetic()
+    throws Exception
+  {
+    UnreachableTest.execNoArgPrivateConstructor(
+      "com.io7m.jnfp.core.NFPUnsignedArithmetic");
+  }
+
+  @Test(expected = UnreachableCodeException.class)
+  public void testNFPMipmaps()
+    throws Exception
+  {
+    UnreachableTest.execNoArgPrivateConstructor(
+      "com.io7m.jnfp.core.NFPMipmaps");
+  }
+
+  @Test(expected = UnreachableCodeException.class)
+  public void testNFPStreams()
+    throws Exception
+  {
+    UnreachableTest.execNoArgPrivateConstructor(
+      "com.io7m.jnfp.core.NFPStreams");
+  }
 }